@@ -0,0 +1,119 @@
+package fr.spiga.acteurs;
+
+import fr.spiga.communication.BusMessages;
+import fr.spiga.communication.SujetMessage;
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.fleet.DroneReconnaissance;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare un pas de messagerie intensive (chaque actif envoie des alertes à
+ * des pairs tirés au hasard, chaque destinataire les enregistre) entre la
+ * boucle de ticks (bus de messages distribué par lot) et le moteur d'acteurs.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagerieBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int nombreActifs;
+
+    @Param({ "20" })
+    private int messagesParActif;
+
+    @Param({ "VOL_DE_TRAVAIL", "FILS_VIRTUELS" })
+    private String ordonnanceur;
+
+    private ActifMobile[] actifs;
+    private int[] cibles;
+    private BusMessages bus;
+    private MoteurActeurs moteur;
+    private CommandeActif[][] commandes;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        SplittableRandom aleatoire = new SplittableRandom(5);
+        actifs = new ActifMobile[nombreActifs];
+        bus = new BusMessages();
+        for (int i = 0; i < nombreActifs; i++) {
+            actifs[i] = new DroneReconnaissance(new Position3D(aleatoire.nextDouble(10000),
+                    aleatoire.nextDouble(10000), 300));
+            actifs[i].attribuerPoignee(i);
+            bus.abonner(actifs[i], SujetMessage.ALERTE);
+        }
+        cibles = new int[nombreActifs * messagesParActif];
+        for (int k = 0; k < cibles.length; k++) {
+            cibles[k] = aleatoire.nextInt(nombreActifs);
+        }
+
+        Ordonnanceur choisi = Ordonnanceur.valueOf(ordonnanceur);
+        if (!choisi.estDisponible()) {
+            choisi = Ordonnanceur.VOL_DE_TRAVAIL;
+        }
+        moteur = new MoteurActeurs(choisi, Runtime.getRuntime().availableProcessors());
+        commandes = new CommandeActif[nombreActifs][messagesParActif];
+        for (int i = 0; i < nombreActifs; i++) {
+            moteur.enregistrer(actifs[i]);
+            for (int k = 0; k < messagesParActif; k++) {
+                commandes[i][k] = CommandeActif.transmettreAlerte("COLLISION_IMMINENTE",
+                        actifs[cibles[i * messagesParActif + k]]);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void fermer() {
+        System.out.println();
+        System.out.println(moteur.genererRapport());
+        moteur.close();
+    }
+
+    @Benchmark
+    public long boucleDeTicks() {
+        for (int i = 0; i < nombreActifs; i++) {
+            for (int k = 0; k < messagesParActif; k++) {
+                actifs[i].transmettreAlerte("COLLISION_IMMINENTE", actifs[cibles[i * messagesParActif + k]]);
+            }
+        }
+        bus.distribuer();
+        long recues = 0;
+        for (ActifMobile actif : actifs) {
+            recues += bus.relever(actif,
+                    m -> actif.getHistoriqueAlertes().enregistrer(m.getContenu(), m.getEmetteur().getPoignee(), 0.0));
+        }
+        return recues;
+    }
+
+    @Benchmark
+    public long moteurActeurs() throws InterruptedException {
+        for (int i = 0; i < nombreActifs; i++) {
+            for (CommandeActif commande : commandes[i]) {
+                moteur.envoyer(actifs[i], commande);
+            }
+        }
+        moteur.attendreInactivite(1, TimeUnit.MINUTES);
+        return moteur.getCommandesTraitees();
+    }
+}
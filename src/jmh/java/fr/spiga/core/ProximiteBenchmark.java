@@ -0,0 +1,102 @@
+package fr.spiga.core;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compare le test de proximité d'un actif contre tous les autres : boucle
+ * sur objets {@link Position3D} (référence), noyau scalaire et noyau
+ * vectoriel sur tableaux de coordonnées.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ProximiteBenchmark {
+
+    private static final double RAYON = 50.0;
+
+    @Param({ "1024", "100000" })
+    private int nombre;
+
+    private Position3D[] positions;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private int[] indices;
+    private NoyauScalaire scalaire;
+    private NoyauVectoriel vectoriel;
+
+    @Setup
+    public void preparer() {
+        SplittableRandom aleatoire = new SplittableRandom(7);
+        // Densité de l'essaim dense : environ 500 actifs sur 5 km de rayon
+        double cote = Math.sqrt(nombre / 500.0) * 10000.0;
+        positions = new Position3D[nombre];
+        xs = new double[nombre];
+        ys = new double[nombre];
+        zs = new double[nombre];
+        for (int i = 0; i < nombre; i++) {
+            positions[i] = new Position3D(aleatoire.nextDouble(cote), aleatoire.nextDouble(cote),
+                    aleatoire.nextDouble(100, 500));
+            xs[i] = positions[i].getX();
+            ys[i] = positions[i].getY();
+            zs[i] = positions[i].getZ();
+        }
+        indices = new int[nombre];
+        scalaire = new NoyauScalaire();
+        vectoriel = new NoyauVectoriel();
+    }
+
+    @Benchmark
+    public void objetsPosition3D(Blackhole trou) {
+        Position3D centre = positions[0];
+        int retenus = 0;
+        for (int i = 1; i < nombre; i++) {
+            if (centre.distanceVers(positions[i]) <= RAYON) {
+                retenus++;
+            }
+        }
+        trou.consume(retenus);
+    }
+
+    @Benchmark
+    public void noyauScalaire(Blackhole trou) {
+        trou.consume(selectionner(scalaire));
+    }
+
+    @Benchmark
+    public void noyauVectoriel(Blackhole trou) {
+        trou.consume(selectionner(vectoriel));
+    }
+
+    private int selectionner(NoyauProximite noyau) {
+        int retenus = 0;
+        for (int bloc = 1; bloc < nombre; bloc += NoyauxProximite.TAILLE_BLOC) {
+            int longueur = Math.min(NoyauxProximite.TAILLE_BLOC, nombre - bloc);
+            long masque = noyau.masqueDansRayon(xs[0], ys[0], zs[0], xs, ys, zs, bloc, longueur, RAYON * RAYON);
+            while (masque != 0L) {
+                indices[retenus++] = bloc + Long.numberOfTrailingZeros(masque);
+                masque &= masque - 1;
+            }
+        }
+        return retenus;
+    }
+}
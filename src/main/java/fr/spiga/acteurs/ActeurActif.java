@@ -0,0 +1,124 @@
+package fr.spiga.acteurs;
+
+import fr.spiga.core.ActifMobile;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Acteur pilotant un actif : il possède une boîte aux lettres de commandes et
+ * les traite une à une, dans l'ordre de dépôt, sur une tâche légère de son
+ * {@link MoteurActeurs}.
+ *
+ * <p>
+ * Un acteur n'occupe aucun fil lorsqu'il est inactif. Le dépôt d'une
+ * commande dans une boîte vide programme une activation ; une activation
+ * traite au plus {@value MoteurActeurs#DEBIT_PAR_ACTIVATION} commandes puis
+ * rend la main, pour que les acteurs les plus sollicités n'affament pas les
+ * autres. Une seule activation d'un même acteur s'exécute à la fois : l'actif
+ * n'est jamais modifié par deux fils en même temps.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class ActeurActif implements Runnable {
+
+    /** Commande et instant de dépôt (pour la latence) */
+    private static final class Enveloppe {
+        final CommandeActif commande;
+        final long depot;
+
+        Enveloppe(CommandeActif commande, long depot) {
+            this.commande = commande;
+            this.depot = depot;
+        }
+    }
+
+    private final ActifMobile actif;
+    private final MoteurActeurs moteur;
+    private final ConcurrentLinkedQueue<Enveloppe> boite = new ConcurrentLinkedQueue<>();
+
+    /** Vrai entre la programmation d'une activation et sa fin */
+    private final AtomicBoolean programme = new AtomicBoolean();
+
+    /** Nombre de commandes prises en charge (écrit par l'activation en cours seulement) */
+    private volatile long commandesTraitees;
+
+    ActeurActif(ActifMobile actif, MoteurActeurs moteur) {
+        this.actif = actif;
+        this.moteur = moteur;
+    }
+
+    public ActifMobile getActif() {
+        return actif;
+    }
+
+    /**
+     * Obtient le nombre de commandes en attente dans la boîte (coût
+     * proportionnel à ce nombre).
+     */
+    public int getTailleBoite() {
+        return boite.size();
+    }
+
+    public long getCommandesTraitees() {
+        return commandesTraitees;
+    }
+
+    /**
+     * Dépose une commande et programme une activation si l'acteur était
+     * inactif.
+     */
+    void deposer(CommandeActif commande) {
+        boite.offer(new Enveloppe(commande, System.nanoTime()));
+        programmer();
+    }
+
+    private void programmer() {
+        while (programme.compareAndSet(false, true)) {
+            try {
+                moteur.executeur().execute(this);
+                return;
+            } catch (RejectedExecutionException e) {
+                // Moteur fermé : les commandes restantes ne seront jamais traitées
+                int abandonnees = 0;
+                while (boite.poll() != null) {
+                    abandonnees++;
+                }
+                programme.set(false);
+                moteur.abandonner(abandonnees);
+                // Une commande déposée pendant la vidange a pu voir l'acteur programmé
+                if (boite.isEmpty()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Activation : traite un lot de commandes puis se reprogramme s'il en
+     * reste.
+     */
+    @Override
+    public void run() {
+        int traitees = 0;
+        Enveloppe enveloppe;
+        while (traitees < MoteurActeurs.DEBIT_PAR_ACTIVATION && (enveloppe = boite.poll()) != null) {
+            // Compté avant que le moteur ne signale la fin de la commande
+            commandesTraitees++;
+            moteur.executer(actif, enveloppe.commande, enveloppe.depot);
+            traitees++;
+        }
+        programme.set(false);
+        // Une commande déposée pendant la fin du lot a pu voir l'acteur programmé
+        if (!boite.isEmpty()) {
+            programmer();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ActeurActif[%s, en attente=%d, traitées=%d]", actif.getIdCourt(), getTailleBoite(),
+                commandesTraitees);
+    }
+}
@@ -0,0 +1,97 @@
+package fr.spiga.acteurs;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.CodeAlerte;
+import fr.spiga.core.Position3D;
+
+/**
+ * Commande déposée dans la boîte aux lettres d'un acteur et exécutée par
+ * celui-ci, seul, sur son actif.
+ *
+ * <p>
+ * Une commande ne modifie que l'actif de l'acteur qui l'exécute ; pour agir
+ * sur un autre actif, elle passe par le moteur (voir
+ * {@link #transmettreAlerte}). Les commandes sont immuables et peuvent être
+ * envoyées à plusieurs acteurs.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CommandeActif {
+
+    /**
+     * Exécute la commande.
+     *
+     * @param actif  l'actif de l'acteur
+     * @param moteur le moteur, pour envoyer d'autres commandes
+     */
+    void executer(ActifMobile actif, MoteurActeurs moteur);
+
+    /**
+     * Avance l'actif vers une cible pendant un pas de temps
+     * ({@link ActifMobile#avancerVers}).
+     *
+     * @param cible la position cible
+     * @param dt    le pas de temps en secondes
+     * @return la commande
+     */
+    static CommandeActif avancerVers(Position3D cible, double dt) {
+        if (cible == null) {
+            throw new IllegalArgumentException("La cible ne peut pas être nulle");
+        }
+        return (actif, moteur) -> actif.avancerVers(cible, dt);
+    }
+
+    /**
+     * Recharge l'actif.
+     *
+     * @return la commande
+     */
+    static CommandeActif recharger() {
+        return (actif, moteur) -> actif.recharger();
+    }
+
+    /**
+     * Signale une alerte maintenue sur l'actif.
+     *
+     * @param code le code d'alerte
+     * @return la commande
+     */
+    static CommandeActif signalerAlerte(CodeAlerte code) {
+        if (code == null) {
+            throw new IllegalArgumentException("Le code d'alerte ne peut pas être nul");
+        }
+        return (actif, moteur) -> actif.signalerAlerte(code);
+    }
+
+    /**
+     * Transmet une alerte de l'actif vers un autre actif : la réception est
+     * une commande déposée dans la boîte de l'acteur destinataire.
+     *
+     * @param message le message d'alerte
+     * @param cible   l'actif destinataire
+     * @return la commande
+     */
+    static CommandeActif transmettreAlerte(String message, ActifMobile cible) {
+        if (message == null || cible == null) {
+            throw new IllegalArgumentException("Le message et la cible ne peuvent pas être nuls");
+        }
+        return (actif, moteur) -> moteur.envoyer(cible, recevoirAlerte(message, actif));
+    }
+
+    /**
+     * Enregistre une alerte reçue dans l'historique de l'actif
+     * ({@link ActifMobile#recevoirAlerte}).
+     *
+     * @param message  le message d'alerte
+     * @param emetteur l'actif émetteur
+     * @return la commande
+     */
+    static CommandeActif recevoirAlerte(String message, ActifMobile emetteur) {
+        if (message == null || emetteur == null) {
+            throw new IllegalArgumentException("Le message et l'émetteur ne peuvent pas être nuls");
+        }
+        return (actif, moteur) -> actif.recevoirAlerte(message, emetteur);
+    }
+}
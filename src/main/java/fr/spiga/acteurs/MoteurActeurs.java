@@ -0,0 +1,309 @@
+package fr.spiga.acteurs;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.metriques.Histogramme;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moteur d'exécution par acteurs, alternative à la boucle de ticks : chaque
+ * actif enregistré devient un {@link ActeurActif} qui traite ses commandes
+ * (déplacement, recharge, alertes) de façon asynchrone.
+ *
+ * <p>
+ * Les acteurs s'exécutent sur des fils virtuels (JDK 21) ou sur une réserve à
+ * vol de travail (JDK 17), voir {@link Ordonnanceur}. La boucle de ticks
+ * sérialise les échanges par lots (un {@link fr.spiga.communication.BusMessages}
+ * distribué une fois par pas) ; ici chaque commande est traitée dès qu'un fil
+ * est libre. Le moteur mesure le débit et la latence (dépôt → fin
+ * d'exécution) pour comparer les deux modes.
+ *
+ * <p>
+ * L'environnement partagé ({@link fr.spiga.environment.ZoneOperation}) ne doit
+ * pas être modifié pendant que des commandes s'exécutent : faire avancer le
+ * temps après {@link #attendreInactivite}.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class MoteurActeurs implements AutoCloseable {
+
+    /** Nombre maximal de commandes traitées par activation d'un acteur */
+    public static final int DEBIT_PAR_ACTIVATION = 64;
+
+    private final Ordonnanceur ordonnanceur;
+    /** Ordonnanceur imposé par la propriété système à la création (ou null) */
+    private final Ordonnanceur ordonnanceurDemande = Ordonnanceur.demande();
+    private final ExecutorService executeur;
+    private final ConcurrentHashMap<ActifMobile, ActeurActif> acteurs = new ConcurrentHashMap<>();
+
+    /** Commandes déposées et pas encore exécutées */
+    private final AtomicLong enCours = new AtomicLong();
+    private final Object verrouInactivite = new Object();
+
+    private final LongAdder commandesTraitees = new LongAdder();
+    private final LongAdder commandesEnErreur = new LongAdder();
+    private final LongAdder commandesNonLivrees = new LongAdder();
+    private final Histogramme latences = new Histogramme();
+    private volatile RuntimeException derniereErreur;
+    private volatile boolean ferme;
+
+    /**
+     * Constructeur avec l'ordonnanceur par défaut
+     * ({@link Ordonnanceur#parDefaut()}) et un fil par processeur.
+     */
+    public MoteurActeurs() {
+        this(Ordonnanceur.parDefaut(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructeur.
+     *
+     * @param ordonnanceur l'ordonnanceur des acteurs
+     * @param parallelisme le nombre de fils de la réserve à vol de travail
+     * @throws IllegalArgumentException      si les paramètres sont invalides
+     * @throws UnsupportedOperationException si l'ordonnanceur n'est pas
+     *                                       disponible
+     */
+    public MoteurActeurs(Ordonnanceur ordonnanceur, int parallelisme) {
+        if (ordonnanceur == null) {
+            throw new IllegalArgumentException("L'ordonnanceur ne peut pas être nul");
+        }
+        if (parallelisme <= 0) {
+            throw new IllegalArgumentException("Le parallélisme doit être positif");
+        }
+        this.ordonnanceur = ordonnanceur;
+        this.executeur = ordonnanceur.creerExecuteur(parallelisme);
+    }
+
+    /**
+     * Crée l'acteur d'un actif (ou retourne l'acteur existant).
+     *
+     * @param actif l'actif
+     * @return son acteur
+     * @throws IllegalArgumentException si l'actif est nul
+     */
+    public ActeurActif enregistrer(ActifMobile actif) {
+        if (actif == null) {
+            throw new IllegalArgumentException("L'actif ne peut pas être nul");
+        }
+        return acteurs.computeIfAbsent(actif, a -> new ActeurActif(a, this));
+    }
+
+    /**
+     * Crée les acteurs de plusieurs actifs.
+     *
+     * @param actifs les actifs (par exemple toute la flotte)
+     */
+    public void enregistrerTous(Collection<? extends ActifMobile> actifs) {
+        for (ActifMobile actif : actifs) {
+            enregistrer(actif);
+        }
+    }
+
+    /**
+     * Obtient l'acteur d'un actif.
+     *
+     * @param actif l'actif
+     * @return son acteur, ou null s'il n'est pas enregistré
+     */
+    public ActeurActif getActeur(ActifMobile actif) {
+        return actif != null ? acteurs.get(actif) : null;
+    }
+
+    /**
+     * Dépose une commande dans la boîte de l'acteur d'un actif.
+     *
+     * @param cible    l'actif destinataire
+     * @param commande la commande
+     * @return true si la commande est déposée, false si l'actif n'a pas
+     *         d'acteur ou si le moteur est fermé
+     * @throws IllegalArgumentException si la commande est nulle
+     */
+    public boolean envoyer(ActifMobile cible, CommandeActif commande) {
+        if (commande == null) {
+            throw new IllegalArgumentException("La commande ne peut pas être nulle");
+        }
+        ActeurActif acteur = getActeur(cible);
+        if (acteur == null || ferme) {
+            commandesNonLivrees.increment();
+            return false;
+        }
+        enCours.incrementAndGet();
+        acteur.deposer(commande);
+        return true;
+    }
+
+    /**
+     * Dépose la même commande dans la boîte de tous les acteurs.
+     *
+     * @param commande la commande
+     * @return le nombre de commandes déposées
+     */
+    public int envoyerATous(CommandeActif commande) {
+        int n = 0;
+        for (ActifMobile actif : acteurs.keySet()) {
+            if (envoyer(actif, commande)) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Attend que toutes les commandes déposées, y compris celles envoyées par
+     * d'autres commandes, soient exécutées.
+     *
+     * @param delai le délai maximal
+     * @param unite l'unité du délai
+     * @return true si le moteur est inactif, false si le délai a expiré
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public boolean attendreInactivite(long delai, TimeUnit unite) throws InterruptedException {
+        long echeance = System.nanoTime() + unite.toNanos(delai);
+        synchronized (verrouInactivite) {
+            while (enCours.get() != 0) {
+                long reste = echeance - System.nanoTime();
+                if (reste <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(verrouInactivite, reste);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exécute une commande pour le compte d'un acteur. Une commande en erreur
+     * est comptée et n'interrompt pas l'acteur.
+     */
+    void executer(ActifMobile actif, CommandeActif commande, long depot) {
+        try {
+            commande.executer(actif, this);
+        } catch (RuntimeException e) {
+            commandesEnErreur.increment();
+            derniereErreur = e;
+        } finally {
+            latences.enregistrer(System.nanoTime() - depot);
+            commandesTraitees.increment();
+            terminer(1);
+        }
+    }
+
+    /**
+     * Compte comme non livrées des commandes acceptées dont l'activation a été
+     * refusée par l'ordonnanceur arrêté (envoi concurrent de {@link #close()}
+     * ou lot restant reprogrammé après l'arrêt).
+     *
+     * @param nombre le nombre de commandes retirées de la boîte de l'acteur
+     */
+    void abandonner(int nombre) {
+        if (nombre > 0) {
+            commandesNonLivrees.add(nombre);
+            terminer(nombre);
+        }
+    }
+
+    private void terminer(long nombre) {
+        if (enCours.addAndGet(-nombre) == 0) {
+            synchronized (verrouInactivite) {
+                verrouInactivite.notifyAll();
+            }
+        }
+    }
+
+    ExecutorService executeur() {
+        return executeur;
+    }
+
+    public Ordonnanceur getOrdonnanceur() {
+        return ordonnanceur;
+    }
+
+    public int getNombreActeurs() {
+        return acteurs.size();
+    }
+
+    public long getCommandesEnCours() {
+        return enCours.get();
+    }
+
+    public long getCommandesTraitees() {
+        return commandesTraitees.sum();
+    }
+
+    public long getCommandesEnErreur() {
+        return commandesEnErreur.sum();
+    }
+
+    public long getCommandesNonLivrees() {
+        return commandesNonLivrees.sum();
+    }
+
+    /**
+     * Obtient la dernière exception levée par une commande.
+     *
+     * @return l'exception, ou null
+     */
+    public RuntimeException getDerniereErreur() {
+        return derniereErreur;
+    }
+
+    /**
+     * Obtient l'histogramme des latences (dépôt → fin d'exécution, en ns).
+     *
+     * @return l'histogramme
+     */
+    public Histogramme getLatences() {
+        return latences;
+    }
+
+    /**
+     * Génère un rapport textuel du moteur (latences en microsecondes).
+     *
+     * @return le rapport
+     */
+    public String genererRapport() {
+        String repli = ordonnanceurDemande != null && ordonnanceurDemande != ordonnanceur
+                && !ordonnanceurDemande.estDisponible()
+                        ? ", repli : " + ordonnanceurDemande + " indisponible"
+                        : "";
+        return String.format(
+                "=== Moteur d'acteurs (%s%s) ===%n" +
+                        "Acteurs: %d%n" +
+                        "Commandes traitées: %d (erreurs: %d, non livrées: %d, en cours: %d)%n" +
+                        "Latence moyenne: %.1f µs, p50: %.1f µs, p99: %.1f µs, max: %.1f µs",
+                ordonnanceur, repli, acteurs.size(), getCommandesTraitees(), getCommandesEnErreur(),
+                getCommandesNonLivrees(), getCommandesEnCours(), latences.getMoyenne() / 1000.0,
+                latences.getCentile(50) / 1000.0, latences.getCentile(99) / 1000.0, latences.getMax() / 1000.0);
+    }
+
+    /**
+     * Refuse les nouvelles commandes, laisse les activations en cours finir
+     * leur lot puis arrête l'ordonnanceur. Les commandes encore en boîte sont
+     * comptées comme non livrées.
+     */
+    @Override
+    public void close() {
+        ferme = true;
+        executeur.shutdown();
+        try {
+            if (!executeur.awaitTermination(10, TimeUnit.SECONDS)) {
+                executeur.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executeur.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MoteurActeurs[%s, acteurs=%d, traitées=%d]", ordonnanceur, acteurs.size(),
+                getCommandesTraitees());
+    }
+}
@@ -0,0 +1,101 @@
+package fr.spiga.acteurs;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ordonnanceurs sur lesquels s'exécutent les acteurs.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public enum Ordonnanceur {
+    /**
+     * Réserve de fils à vol de travail ({@link ForkJoinPool} en mode FIFO) :
+     * un acteur réactivé depuis un fil de la réserve est placé dans la file
+     * locale de ce fil, les fils inoccupés volent les autres files.
+     */
+    VOL_DE_TRAVAIL,
+    /**
+     * Un fil virtuel par activation d'acteur (JDK 21 et suivants).
+     */
+    FILS_VIRTUELS;
+
+    /** Propriété système imposant l'ordonnanceur ("vol" ou "virtuel") */
+    public static final String PROPRIETE = "spiga.ordonnanceur";
+
+    /**
+     * Indique si l'ordonnanceur est utilisable sur la JVM courante.
+     *
+     * @return true si disponible
+     */
+    public boolean estDisponible() {
+        if (this == VOL_DE_TRAVAIL) {
+            return true;
+        }
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Runtime.version().feature() >= 21;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Crée l'exécuteur des acteurs.
+     *
+     * @param parallelisme le nombre de fils de la réserve (ignoré pour les fils
+     *                     virtuels)
+     * @return l'exécuteur
+     * @throws UnsupportedOperationException si l'ordonnanceur n'est pas
+     *                                       disponible
+     */
+    ExecutorService creerExecuteur(int parallelisme) {
+        if (this == VOL_DE_TRAVAIL) {
+            return new ForkJoinPool(parallelisme, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        }
+        if (!estDisponible()) {
+            throw new UnsupportedOperationException("Fils virtuels indisponibles sur Java " + Runtime.version());
+        }
+        // Compilé pour Java 17 : fabrique obtenue par réflexion
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Fils virtuels indisponibles", e);
+        }
+    }
+
+    /**
+     * Obtient l'ordonnanceur imposé par la propriété {@value #PROPRIETE}.
+     *
+     * @return l'ordonnanceur demandé, ou null si la propriété n'est pas fixée
+     */
+    public static Ordonnanceur demande() {
+        String choix = System.getProperty(PROPRIETE, "");
+        if (choix.equalsIgnoreCase("vol")) {
+            return VOL_DE_TRAVAIL;
+        }
+        if (choix.equalsIgnoreCase("virtuel")) {
+            return FILS_VIRTUELS;
+        }
+        return null;
+    }
+
+    /**
+     * Choisit l'ordonnanceur par défaut : celui de la propriété
+     * {@value #PROPRIETE} s'il est fixé et disponible, sinon les fils
+     * virtuels lorsqu'ils sont disponibles, sinon le vol de travail. Le repli
+     * sur un ordonnanceur non demandé est signalé par
+     * {@link MoteurActeurs#genererRapport()}.
+     *
+     * @return l'ordonnanceur
+     */
+    public static Ordonnanceur parDefaut() {
+        Ordonnanceur choix = demande();
+        if (choix != null && choix.estDisponible()) {
+            return choix;
+        }
+        return FILS_VIRTUELS.estDisponible() ? FILS_VIRTUELS : VOL_DE_TRAVAIL;
+    }
+}
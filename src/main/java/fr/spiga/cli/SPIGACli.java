@@ -4,6 +4,13 @@ import fr.spiga.core.*;
 import fr.spiga.environment.*;
 import fr.spiga.fleet.*;
 import fr.spiga.mission.*;
+import fr.spiga.metriques.RegistreMetriques;
+import fr.spiga.scenario.ChargeurScenario;
+import fr.spiga.scenario.FormatScenario;
+import fr.spiga.scenario.GenerateurScenario;
+import fr.spiga.scenario.ParametresScenario;
+import fr.spiga.scenario.PresetScenario;
+import fr.spiga.scenario.Scenario;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,8 +28,9 @@ import java.util.Scanner;
 public class SPIGACli {
 
     private final Scanner scanner;
-    private final GestionnaireEssaim gestionnaire;
+    private GestionnaireEssaim gestionnaire;
     private final List<Mission> missions;
+    private final ServiceAtteignabilite serviceAtteignabilite;
     private ZoneOperation zoneOperation;
 
     /**
@@ -32,6 +40,7 @@ public class SPIGACli {
         this.scanner = new Scanner(System.in);
         this.gestionnaire = new GestionnaireEssaim();
         this.missions = new ArrayList<>();
+        this.serviceAtteignabilite = new ServiceAtteignabilite();
         initialiserZoneOperation();
     }
 
@@ -60,7 +69,7 @@ public class SPIGACli {
         boolean continuer = true;
         while (continuer) {
             afficherMenuPrincipal();
-            int choix = lireEntier("Votre choix: ");
+            int choix = lireChoixPrincipal("Votre choix: ");
 
             switch (choix) {
                 case 1 -> menuCreationActifs();
@@ -68,6 +77,7 @@ public class SPIGACli {
                 case 3 -> menuSimulation();
                 case 4 -> afficherEtatFlotte();
                 case 5 -> menuConfiguration();
+                case 6 -> menuStatistiques();
                 case 0 -> {
                     System.out.println("\nAu revoir !");
                     continuer = false;
@@ -89,6 +99,7 @@ public class SPIGACli {
         System.out.println("3. Simulation");
         System.out.println("4. Afficher l'état de la flotte");
         System.out.println("5. Configuration");
+        System.out.println("6. Statistiques de performance (stats)");
         System.out.println("0. Quitter");
         System.out.println();
     }
@@ -141,6 +152,7 @@ public class SPIGACli {
         System.out.println("2. Assigner des actifs à une mission");
         System.out.println("3. Démarrer une mission");
         System.out.println("4. Afficher l'historique");
+        System.out.println("5. Estimer la probabilité de succès");
         System.out.println("0. Retour");
 
         int choix = lireEntier("Votre choix: ");
@@ -155,6 +167,7 @@ public class SPIGACli {
                     System.out.println(m);
                 }
             }
+            case 5 -> estimerSuccesMission();
         }
     }
 
@@ -165,6 +178,7 @@ public class SPIGACli {
         System.out.println("\nType de mission:");
         System.out.println("1. Surveillance Maritime");
         System.out.println("2. Recherche et Sauvetage");
+        System.out.println("3. Patrouille (route fermée)");
 
         int type = lireEntier("Type: ");
 
@@ -183,16 +197,35 @@ public class SPIGACli {
                     .filter(a -> a.getEtatOperationnel() == EtatOperationnel.EN_PANNE || a.getAutonomieRestante() < 25)
                     .forEach(a -> System.out.println(" - " + a.getId() + " (" + a.getType() + ")"));
 
-            String idCible = lireTexte("ID du véhicule à secourir: ");
-            ActifMobile cibleRescape = gestionnaire.getTousLesActifs().stream()
-                    .filter(a -> a.getId().equalsIgnoreCase(idCible))
-                    .findFirst().orElse(null);
+            String idCible = lireTexte("ID (ou début d'ID) du véhicule à secourir: ");
+            ActifMobile cibleRescape = gestionnaire.trouverActif(idCible.trim());
 
             if (cibleRescape == null) {
                 System.out.println("Véhicule introuvable !");
                 return;
             }
             mission = new MissionRechercheEtSauvetage(debut, fin, cibleRescape);
+        } else if (type == 3) {
+            int nombre = lireEntier("Nombre de points de passage (0 = carré par défaut): ");
+            List<fr.spiga.core.Position3D> points = new ArrayList<>();
+            if (nombre <= 0) {
+                points.add(new fr.spiga.core.Position3D(48000, 48000, 0));
+                points.add(new fr.spiga.core.Position3D(52000, 48000, 0));
+                points.add(new fr.spiga.core.Position3D(52000, 52000, 0));
+                points.add(new fr.spiga.core.Position3D(48000, 52000, 0));
+            }
+            for (int i = 1; i <= nombre; i++) {
+                double x = lireDouble("Point " + i + " X (m): ");
+                double y = lireDouble("Point " + i + " Y (m): ");
+                points.add(new fr.spiga.core.Position3D(x, y, 0));
+            }
+            try {
+                mission = new fr.spiga.mission.MissionPatrouille(debut, fin,
+                        new fr.spiga.mission.RoutePatrouille(points));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Route invalide : " + e.getMessage());
+                return;
+            }
         }
 
         if (mission != null) {
@@ -223,11 +256,20 @@ public class SPIGACli {
 
         Mission mission = missions.get(choix);
 
-        // Sélectionner un actif optimal
-        ActifMobile actif = gestionnaire.selectionnerActifOptimalParAutonomie();
+        // Sélectionner un actif optimal parmi ceux capables d'atteindre l'objectif
+        List<ActifMobile> candidats = gestionnaire.getActifsDisponibles().stream()
+                .filter(mission::estCompatible)
+                .toList();
+        if (mission.getPointObjectif() != null) {
+            candidats = serviceAtteignabilite.filtrerAtteignables(candidats, mission.getPointObjectif(),
+                    mission.exigeRetour());
+        }
+        ActifMobile actif = candidats.stream()
+                .max(java.util.Comparator.comparingDouble(ActifMobile::getAutonomieRestante))
+                .orElse(null);
 
         if (actif == null) {
-            System.out.println("Aucun actif disponible !");
+            System.out.println("Aucun actif disponible capable d'atteindre l'objectif !");
             return;
         }
 
@@ -235,6 +277,33 @@ public class SPIGACli {
         System.out.println("✓ Actif " + actif.getId() + " assigné à " + mission.getNom());
     }
 
+    /**
+     * Estime la probabilité de succès d'une mission planifiée (Monte Carlo).
+     */
+    private void estimerSuccesMission() {
+        List<Mission> planifiees = missions.stream()
+                .filter(m -> "PLANIFIEE".equals(m.getStatut()) && !m.getActifsAssignes().isEmpty())
+                .toList();
+        if (planifiees.isEmpty()) {
+            System.out.println("Aucune mission planifiée avec des actifs assignés !");
+            return;
+        }
+
+        System.out.println("\nMissions planifiées:");
+        for (int i = 0; i < planifiees.size(); i++) {
+            System.out.println((i + 1) + ". " + planifiees.get(i));
+        }
+
+        int choix = lireEntier("Mission à évaluer: ") - 1;
+        if (choix < 0 || choix >= planifiees.size()) {
+            System.out.println("Mission invalide !");
+            return;
+        }
+
+        EstimateurSuccesMission estimateur = new EstimateurSuccesMission(System.nanoTime());
+        System.out.println(estimateur.estimer(planifiees.get(choix), zoneOperation));
+    }
+
     /**
      * Démarre une mission.
      */
@@ -341,10 +410,15 @@ public class SPIGACli {
      */
     private void afficherEtatFlotte() {
         System.out.println("\n" + gestionnaire.genererRapportFlotte());
+        System.out.println("Alertes regroupées: " + gestionnaire.compterAlertesRegroupees());
 
         System.out.println("\nActifs détaillés:");
         for (ActifMobile actif : gestionnaire.getTousLesActifs()) {
-            System.out.println("  - " + actif);
+            long regroupees = actif.getNombreAlertesSupprimees();
+            System.out.println("  - " + actif + (regroupees > 0 ? " (alertes regroupées: " + regroupees + ")" : ""));
+            for (String alerte : actif.getHistoriqueAlertes().formater()) {
+                System.out.println("      " + alerte);
+            }
         }
     }
 
@@ -354,6 +428,8 @@ public class SPIGACli {
     private void menuConfiguration() {
         System.out.println("\n=== CONFIGURATION ===");
         System.out.println("1. Modifier intensité du vent");
+        System.out.println("2. Charger un scénario généré");
+        System.out.println("3. Charger un scénario depuis un fichier");
         System.out.println("0. Retour");
 
         int choix = lireEntier("Votre choix: ");
@@ -364,7 +440,113 @@ public class SPIGACli {
                 zoneOperation.setVent(new Vent(Math.PI / 4, intensite));
                 System.out.println("✓ Vent modifié");
             }
+            case 2 -> chargerScenario();
+            case 3 -> chargerScenarioFichier();
+        }
+    }
+
+    /**
+     * Remplace la zone, la flotte et les missions par le contenu d'un fichier
+     * de scénario (texte ou binaire, voir {@link FormatScenario}).
+     */
+    private void chargerScenarioFichier() {
+        System.out.print("Fichier: ");
+        String chemin = scanner.nextLine().trim();
+        ZoneOperation nouvelleZone = new ZoneOperation(zoneOperation.getLimitesMin(), zoneOperation.getLimitesMax());
+        nouvelleZone.setVent(zoneOperation.getVent());
+        nouvelleZone.setCourantMarin(zoneOperation.getCourantMarin());
+        GestionnaireEssaim nouveauGestionnaire = new GestionnaireEssaim();
+        ChargeurScenario chargeur = new ChargeurScenario(nouvelleZone, nouveauGestionnaire);
+
+        long debut = System.nanoTime();
+        try {
+            chargeur.charger(java.nio.file.Paths.get(chemin));
+        } catch (java.io.IOException | java.nio.file.InvalidPathException e) {
+            System.out.println("✗ Chargement impossible: " + e.getMessage());
+            return;
+        }
+        zoneOperation = nouvelleZone;
+        gestionnaire = nouveauGestionnaire;
+        missions.clear();
+        System.out.printf("✓ %d obstacles, %d zones d'exclusion, %d actifs chargés en %d ms%n",
+                chargeur.getObstaclesCharges(), chargeur.getZonesExclusionChargees(),
+                chargeur.getActifsCharges().size(), (System.nanoTime() - debut) / 1_000_000);
+    }
+
+    /**
+     * Remplace la zone, la flotte et les missions par un scénario généré.
+     */
+    private void chargerScenario() {
+        PresetScenario[] presets = PresetScenario.values();
+        System.out.println("\n=== SCÉNARIOS ===");
+        for (int i = 0; i < presets.length; i++) {
+            ParametresScenario parametres = presets[i].creerParametres();
+            System.out.printf("%d. %s (%d actifs, %d obstacles, %d missions)%n", i + 1, presets[i],
+                    parametres.getNombreActifs(), parametres.getNombreObstacles(), parametres.getNombreMissions());
+        }
+        int choix = lireEntier("Scénario: ") - 1;
+        if (choix < 0 || choix >= presets.length) {
+            System.out.println("Choix invalide !");
+            return;
+        }
+        long graine = lireEntier("Graine: ");
+
+        try {
+            Scenario scenario = new GenerateurScenario(graine).generer(presets[choix]);
+            zoneOperation = scenario.getZone();
+            gestionnaire = scenario.getGestionnaire();
+            missions.clear();
+            missions.addAll(scenario.getMissions());
+            System.out.println("✓ " + scenario);
+        } catch (IllegalStateException e) {
+            System.out.println("✗ " + e.getMessage());
+        }
+    }
+
+    /**
+     * Menu des statistiques de performance (commande "stats").
+     */
+    private void menuStatistiques() {
+        System.out.println();
+        System.out.print(RegistreMetriques.genererRapport());
+        System.out.println("1. " + (RegistreMetriques.estActif() ? "Désactiver" : "Activer") + " la collecte");
+        System.out.println("2. Remettre les métriques à zéro");
+        System.out.println("0. Retour");
+
+        int choix = lireEntier("Votre choix: ");
+
+        switch (choix) {
+            case 1 -> {
+                if (RegistreMetriques.estActif()) {
+                    RegistreMetriques.desactiver();
+                    System.out.println("✓ Collecte des métriques désactivée");
+                } else {
+                    RegistreMetriques.activer();
+                    System.out.println("✓ Collecte des métriques activée (JMX: fr.spiga:type=Metriques)");
+                }
+            }
+            case 2 -> {
+                RegistreMetriques.reinitialiserTout();
+                System.out.println("✓ Métriques remises à zéro");
+            }
+        }
+    }
+
+    /**
+     * Lit le choix du menu principal, qui accepte aussi la commande "stats".
+     */
+    private int lireChoixPrincipal(String prompt) {
+        System.out.print(prompt);
+        while (!scanner.hasNextInt()) {
+            if ("stats".equalsIgnoreCase(scanner.next())) {
+                scanner.nextLine();
+                return 6;
+            }
+            System.out.print(prompt);
         }
+        int result = scanner.nextInt();
+        scanner.nextLine(); // consume newline
+        return result;
     }
 
     /**
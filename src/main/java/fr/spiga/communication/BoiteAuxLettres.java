@@ -0,0 +1,80 @@
+package fr.spiga.communication;
+
+import java.util.function.Consumer;
+
+/**
+ * Boîte aux lettres bornée d'un actif (tampon circulaire).
+ * Lorsque la boîte est pleine, le message le plus ancien est écrasé et
+ * comptabilisé comme perdu : la mémoire par actif reste constante.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class BoiteAuxLettres {
+
+    private final Message[] tampon;
+    private int debut;
+    private int taille;
+    private long messagesPerdus;
+
+    /**
+     * Constructeur d'une boîte aux lettres.
+     * 
+     * @param capacite le nombre maximal de messages conservés
+     */
+    public BoiteAuxLettres(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        this.tampon = new Message[capacite];
+    }
+
+    /**
+     * Dépose un message, en écrasant le plus ancien si la boîte est pleine.
+     * 
+     * @param message le message à déposer
+     */
+    void deposer(Message message) {
+        int capacite = tampon.length;
+        if (taille == capacite) {
+            tampon[debut] = message;
+            debut = (debut + 1) % capacite;
+            messagesPerdus++;
+        } else {
+            tampon[(debut + taille) % capacite] = message;
+            taille++;
+        }
+    }
+
+    /**
+     * Vide la boîte en transmettant les messages, du plus ancien au plus récent.
+     * 
+     * @param consommateur le traitement appliqué à chaque message
+     * @return le nombre de messages relevés
+     */
+    public int relever(Consumer<Message> consommateur) {
+        int n = taille;
+        int capacite = tampon.length;
+        for (int i = 0; i < n; i++) {
+            int idx = (debut + i) % capacite;
+            Message m = tampon[idx];
+            tampon[idx] = null;
+            consommateur.accept(m);
+        }
+        debut = 0;
+        taille = 0;
+        return n;
+    }
+
+    public int getTaille() {
+        return taille;
+    }
+
+    public int getCapacite() {
+        return tampon.length;
+    }
+
+    public long getMessagesPerdus() {
+        return messagesPerdus;
+    }
+}
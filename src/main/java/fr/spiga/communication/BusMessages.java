@@ -0,0 +1,402 @@
+package fr.spiga.communication;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bus de messages publication/abonnement à portée spatiale.
+ * 
+ * <p>
+ * Les publications sont mises en file puis livrées par lots, une fois par
+ * tick, lors de l'appel à {@link #distribuer()}. Les diffusions à portée
+ * limitée sont résolues via une grille spatiale uniforme reconstruite à chaque
+ * distribution (tri par comptage, sans allocation par cellule) : seules les
+ * cellules couvertes par la portée sont examinées, ce qui évite l'explosion
+ * quadratique du tout-à-tous. Chaque abonné dispose d'une boîte aux lettres
+ * bornée.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class BusMessages {
+
+    /** Taille par défaut des cellules de la grille (en mètres) */
+    public static final double TAILLE_CELLULE_DEFAUT = 1000.0;
+
+    /** Capacité par défaut des boîtes aux lettres */
+    public static final int CAPACITE_BOITE_DEFAUT = 64;
+
+    /** Abonné du bus : actif, boîte aux lettres et masque des sujets suivis */
+    private static final class Abonne {
+        final ActifMobile actif;
+        final BoiteAuxLettres boite;
+        int masqueSujets;
+
+        Abonne(ActifMobile actif, int capacite) {
+            this.actif = actif;
+            this.boite = new BoiteAuxLettres(capacite);
+        }
+    }
+
+    private final double tailleCellule;
+    private final int capaciteBoite;
+
+    private final Map<ActifMobile, Abonne> abonnes = new IdentityHashMap<>();
+    private final List<Message> enAttente = new ArrayList<>();
+
+    /** Instantané des abonnés et de leurs positions pour la distribution */
+    private Abonne[] tableauAbonnes = new Abonne[0];
+    private boolean abonnesModifies = false;
+    private double[] px = new double[0];
+    private double[] py = new double[0];
+    private double[] pz = new double[0];
+
+    /** Grille spatiale (tri par comptage) */
+    private int[] debutsCellules = new int[0];
+    private int[] contenuCellules = new int[0];
+    private int[] celluleAbonne = new int[0];
+    private double origineX;
+    private double origineY;
+    private double celluleEffective;
+    private int nbCellulesX;
+    private int nbCellulesY;
+
+    private long messagesPublies;
+    private long messagesLivres;
+    private long messagesNonLivres;
+
+    /**
+     * Constructeur avec paramètres par défaut.
+     */
+    public BusMessages() {
+        this(TAILLE_CELLULE_DEFAUT, CAPACITE_BOITE_DEFAUT);
+    }
+
+    /**
+     * Constructeur avec paramètres personnalisés.
+     * 
+     * @param tailleCellule la taille des cellules de la grille en mètres
+     * @param capaciteBoite la capacité de chaque boîte aux lettres
+     */
+    public BusMessages(double tailleCellule, int capaciteBoite) {
+        if (tailleCellule <= 0) {
+            throw new IllegalArgumentException("La taille de cellule doit être positive");
+        }
+        if (capaciteBoite <= 0) {
+            throw new IllegalArgumentException("La capacité des boîtes doit être positive");
+        }
+        this.tailleCellule = tailleCellule;
+        this.capaciteBoite = capaciteBoite;
+    }
+
+    /**
+     * Abonne un actif à un ou plusieurs sujets.
+     * L'actif est rattaché au bus et reçoit une boîte aux lettres s'il n'en
+     * avait pas.
+     * 
+     * @param actif  l'actif à abonner
+     * @param sujets les sujets suivis
+     */
+    public void abonner(ActifMobile actif, SujetMessage... sujets) {
+        if (actif == null) {
+            throw new IllegalArgumentException("L'actif ne peut pas être nul");
+        }
+        Abonne abonne = abonnes.get(actif);
+        if (abonne == null) {
+            abonne = new Abonne(actif, capaciteBoite);
+            abonnes.put(actif, abonne);
+            abonnesModifies = true;
+            actif.setBusMessages(this);
+        }
+        for (SujetMessage sujet : sujets) {
+            abonne.masqueSujets |= sujet.masque();
+        }
+    }
+
+    /**
+     * Retire un actif du bus (sa boîte aux lettres est abandonnée).
+     * 
+     * @param actif l'actif à retirer
+     */
+    public void desabonner(ActifMobile actif) {
+        if (abonnes.remove(actif) != null) {
+            abonnesModifies = true;
+            if (actif.getBusMessages() == this) {
+                actif.setBusMessages(null);
+            }
+        }
+    }
+
+    public boolean estAbonne(ActifMobile actif) {
+        return abonnes.containsKey(actif);
+    }
+
+    /**
+     * Publie une diffusion à portée limitée, livrée au prochain
+     * {@link #distribuer()}.
+     * 
+     * @param emetteur l'actif émetteur
+     * @param sujet    le sujet du message
+     * @param contenu  le contenu
+     * @param portee   la portée en mètres autour de l'émetteur
+     */
+    public void publier(ActifMobile emetteur, SujetMessage sujet, String contenu, double portee) {
+        if (portee <= 0) {
+            throw new IllegalArgumentException("La portée doit être positive");
+        }
+        enAttente.add(new Message(sujet, emetteur, null, contenu, portee));
+        messagesPublies++;
+    }
+
+    /**
+     * Envoie un message à un destinataire unique, livré au prochain
+     * {@link #distribuer()}. Le destinataire doit être enregistré sur le bus,
+     * quel que soit le sujet.
+     * 
+     * @param emetteur     l'actif émetteur
+     * @param destinataire l'actif destinataire
+     * @param sujet        le sujet du message
+     * @param contenu      le contenu
+     */
+    public void envoyer(ActifMobile emetteur, ActifMobile destinataire, SujetMessage sujet, String contenu) {
+        if (destinataire == null) {
+            throw new IllegalArgumentException("Le destinataire ne peut pas être nul");
+        }
+        enAttente.add(new Message(sujet, emetteur, destinataire, contenu, 0.0));
+        messagesPublies++;
+    }
+
+    /**
+     * Livre par lot tous les messages en attente. À appeler une fois par tick.
+     * 
+     * @return le nombre de livraisons effectuées
+     */
+    public int distribuer() {
+        if (enAttente.isEmpty()) {
+            return 0;
+        }
+        reconstruireGrille();
+
+        int livraisons = 0;
+        for (int m = 0; m < enAttente.size(); m++) {
+            Message message = enAttente.get(m);
+            if (message.getDestinataire() != null) {
+                Abonne abonne = abonnes.get(message.getDestinataire());
+                if (abonne != null) {
+                    abonne.boite.deposer(message);
+                    livraisons++;
+                } else {
+                    messagesNonLivres++;
+                }
+            } else {
+                livraisons += diffuser(message);
+            }
+        }
+        enAttente.clear();
+        messagesLivres += livraisons;
+        return livraisons;
+    }
+
+    /**
+     * Résout une diffusion sur les cellules couvertes par sa portée.
+     */
+    private int diffuser(Message message) {
+        if (tableauAbonnes.length == 0) {
+            return 0;
+        }
+        Position3D o = message.getOrigine();
+        double portee = message.getPortee();
+        double portee2 = portee * portee;
+        int masque = message.getSujet().masque();
+
+        int cx0 = indiceCellule(o.getX() - portee, origineX, nbCellulesX);
+        int cx1 = indiceCellule(o.getX() + portee, origineX, nbCellulesX);
+        int cy0 = indiceCellule(o.getY() - portee, origineY, nbCellulesY);
+        int cy1 = indiceCellule(o.getY() + portee, origineY, nbCellulesY);
+
+        int livraisons = 0;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int cellule = cy * nbCellulesX + cx;
+                for (int k = debutsCellules[cellule]; k < debutsCellules[cellule + 1]; k++) {
+                    int j = contenuCellules[k];
+                    Abonne abonne = tableauAbonnes[j];
+                    if ((abonne.masqueSujets & masque) == 0 || abonne.actif == message.getEmetteur()) {
+                        continue;
+                    }
+                    double dx = px[j] - o.getX();
+                    double dy = py[j] - o.getY();
+                    double dz = pz[j] - o.getZ();
+                    if (dx * dx + dy * dy + dz * dz <= portee2) {
+                        abonne.boite.deposer(message);
+                        livraisons++;
+                    }
+                }
+            }
+        }
+        return livraisons;
+    }
+
+    private int indiceCellule(double coordonnee, double origine, int nbCellules) {
+        int i = (int) Math.floor((coordonnee - origine) / celluleEffective);
+        return Math.max(0, Math.min(nbCellules - 1, i));
+    }
+
+    /**
+     * Reconstruit la grille à partir des positions courantes des abonnés
+     * (tri par comptage en O(n)).
+     */
+    private void reconstruireGrille() {
+        if (abonnesModifies) {
+            tableauAbonnes = abonnes.values().toArray(new Abonne[0]);
+            abonnesModifies = false;
+        }
+        int n = tableauAbonnes.length;
+        if (px.length < n) {
+            px = new double[n];
+            py = new double[n];
+            pz = new double[n];
+            celluleAbonne = new int[n];
+            contenuCellules = new int[n];
+        }
+        if (n == 0) {
+            return;
+        }
+
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            Position3D p = tableauAbonnes[i].actif.getPosition();
+            px[i] = p.getX();
+            py[i] = p.getY();
+            pz[i] = p.getZ();
+            minX = Math.min(minX, px[i]);
+            minY = Math.min(minY, py[i]);
+            maxX = Math.max(maxX, px[i]);
+            maxY = Math.max(maxY, py[i]);
+        }
+
+        // Borne le nombre de cellules à ~4 par abonné pour une flotte très étalée
+        double surface = Math.max(1.0, (maxX - minX) * (maxY - minY));
+        celluleEffective = Math.max(tailleCellule, Math.sqrt(surface / (4.0 * n)));
+        origineX = minX;
+        origineY = minY;
+        nbCellulesX = (int) ((maxX - minX) / celluleEffective) + 1;
+        nbCellulesY = (int) ((maxY - minY) / celluleEffective) + 1;
+
+        int nbCellules = nbCellulesX * nbCellulesY;
+        if (debutsCellules.length < nbCellules + 1) {
+            debutsCellules = new int[nbCellules + 1];
+        } else {
+            Arrays.fill(debutsCellules, 0, nbCellules + 1, 0);
+        }
+
+        for (int i = 0; i < n; i++) {
+            int c = indiceCellule(py[i], origineY, nbCellulesY) * nbCellulesX
+                    + indiceCellule(px[i], origineX, nbCellulesX);
+            celluleAbonne[i] = c;
+            debutsCellules[c + 1]++;
+        }
+        for (int c = 0; c < nbCellules; c++) {
+            debutsCellules[c + 1] += debutsCellules[c];
+        }
+        int[] curseurs = Arrays.copyOf(debutsCellules, nbCellules);
+        for (int i = 0; i < n; i++) {
+            contenuCellules[curseurs[celluleAbonne[i]]++] = i;
+        }
+    }
+
+    /**
+     * Obtient la boîte aux lettres d'un actif.
+     * 
+     * @param actif l'actif abonné
+     * @return sa boîte aux lettres, ou null s'il n'est pas abonné
+     */
+    public BoiteAuxLettres getBoite(ActifMobile actif) {
+        Abonne abonne = abonnes.get(actif);
+        return abonne != null ? abonne.boite : null;
+    }
+
+    /**
+     * Vide la boîte aux lettres d'un actif.
+     * 
+     * @param actif        l'actif abonné
+     * @param consommateur le traitement appliqué à chaque message
+     * @return le nombre de messages relevés
+     */
+    public int relever(ActifMobile actif, Consumer<Message> consommateur) {
+        BoiteAuxLettres boite = getBoite(actif);
+        return boite != null ? boite.relever(consommateur) : 0;
+    }
+
+    /**
+     * Vide les boîtes aux lettres de tous les abonnés et remet chaque alerte à
+     * son destinataire ({@link ActifMobile#recevoirAlerte}), qui l'enregistre
+     * dans son historique. À appeler à chaque tick, après
+     * {@link #distribuer()}, pour que les boîtes bornées ne débordent pas.
+     * Les messages des autres sujets, sans consommateur pour l'instant, sont
+     * écartés.
+     * 
+     * @return le nombre d'alertes remises
+     */
+    public int livrerAlertes() {
+        if (abonnesModifies) {
+            tableauAbonnes = abonnes.values().toArray(new Abonne[0]);
+            abonnesModifies = false;
+        }
+        int[] remises = new int[1];
+        for (Abonne abonne : tableauAbonnes) {
+            if (abonne.boite.getTaille() == 0) {
+                continue;
+            }
+            abonne.boite.relever(message -> {
+                if (message.getSujet() == SujetMessage.ALERTE && message.getEmetteur() != null) {
+                    abonne.actif.recevoirAlerte(message.getContenu(), message.getEmetteur());
+                    remises[0]++;
+                }
+            });
+        }
+        return remises[0];
+    }
+
+    /**
+     * Obtient le nombre total de messages écrasés dans des boîtes pleines.
+     * 
+     * @return le nombre de messages perdus
+     */
+    public long getMessagesPerdus() {
+        long perdus = 0;
+        for (Abonne abonne : abonnes.values()) {
+            perdus += abonne.boite.getMessagesPerdus();
+        }
+        return perdus;
+    }
+
+    public int getNombreEnAttente() {
+        return enAttente.size();
+    }
+
+    public long getMessagesPublies() {
+        return messagesPublies;
+    }
+
+    public long getMessagesLivres() {
+        return messagesLivres;
+    }
+
+    public long getMessagesNonLivres() {
+        return messagesNonLivres;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BusMessages[abonnés=%d, publiés=%d, livrés=%d, en attente=%d]",
+                abonnes.size(), messagesPublies, messagesLivres, enAttente.size());
+    }
+}
@@ -0,0 +1,78 @@
+package fr.spiga.communication;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+
+/**
+ * Message immuable circulant sur le bus.
+ * Une diffusion ne crée qu'une seule instance, partagée par tous les
+ * destinataires.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class Message {
+
+    private final SujetMessage sujet;
+    private final ActifMobile emetteur;
+    private final ActifMobile destinataire;
+    private final String contenu;
+    private final Position3D origine;
+    private final double portee;
+
+    /**
+     * Constructeur d'un message.
+     * 
+     * @param sujet        le sujet du message
+     * @param emetteur     l'actif émetteur
+     * @param destinataire le destinataire unique, ou null pour une diffusion
+     * @param contenu      le contenu du message
+     * @param portee       la portée de diffusion en mètres (ignorée si
+     *                     destinataire non nul)
+     */
+    Message(SujetMessage sujet, ActifMobile emetteur, ActifMobile destinataire, String contenu, double portee) {
+        if (sujet == null || emetteur == null || contenu == null) {
+            throw new IllegalArgumentException("Le sujet, l'émetteur et le contenu ne peuvent pas être nuls");
+        }
+        this.sujet = sujet;
+        this.emetteur = emetteur;
+        this.destinataire = destinataire;
+        this.contenu = contenu;
+        this.origine = emetteur.getPosition();
+        this.portee = portee;
+    }
+
+    public SujetMessage getSujet() {
+        return sujet;
+    }
+
+    public ActifMobile getEmetteur() {
+        return emetteur;
+    }
+
+    public ActifMobile getDestinataire() {
+        return destinataire;
+    }
+
+    public String getContenu() {
+        return contenu;
+    }
+
+    /**
+     * Obtient la position de l'émetteur au moment de l'émission.
+     * 
+     * @return la position d'origine
+     */
+    public Position3D getOrigine() {
+        return origine;
+    }
+
+    public double getPortee() {
+        return portee;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Message[%s de %s: %s]", sujet, emetteur.getIdCourt(), contenu);
+    }
+}
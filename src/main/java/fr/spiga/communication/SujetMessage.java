@@ -0,0 +1,34 @@
+package fr.spiga.communication;
+
+/**
+ * Énumération des sujets (topics) du bus de messages.
+ * Un actif ne reçoit les diffusions que sur les sujets auxquels il est abonné.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public enum SujetMessage {
+    /**
+     * Alertes critiques (batterie, panne, collision...)
+     */
+    ALERTE,
+
+    /**
+     * Rapports d'état périodiques (position, autonomie)
+     */
+    STATUT,
+
+    /**
+     * Messages de coordination entre actifs d'une même opération
+     */
+    COORDINATION;
+
+    /**
+     * Obtient le masque binaire du sujet.
+     * 
+     * @return le masque (un seul bit positionné)
+     */
+    public int masque() {
+        return 1 << ordinal();
+    }
+}
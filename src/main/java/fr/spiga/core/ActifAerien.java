@@ -64,6 +64,16 @@ public abstract class ActifAerien extends ActifMobile {
         return getPosition().getZ();
     }
 
+    /**
+     * Obtient la hauteur de l'actif au-dessus du sol (champ d'altitudes de la
+     * zone).
+     * 
+     * @return la hauteur en mètres, infinie si le relief est inconnu
+     */
+    public double getHauteurSol() {
+        return zoneOperation != null ? zoneOperation.getDegagement(getPosition()) : Double.POSITIVE_INFINITY;
+    }
+
     @Override
     protected void setPosition(Position3D nouvellePosition) {
         if (nouvellePosition == null) {
@@ -93,9 +103,10 @@ public abstract class ActifAerien extends ActifMobile {
 
         // Vérifier l'altitude
         if (!estAltitudeValide(cible.getZ())) {
-            System.out.println("Altitude cible invalide: " + cible.getZ() +
-                    " (max: " + altitudeMax + ")");
-            notifierEtatCritique("ALTITUDE_INVALIDE");
+            if (signalerAlerte(CodeAlerte.ALTITUDE_INVALIDE)) {
+                journaliser("Altitude cible invalide: " + cible.getZ() +
+                        " (max: " + altitudeMax + ")");
+            }
             return false;
         }
 
@@ -104,15 +115,25 @@ public abstract class ActifAerien extends ActifMobile {
         double consommation = calculerConsommation(distance);
 
         if (consommation > getAutonomieRestante()) {
-            System.out.println("Autonomie insuffisante pour atteindre la cible");
-            notifierEtatCritique("BATTERIE_CRITIQUE");
+            if (signalerAlerte(CodeAlerte.AUTONOMIE_INSUFFISANTE)) {
+                journaliser("Autonomie insuffisante pour atteindre la cible");
+            }
+            return false;
+        }
+
+        // Vérifier le relief
+        if (zoneOperation != null && zoneOperation.estSousLeRelief(cible)) {
+            if (signalerAlerte(CodeAlerte.ALTITUDE_INVALIDE)) {
+                journaliser("Altitude cible sous le relief: " + cible.getZ());
+            }
             return false;
         }
 
         // Vérifier la zone d'opération
         if (zoneOperation != null && !zoneOperation.estDansZone(cible)) {
-            System.out.println("Cible hors de la zone d'opération");
-            notifierEtatCritique("ZONE_INTERDITE");
+            if (signalerAlerte(CodeAlerte.ZONE_INTERDITE)) {
+                journaliser("Cible hors de la zone d'opération");
+            }
             return false;
         }
 
@@ -136,25 +157,29 @@ public abstract class ActifAerien extends ActifMobile {
     }
 
     @Override
-    protected double calculerConsommation(double distance) {
-        double consommationBase = super.calculerConsommation(distance);
+    protected double calculerFacteurEnvironnement(fr.spiga.environment.ZoneOperation zone) {
+        double facteur = super.calculerFacteurEnvironnement(zone);
 
         // Ajuster selon le vent (sensibilité)
-        if (zoneOperation != null) {
-            Vent vent = zoneOperation.getVent();
-            if (vent != null) {
-                // Si on va CONTRE le vent, on consomme plus.
-                // Pour simplifier ici, on garde le facteur d'intensité
-                double facteurVent = 1.0 + (vent.getIntensite() / 100.0) * sensibiliteVent;
-                consommationBase *= facteurVent;
-            }
+        Vent vent = zone.getVent();
+        if (vent != null) {
+            // Si on va CONTRE le vent, on consomme plus.
+            // Pour simplifier ici, on garde le facteur d'intensité
+            facteur *= 1.0 + (vent.getIntensite() / 100.0) * sensibiliteVent;
+        }
 
-            // Précipitations : la pluie alourdit et augmente la traînée
-            fr.spiga.environment.Precipitation precip = zoneOperation.getPrecipitation();
-            if (precip != null && precip.getIntensite() > 0) {
-                consommationBase *= (1.0 + precip.getIntensite() / 200.0);
-            }
+        // Précipitations : la pluie alourdit et augmente la traînée
+        fr.spiga.environment.Precipitation precip = zone.getPrecipitation();
+        if (precip != null && precip.getIntensite() > 0) {
+            facteur *= (1.0 + precip.getIntensite() / 200.0);
         }
+        return facteur;
+    }
+
+    @Override
+    protected double calculerConsommation(double distance) {
+        // Inclut le facteur environnemental mis en cache
+        double consommationBase = super.calculerConsommation(distance);
 
         // Ajuster selon l'altitude (plus haut = plus de consommation)
         double altitude = getPosition().getZ();
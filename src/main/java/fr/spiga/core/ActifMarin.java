@@ -65,6 +65,16 @@ public abstract class ActifMarin extends ActifMobile {
         return -getPosition().getZ();
     }
 
+    /**
+     * Obtient la hauteur de l'actif au-dessus du fond marin (champ d'altitudes
+     * de la zone).
+     * 
+     * @return la hauteur en mètres, infinie si la bathymétrie est inconnue
+     */
+    public double getHauteurFond() {
+        return zoneOperation != null ? zoneOperation.getDegagement(getPosition()) : Double.POSITIVE_INFINITY;
+    }
+
     @Override
     protected void setPosition(Position3D nouvellePosition) {
         if (nouvellePosition == null) {
@@ -99,9 +109,10 @@ public abstract class ActifMarin extends ActifMobile {
         // Vérifier la profondeur (Z négatif ou nul pour les actifs marins)
         double profondeurCible = -cible.getZ();
         if (!estProfondeurValide(profondeurCible)) {
-            System.out.println("Profondeur cible invalide: " + profondeurCible +
-                    " (max: " + profondeurMax + ")");
-            notifierEtatCritique("PROFONDEUR_INVALIDE");
+            if (signalerAlerte(CodeAlerte.PROFONDEUR_INVALIDE)) {
+                journaliser("Profondeur cible invalide: " + profondeurCible +
+                        " (max: " + profondeurMax + ")");
+            }
             return false;
         }
 
@@ -110,15 +121,25 @@ public abstract class ActifMarin extends ActifMobile {
         double consommation = calculerConsommation(distance);
 
         if (consommation > getAutonomieRestante()) {
-            System.out.println("Autonomie insuffisante pour atteindre la cible");
-            notifierEtatCritique("BATTERIE_CRITIQUE");
+            if (signalerAlerte(CodeAlerte.AUTONOMIE_INSUFFISANTE)) {
+                journaliser("Autonomie insuffisante pour atteindre la cible");
+            }
+            return false;
+        }
+
+        // Vérifier le fond marin et la côte
+        if (zoneOperation != null && zoneOperation.estSousLeRelief(cible)) {
+            if (signalerAlerte(CodeAlerte.PROFONDEUR_INVALIDE)) {
+                journaliser("Cible sous le fond ou à terre: " + cible);
+            }
             return false;
         }
 
         // Vérifier la zone d'opération
         if (zoneOperation != null && !zoneOperation.estDansZone(cible)) {
-            System.out.println("Cible hors de la zone d'opération");
-            notifierEtatCritique("ZONE_INTERDITE");
+            if (signalerAlerte(CodeAlerte.ZONE_INTERDITE)) {
+                journaliser("Cible hors de la zone d'opération");
+            }
             return false;
         }
 
@@ -142,17 +163,21 @@ public abstract class ActifMarin extends ActifMobile {
     }
 
     @Override
-    protected double calculerConsommation(double distance) {
-        double consommationBase = super.calculerConsommation(distance);
+    protected double calculerFacteurEnvironnement(fr.spiga.environment.ZoneOperation zone) {
+        double facteur = super.calculerFacteurEnvironnement(zone);
 
-        // Ajuster selon le courant marin si dans une zone d'opération
-        if (zoneOperation != null) {
-            CourantMarin courant = zoneOperation.getCourantMarin();
-            if (courant != null) {
-                double facteurCourant = 1.0 + (courant.getIntensite() / 100.0) * sensibiliteCourant;
-                consommationBase *= facteurCourant;
-            }
+        // Ajuster selon le courant marin
+        CourantMarin courant = zone.getCourantMarin();
+        if (courant != null) {
+            facteur *= 1.0 + (courant.getIntensite() / 100.0) * sensibiliteCourant;
         }
+        return facteur;
+    }
+
+    @Override
+    protected double calculerConsommation(double distance) {
+        // Inclut le facteur environnemental mis en cache
+        double consommationBase = super.calculerConsommation(distance);
 
         // Ajuster selon la profondeur (plus profond = plus de consommation)
         double profondeur = getProfondeur();
@@ -2,9 +2,10 @@ package fr.spiga.core;
 
 import fr.spiga.interfaces.*;
 import fr.spiga.environment.ZoneOperation;
+import fr.spiga.metriques.PhaseTick;
+import fr.spiga.metriques.RegistreMetriques;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,29 +27,50 @@ import java.util.UUID;
  * @version 1.0
  */
 public abstract class ActifMobile implements Deplacable, Rechargeable, Communicable,
-        Pilotable, Alertable, Serializable {
+        Pilotable, Alertable, Serializable, Cloneable {
     private static final long serialVersionUID = 1L;
 
     /** Seuil critique d'autonomie (en pourcentage) */
     protected static final double SEUIL_AUTONOMIE_CRITIQUE = 20.0;
 
+    /** Fenêtre de regroupement des alertes ponctuelles (en secondes, simulées si la zone les cadence) */
+    public static final double FENETRE_COALESCENCE_ALERTES = 60.0;
+
+    /** Origine de l'horloge monotone utilisée hors simulation cadencée */
+    private static final long ORIGINE_HORLOGE = System.nanoTime();
+
+    private static final CodeAlerte[] CODES_ALERTE = CodeAlerte.values();
+
+    /** Poignée d'un actif non encore enregistré dans une flotte */
+    public static final int POIGNEE_NON_ATTRIBUEE = -1;
+
     /** Identifiant unique de l'actif */
     private final String id;
 
-    /** Position actuelle en 3D */
-    private Position3D position;
+    /** Identifiant court (8 premiers caractères), calculé une seule fois */
+    private final String idCourt;
 
-    /** Vitesse maximale en m/s */
-    private final double vitesseMax;
+    /** Poignée entière compacte attribuée à l'enregistrement dans la flotte */
+    private int poignee = POIGNEE_NON_ATTRIBUEE;
 
-    /** Autonomie maximale en heures */
-    private final double autonomieMax;
+    /**
+     * Stockage de l'état dynamique (position, vitesse maximale, autonomie
+     * restante en pourcentage, état opérationnel) : l'actif n'en est qu'une
+     * vue sur son emplacement.
+     */
+    private transient EtatFlotte etatFlotte;
+
+    /** Emplacement de l'actif dans {@link #etatFlotte} */
+    private transient int slot;
 
-    /** Autonomie restante en pourcentage (0.0 à 100.0) */
-    private double autonomieRestante;
+    /** Action de libération de l'emplacement, suivie lors des migrations */
+    private transient LiberationEmplacement liberation;
 
-    /** État opérationnel actuel */
-    private EtatOperationnel etatOperationnel;
+    /** Dernière position lue ou écrite, réutilisée tant qu'elle est à jour */
+    private transient Position3D positionCache;
+
+    /** Autonomie maximale en heures */
+    private final double autonomieMax;
 
     /** Indique si l'actif est en marche */
     private boolean enMarche;
@@ -59,8 +81,38 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
     /** Vecteur de déplacement résiduel (dérive environnementale) */
     protected Position3D deriveAccumulee = new Position3D(0, 0, 0);
 
-    /** Liste des alertes reçues */
-    private final List<String> alertesRecues;
+    /** Historique borné des alertes reçues */
+    private HistoriqueAlertes alertesRecues;
+
+    /** Masque des alertes maintenues actuellement actives */
+    private int alertesActives;
+
+    /** Instant de dernière émission (voir getInstantCourant), par code d'alerte */
+    private double[] derniereEmissionAlerte;
+
+    /** Horloge des instants d'émission conservés (temps simulé ou monotone) */
+    private boolean alertesSurTempsSimule;
+
+    /** Nombre de répétitions supprimées, par code d'alerte */
+    private long[] alertesSupprimees;
+
+    /** Facteur environnemental de consommation mis en cache */
+    private transient double facteurEnvironnement = 1.0;
+
+    /** Zone et version d'environnement pour lesquelles le facteur est valide */
+    private transient ZoneOperation zoneFacteurEnvironnement;
+    private transient long versionFacteurEnvironnement = -1;
+
+    /** Bus de messages auquel l'actif est rattaché (null = appels directs) */
+    private transient fr.spiga.communication.BusMessages busMessages;
+
+    private static final ObservateurActif[] AUCUN_OBSERVATEUR = new ObservateurActif[0];
+
+    /** Observateurs des changements de position et d'autonomie (copie à l'écriture) */
+    private transient volatile ObservateurActif[] observateurs = AUCUN_OBSERVATEUR;
+
+    /** Vrai pour une copie de simulation : aucun message n'est affiché */
+    private boolean silencieux;
 
     /**
      * Constructeur protégé pour les sous-classes.
@@ -71,6 +123,23 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
      * @throws IllegalArgumentException si les paramètres sont invalides
      */
     protected ActifMobile(Position3D position, double vitesseMax, double autonomieMax) {
+        this(UUID.randomUUID().toString(), position, vitesseMax, autonomieMax);
+    }
+
+    /**
+     * Constructeur avec identifiant imposé (tests, reprise d'une flotte
+     * persistée sous les mêmes identifiants).
+     * 
+     * @param id           l'identifiant personnalisé
+     * @param position     la position initiale
+     * @param vitesseMax   la vitesse maximale en m/s
+     * @param autonomieMax l'autonomie maximale en heures
+     * @throws IllegalArgumentException si les paramètres sont invalides
+     */
+    protected ActifMobile(String id, Position3D position, double vitesseMax, double autonomieMax) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("L'identifiant ne peut pas être vide");
+        }
         if (position == null) {
             throw new IllegalArgumentException("La position ne peut pas être nulle");
         }
@@ -81,37 +150,242 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
             throw new IllegalArgumentException("L'autonomie maximale doit être positive");
         }
 
-        this.id = UUID.randomUUID().toString();
-        this.position = position;
-        this.vitesseMax = vitesseMax;
+        this.id = id;
+        this.idCourt = id.substring(0, Math.min(8, id.length()));
         this.autonomieMax = autonomieMax;
-        this.autonomieRestante = 100.0;
-        this.etatOperationnel = EtatOperationnel.AU_SOL;
+        occuperEmplacement(EtatFlotteTas.getParDefaut());
+        etatFlotte.setPosition(slot, position.getX(), position.getY(), position.getZ());
+        etatFlotte.setVitesse(slot, vitesseMax);
+        etatFlotte.setAutonomie(slot, 100.0);
+        etatFlotte.setEtat(slot, EtatOperationnel.AU_SOL);
+        this.positionCache = position;
         this.enMarche = false;
-        this.alertesRecues = new ArrayList<>();
+        this.alertesRecues = new HistoriqueAlertes();
+        this.derniereEmissionAlerte = new double[CODES_ALERTE.length];
+        java.util.Arrays.fill(this.derniereEmissionAlerte, Double.NEGATIVE_INFINITY);
+        this.alertesSupprimees = new long[CODES_ALERTE.length];
+    }
+
+    // Getters et setters avec validation
+
+    public String getId() {
+        return id;
+    }
+
+    public String getIdCourt() {
+        return idCourt;
     }
 
     /**
-     * Constructeur avec ID personnalisé pour les tests.
+     * Obtient la poignée compacte de l'actif, attribuée par le registre de la
+     * flotte ({@link fr.spiga.fleet.GestionnaireEssaim}) à l'enregistrement.
      * 
-     * @param id           l'identifiant personnalisé
-     * @param position     la position initiale
-     * @param vitesseMax   la vitesse maximale en m/s
-     * @param autonomieMax l'autonomie maximale en heures
+     * @return la poignée, ou {@link #POIGNEE_NON_ATTRIBUEE}
      */
-    protected ActifMobile(String id, Position3D position, double vitesseMax, double autonomieMax) {
-        this(position, vitesseMax, autonomieMax);
+    public int getPoignee() {
+        return poignee;
     }
 
-    // Getters et setters avec validation
+    /**
+     * Attribue la poignée compacte de l'actif. Une poignée n'est attribuée
+     * qu'une seule fois : un actif appartient à une seule flotte.
+     * 
+     * @param poignee la poignée (positive ou nulle)
+     * @throws IllegalArgumentException si la poignée est négative
+     * @throws IllegalStateException    si une poignée est déjà attribuée
+     */
+    public void attribuerPoignee(int poignee) {
+        if (poignee < 0) {
+            throw new IllegalArgumentException("La poignée doit être positive ou nulle");
+        }
+        if (this.poignee != POIGNEE_NON_ATTRIBUEE) {
+            throw new IllegalStateException("Poignée déjà attribuée: " + this.poignee);
+        }
+        this.poignee = poignee;
+    }
 
-    public String getId() {
-        return id;
+    /**
+     * Abonne un observateur aux changements de position et d'autonomie de
+     * l'actif (par exemple les agrégats d'un essaim). Les notifications sont
+     * émises par le fil qui modifie l'actif, sans verrou sur l'actif.
+     * 
+     * @param observateur l'observateur
+     * @throws IllegalArgumentException si l'observateur est nul
+     */
+    public synchronized void ajouterObservateur(ObservateurActif observateur) {
+        if (observateur == null) {
+            throw new IllegalArgumentException("L'observateur ne peut pas être nul");
+        }
+        ObservateurActif[] actuels = observateurs;
+        for (ObservateurActif o : actuels) {
+            if (o == observateur) {
+                return;
+            }
+        }
+        ObservateurActif[] nouveaux = java.util.Arrays.copyOf(actuels, actuels.length + 1);
+        nouveaux[actuels.length] = observateur;
+        observateurs = nouveaux;
+    }
+
+    /**
+     * Désabonne un observateur.
+     * 
+     * @param observateur l'observateur
+     */
+    public synchronized void retirerObservateur(ObservateurActif observateur) {
+        ObservateurActif[] actuels = observateurs;
+        for (int i = 0; i < actuels.length; i++) {
+            if (actuels[i] == observateur) {
+                ObservateurActif[] nouveaux = new ObservateurActif[actuels.length - 1];
+                System.arraycopy(actuels, 0, nouveaux, 0, i);
+                System.arraycopy(actuels, i + 1, nouveaux, i, nouveaux.length - i);
+                observateurs = nouveaux;
+                return;
+            }
+        }
+    }
+
+    private void signalerPosition(double x, double y, double z) {
+        for (ObservateurActif o : observateurs) {
+            o.positionModifiee(this, x, y, z);
+        }
+    }
+
+    private void signalerAutonomie(double autonomie) {
+        for (ObservateurActif o : observateurs) {
+            o.autonomieModifiee(this, autonomie);
+        }
+    }
+
+    /**
+     * Obtient l'historique borné des alertes reçues.
+     * 
+     * @return l'historique des alertes
+     */
+    public HistoriqueAlertes getHistoriqueAlertes() {
+        return alertesRecues;
+    }
+
+    /**
+     * Action exécutée par le {@link #NETTOYEUR} : rend l'emplacement de l'actif
+     * une fois celui-ci devenu inaccessible. Elle ne référence pas l'actif.
+     */
+    private static final class LiberationEmplacement implements Runnable {
+        private volatile EtatFlotte etat;
+        private volatile int slot;
+
+        LiberationEmplacement(EtatFlotte etat, int slot) {
+            this.etat = etat;
+            this.slot = slot;
+        }
+
+        synchronized void deplacer(EtatFlotte nouvelEtat, int nouveauSlot) {
+            this.etat = nouvelEtat;
+            this.slot = nouveauSlot;
+        }
+
+        @Override
+        public synchronized void run() {
+            etat.liberer(slot);
+        }
+    }
+
+    /** Libère les emplacements des actifs récupérés par le ramasse-miettes */
+    private static final java.lang.ref.Cleaner NETTOYEUR = java.lang.ref.Cleaner.create();
+
+    private void occuperEmplacement(EtatFlotte etat) {
+        this.etatFlotte = etat;
+        this.slot = etat.allouer();
+        this.liberation = new LiberationEmplacement(etat, slot);
+        NETTOYEUR.register(this, liberation);
+    }
+
+    /**
+     * Obtient le stockage qui porte l'état dynamique de l'actif.
+     * 
+     * @return le stockage (celui de sa flotte, ou le stockage par défaut)
+     */
+    public EtatFlotte getEtatFlotte() {
+        return etatFlotte;
+    }
+
+    /**
+     * Obtient l'emplacement de l'actif dans {@link #getEtatFlotte()}.
+     * 
+     * @return le numéro d'emplacement
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Transfère l'état dynamique de l'actif vers un autre stockage (par
+     * exemple celui de la flotte qui l'enregistre) et libère son ancien
+     * emplacement.
+     * 
+     * @param destination le nouveau stockage
+     * @throws IllegalArgumentException si le stockage est nul
+     */
+    public void migrerVers(EtatFlotte destination) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Le stockage ne peut pas être nul");
+        }
+        if (destination == etatFlotte) {
+            return;
+        }
+        EtatFlotte ancien = etatFlotte;
+        int ancienSlot = slot;
+        int nouveauSlot = destination.allouer();
+        ancien.copierVers(ancienSlot, destination, nouveauSlot);
+        this.etatFlotte = destination;
+        this.slot = nouveauSlot;
+        liberation.deplacer(destination, nouveauSlot);
+        ancien.liberer(ancienSlot);
+    }
+
+    /**
+     * Rattache l'actif à un emplacement déjà alloué d'un stockage, dont il
+     * reprend les valeurs (reprise d'un stockage persistant après un
+     * redémarrage), et libère son ancien emplacement.
+     * 
+     * @param destination le stockage
+     * @param nouveauSlot l'emplacement à reprendre
+     * @throws IllegalArgumentException si le stockage est nul ou l'emplacement
+     *                                  non alloué
+     */
+    public void reprendreEmplacement(EtatFlotte destination, int nouveauSlot) {
+        if (destination == null) {
+            throw new IllegalArgumentException("Le stockage ne peut pas être nul");
+        }
+        if (!destination.estAlloue(nouveauSlot)) {
+            throw new IllegalArgumentException("Emplacement non alloué: " + nouveauSlot);
+        }
+        if (destination == etatFlotte && nouveauSlot == slot) {
+            return;
+        }
+        EtatFlotte ancien = etatFlotte;
+        int ancienSlot = slot;
+        this.etatFlotte = destination;
+        this.slot = nouveauSlot;
+        this.positionCache = null;
+        liberation.deplacer(destination, nouveauSlot);
+        ancien.liberer(ancienSlot);
+        signalerPosition(destination.getX(nouveauSlot), destination.getY(nouveauSlot),
+                destination.getZ(nouveauSlot));
+        signalerAutonomie(destination.getAutonomie(nouveauSlot));
     }
 
     @Override
     public Position3D getPosition() {
-        return position;
+        double x = etatFlotte.getX(slot);
+        double y = etatFlotte.getY(slot);
+        double z = etatFlotte.getZ(slot);
+        Position3D p = positionCache;
+        if (p == null || p.getX() != x || p.getY() != y || p.getZ() != z) {
+            p = new Position3D(x, y, z);
+            positionCache = p;
+        }
+        return p;
     }
 
     /**
@@ -124,11 +398,13 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         if (nouvellePosition == null) {
             throw new IllegalArgumentException("La position ne peut pas être nulle");
         }
-        this.position = nouvellePosition;
+        etatFlotte.setPosition(slot, nouvellePosition.getX(), nouvellePosition.getY(), nouvellePosition.getZ());
+        this.positionCache = nouvellePosition;
+        signalerPosition(nouvellePosition.getX(), nouvellePosition.getY(), nouvellePosition.getZ());
     }
 
     public double getVitesseMax() {
-        return vitesseMax;
+        return etatFlotte.getVitesse(slot);
     }
 
     public double getAutonomieMax() {
@@ -137,11 +413,11 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
 
     @Override
     public double getAutonomieRestante() {
-        return autonomieRestante;
+        return etatFlotte.getAutonomie(slot);
     }
 
     public EtatOperationnel getEtatOperationnel() {
-        return etatOperationnel;
+        return etatFlotte.getEtat(slot);
     }
 
     /**
@@ -154,7 +430,11 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         if (etat == null) {
             throw new IllegalArgumentException("L'état opérationnel ne peut pas être nul");
         }
-        this.etatOperationnel = etat;
+        etatFlotte.setEtat(slot, etat);
+        if (etat != EtatOperationnel.EN_PANNE) {
+            leverAlerte(CodeAlerte.PANNE_SYSTEME);
+            leverAlerte(CodeAlerte.COLLISION_VEHICULE);
+        }
     }
 
     @Override
@@ -176,13 +456,29 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         return zoneOperation;
     }
 
+    public fr.spiga.communication.BusMessages getBusMessages() {
+        return busMessages;
+    }
+
+    /**
+     * Rattache l'actif à un bus de messages (appelé par
+     * {@link fr.spiga.communication.BusMessages#abonner}).
+     * 
+     * @param bus le bus, ou null pour revenir aux appels directs
+     */
+    public void setBusMessages(fr.spiga.communication.BusMessages bus) {
+        this.busMessages = bus;
+    }
+
     // Implémentation de Rechargeable
 
     @Override
     public void recharger() {
-        this.autonomieRestante = 100.0;
-        if (this.etatOperationnel == EtatOperationnel.AU_SOL) {
-            System.out.println("Actif " + id + " rechargé à 100%");
+        etatFlotte.setAutonomie(slot, 100.0);
+        signalerAutonomie(100.0);
+        leverAlerte(CodeAlerte.BATTERIE_CRITIQUE);
+        if (getEtatOperationnel() == EtatOperationnel.AU_SOL) {
+            journaliser("Actif " + id + " rechargé à 100%");
         }
     }
 
@@ -193,12 +489,16 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
 
     @Override
     public void consommerAutonomie(double montant) {
-        this.autonomieRestante = Math.max(0, this.autonomieRestante - montant);
-        if (this.autonomieRestante <= 0) {
-            this.etatOperationnel = EtatOperationnel.EN_PANNE;
-            notifierEtatCritique("BATTERIE_CRITIQUE");
-        } else if (estEnEtatCritique()) {
-            notifierEtatCritique("BATTERIE_CRITIQUE");
+        double autonomie = Math.max(0, this.getAutonomieRestante() - montant);
+        etatFlotte.setAutonomie(slot, autonomie);
+        signalerAutonomie(autonomie);
+        if (this.getAutonomieRestante() <= 0) {
+            etatFlotte.setEtat(slot, EtatOperationnel.EN_PANNE);
+        }
+        if (this.getAutonomieRestante() < SEUIL_AUTONOMIE_CRITIQUE) {
+            signalerAlerte(CodeAlerte.BATTERIE_CRITIQUE);
+        } else {
+            leverAlerte(CodeAlerte.BATTERIE_CRITIQUE);
         }
     }
 
@@ -209,33 +509,51 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         if (actifCible == null || message == null) {
             return false;
         }
+        // Via le bus : livraison différée et groupée, sans affichage
+        if (busMessages != null && busMessages.estAbonne(actifCible)) {
+            busMessages.envoyer(this, actifCible, fr.spiga.communication.SujetMessage.ALERTE, message);
+            return true;
+        }
         actifCible.recevoirAlerte(message, this);
         return true;
     }
 
+    @Override
+    public boolean diffuserAlerte(String message, double portee) {
+        if (message == null || busMessages == null) {
+            return false;
+        }
+        busMessages.publier(this, fr.spiga.communication.SujetMessage.ALERTE, message, portee);
+        return true;
+    }
+
+    /**
+     * Enregistre l'alerte dans l'historique borné, sans formatage ni
+     * affichage : le texte n'est produit qu'à la consultation
+     * ({@link HistoriqueAlertes#formater()}). L'alerte est datée par
+     * {@link #getInstantCourant()}, comme les émissions.
+     */
     @Override
     public void recevoirAlerte(String message, ActifMobile emetteur) {
-        String alerteComplete = "Alerte de " + emetteur.getId() + ": " + message;
-        alertesRecues.add(alerteComplete);
-        System.out.println("Actif " + id + " a reçu: " + alerteComplete);
+        alertesRecues.enregistrer(message, emetteur.getPoignee(), getInstantCourant());
     }
 
     // Implémentation de Pilotable
 
     @Override
     public boolean demarrer() {
-        if (etatOperationnel == EtatOperationnel.EN_PANNE) {
-            System.out.println("Impossible de démarrer: actif en panne");
+        if (getEtatOperationnel() == EtatOperationnel.EN_PANNE) {
+            journaliser("Impossible de démarrer: actif en panne");
             return false;
         }
-        if (etatOperationnel == EtatOperationnel.EN_MAINTENANCE) {
-            System.out.println("Impossible de démarrer: actif en maintenance");
+        if (getEtatOperationnel() == EtatOperationnel.EN_MAINTENANCE) {
+            journaliser("Impossible de démarrer: actif en maintenance");
             return false;
         }
 
         enMarche = true;
-        if (etatOperationnel == EtatOperationnel.AU_SOL) {
-            etatOperationnel = EtatOperationnel.EN_MISSION;
+        if (getEtatOperationnel() == EtatOperationnel.AU_SOL) {
+            etatFlotte.setEtat(slot, EtatOperationnel.EN_MISSION);
         }
         return true;
     }
@@ -243,8 +561,8 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
     @Override
     public boolean eteindre() {
         enMarche = false;
-        if (etatOperationnel == EtatOperationnel.EN_MISSION) {
-            etatOperationnel = EtatOperationnel.AU_SOL;
+        if (getEtatOperationnel() == EtatOperationnel.EN_MISSION) {
+            etatFlotte.setEtat(slot, EtatOperationnel.AU_SOL);
         }
         return true;
     }
@@ -253,13 +571,119 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
 
     @Override
     public void notifierEtatCritique(String message) {
-        System.out.println("ALERTE CRITIQUE [" + message + "] pour actif " + id);
+        journaliser("ALERTE CRITIQUE [" + message + "] pour actif " + id);
+    }
+
+    @Override
+    public void notifierRetourNormal(String message) {
+        journaliser("FIN D'ALERTE [" + message + "] pour actif " + id);
+    }
+
+    /**
+     * Signale une alerte en filtrant les doublons.
+     * Une alerte maintenue n'est émise qu'à l'entrée dans l'état (front
+     * montant) ; une alerte ponctuelle n'est réémise qu'une fois la fenêtre de
+     * regroupement écoulée. Les répétitions filtrées sont comptabilisées.
+     * 
+     * @param code le code de l'alerte
+     * @return true si l'alerte a été émise, false si elle a été regroupée
+     */
+    public boolean signalerAlerte(CodeAlerte code) {
+        int o = code.ordinal();
+        if ((alertesActives & code.masque()) != 0) {
+            alertesSupprimees[o]++;
+            return false;
+        }
+        boolean simule = estTempsSimule();
+        if (simule != alertesSurTempsSimule) {
+            // Changement d'horloge : les instants conservés ne sont plus comparables
+            java.util.Arrays.fill(derniereEmissionAlerte, Double.NEGATIVE_INFINITY);
+            alertesSurTempsSimule = simule;
+        }
+        double maintenant = getInstantCourant();
+        if (!code.estMaintenue() && maintenant - derniereEmissionAlerte[o] < FENETRE_COALESCENCE_ALERTES) {
+            alertesSupprimees[o]++;
+            return false;
+        }
+        derniereEmissionAlerte[o] = maintenant;
+        if (code.estMaintenue()) {
+            alertesActives |= code.masque();
+        }
+        notifierEtatCritique(code.name());
+        return true;
+    }
+
+    /**
+     * Obtient l'instant courant des alertes : le temps simulé de la zone
+     * lorsque la simulation le fait avancer, sinon (CLI, actif sans zone) une
+     * horloge monotone en secondes.
+     * 
+     * @return l'instant en secondes
+     */
+    public double getInstantCourant() {
+        if (estTempsSimule()) {
+            return zoneOperation.getTempsSimulation();
+        }
+        return (System.nanoTime() - ORIGINE_HORLOGE) / 1_000_000_000.0;
+    }
+
+    private boolean estTempsSimule() {
+        return zoneOperation != null && zoneOperation.getTempsSimulation() > 0;
+    }
+
+    /**
+     * Lève une alerte maintenue (front descendant) et notifie le retour à la
+     * normale. Sans effet si l'alerte n'était pas active.
+     * 
+     * @param code le code de l'alerte
+     * @return true si l'alerte était active, false sinon
+     */
+    public boolean leverAlerte(CodeAlerte code) {
+        if ((alertesActives & code.masque()) == 0) {
+            return false;
+        }
+        alertesActives &= ~code.masque();
+        notifierRetourNormal(code.name());
+        return true;
+    }
+
+    /**
+     * Vérifie si une alerte maintenue est active.
+     * 
+     * @param code le code de l'alerte
+     * @return true si active, false sinon
+     */
+    public boolean estAlerteActive(CodeAlerte code) {
+        return (alertesActives & code.masque()) != 0;
+    }
+
+    /**
+     * Obtient le nombre de répétitions supprimées pour un code d'alerte.
+     * 
+     * @param code le code de l'alerte
+     * @return le nombre de répétitions regroupées
+     */
+    public long getNombreAlertesSupprimees(CodeAlerte code) {
+        return alertesSupprimees[code.ordinal()];
+    }
+
+    /**
+     * Obtient le nombre total de répétitions d'alertes supprimées.
+     * 
+     * @return le nombre total de répétitions regroupées
+     */
+    public long getNombreAlertesSupprimees() {
+        long total = 0;
+        for (long n : alertesSupprimees) {
+            total += n;
+        }
+        return total;
     }
 
     @Override
     public boolean estEnEtatCritique() {
-        return autonomieRestante < SEUIL_AUTONOMIE_CRITIQUE ||
-                etatOperationnel == EtatOperationnel.EN_PANNE;
+        return getAutonomieRestante() < SEUIL_AUTONOMIE_CRITIQUE ||
+                getEtatOperationnel() == EtatOperationnel.EN_PANNE;
     }
 
     // Implémentation de Deplacable (abstraite, à implémenter par les sous-classes)
@@ -270,13 +694,6 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
     @Override
     public abstract List<Position3D> calculerTrajet(Position3D cible);
 
-    /**
-     * Déplace l'actif vers la cible en fonction du temps écoulé (simulation).
-     * 
-     * @param cible la position cible
-     * @param dt    le temps écoulé en secondes
-     * @return true si la cible est atteinte, false sinon
-     */
     /**
      * Déplace l'actif vers la cible en fonction du temps écoulé (simulation).
      * 
@@ -285,16 +702,27 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
      * @return true si la cible est atteinte, false sinon
      */
     public boolean avancerVers(Position3D cible, double dt) {
+        long debutMetrique = RegistreMetriques.debut();
+        try {
+            return avancerVersInterne(cible, dt);
+        } finally {
+            RegistreMetriques.fin(PhaseTick.AVANCER_VERS, debutMetrique);
+        }
+    }
+
+    private boolean avancerVersInterne(Position3D cible, double dt) {
         if (cible == null || dt <= 0)
             return false;
 
         // Si en panne ou batterie vide, on ne bouge plus
-        if (etatOperationnel == EtatOperationnel.EN_PANNE || autonomieRestante <= 0) {
-            if (autonomieRestante <= 0)
-                notifierEtatCritique("BATTERIE_CRITIQUE");
+        if (getEtatOperationnel() == EtatOperationnel.EN_PANNE || getAutonomieRestante() <= 0) {
+            if (getAutonomieRestante() <= 0)
+                signalerAlerte(CodeAlerte.BATTERIE_CRITIQUE);
             return false;
         }
 
+        Position3D position = getPosition();
+
         // --- CLAMPING DESTINATION (Refinement) ---
         // If target is unreachable (inside obstacle), get closest valid point.
         Position3D destinationEffective = cible;
@@ -359,7 +787,7 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
             }
         }
 
-        double vitessePropulsion = vitesseMax;
+        double vitessePropulsion = getVitesseMax();
 
         // Appliquer les limitations de précipitation si applicable (via surcharge
         // possible ou calcul direct)
@@ -391,16 +819,16 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         // 3. Consommation (dépend de la distance de propulsion)
         double consommation = calculerConsommation(Math.min(distanceTotale, distanceParcourable));
 
-        if (consommation > autonomieRestante) {
+        if (consommation > getAutonomieRestante()) {
             // Pas assez d'énergie pour tout le trajet
-            double ratio = autonomieRestante / consommation;
+            double ratio = getAutonomieRestante() / consommation;
             distanceParcourable *= ratio;
-            consommerAutonomie(autonomieRestante); // Vider le reste
+            consommerAutonomie(getAutonomieRestante()); // Vider le reste
 
             // L'actif s'arrête et tombe en panne
-            this.etatOperationnel = EtatOperationnel.EN_PANNE;
-            notifierEtatCritique("BATTERIE_CRITIQUE");
-            System.out.println("Actif " + id + " en panne sèche !");
+            etatFlotte.setEtat(slot, EtatOperationnel.EN_PANNE);
+            signalerAlerte(CodeAlerte.BATTERIE_CRITIQUE);
+            journaliser("Actif " + id + " en panne sèche !");
 
             // On fait le petit bond qui restait
             if (distanceParcourable > 0.1) {
@@ -423,6 +851,7 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         double distStepTotal = Math
                 .sqrt(dxPropTotal * dxPropTotal + dyPropTotal * dyPropTotal + dzPropTotal * dzPropTotal);
         int nbSubSteps = (int) Math.max(1, Math.ceil(distStepTotal / 10.0));
+        RegistreMetriques.compter(PhaseTick.SOUS_ETAPES, nbSubSteps);
 
         // Vecteur par pas
         double dxStep = (dxPropTotal + dxEnv) / nbSubSteps;
@@ -441,58 +870,59 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
                 // Vérification des collision sur le point suivant
                 boolean collision = false;
 
-                // Obstacles
-                for (fr.spiga.environment.Obstacle obs : zoneOperation.getObstacles()) {
-                    if (obs.estEnCollision(nextPos)) {
-                        // LOGIQUE D'ÉVITEMENT
-                        // Even with clamping, we might hit other obstacles along the path.
-                        // Keep avoidance logic.
-
-                        // 1. Flyover check
-                        if (currentPos.getZ() > obs.getZMax() + 10.0) {
-                            continue; // Flyover ok
-                        }
-
-                        // 2. Contournement
-                        double dxObs = nextPos.getX() - obs.getPosition().getX();
-                        double dyObs = nextPos.getY() - obs.getPosition().getY();
-                        double distObs = Math.sqrt(dxObs * dxObs + dyObs * dyObs);
-
-                        if (distObs > 0.1) {
-                            // Vecteur normalisé
-                            double nx = dxObs / distObs;
-                            double ny = dyObs / distObs;
-
-                            // Vecteur tangent pour le glissement (Main droite)
-                            double tx = -ny;
-                            double ty = nx;
-
-                            // On pousse le point à l'extérieur du rayon avec une marge
-                            double penetration = obs.getRayon() - distObs + 5.0; // +5m marge
-
-                            // Ajuster nextPos pour "glisser" sur l'obstacle
-                            double slideFactor = 2.0;
-
-                            nextPos = new Position3D(
-                                    nextPos.getX() + nx * penetration + tx * slideFactor,
-                                    nextPos.getY() + ny * penetration + ty * slideFactor,
-                                    nextPos.getZ());
-                        } else {
-                            // Trop proche du centre ou bug
-                            collision = true;
-                        }
+                // Obstacles : parcours dans l'ordre d'ajout, limité à ceux en
+                // collision avec le point courant (recherche par grille)
+                for (int indiceObs = zoneOperation.prochainObstacleEnCollision(nextPos, 0); indiceObs >= 0;
+                        indiceObs = zoneOperation.prochainObstacleEnCollision(nextPos, indiceObs + 1)) {
+                    fr.spiga.environment.Obstacle obs = zoneOperation.getObstacle(indiceObs);
+                    // LOGIQUE D'ÉVITEMENT
+                    // Even with clamping, we might hit other obstacles along the path.
+                    // Keep avoidance logic.
+
+                    // 1. Flyover check
+                    if (currentPos.getZ() > obs.getZMax() + 10.0) {
+                        continue; // Flyover ok
+                    }
+
+                    // 2. Contournement
+                    double dxObs = nextPos.getX() - obs.getPosition().getX();
+                    double dyObs = nextPos.getY() - obs.getPosition().getY();
+                    double distObs = Math.sqrt(dxObs * dxObs + dyObs * dyObs);
+
+                    if (distObs > 0.1) {
+                        // Vecteur normalisé
+                        double nx = dxObs / distObs;
+                        double ny = dyObs / distObs;
+
+                        // Vecteur tangent pour le glissement (Main droite)
+                        double tx = -ny;
+                        double ty = nx;
+
+                        // On pousse le point à l'extérieur du rayon avec une marge
+                        double penetration = obs.getRayon() - distObs + 5.0; // +5m marge
+
+                        // Ajuster nextPos pour "glisser" sur l'obstacle
+                        double slideFactor = 2.0;
+
+                        nextPos = new Position3D(
+                                nextPos.getX() + nx * penetration + tx * slideFactor,
+                                nextPos.getY() + ny * penetration + ty * slideFactor,
+                                nextPos.getZ());
+                    } else {
+                        // Trop proche du centre ou bug
+                        collision = true;
                     }
                 }
 
-                // Zones d'exclusion (Bloquante)
-                if (zoneOperation.estDansZoneExclusion(nextPos)) {
+                // Zones d'exclusion et relief (Bloquants)
+                if (zoneOperation.estDansZoneExclusion(nextPos) || zoneOperation.estSousLeRelief(nextPos)) {
                     collision = true;
                 }
 
                 if (collision) {
-                    this.etatOperationnel = EtatOperationnel.EN_PANNE;
-                    notifierEtatCritique("PANNE_SYSTEME");
-                    System.err.println("CRASH/BLOCAGE ! L'actif " + id + " bloqué à " + nextPos);
+                    etatFlotte.setEtat(slot, EtatOperationnel.EN_PANNE);
+                    signalerAlerte(CodeAlerte.PANNE_SYSTEME);
+                    journaliserErreur("CRASH/BLOCAGE ! L'actif " + id + " bloqué à " + nextPos);
                     return false; // Arrêt immédiat
                 }
             }
@@ -511,14 +941,70 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         return distanceTotale <= distanceParcourable;
     }
 
+    /**
+     * Déplacement simplifié vers un poste proche (suivi de formation).
+     * Contrairement à {@link #avancerVers(Position3D, double)}, aucun
+     * pilotage d'évitement, aucun recalage sur obstacle et aucun sous-pas :
+     * seule la propulsion, la consommation et les limites de zone sont
+     * appliquées. Le trajet du meneur ne garantit pas celui du suiveur : un
+     * pas qui entrerait dans une zone d'exclusion ou sous le relief bloque
+     * l'actif comme dans {@link #avancerVers(Position3D, double)}. Réservé aux
+     * suiveurs d'un meneur qui a déjà planifié le trajet.
+     * 
+     * @param cible la position du poste à tenir
+     * @param dt    le temps écoulé en secondes
+     * @return true si le poste est atteint, false sinon
+     */
+    public boolean avancerDirect(Position3D cible, double dt) {
+        if (cible == null || dt <= 0)
+            return false;
+        if (getEtatOperationnel() == EtatOperationnel.EN_PANNE || getAutonomieRestante() <= 0)
+            return false;
+
+        Position3D position = getPosition();
+        double dx = cible.getX() - position.getX();
+        double dy = cible.getY() - position.getY();
+        double dz = cible.getZ() - position.getZ();
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance < 1.0) {
+            return true;
+        }
+
+        double pas = Math.min(distance, ajusterVitesseSelonEnvironnement(getVitesseMax()) * dt);
+        double consommation = calculerConsommation(pas);
+        if (consommation > getAutonomieRestante()) {
+            return false;
+        }
+
+        double ratio = pas / distance;
+        Position3D suivante = new Position3D(
+                position.getX() + dx * ratio,
+                position.getY() + dy * ratio,
+                position.getZ() + dz * ratio);
+        if (zoneOperation != null) {
+            if (!zoneOperation.estDansZone(suivante)) {
+                return false;
+            }
+            if (zoneOperation.estDansZoneExclusion(suivante) || zoneOperation.estSousLeRelief(suivante)) {
+                etatFlotte.setEtat(slot, EtatOperationnel.EN_PANNE);
+                signalerAlerte(CodeAlerte.PANNE_SYSTEME);
+                journaliserErreur("CRASH/BLOCAGE ! L'actif " + id + " bloqué à " + suivante);
+                return false;
+            }
+        }
+
+        consommerAutonomie(consommation);
+        setPosition(suivante);
+        return pas >= distance;
+    }
+
     /**
      * Ajuste a velocidade máxima de acordo com fatores ambientais (ex: chuva
      * forte).
      */
     protected double ajusterVitesseSelonEnvironnement(double vMax) {
         if (zoneOperation != null) {
-            fr.spiga.environment.Precipitation p = zoneOperation.getPrecipitationAt(getPosition());
-            double intensity = p.getIntensite();
+            double intensity = zoneOperation.getIntensitePrecipitationAt(getPosition());
             if (intensity > 50) {
                 return vMax * (1.0 - (intensity - 50) / 100.0); // Réduction jusqu'à 50%
             }
@@ -526,7 +1012,125 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         return vMax;
     }
 
+    /**
+     * Crée une copie légère de l'actif pour une simulation indépendante
+     * (planification, estimation). Les valeurs immuables (identifiant,
+     * caractéristiques) sont partagées ; l'état dynamique est copié dans un
+     * emplacement du stockage par défaut ; l'état d'alerte est copié,
+     * l'historique des alertes est vierge et la copie n'est rattachée à aucune
+     * zone ni aucun bus.
+     * 
+     * @return la copie de l'actif
+     */
+    public ActifMobile copierPourSimulation() {
+        ActifMobile copie;
+        try {
+            copie = (ActifMobile) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        copie.alertesRecues = new HistoriqueAlertes();
+        copie.derniereEmissionAlerte = derniereEmissionAlerte.clone();
+        copie.alertesSupprimees = alertesSupprimees.clone();
+        copie.zoneOperation = null;
+        copie.busMessages = null;
+        copie.observateurs = AUCUN_OBSERVATEUR;
+        copie.silencieux = true;
+        copie.zoneFacteurEnvironnement = null;
+        copie.versionFacteurEnvironnement = -1;
+        copie.occuperEmplacement(EtatFlotteTas.getParDefaut());
+        etatFlotte.copierVers(slot, copie.etatFlotte, copie.slot);
+        return copie;
+    }
+
+    /**
+     * Indique si l'actif est une copie de simulation, dont les messages ne
+     * sont pas affichés.
+     * 
+     * @return true pour une copie de simulation
+     */
+    public boolean estSilencieux() {
+        return silencieux;
+    }
+
+    /**
+     * Affiche un message sur la console, sauf pour une copie de simulation :
+     * des milliers de simulations parallèles se disputeraient sinon le verrou
+     * de la sortie standard.
+     * 
+     * @param message le message
+     */
+    protected void journaliser(String message) {
+        if (!silencieux) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Affiche un message sur la sortie d'erreur, sauf pour une copie de
+     * simulation (voir {@link #journaliser(String)}).
+     * 
+     * @param message le message
+     */
+    protected void journaliserErreur(String message) {
+        if (!silencieux) {
+            System.err.println(message);
+        }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream sortie) throws java.io.IOException {
+        sortie.defaultWriteObject();
+        sortie.writeDouble(etatFlotte.getX(slot));
+        sortie.writeDouble(etatFlotte.getY(slot));
+        sortie.writeDouble(etatFlotte.getZ(slot));
+        sortie.writeDouble(etatFlotte.getVitesse(slot));
+        sortie.writeDouble(etatFlotte.getAutonomie(slot));
+        sortie.writeByte(etatFlotte.getCodeEtat(slot));
+    }
+
+    private void readObject(java.io.ObjectInputStream entree) throws java.io.IOException, ClassNotFoundException {
+        entree.defaultReadObject();
+        double x = entree.readDouble();
+        double y = entree.readDouble();
+        double z = entree.readDouble();
+        double vitesse = entree.readDouble();
+        double autonomie = entree.readDouble();
+        byte code = entree.readByte();
+        if (code < 0 || code >= EtatOperationnel.values().length) {
+            throw new java.io.InvalidObjectException("État opérationnel invalide: " + code);
+        }
+        observateurs = AUCUN_OBSERVATEUR;
+        occuperEmplacement(EtatFlotteTas.getParDefaut());
+        etatFlotte.setPosition(slot, x, y, z);
+        etatFlotte.setVitesse(slot, vitesse);
+        etatFlotte.setAutonomie(slot, autonomie);
+        etatFlotte.setCodeEtat(slot, code);
+    }
+
+    /**
+     * Estime, sans déplacer l'actif, la consommation nécessaire pour parcourir
+     * une distance avec le modèle de consommation propre à son type et les
+     * conditions environnementales courantes.
+     * 
+     * @param distance la distance à parcourir en mètres
+     * @return la consommation estimée en pourcentage d'autonomie
+     */
+    public double estimerConsommation(double distance) {
+        return distance > 0 ? calculerConsommation(distance) : 0.0;
+    }
+
+    /**
+     * Estime la vitesse de croisière de l'actif compte tenu des conditions
+     * environnementales à sa position courante.
+     * 
+     * @return la vitesse estimée en m/s
+     */
+    public double estimerVitesseCroisiere() {
+        return ajusterVitesseSelonEnvironnement(getVitesseMax());
+    }
+
     private void deplacerPartiellement(Position3D cible, double distanceTotale, double distanceParcourable) {
+        Position3D position = getPosition();
         double ratio = distanceParcourable / distanceTotale;
         double dx = (cible.getX() - position.getX()) * ratio;
         double dy = (cible.getY() - position.getY()) * ratio;
@@ -549,7 +1153,39 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
         // Consommation réduite pour permettre des missions plus longues
         // Ex: 0.4% par km
         double consommationBase = (distance / 1000.0) * 0.4;
-        return consommationBase;
+        return consommationBase * getFacteurEnvironnement();
+    }
+
+    /**
+     * Obtient le facteur environnemental de consommation (vent, précipitations,
+     * courant). Il n'est recalculé que lorsque les conditions de la zone
+     * changent (voir {@link ZoneOperation#getVersionEnvironnement()}).
+     * 
+     * @return le facteur multiplicateur (1.0 hors zone d'opération)
+     */
+    protected final double getFacteurEnvironnement() {
+        ZoneOperation zone = zoneOperation;
+        if (zone == null) {
+            return 1.0;
+        }
+        long version = zone.getVersionEnvironnement();
+        if (zone != zoneFacteurEnvironnement || version != versionFacteurEnvironnement) {
+            facteurEnvironnement = calculerFacteurEnvironnement(zone);
+            zoneFacteurEnvironnement = zone;
+            versionFacteurEnvironnement = version;
+        }
+        return facteurEnvironnement;
+    }
+
+    /**
+     * Calcule le facteur environnemental de consommation propre au type
+     * d'actif. Appelée uniquement lors de l'invalidation du cache.
+     * 
+     * @param zone la zone d'opération (non nulle)
+     * @return le facteur multiplicateur
+     */
+    protected double calculerFacteurEnvironnement(ZoneOperation zone) {
+        return 1.0;
     }
 
     /**
@@ -562,6 +1198,6 @@ public abstract class ActifMobile implements Deplacable, Rechargeable, Communica
     @Override
     public String toString() {
         return String.format("%s[id=%s, position=%s, autonomie=%.1f%%, état=%s]",
-                getType(), id.substring(0, 8), position, autonomieRestante, etatOperationnel);
+                getType(), idCourt, getPosition(), getAutonomieRestante(), getEtatOperationnel());
     }
 }
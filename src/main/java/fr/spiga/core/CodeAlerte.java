@@ -0,0 +1,74 @@
+package fr.spiga.core;
+
+/**
+ * Énumération des codes d'alerte émis par les actifs.
+ * 
+ * <p>
+ * Une alerte <em>maintenue</em> décrit un état (batterie critique, panne) :
+ * elle n'est émise qu'à l'entrée dans l'état et sa fin est signalée à la
+ * sortie. Une alerte <em>ponctuelle</em> décrit un événement (ordre refusé) :
+ * ses répétitions rapprochées sont regroupées sur une fenêtre de temps.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public enum CodeAlerte {
+    /**
+     * Autonomie sous le seuil critique (maintenue)
+     */
+    BATTERIE_CRITIQUE(true),
+
+    /**
+     * Panne système, crash ou blocage (maintenue)
+     */
+    PANNE_SYSTEME(true),
+
+    /**
+     * Collision avec un autre véhicule (maintenue)
+     */
+    COLLISION_VEHICULE(true),
+
+    /**
+     * Autonomie insuffisante pour un déplacement demandé (ponctuelle)
+     */
+    AUTONOMIE_INSUFFISANTE(false),
+
+    /**
+     * Altitude cible hors domaine de vol (ponctuelle)
+     */
+    ALTITUDE_INVALIDE(false),
+
+    /**
+     * Profondeur cible hors domaine de plongée (ponctuelle)
+     */
+    PROFONDEUR_INVALIDE(false),
+
+    /**
+     * Cible hors de la zone d'opération (ponctuelle)
+     */
+    ZONE_INTERDITE(false);
+
+    private final boolean maintenue;
+
+    CodeAlerte(boolean maintenue) {
+        this.maintenue = maintenue;
+    }
+
+    /**
+     * Indique si l'alerte décrit un état (émise sur transitions uniquement).
+     * 
+     * @return true si l'alerte est maintenue, false si ponctuelle
+     */
+    public boolean estMaintenue() {
+        return maintenue;
+    }
+
+    /**
+     * Obtient le bit de l'alerte dans un masque d'alertes.
+     * 
+     * @return le masque (un seul bit positionné)
+     */
+    public int masque() {
+        return 1 << ordinal();
+    }
+}
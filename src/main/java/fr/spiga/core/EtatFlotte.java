@@ -0,0 +1,113 @@
+package fr.spiga.core;
+
+/**
+ * Stockage en colonnes de l'état dynamique d'une flotte : position,
+ * autonomie, état opérationnel et vitesse de chaque actif, rangés dans des
+ * tableaux parallèles indexés par un numéro d'emplacement (slot).
+ *
+ * <p>
+ * C'est la source de vérité de ces valeurs : un {@link ActifMobile} n'en est
+ * qu'une vue sur son emplacement. Les boucles de flotte parcourent les
+ * emplacements {@code 0 .. getLimite() - 1} sans toucher aux objets.
+ *
+ * <p>
+ * L'allocation et la libération sont sûres entre fils ; la lecture et
+ * l'écriture d'un emplacement suivent les mêmes règles que les champs d'un
+ * objet (un emplacement n'est modifié que par le fil qui pilote l'actif).
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public interface EtatFlotte {
+
+    /** Code d'état d'un emplacement libre */
+    byte LIBRE = -1;
+
+    /**
+     * Réserve un emplacement. Ses valeurs sont nulles et son état est
+     * {@link EtatOperationnel#AU_SOL}.
+     *
+     * @return le numéro de l'emplacement
+     */
+    int allouer();
+
+    /**
+     * Rend un emplacement à la réserve.
+     *
+     * @param slot l'emplacement à libérer
+     * @throws IllegalArgumentException si l'emplacement n'est pas alloué
+     */
+    void liberer(int slot);
+
+    /**
+     * Obtient le nombre d'emplacements alloués.
+     */
+    int getNombre();
+
+    /**
+     * Obtient la borne (exclue) des emplacements jamais alloués : tous les
+     * emplacements alloués sont inférieurs.
+     */
+    int getLimite();
+
+    boolean estAlloue(int slot);
+
+    double getX(int slot);
+
+    double getY(int slot);
+
+    double getZ(int slot);
+
+    void setPosition(int slot, double x, double y, double z);
+
+    /** Autonomie restante en pourcentage */
+    double getAutonomie(int slot);
+
+    void setAutonomie(int slot, double autonomie);
+
+    /** Ordinal de l'{@link EtatOperationnel}, ou {@link #LIBRE} */
+    byte getCodeEtat(int slot);
+
+    void setCodeEtat(int slot, byte code);
+
+    /** Vitesse maximale en m/s */
+    double getVitesse(int slot);
+
+    void setVitesse(int slot, double vitesse);
+
+    default EtatOperationnel getEtat(int slot) {
+        byte code = getCodeEtat(slot);
+        return code == LIBRE ? null : EtatOperationnel.values()[code];
+    }
+
+    default void setEtat(int slot, EtatOperationnel etat) {
+        setCodeEtat(slot, (byte) etat.ordinal());
+    }
+
+    /**
+     * Copie toutes les valeurs d'un emplacement vers un emplacement d'un autre
+     * stockage (ou du même).
+     */
+    default void copierVers(int slot, EtatFlotte destination, int slotDestination) {
+        destination.setPosition(slotDestination, getX(slot), getY(slot), getZ(slot));
+        destination.setAutonomie(slotDestination, getAutonomie(slot));
+        destination.setCodeEtat(slotDestination, getCodeEtat(slot));
+        destination.setVitesse(slotDestination, getVitesse(slot));
+    }
+
+    /**
+     * Compte les emplacements alloués par état opérationnel.
+     *
+     * @return les effectifs, indexés par ordinal d'{@link EtatOperationnel}
+     */
+    default int[] compterParEtat() {
+        int[] compteurs = new int[EtatOperationnel.values().length];
+        for (int s = 0, limite = getLimite(); s < limite; s++) {
+            byte code = getCodeEtat(s);
+            if (code != LIBRE) {
+                compteurs[code]++;
+            }
+        }
+        return compteurs;
+    }
+}
@@ -0,0 +1,349 @@
+package fr.spiga.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * {@link EtatFlotte} hors du tas : tampons directs ou fichier projeté en
+ * mémoire.
+ *
+ * <p>
+ * Les colonnes sont rangées par pages de {@value #TAILLE_PAGE} emplacements
+ * (x, y, z, autonomie, vitesse en f64 puis état sur un octet, soit 41 octets
+ * par emplacement). Le ramasse-miettes ne voit qu'une référence par page :
+ * ni la taille du tas ni la durée de ses pauses ne croissent avec la flotte.
+ * Comme pour {@link EtatFlotteTas}, les pages ne sont jamais déplacées.
+ *
+ * <p>
+ * Projeté sur un fichier ({@link #projeter}), le stockage survit à un
+ * redémarrage : la réouverture du fichier retrouve les emplacements alloués
+ * et leurs valeurs. Format (petit-boutiste) : en-tête de 64 octets (magie
+ * {@code SPFE}, version, taille de page, limite), puis les pages à la suite.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class EtatFlotteHorsTas implements EtatFlotte, AutoCloseable {
+
+    /** Nombre magique du fichier ("SPFE") */
+    public static final int MAGIE = 0x45465053;
+
+    /** Version du format */
+    public static final int VERSION = 1;
+
+    /** Nombre d'emplacements par page (puissance de 2) */
+    public static final int TAILLE_PAGE = 1 << 16;
+
+    private static final int DECALAGE_PAGE = Integer.numberOfTrailingZeros(TAILLE_PAGE);
+    private static final int MASQUE_PAGE = TAILLE_PAGE - 1;
+
+    private static final int TAILLE_EN_TETE = 64;
+    private static final int ENTETE_LIMITE = 12;
+
+    /** Décalages des colonnes dans une page */
+    private static final int COLONNE_X = 0;
+    private static final int COLONNE_Y = 8 * TAILLE_PAGE;
+    private static final int COLONNE_Z = 16 * TAILLE_PAGE;
+    private static final int COLONNE_AUTONOMIE = 24 * TAILLE_PAGE;
+    private static final int COLONNE_VITESSE = 32 * TAILLE_PAGE;
+    private static final int COLONNE_ETAT = 40 * TAILLE_PAGE;
+
+    /** Taille d'une page en octets */
+    static final int OCTETS_PAGE = 41 * TAILLE_PAGE;
+
+    /** Canal du fichier projeté, ou null pour des tampons directs */
+    private final FileChannel canal;
+    private final ByteBuffer entete;
+
+    private volatile ByteBuffer[] pages = new ByteBuffer[0];
+    private volatile int limite;
+    private int nombre;
+    private int[] libres = new int[16];
+    private int nombreLibres;
+
+    private EtatFlotteHorsTas(FileChannel canal, ByteBuffer entete) {
+        this.canal = canal;
+        this.entete = entete;
+    }
+
+    /**
+     * Crée un stockage en tampons directs (non persistant).
+     *
+     * @return le stockage vide
+     */
+    public static EtatFlotteHorsTas enMemoire() {
+        return new EtatFlotteHorsTas(null, ByteBuffer.allocate(TAILLE_EN_TETE).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Projette un stockage sur un fichier. Un fichier existant est rouvert avec
+     * ses emplacements ; sinon il est créé vide.
+     *
+     * @param fichier le fichier du stockage
+     * @return le stockage projeté
+     * @throws IOException si le fichier ne peut pas être projeté ou est invalide
+     */
+    public static EtatFlotteHorsTas projeter(Path fichier) throws IOException {
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            boolean nouveau = canal.size() == 0;
+            MappedByteBuffer entete = canal.map(FileChannel.MapMode.READ_WRITE, 0, TAILLE_EN_TETE);
+            entete.order(ByteOrder.LITTLE_ENDIAN);
+            EtatFlotteHorsTas etat = new EtatFlotteHorsTas(canal, entete);
+            if (nouveau) {
+                entete.putInt(4, VERSION);
+                entete.putInt(8, TAILLE_PAGE);
+                entete.putInt(ENTETE_LIMITE, 0);
+                entete.putInt(0, MAGIE);
+            } else {
+                etat.relire(fichier);
+            }
+            return etat;
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reprend les pages et la réserve d'emplacements libres d'un fichier
+     * existant.
+     */
+    private void relire(Path fichier) throws IOException {
+        if (entete.getInt(0) != MAGIE) {
+            throw new IOException("Fichier d'état de flotte invalide: " + fichier);
+        }
+        if (entete.getInt(4) != VERSION) {
+            throw new IOException("Version d'état de flotte non supportée");
+        }
+        int limiteLue = entete.getInt(ENTETE_LIMITE);
+        if (entete.getInt(8) != TAILLE_PAGE || limiteLue < 0) {
+            throw new IOException("En-tête d'état de flotte incohérent");
+        }
+        int nombrePages = (int) ((limiteLue + (long) TAILLE_PAGE - 1) >>> DECALAGE_PAGE);
+        if (canal.size() < TAILLE_EN_TETE + (long) nombrePages * OCTETS_PAGE) {
+            throw new IOException("Fichier d'état de flotte tronqué: " + fichier);
+        }
+        ByteBuffer[] relues = new ByteBuffer[nombrePages];
+        for (int p = 0; p < nombrePages; p++) {
+            relues[p] = projeterPage(p);
+        }
+        pages = relues;
+        limite = limiteLue;
+        for (int s = 0; s < limiteLue; s++) {
+            if (getCodeEtat(s) == LIBRE) {
+                empilerLibre(s);
+            } else {
+                nombre++;
+            }
+        }
+    }
+
+    private ByteBuffer projeterPage(int indice) throws IOException {
+        return canal.map(FileChannel.MapMode.READ_WRITE, TAILLE_EN_TETE + (long) indice * OCTETS_PAGE, OCTETS_PAGE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private ByteBuffer nouvellePage(int indice) {
+        ByteBuffer page;
+        if (canal == null) {
+            page = ByteBuffer.allocateDirect(OCTETS_PAGE).order(ByteOrder.LITTLE_ENDIAN);
+        } else {
+            try {
+                page = projeterPage(indice);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Agrandissement du fichier d'état de flotte impossible", e);
+            }
+        }
+        for (int i = 0; i < TAILLE_PAGE; i++) {
+            page.put(COLONNE_ETAT + i, LIBRE);
+        }
+        return page;
+    }
+
+    private void empilerLibre(int slot) {
+        if (nombreLibres == libres.length) {
+            libres = Arrays.copyOf(libres, libres.length * 2);
+        }
+        libres[nombreLibres++] = slot;
+    }
+
+    /**
+     * Indique si le stockage est projeté sur un fichier.
+     */
+    public boolean estPersistant() {
+        return canal != null;
+    }
+
+    /**
+     * Force l'écriture sur disque des pages modifiées (sans effet pour des
+     * tampons directs).
+     */
+    public synchronized void forcer() {
+        if (canal == null) {
+            return;
+        }
+        for (ByteBuffer page : pages) {
+            ((MappedByteBuffer) page).force();
+        }
+        ((MappedByteBuffer) entete).force();
+    }
+
+    /**
+     * Force l'écriture sur disque puis ferme le fichier. Le stockage ne doit
+     * plus être utilisé ensuite.
+     */
+    @Override
+    public void close() throws IOException {
+        if (canal != null) {
+            forcer();
+            canal.close();
+        }
+    }
+
+    @Override
+    public synchronized int allouer() {
+        int slot;
+        if (nombreLibres > 0) {
+            slot = libres[--nombreLibres];
+        } else {
+            slot = limite;
+            if (slot == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Stockage de flotte plein");
+            }
+            if ((slot >>> DECALAGE_PAGE) == pages.length) {
+                ByteBuffer[] agrandi = Arrays.copyOf(pages, pages.length + 1);
+                agrandi[pages.length] = nouvellePage(pages.length);
+                pages = agrandi;
+            }
+        }
+        ByteBuffer page = pages[slot >>> DECALAGE_PAGE];
+        int i = slot & MASQUE_PAGE;
+        page.putDouble(COLONNE_X + 8 * i, 0);
+        page.putDouble(COLONNE_Y + 8 * i, 0);
+        page.putDouble(COLONNE_Z + 8 * i, 0);
+        page.putDouble(COLONNE_AUTONOMIE + 8 * i, 0);
+        page.putDouble(COLONNE_VITESSE + 8 * i, 0);
+        page.put(COLONNE_ETAT + i, (byte) EtatOperationnel.AU_SOL.ordinal());
+        if (slot == limite) {
+            // L'emplacement est initialisé avant d'être couvert par la limite persistée
+            limite = slot + 1;
+            entete.putInt(ENTETE_LIMITE, limite);
+        }
+        nombre++;
+        return slot;
+    }
+
+    @Override
+    public synchronized void liberer(int slot) {
+        if (!estAlloue(slot)) {
+            throw new IllegalArgumentException("Emplacement non alloué: " + slot);
+        }
+        pages[slot >>> DECALAGE_PAGE].put(COLONNE_ETAT + (slot & MASQUE_PAGE), LIBRE);
+        empilerLibre(slot);
+        nombre--;
+    }
+
+    @Override
+    public synchronized int getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public int getLimite() {
+        return limite;
+    }
+
+    @Override
+    public boolean estAlloue(int slot) {
+        return slot >= 0 && slot < limite && getCodeEtat(slot) != LIBRE;
+    }
+
+    @Override
+    public double getX(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].getDouble(COLONNE_X + 8 * (slot & MASQUE_PAGE));
+    }
+
+    @Override
+    public double getY(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].getDouble(COLONNE_Y + 8 * (slot & MASQUE_PAGE));
+    }
+
+    @Override
+    public double getZ(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].getDouble(COLONNE_Z + 8 * (slot & MASQUE_PAGE));
+    }
+
+    @Override
+    public void setPosition(int slot, double x, double y, double z) {
+        ByteBuffer page = pages[slot >>> DECALAGE_PAGE];
+        int i = 8 * (slot & MASQUE_PAGE);
+        page.putDouble(COLONNE_X + i, x);
+        page.putDouble(COLONNE_Y + i, y);
+        page.putDouble(COLONNE_Z + i, z);
+    }
+
+    @Override
+    public double getAutonomie(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].getDouble(COLONNE_AUTONOMIE + 8 * (slot & MASQUE_PAGE));
+    }
+
+    @Override
+    public void setAutonomie(int slot, double autonomie) {
+        pages[slot >>> DECALAGE_PAGE].putDouble(COLONNE_AUTONOMIE + 8 * (slot & MASQUE_PAGE), autonomie);
+    }
+
+    @Override
+    public byte getCodeEtat(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].get(COLONNE_ETAT + (slot & MASQUE_PAGE));
+    }
+
+    @Override
+    public void setCodeEtat(int slot, byte code) {
+        pages[slot >>> DECALAGE_PAGE].put(COLONNE_ETAT + (slot & MASQUE_PAGE), code);
+    }
+
+    @Override
+    public double getVitesse(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].getDouble(COLONNE_VITESSE + 8 * (slot & MASQUE_PAGE));
+    }
+
+    @Override
+    public void setVitesse(int slot, double vitesse) {
+        pages[slot >>> DECALAGE_PAGE].putDouble(COLONNE_VITESSE + 8 * (slot & MASQUE_PAGE), vitesse);
+    }
+
+    @Override
+    public int[] compterParEtat() {
+        int[] compteurs = new int[EtatOperationnel.values().length];
+        ByteBuffer[] annuaire = pages;
+        int reste = limite;
+        for (ByteBuffer page : annuaire) {
+            for (int i = 0, n = Math.min(TAILLE_PAGE, reste); i < n; i++) {
+                byte code = page.get(COLONNE_ETAT + i);
+                if (code != LIBRE) {
+                    compteurs[code]++;
+                }
+            }
+            reste -= TAILLE_PAGE;
+            if (reste <= 0) {
+                break;
+            }
+        }
+        return compteurs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EtatFlotteHorsTas[alloués=%d, limite=%d, pages=%d, %s]", getNombre(), limite,
+                pages.length, canal != null ? "projeté" : "direct");
+    }
+}
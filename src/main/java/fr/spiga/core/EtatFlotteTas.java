@@ -0,0 +1,218 @@
+package fr.spiga.core;
+
+import java.util.Arrays;
+
+/**
+ * {@link EtatFlotte} en mémoire du tas, par pages de 1024 emplacements.
+ *
+ * <p>
+ * Chaque page range ses colonnes dans des tableaux primitifs contigus. Les
+ * pages ne sont jamais déplacées : l'agrandissement ne fait qu'ajouter des
+ * pages à l'annuaire, de sorte qu'une écriture concurrente à un
+ * agrandissement n'est jamais perdue. Les emplacements libérés sont
+ * réutilisés en priorité.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class EtatFlotteTas implements EtatFlotte {
+
+    /** Nombre d'emplacements par page (puissance de 2) */
+    public static final int TAILLE_PAGE = 1024;
+
+    private static final int DECALAGE_PAGE = Integer.numberOfTrailingZeros(TAILLE_PAGE);
+    private static final int MASQUE_PAGE = TAILLE_PAGE - 1;
+
+    /** Stockage des actifs qui n'appartiennent à aucune flotte */
+    private static final EtatFlotteTas PAR_DEFAUT = new EtatFlotteTas();
+
+    /** Colonnes d'une page */
+    private static final class Page {
+        final double[] x = new double[TAILLE_PAGE];
+        final double[] y = new double[TAILLE_PAGE];
+        final double[] z = new double[TAILLE_PAGE];
+        final double[] autonomie = new double[TAILLE_PAGE];
+        final double[] vitesse = new double[TAILLE_PAGE];
+        final byte[] etat = new byte[TAILLE_PAGE];
+
+        Page() {
+            Arrays.fill(etat, LIBRE);
+        }
+    }
+
+    private volatile Page[] pages = new Page[0];
+    private volatile int limite;
+    private int nombre;
+    private int[] libres = new int[16];
+    private int nombreLibres;
+
+    /**
+     * Obtient le stockage partagé des actifs créés hors de toute flotte.
+     */
+    public static EtatFlotteTas getParDefaut() {
+        return PAR_DEFAUT;
+    }
+
+    @Override
+    public synchronized int allouer() {
+        int slot;
+        if (nombreLibres > 0) {
+            slot = libres[--nombreLibres];
+        } else {
+            slot = limite;
+            if (slot == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Stockage de flotte plein");
+            }
+            if ((slot >>> DECALAGE_PAGE) == pages.length) {
+                Page[] agrandi = Arrays.copyOf(pages, pages.length + 1);
+                agrandi[pages.length] = new Page();
+                pages = agrandi;
+            }
+            limite = slot + 1;
+        }
+        Page page = pages[slot >>> DECALAGE_PAGE];
+        int i = slot & MASQUE_PAGE;
+        page.x[i] = 0;
+        page.y[i] = 0;
+        page.z[i] = 0;
+        page.autonomie[i] = 0;
+        page.vitesse[i] = 0;
+        page.etat[i] = (byte) EtatOperationnel.AU_SOL.ordinal();
+        nombre++;
+        return slot;
+    }
+
+    @Override
+    public synchronized void liberer(int slot) {
+        if (!estAlloue(slot)) {
+            throw new IllegalArgumentException("Emplacement non alloué: " + slot);
+        }
+        pages[slot >>> DECALAGE_PAGE].etat[slot & MASQUE_PAGE] = LIBRE;
+        if (nombreLibres == libres.length) {
+            libres = Arrays.copyOf(libres, libres.length * 2);
+        }
+        libres[nombreLibres++] = slot;
+        nombre--;
+    }
+
+    @Override
+    public synchronized int getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public int getLimite() {
+        return limite;
+    }
+
+    @Override
+    public boolean estAlloue(int slot) {
+        return slot >= 0 && slot < limite && pages[slot >>> DECALAGE_PAGE].etat[slot & MASQUE_PAGE] != LIBRE;
+    }
+
+    @Override
+    public double getX(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].x[slot & MASQUE_PAGE];
+    }
+
+    @Override
+    public double getY(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].y[slot & MASQUE_PAGE];
+    }
+
+    @Override
+    public double getZ(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].z[slot & MASQUE_PAGE];
+    }
+
+    @Override
+    public void setPosition(int slot, double x, double y, double z) {
+        Page page = pages[slot >>> DECALAGE_PAGE];
+        int i = slot & MASQUE_PAGE;
+        page.x[i] = x;
+        page.y[i] = y;
+        page.z[i] = z;
+    }
+
+    @Override
+    public double getAutonomie(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].autonomie[slot & MASQUE_PAGE];
+    }
+
+    @Override
+    public void setAutonomie(int slot, double autonomie) {
+        pages[slot >>> DECALAGE_PAGE].autonomie[slot & MASQUE_PAGE] = autonomie;
+    }
+
+    @Override
+    public byte getCodeEtat(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].etat[slot & MASQUE_PAGE];
+    }
+
+    @Override
+    public void setCodeEtat(int slot, byte code) {
+        pages[slot >>> DECALAGE_PAGE].etat[slot & MASQUE_PAGE] = code;
+    }
+
+    @Override
+    public double getVitesse(int slot) {
+        return pages[slot >>> DECALAGE_PAGE].vitesse[slot & MASQUE_PAGE];
+    }
+
+    @Override
+    public void setVitesse(int slot, double vitesse) {
+        pages[slot >>> DECALAGE_PAGE].vitesse[slot & MASQUE_PAGE] = vitesse;
+    }
+
+    @Override
+    public int[] compterParEtat() {
+        int[] compteurs = new int[EtatOperationnel.values().length];
+        Page[] annuaire = pages;
+        int reste = limite;
+        for (Page page : annuaire) {
+            byte[] etats = page.etat;
+            for (int i = 0, n = Math.min(TAILLE_PAGE, reste); i < n; i++) {
+                if (etats[i] != LIBRE) {
+                    compteurs[etats[i]]++;
+                }
+            }
+            reste -= TAILLE_PAGE;
+            if (reste <= 0) {
+                break;
+            }
+        }
+        return compteurs;
+    }
+
+    /**
+     * Calcule le masque des emplacements d'une page situés dans un rayon
+     * autour d'un point, avec {@link NoyauxProximite} sur les colonnes de la
+     * page (sans copie).
+     *
+     * @param px         abscisse du point
+     * @param py         ordonnée du point
+     * @param pz         altitude du point
+     * @param debut      premier emplacement (multiple de
+     *                   {@link NoyauxProximite#TAILLE_BLOC})
+     * @param rayonCarre le carré du rayon
+     * @return le masque des emplacements {@code debut .. debut + 63} (libres
+     *         compris : à filtrer par l'appelant)
+     */
+    public long masqueDansRayon(double px, double py, double pz, int debut, double rayonCarre) {
+        if ((debut & (NoyauxProximite.TAILLE_BLOC - 1)) != 0) {
+            throw new IllegalArgumentException("Le début doit être aligné sur un bloc");
+        }
+        int longueur = Math.min(NoyauxProximite.TAILLE_BLOC, limite - debut);
+        if (longueur <= 0) {
+            return 0L;
+        }
+        Page page = pages[debut >>> DECALAGE_PAGE];
+        return NoyauxProximite.masqueDansRayon(px, py, pz, page.x, page.y, page.z, debut & MASQUE_PAGE, longueur,
+                rayonCarre);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EtatFlotteTas[alloués=%d, limite=%d, pages=%d]", getNombre(), limite, pages.length);
+    }
+}
@@ -0,0 +1,165 @@
+package fr.spiga.core;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Historique borné des alertes reçues par un actif (tampon circulaire).
+ * 
+ * <p>
+ * Chaque enregistrement est compact : code d'alerte, poignée de l'émetteur et
+ * instant simulé, stockés dans des tableaux primitifs parallèles. Les messages
+ * libres (ne correspondant à aucun {@link CodeAlerte}) conservent une simple
+ * référence au texte reçu. Les chaînes affichables ne sont construites qu'à la
+ * demande ({@link #formater()}). Au-delà de la capacité, les plus anciens
+ * enregistrements sont écrasés : la mémoire par actif reste constante.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class HistoriqueAlertes implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Capacité par défaut de l'historique */
+    public static final int CAPACITE_DEFAUT = 32;
+
+    /** Code réservé aux messages libres */
+    private static final int CODE_LIBRE = -1;
+
+    private static final CodeAlerte[] CODES = CodeAlerte.values();
+
+    private final int[] codes;
+    private final int[] emetteurs;
+    private final double[] instants;
+    private final String[] textesLibres;
+
+    /** Indice du prochain enregistrement à écrire */
+    private int prochain;
+
+    /** Nombre total d'alertes reçues (y compris écrasées) */
+    private long total;
+
+    /**
+     * Constructeur avec la capacité par défaut.
+     */
+    public HistoriqueAlertes() {
+        this(CAPACITE_DEFAUT);
+    }
+
+    /**
+     * Constructeur d'un historique.
+     * 
+     * @param capacite le nombre maximal d'enregistrements conservés
+     */
+    public HistoriqueAlertes(int capacite) {
+        if (capacite <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        this.codes = new int[capacite];
+        this.emetteurs = new int[capacite];
+        this.instants = new double[capacite];
+        this.textesLibres = new String[capacite];
+    }
+
+    /**
+     * Enregistre une alerte reçue.
+     * 
+     * @param message  le message reçu (code d'alerte ou texte libre)
+     * @param emetteur la poignée de l'émetteur
+     * @param instant  l'instant simulé de réception
+     */
+    public void enregistrer(String message, int emetteur, double instant) {
+        int code = CODE_LIBRE;
+        for (CodeAlerte c : CODES) {
+            if (c.name().equals(message)) {
+                code = c.ordinal();
+                break;
+            }
+        }
+        int i = prochain;
+        codes[i] = code;
+        emetteurs[i] = emetteur;
+        instants[i] = instant;
+        textesLibres[i] = code == CODE_LIBRE ? message : null;
+        prochain = (i + 1) % codes.length;
+        total++;
+    }
+
+    /**
+     * Obtient le nombre d'enregistrements conservés.
+     * 
+     * @return le nombre d'enregistrements (au plus la capacité)
+     */
+    public int getTaille() {
+        return (int) Math.min(total, codes.length);
+    }
+
+    public int getCapacite() {
+        return codes.length;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Obtient le code du i-ème enregistrement (0 = le plus ancien conservé).
+     * 
+     * @param i l'indice de l'enregistrement
+     * @return le code, ou null pour un message libre
+     */
+    public CodeAlerte getCode(int i) {
+        int c = codes[indice(i)];
+        return c == CODE_LIBRE ? null : CODES[c];
+    }
+
+    /**
+     * Obtient la poignée de l'émetteur du i-ème enregistrement.
+     * 
+     * @param i l'indice de l'enregistrement
+     * @return la poignée, ou {@link ActifMobile#POIGNEE_NON_ATTRIBUEE} si
+     *         l'émetteur n'était pas enregistré dans une flotte
+     */
+    public int getEmetteur(int i) {
+        return emetteurs[indice(i)];
+    }
+
+    public double getInstant(int i) {
+        return instants[indice(i)];
+    }
+
+    private int indice(int i) {
+        int taille = getTaille();
+        if (i < 0 || i >= taille) {
+            throw new IndexOutOfBoundsException("Indice " + i + " hors de l'historique (taille " + taille + ")");
+        }
+        int debut = total > codes.length ? prochain : 0;
+        return (debut + i) % codes.length;
+    }
+
+    /**
+     * Formate les enregistrements conservés, du plus ancien au plus récent.
+     * Un émetteur sans poignée (non enregistré auprès d'un gestionnaire) est
+     * affiché comme émetteur inconnu.
+     * 
+     * @return les lignes affichables
+     */
+    public List<String> formater() {
+        int taille = getTaille();
+        List<String> lignes = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            int k = indice(i);
+            String texte = codes[k] == CODE_LIBRE ? textesLibres[k] : CODES[codes[k]].name();
+            String emetteur = emetteurs[k] == ActifMobile.POIGNEE_NON_ATTRIBUEE ? "d'un émetteur inconnu"
+                    : "de #" + emetteurs[k];
+            lignes.add(String.format("[t=%.1fs] Alerte %s: %s", instants[k], emetteur, texte));
+        }
+        return lignes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HistoriqueAlertes[%d/%d, total=%d]", getTaille(), codes.length, total);
+    }
+}
@@ -0,0 +1,32 @@
+package fr.spiga.core;
+
+/**
+ * Contrat des noyaux de calcul de proximité sur tableaux de coordonnées
+ * (voir {@link NoyauxProximite}).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+interface NoyauProximite {
+
+    /**
+     * Calcule le masque des candidats {@code debut .. debut + longueur - 1}
+     * (au plus 64) dont le carré de la distance au point est inférieur ou
+     * égal à {@code rayonCarre}. Le bit {@code k} correspond au candidat
+     * {@code debut + k}.
+     */
+    long masqueDansRayon(double px, double py, double pz, double[] xs, double[] ys, double[] zs, int debut,
+            int longueur, double rayonCarre);
+
+    /**
+     * Écrit dans {@code sortie[0 .. longueur - 1]} le carré des distances du
+     * point aux candidats {@code debut .. debut + longueur - 1}.
+     */
+    void distancesCarrees(double px, double py, double pz, double[] xs, double[] ys, double[] zs, int debut,
+            int longueur, double[] sortie);
+
+    /**
+     * Décrit l'implémentation (pour les rapports).
+     */
+    String getDescription();
+}
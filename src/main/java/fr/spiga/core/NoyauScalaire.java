@@ -0,0 +1,44 @@
+package fr.spiga.core;
+
+/**
+ * Noyau de proximité scalaire, toujours disponible. L'arithmétique est
+ * celle de {@link Position3D#distanceVers(Position3D)} (sans racine).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class NoyauScalaire implements NoyauProximite {
+
+    @Override
+    public long masqueDansRayon(double px, double py, double pz, double[] xs, double[] ys, double[] zs,
+            int debut, int longueur, double rayonCarre) {
+        long masque = 0L;
+        for (int k = 0; k < longueur; k++) {
+            int i = debut + k;
+            double dx = xs[i] - px;
+            double dy = ys[i] - py;
+            double dz = zs[i] - pz;
+            if (dx * dx + dy * dy + dz * dz <= rayonCarre) {
+                masque |= 1L << k;
+            }
+        }
+        return masque;
+    }
+
+    @Override
+    public void distancesCarrees(double px, double py, double pz, double[] xs, double[] ys, double[] zs,
+            int debut, int longueur, double[] sortie) {
+        for (int k = 0; k < longueur; k++) {
+            int i = debut + k;
+            double dx = xs[i] - px;
+            double dy = ys[i] - py;
+            double dz = zs[i] - pz;
+            sortie[k] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "scalaire";
+    }
+}
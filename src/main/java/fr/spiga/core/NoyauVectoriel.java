@@ -0,0 +1,86 @@
+package fr.spiga.core;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Noyau de proximité vectoriel ({@code jdk.incubator.vector}), à la largeur
+ * préférée du processeur. Les opérations sont les mêmes que celles du noyau
+ * scalaire, voie par voie et sans fusion multiplication-addition : les
+ * résultats sont identiques au bit près.
+ * 
+ * <p>
+ * Cette classe n'est chargée que par réflexion, lorsque le module incubateur
+ * est présent au démarrage (voir {@link NoyauxProximite}).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class NoyauVectoriel implements NoyauProximite {
+
+    private static final VectorSpecies<Double> ESPECE = DoubleVector.SPECIES_PREFERRED;
+
+    NoyauVectoriel() {
+        if (ESPECE.length() < 2) {
+            throw new UnsupportedOperationException("Pas d'instructions vectorielles sur les doubles");
+        }
+    }
+
+    @Override
+    public long masqueDansRayon(double px, double py, double pz, double[] xs, double[] ys, double[] zs,
+            int debut, int longueur, double rayonCarre) {
+        int voies = ESPECE.length();
+        int borne = longueur - longueur % voies;
+        long masque = 0L;
+        int k = 0;
+        for (; k < borne; k += voies) {
+            DoubleVector dx = DoubleVector.fromArray(ESPECE, xs, debut + k).sub(px);
+            DoubleVector dy = DoubleVector.fromArray(ESPECE, ys, debut + k).sub(py);
+            DoubleVector dz = DoubleVector.fromArray(ESPECE, zs, debut + k).sub(pz);
+            DoubleVector d2 = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz));
+            VectorMask<Double> dedans = d2.compare(VectorOperators.LE, rayonCarre);
+            // La plupart des candidats sont loin : éviter la conversion du masque
+            if (dedans.anyTrue()) {
+                masque |= dedans.toLong() << k;
+            }
+        }
+        for (; k < longueur; k++) {
+            int i = debut + k;
+            double dx = xs[i] - px;
+            double dy = ys[i] - py;
+            double dz = zs[i] - pz;
+            if (dx * dx + dy * dy + dz * dz <= rayonCarre) {
+                masque |= 1L << k;
+            }
+        }
+        return masque;
+    }
+
+    @Override
+    public void distancesCarrees(double px, double py, double pz, double[] xs, double[] ys, double[] zs,
+            int debut, int longueur, double[] sortie) {
+        int voies = ESPECE.length();
+        int borne = longueur - longueur % voies;
+        int k = 0;
+        for (; k < borne; k += voies) {
+            DoubleVector dx = DoubleVector.fromArray(ESPECE, xs, debut + k).sub(px);
+            DoubleVector dy = DoubleVector.fromArray(ESPECE, ys, debut + k).sub(py);
+            DoubleVector dz = DoubleVector.fromArray(ESPECE, zs, debut + k).sub(pz);
+            dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz)).intoArray(sortie, k);
+        }
+        for (; k < longueur; k++) {
+            int i = debut + k;
+            double dx = xs[i] - px;
+            double dy = ys[i] - py;
+            double dz = zs[i] - pz;
+            sortie[k] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "vectoriel (" + ESPECE.vectorBitSize() + " bits, " + ESPECE.length() + " voies)";
+    }
+}
@@ -0,0 +1,147 @@
+package fr.spiga.core;
+
+/**
+ * Noyaux de calcul de proximité par lots : carré des distances entre un
+ * point et un bloc de candidats rangés en tableaux de coordonnées
+ * ({@code xs}, {@code ys}, {@code zs}), sans racine carrée ni objet
+ * {@link Position3D}.
+ *
+ * <p>
+ * Lorsque le module {@code jdk.incubator.vector} est présent au démarrage
+ * ({@code --add-modules jdk.incubator.vector}), les calculs utilisent les
+ * instructions vectorielles du processeur ; sinon, ou avec
+ * {@code -Dspiga.vectoriel=false}, une implémentation scalaire équivalente
+ * au bit près prend le relais.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class NoyauxProximite {
+
+    /** Nombre maximal de candidats d'un masque */
+    public static final int TAILLE_BLOC = 64;
+
+    private static final NoyauProximite NOYAU = choisirNoyau();
+
+    private NoyauxProximite() {
+    }
+
+    private static NoyauProximite choisirNoyau() {
+        if (!Boolean.parseBoolean(System.getProperty("spiga.vectoriel", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new NoyauScalaire();
+        }
+        try {
+            // Chargement par réflexion : la classe n'est compilée qu'avec le profil
+            // vectoriel et ne doit pas être liée sans le module
+            return (NoyauProximite) Class.forName("fr.spiga.core.NoyauVectoriel").getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException e) {
+            return new NoyauScalaire();
+        }
+    }
+
+    /**
+     * Indique si les noyaux vectoriels sont actifs.
+     */
+    public static boolean estVectoriel() {
+        return !(NOYAU instanceof NoyauScalaire);
+    }
+
+    /**
+     * Décrit l'implémentation active, par exemple
+     * {@code "vectoriel (256 bits, 4 voies)"} ou {@code "scalaire"}.
+     */
+    public static String getDescription() {
+        return NOYAU.getDescription();
+    }
+
+    /**
+     * Calcule le masque des candidats situés dans un rayon autour d'un point.
+     *
+     * @param px         abscisse du point
+     * @param py         ordonnée du point
+     * @param pz         altitude du point
+     * @param xs         abscisses des candidats
+     * @param ys         ordonnées des candidats
+     * @param zs         altitudes des candidats
+     * @param debut      indice du premier candidat
+     * @param longueur   nombre de candidats (au plus {@link #TAILLE_BLOC})
+     * @param rayonCarre le carré du rayon
+     * @return le masque : bit {@code k} à 1 si le candidat {@code debut + k}
+     *         est à une distance au carré inférieure ou égale à
+     *         {@code rayonCarre}
+     */
+    public static long masqueDansRayon(double px, double py, double pz, double[] xs, double[] ys, double[] zs,
+            int debut, int longueur, double rayonCarre) {
+        verifierBloc(xs, ys, zs, debut, longueur);
+        if (longueur > TAILLE_BLOC) {
+            throw new IllegalArgumentException("Un masque couvre au plus " + TAILLE_BLOC + " candidats");
+        }
+        return NOYAU.masqueDansRayon(px, py, pz, xs, ys, zs, debut, longueur, rayonCarre);
+    }
+
+    /**
+     * Calcule le carré des distances d'un point à un bloc de candidats.
+     *
+     * @param px       abscisse du point
+     * @param py       ordonnée du point
+     * @param pz       altitude du point
+     * @param xs       abscisses des candidats
+     * @param ys       ordonnées des candidats
+     * @param zs       altitudes des candidats
+     * @param debut    indice du premier candidat
+     * @param longueur nombre de candidats
+     * @param sortie   tableau recevant les résultats à partir de l'indice 0
+     */
+    public static void distancesCarrees(double px, double py, double pz, double[] xs, double[] ys, double[] zs,
+            int debut, int longueur, double[] sortie) {
+        verifierBloc(xs, ys, zs, debut, longueur);
+        if (sortie.length < longueur) {
+            throw new IllegalArgumentException("Tableau de sortie trop court");
+        }
+        NOYAU.distancesCarrees(px, py, pz, xs, ys, zs, debut, longueur, sortie);
+    }
+
+    /**
+     * Sélectionne les candidats {@code debut .. fin - 1} situés dans un rayon
+     * autour d'un point.
+     *
+     * @param px         abscisse du point
+     * @param py         ordonnée du point
+     * @param pz         altitude du point
+     * @param xs         abscisses des candidats
+     * @param ys         ordonnées des candidats
+     * @param zs         altitudes des candidats
+     * @param debut      indice du premier candidat
+     * @param fin        indice suivant le dernier candidat
+     * @param rayonCarre le carré du rayon
+     * @param indices    tableau recevant les indices retenus, par ordre
+     *                   croissant (au moins {@code fin - debut} places)
+     * @return le nombre d'indices retenus
+     */
+    public static int selectionnerDansRayon(double px, double py, double pz, double[] xs, double[] ys,
+            double[] zs, int debut, int fin, double rayonCarre, int[] indices) {
+        verifierBloc(xs, ys, zs, debut, fin - debut);
+        int nombre = 0;
+        for (int bloc = debut; bloc < fin; bloc += TAILLE_BLOC) {
+            int longueur = Math.min(TAILLE_BLOC, fin - bloc);
+            long masque = NOYAU.masqueDansRayon(px, py, pz, xs, ys, zs, bloc, longueur, rayonCarre);
+            while (masque != 0L) {
+                indices[nombre++] = bloc + Long.numberOfTrailingZeros(masque);
+                masque &= masque - 1;
+            }
+        }
+        return nombre;
+    }
+
+    private static void verifierBloc(double[] xs, double[] ys, double[] zs, int debut, int longueur) {
+        if (debut < 0 || longueur < 0) {
+            throw new IllegalArgumentException("Bloc de candidats invalide");
+        }
+        int fin = debut + longueur;
+        if (fin > xs.length || fin > ys.length || fin > zs.length) {
+            throw new IndexOutOfBoundsException("Bloc de candidats hors des tableaux: " + debut + ".." + fin);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package fr.spiga.core;
+
+/**
+ * Observateur des changements de l'état dynamique d'un actif (position,
+ * autonomie), abonné par {@link ActifMobile#ajouterObservateur}.
+ *
+ * <p>
+ * Les notifications portent les nouvelles valeurs et sont émises par le fil
+ * qui modifie l'actif, après l'écriture : elles doivent rester brèves.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public interface ObservateurActif {
+
+    /**
+     * Notifie un changement de position.
+     *
+     * @param actif l'actif déplacé
+     * @param x     la nouvelle coordonnée X
+     * @param y     la nouvelle coordonnée Y
+     * @param z     la nouvelle coordonnée Z
+     */
+    void positionModifiee(ActifMobile actif, double x, double y, double z);
+
+    /**
+     * Notifie un changement d'autonomie.
+     *
+     * @param actif     l'actif
+     * @param autonomie la nouvelle autonomie restante en pourcentage
+     */
+    void autonomieModifiee(ActifMobile actif, double autonomie);
+}
@@ -0,0 +1,245 @@
+package fr.spiga.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registre d'actifs ordonné par insertion et indexé par table de hachage
+ * (identité des actifs).
+ *
+ * <p>
+ * Le test d'appartenance et le rang d'un actif coûtent O(1), l'ajout O(1)
+ * amorti : l'enregistrement d'une flotte de n actifs est linéaire. Les
+ * écritures sont sérialisées entre elles ; les lectures ne prennent aucun
+ * verrou et peuvent avoir lieu pendant une écriture, depuis un autre fil.
+ *
+ * <p>
+ * {@link #instantane()} retourne une vue figée du registre, sans copie : un
+ * ajout écrit au-delà de la taille des instantanés existants et publie un
+ * nouvel instantané, un retrait (rare) recopie le tableau. Un instantané peut
+ * donc être parcouru par indice pendant toute une passe de simulation sans
+ * être affecté par les modifications concurrentes.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class RegistreActifs implements Iterable<ActifMobile>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int CAPACITE_INITIALE = 8;
+
+    /** Vue figée et non modifiable des {@code taille} premiers éléments */
+    private static final class Instantane extends AbstractList<ActifMobile> implements RandomAccess {
+        private final ActifMobile[] elements;
+        private final int taille;
+
+        Instantane(ActifMobile[] elements, int taille) {
+            this.elements = elements;
+            this.taille = taille;
+        }
+
+        @Override
+        public ActifMobile get(int index) {
+            if (index < 0 || index >= taille) {
+                throw new IndexOutOfBoundsException("Indice " + index + " hors de [0, " + taille + ")");
+            }
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return taille;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(elements, taille, Object[].class);
+        }
+    }
+
+    private static final Instantane VIDE = new Instantane(new ActifMobile[0], 0);
+
+    private transient volatile Instantane courant;
+
+    /** Rang de chaque actif dans l'instantané courant */
+    private transient ConcurrentHashMap<ActifMobile, Integer> rangs;
+
+    public RegistreActifs() {
+        this.courant = VIDE;
+        this.rangs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructeur de copie (mêmes actifs, même ordre).
+     *
+     * @param source le registre à copier
+     */
+    public RegistreActifs(RegistreActifs source) {
+        this();
+        ajouterTous(source.instantane());
+    }
+
+    /**
+     * Ajoute un actif à la fin du registre.
+     *
+     * @param actif l'actif
+     * @return true si ajouté, false s'il est nul ou déjà présent
+     */
+    public synchronized boolean ajouter(ActifMobile actif) {
+        if (actif == null || rangs.containsKey(actif)) {
+            return false;
+        }
+        Instantane actuel = courant;
+        ActifMobile[] elements = actuel.elements;
+        int taille = actuel.taille;
+        if (taille == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(CAPACITE_INITIALE, taille * 2));
+        }
+        // Au-delà de la taille des instantanés publiés : invisible pour eux
+        elements[taille] = actif;
+        rangs.put(actif, taille);
+        courant = new Instantane(elements, taille + 1);
+        return true;
+    }
+
+    /**
+     * Ajoute plusieurs actifs en une seule écriture (un seul agrandissement,
+     * un seul instantané publié). Les actifs nuls ou déjà présents sont
+     * ignorés.
+     *
+     * @param actifs les actifs, dans l'ordre
+     * @return le nombre d'actifs ajoutés
+     */
+    public synchronized int ajouterTous(Collection<? extends ActifMobile> actifs) {
+        Instantane actuel = courant;
+        ActifMobile[] elements = actuel.elements;
+        int taille = actuel.taille;
+        int besoin = taille + actifs.size();
+        if (besoin > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(besoin, taille * 2));
+        }
+        for (ActifMobile actif : actifs) {
+            if (actif != null && rangs.putIfAbsent(actif, taille) == null) {
+                elements[taille++] = actif;
+            }
+        }
+        int ajoutes = taille - actuel.taille;
+        if (ajoutes > 0) {
+            courant = new Instantane(elements, taille);
+        }
+        return ajoutes;
+    }
+
+    /**
+     * Retire un actif (recopie du tableau : les instantanés existants ne sont
+     * pas modifiés).
+     *
+     * @param actif l'actif
+     * @return true si retiré, false s'il était absent
+     */
+    public synchronized boolean retirer(ActifMobile actif) {
+        Integer rang = actif != null ? rangs.remove(actif) : null;
+        if (rang == null) {
+            return false;
+        }
+        Instantane actuel = courant;
+        int taille = actuel.taille - 1;
+        ActifMobile[] elements = new ActifMobile[Math.max(CAPACITE_INITIALE, taille)];
+        System.arraycopy(actuel.elements, 0, elements, 0, rang);
+        System.arraycopy(actuel.elements, rang + 1, elements, rang, taille - rang);
+        for (int i = rang; i < taille; i++) {
+            rangs.put(elements[i], i);
+        }
+        courant = new Instantane(elements, taille);
+        return true;
+    }
+
+    /**
+     * Vide le registre.
+     */
+    public synchronized void vider() {
+        rangs.clear();
+        courant = VIDE;
+    }
+
+    public boolean contient(ActifMobile actif) {
+        return actif != null && rangs.containsKey(actif);
+    }
+
+    /**
+     * Obtient le rang d'insertion d'un actif.
+     *
+     * @param actif l'actif
+     * @return son rang, ou -1 s'il est absent
+     */
+    public int rang(ActifMobile actif) {
+        Integer rang = actif != null ? rangs.get(actif) : null;
+        return rang != null ? rang : -1;
+    }
+
+    public ActifMobile get(int index) {
+        return courant.get(index);
+    }
+
+    public int taille() {
+        return courant.taille;
+    }
+
+    public boolean estVide() {
+        return courant.taille == 0;
+    }
+
+    /**
+     * Obtient une vue figée, non modifiable et à accès direct du registre,
+     * sans copie.
+     *
+     * @return l'instantané courant
+     */
+    public List<ActifMobile> instantane() {
+        return courant;
+    }
+
+    /**
+     * Parcourt l'instantané courant.
+     */
+    @Override
+    public Iterator<ActifMobile> iterator() {
+        return courant.iterator();
+    }
+
+    private void writeObject(ObjectOutputStream sortie) throws IOException {
+        sortie.defaultWriteObject();
+        Instantane actuel = courant;
+        sortie.writeInt(actuel.taille);
+        for (int i = 0; i < actuel.taille; i++) {
+            sortie.writeObject(actuel.elements[i]);
+        }
+    }
+
+    private void readObject(ObjectInputStream entree) throws IOException, ClassNotFoundException {
+        entree.defaultReadObject();
+        int taille = entree.readInt();
+        if (taille < 0) {
+            throw new java.io.InvalidObjectException("Taille de registre négative");
+        }
+        courant = VIDE;
+        rangs = new ConcurrentHashMap<>();
+        for (int i = 0; i < taille; i++) {
+            ajouter((ActifMobile) entree.readObject());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RegistreActifs[taille=%d]", taille());
+    }
+}
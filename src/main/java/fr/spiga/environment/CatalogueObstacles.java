@@ -0,0 +1,252 @@
+package fr.spiga.environment;
+
+import fr.spiga.core.Position3D;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stockage en colonnes (un tableau par attribut) des obstacles d'une zone,
+ * indexé par une {@link GrilleSpatiale}.
+ * 
+ * <p>
+ * Les types d'obstacle sont stockés sous forme de codes dans un dictionnaire,
+ * si bien qu'un million d'obstacles n'occupe qu'une cinquantaine de Mo sans
+ * aucun objet par obstacle. Les objets {@link Obstacle} ne sont créés qu'à la
+ * demande.
+ * 
+ * <p>
+ * La grille est reconstruite paresseusement à la première requête suivant
+ * une modification ; les lectures concurrentes sont sûres tant qu'aucune
+ * modification n'a lieu en parallèle.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class CatalogueObstacles implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int CAPACITE_INITIALE = 16;
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    private int nombre;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private double[] rayon;
+    private double[] zMin;
+    private double[] zMax;
+    private int[] codeType;
+
+    private final List<String> types;
+    private final Map<String, Integer> codesTypes;
+
+    private transient volatile GrilleSpatiale grille;
+
+    CatalogueObstacles(double minX, double minY, double maxX, double maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.x = new double[CAPACITE_INITIALE];
+        this.y = new double[CAPACITE_INITIALE];
+        this.z = new double[CAPACITE_INITIALE];
+        this.rayon = new double[CAPACITE_INITIALE];
+        this.zMin = new double[CAPACITE_INITIALE];
+        this.zMax = new double[CAPACITE_INITIALE];
+        this.codeType = new int[CAPACITE_INITIALE];
+        this.types = new ArrayList<>();
+        this.codesTypes = new HashMap<>();
+    }
+
+    /**
+     * Constructeur de copie (les tableaux sont dupliqués, la grille partagée).
+     */
+    private CatalogueObstacles(CatalogueObstacles source) {
+        this.minX = source.minX;
+        this.minY = source.minY;
+        this.maxX = source.maxX;
+        this.maxY = source.maxY;
+        this.nombre = source.nombre;
+        this.x = source.x.clone();
+        this.y = source.y.clone();
+        this.z = source.z.clone();
+        this.rayon = source.rayon.clone();
+        this.zMin = source.zMin.clone();
+        this.zMax = source.zMax.clone();
+        this.codeType = source.codeType.clone();
+        this.types = new ArrayList<>(source.types);
+        this.codesTypes = new HashMap<>(source.codesTypes);
+        this.grille = source.grille;
+    }
+
+    CatalogueObstacles copier() {
+        return new CatalogueObstacles(this);
+    }
+
+    int getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtient (ou crée) le code d'un type d'obstacle.
+     */
+    int enregistrerType(String type) {
+        if (type == null || type.isBlank()) {
+            throw new IllegalArgumentException("Le type ne peut pas être vide");
+        }
+        Integer code = codesTypes.get(type);
+        if (code == null) {
+            code = types.size();
+            types.add(type);
+            codesTypes.put(type, code);
+        }
+        return code;
+    }
+
+    /**
+     * Garantit la place pour {@code supplementaires} obstacles de plus, sans
+     * réallocation intermédiaire.
+     */
+    void reserver(int supplementaires) {
+        if (supplementaires < 0) {
+            throw new IllegalArgumentException("La réservation ne peut pas être négative");
+        }
+        long requis = (long) nombre + supplementaires;
+        if (requis > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Trop d'obstacles");
+        }
+        if (requis > x.length) {
+            redimensionner((int) requis);
+        }
+    }
+
+    int ajouter(double px, double py, double pz, double r, double bas, double haut, int code) {
+        if (!(r > 0)) {
+            throw new IllegalArgumentException("Le rayon doit être positif");
+        }
+        if (code < 0 || code >= types.size()) {
+            throw new IllegalArgumentException("Code de type d'obstacle inconnu: " + code);
+        }
+        if (nombre == x.length) {
+            redimensionner(Math.max(CAPACITE_INITIALE, nombre + (nombre >> 1)));
+        }
+        int i = nombre++;
+        x[i] = px;
+        y[i] = py;
+        z[i] = pz;
+        rayon[i] = r;
+        zMin[i] = bas;
+        zMax[i] = haut;
+        codeType[i] = code;
+        grille = null;
+        return i;
+    }
+
+    int ajouter(Obstacle obstacle) {
+        Position3D p = obstacle.getPosition();
+        return ajouter(p.getX(), p.getY(), p.getZ(), obstacle.getRayon(), obstacle.getZMin(), obstacle.getZMax(),
+                enregistrerType(obstacle.getType()));
+    }
+
+    private void redimensionner(int capacite) {
+        x = Arrays.copyOf(x, capacite);
+        y = Arrays.copyOf(y, capacite);
+        z = Arrays.copyOf(z, capacite);
+        rayon = Arrays.copyOf(rayon, capacite);
+        zMin = Arrays.copyOf(zMin, capacite);
+        zMax = Arrays.copyOf(zMax, capacite);
+        codeType = Arrays.copyOf(codeType, capacite);
+    }
+
+    double getX(int i) {
+        return x[i];
+    }
+
+    double getY(int i) {
+        return y[i];
+    }
+
+    double getRayon(int i) {
+        return rayon[i];
+    }
+
+    double getZMax(int i) {
+        return zMax[i];
+    }
+
+    Obstacle getObstacle(int i) {
+        if (i < 0 || i >= nombre) {
+            throw new IndexOutOfBoundsException("Obstacle inexistant: " + i);
+        }
+        return new Obstacle(new Position3D(x[i], y[i], z[i]), rayon[i], zMin[i], zMax[i], types.get(codeType[i]));
+    }
+
+    List<Obstacle> versListe() {
+        List<Obstacle> liste = new ArrayList<>(nombre);
+        for (int i = 0; i < nombre; i++) {
+            liste.add(getObstacle(i));
+        }
+        return liste;
+    }
+
+    GrilleSpatiale grille() {
+        GrilleSpatiale g = grille;
+        if (g == null) {
+            synchronized (this) {
+                g = grille;
+                if (g == null) {
+                    g = GrilleSpatiale.construire(x, y, rayon, nombre, minX, minY, maxX, maxY);
+                    grille = g;
+                }
+            }
+        }
+        return g;
+    }
+
+    /**
+     * Même test que {@link Obstacle#estEnCollision(Position3D)}.
+     */
+    boolean estEnCollision(int i, double px, double py, double pz) {
+        if (pz < zMin[i] || pz > zMax[i]) {
+            return false;
+        }
+        double dx = px - x[i];
+        double dy = py - y[i];
+        return dx * dx + dy * dy < rayon[i] * rayon[i];
+    }
+
+    /**
+     * Cherche le premier obstacle, d'indice au moins {@code depuis}, en
+     * collision avec le point. Parcourir les obstacles ainsi équivaut à la
+     * boucle sur la liste complète, dans le même ordre, en ne visitant que la
+     * cellule du point.
+     * 
+     * @return l'indice de l'obstacle, ou -1
+     */
+    int prochainEnCollision(double px, double py, double pz, int depuis) {
+        if (nombre == 0 || depuis >= nombre) {
+            return -1;
+        }
+        GrilleSpatiale g = grille();
+        int cellule = g.cellule(px, py);
+        int debut = Arrays.binarySearch(g.indices, g.debuts[cellule], g.debuts[cellule + 1], depuis);
+        if (debut < 0) {
+            debut = -debut - 1;
+        }
+        for (int k = debut; k < g.debuts[cellule + 1]; k++) {
+            int i = g.indices[k];
+            if (estEnCollision(i, px, py, pz)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,164 @@
+package fr.spiga.environment;
+
+import fr.spiga.core.Position3D;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stockage en colonnes des zones d'exclusion d'une zone d'opération, indexé
+ * par une {@link GrilleSpatiale} (voir {@link CatalogueObstacles}).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class CatalogueZonesExclusion implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int CAPACITE_INITIALE = 16;
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    private int nombre;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private double[] rayon;
+    private String[] noms;
+
+    private transient volatile GrilleSpatiale grille;
+
+    CatalogueZonesExclusion(double minX, double minY, double maxX, double maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.x = new double[CAPACITE_INITIALE];
+        this.y = new double[CAPACITE_INITIALE];
+        this.z = new double[CAPACITE_INITIALE];
+        this.rayon = new double[CAPACITE_INITIALE];
+        this.noms = new String[CAPACITE_INITIALE];
+    }
+
+    private CatalogueZonesExclusion(CatalogueZonesExclusion source) {
+        this.minX = source.minX;
+        this.minY = source.minY;
+        this.maxX = source.maxX;
+        this.maxY = source.maxY;
+        this.nombre = source.nombre;
+        this.x = source.x.clone();
+        this.y = source.y.clone();
+        this.z = source.z.clone();
+        this.rayon = source.rayon.clone();
+        this.noms = source.noms.clone();
+        this.grille = source.grille;
+    }
+
+    CatalogueZonesExclusion copier() {
+        return new CatalogueZonesExclusion(this);
+    }
+
+    int getNombre() {
+        return nombre;
+    }
+
+    void reserver(int supplementaires) {
+        if (supplementaires < 0) {
+            throw new IllegalArgumentException("La réservation ne peut pas être négative");
+        }
+        long requis = (long) nombre + supplementaires;
+        if (requis > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Trop de zones d'exclusion");
+        }
+        if (requis > x.length) {
+            redimensionner((int) requis);
+        }
+    }
+
+    int ajouter(double px, double py, double pz, double r, String nom) {
+        if (!(r > 0)) {
+            throw new IllegalArgumentException("Le rayon doit être positif");
+        }
+        if (nom == null || nom.isBlank()) {
+            throw new IllegalArgumentException("Le nom ne peut pas être vide");
+        }
+        if (nombre == x.length) {
+            redimensionner(Math.max(CAPACITE_INITIALE, nombre + (nombre >> 1)));
+        }
+        int i = nombre++;
+        x[i] = px;
+        y[i] = py;
+        z[i] = pz;
+        rayon[i] = r;
+        noms[i] = nom;
+        grille = null;
+        return i;
+    }
+
+    int ajouter(ZoneExclusion zone) {
+        Position3D c = zone.getCentre();
+        return ajouter(c.getX(), c.getY(), c.getZ(), zone.getRayon(), zone.getNom());
+    }
+
+    private void redimensionner(int capacite) {
+        x = Arrays.copyOf(x, capacite);
+        y = Arrays.copyOf(y, capacite);
+        z = Arrays.copyOf(z, capacite);
+        rayon = Arrays.copyOf(rayon, capacite);
+        noms = Arrays.copyOf(noms, capacite);
+    }
+
+    ZoneExclusion getZone(int i) {
+        if (i < 0 || i >= nombre) {
+            throw new IndexOutOfBoundsException("Zone d'exclusion inexistante: " + i);
+        }
+        return new ZoneExclusion(new Position3D(x[i], y[i], z[i]), rayon[i], noms[i]);
+    }
+
+    List<ZoneExclusion> versListe() {
+        List<ZoneExclusion> liste = new ArrayList<>(nombre);
+        for (int i = 0; i < nombre; i++) {
+            liste.add(getZone(i));
+        }
+        return liste;
+    }
+
+    private GrilleSpatiale grille() {
+        GrilleSpatiale g = grille;
+        if (g == null) {
+            synchronized (this) {
+                g = grille;
+                if (g == null) {
+                    g = GrilleSpatiale.construire(x, y, rayon, nombre, minX, minY, maxX, maxY);
+                    grille = g;
+                }
+            }
+        }
+        return g;
+    }
+
+    /**
+     * Même test que {@link ZoneExclusion#contientPosition(Position3D)} (sphère).
+     */
+    boolean contient(double px, double py, double pz) {
+        if (nombre == 0) {
+            return false;
+        }
+        GrilleSpatiale g = grille();
+        int cellule = g.cellule(px, py);
+        for (int k = g.debuts[cellule]; k < g.debuts[cellule + 1]; k++) {
+            int i = g.indices[k];
+            double dx = px - x[i];
+            double dy = py - y[i];
+            double dz = pz - z[i];
+            if (Math.sqrt(dx * dx + dy * dy + dz * dz) <= rayon[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package fr.spiga.environment;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Zones d'exclusion polygonales d'une zone d'opération, rastérisées dans un
+ * {@link RasterPolygones} à la première requête qui suit un ajout.
+ *
+ * <p>
+ * Comme les autres catalogues, il est partagé entre une zone et ses copies de
+ * simulation ({@link #copier()} avant toute modification) ; la grille,
+ * immuable, est partagée par les copies.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class CatalogueZonesPolygonales implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ArrayList<ZoneExclusionPolygonale> zones;
+
+    private transient volatile RasterPolygones raster;
+
+    CatalogueZonesPolygonales() {
+        this.zones = new ArrayList<>();
+    }
+
+    private CatalogueZonesPolygonales(CatalogueZonesPolygonales source) {
+        this.zones = new ArrayList<>(source.zones);
+        this.raster = source.raster;
+    }
+
+    CatalogueZonesPolygonales copier() {
+        return new CatalogueZonesPolygonales(this);
+    }
+
+    int getNombre() {
+        return zones.size();
+    }
+
+    void ajouter(ZoneExclusionPolygonale zone) {
+        zones.add(zone);
+        raster = null;
+    }
+
+    ZoneExclusionPolygonale getZone(int i) {
+        if (i < 0 || i >= zones.size()) {
+            throw new IndexOutOfBoundsException("Zone d'exclusion polygonale inexistante: " + i);
+        }
+        return zones.get(i);
+    }
+
+    List<ZoneExclusionPolygonale> versListe() {
+        return Collections.unmodifiableList(new ArrayList<>(zones));
+    }
+
+    RasterPolygones raster() {
+        RasterPolygones r = raster;
+        if (r == null) {
+            synchronized (this) {
+                r = raster;
+                if (r == null) {
+                    r = RasterPolygones.construire(zones.toArray(new ZoneExclusionPolygonale[0]));
+                    raster = r;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Même résultat que {@link ZoneExclusionPolygonale#contientPosition} sur
+     * chacune des zones.
+     */
+    boolean contient(double px, double py, double pz) {
+        if (zones.isEmpty()) {
+            return false;
+        }
+        return raster().contient(px, py, pz);
+    }
+}
@@ -0,0 +1,331 @@
+package fr.spiga.environment;
+
+import fr.spiga.core.Position3D;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Champ d'altitudes (relief terrestre et bathymétrie) projeté en mémoire.
+ * 
+ * <p>
+ * Le fichier contient une grille régulière d'altitudes en float32 : positives
+ * pour le relief émergé, négatives pour le fond marin. Un actif est sous le
+ * relief lorsque son Z est inférieur à l'altitude interpolée à sa verticale ;
+ * ce test vaut pour un drone (sol), un sous-marin (fond) comme pour un navire
+ * de surface (côte).
+ * 
+ * <p>
+ * Les échantillons sont rangés par tuiles carrées (voisins spatiaux proches
+ * dans le fichier) et les tuiles sont projetées par régions de
+ * {@value #TUILES_PAR_REGION}, à la première lecture seulement. Le système ne
+ * charge que les pages réellement lues : le tas ne croît pas avec la taille de
+ * la carte, seule la table des régions (une référence par région) en dépend.
+ * 
+ * <p>
+ * Format (petit-boutiste) : en-tête de 64 octets (magie {@code SPHF}, version,
+ * colonnes, lignes, taille de tuile, origine X/Y et pas en f64), puis les
+ * tuiles ligne par ligne, chacune de {@code tailleTuile²} échantillons
+ * (complétée par répétition du bord).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class ChampAltitudes implements Serializable, AutoCloseable {
+    private static final long serialVersionUID = 1L;
+
+    /** Nombre magique du fichier ("SPHF") */
+    public static final int MAGIE = 0x46485053;
+
+    /** Version du format */
+    public static final int VERSION = 1;
+
+    /** Taille de tuile par défaut (256 x 256 échantillons, 256 Ko) */
+    public static final int TAILLE_TUILE_DEFAUT = 256;
+
+    /** Nombre de tuiles projetées ensemble */
+    static final int TUILES_PAR_REGION = 64;
+
+    private static final int TAILLE_EN_TETE = 64;
+
+    private final String chemin;
+    private final int colonnes;
+    private final int lignes;
+    private final int tailleTuile;
+    private final double origineX;
+    private final double origineY;
+    private final double pas;
+    private final int tuilesX;
+    private final int nombreTuiles;
+    private final long octetsParTuile;
+
+    private transient FileChannel canal;
+    private transient AtomicReferenceArray<ByteBuffer> regions;
+
+    private ChampAltitudes(Path fichier) throws IOException {
+        this.chemin = fichier.toAbsolutePath().toString();
+        this.canal = FileChannel.open(fichier, StandardOpenOption.READ);
+        try {
+            ByteBuffer entete = ByteBuffer.allocate(TAILLE_EN_TETE).order(ByteOrder.LITTLE_ENDIAN);
+            while (entete.hasRemaining() && canal.read(entete) >= 0) {
+                // lecture de l'en-tête
+            }
+            if (entete.hasRemaining() || entete.getInt(0) != MAGIE) {
+                throw new IOException("Fichier d'altitudes invalide: " + fichier);
+            }
+            if (entete.getInt(4) != VERSION) {
+                throw new IOException("Version de champ d'altitudes non supportée");
+            }
+            this.colonnes = entete.getInt(8);
+            this.lignes = entete.getInt(12);
+            this.tailleTuile = entete.getInt(16);
+            this.origineX = entete.getDouble(24);
+            this.origineY = entete.getDouble(32);
+            this.pas = entete.getDouble(40);
+            if (colonnes < 2 || lignes < 2 || tailleTuile < 2 || tailleTuile > 1024 || !(pas > 0)) {
+                throw new IOException("En-tête de champ d'altitudes incohérent");
+            }
+            this.tuilesX = (colonnes + tailleTuile - 1) / tailleTuile;
+            int tuilesY = (lignes + tailleTuile - 1) / tailleTuile;
+            this.nombreTuiles = tuilesX * tuilesY;
+            this.octetsParTuile = 4L * tailleTuile * tailleTuile;
+            if (canal.size() < TAILLE_EN_TETE + nombreTuiles * octetsParTuile) {
+                throw new IOException("Fichier d'altitudes tronqué: " + fichier);
+            }
+            int nombreRegions = (nombreTuiles + TUILES_PAR_REGION - 1) / TUILES_PAR_REGION;
+            this.regions = new AtomicReferenceArray<>(nombreRegions);
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Ouvre un champ d'altitudes existant (lecture seule).
+     * 
+     * @param fichier le fichier d'altitudes
+     * @return le champ ouvert
+     * @throws IOException si le fichier est illisible ou invalide
+     */
+    public static ChampAltitudes ouvrir(Path fichier) throws IOException {
+        return new ChampAltitudes(fichier);
+    }
+
+    /**
+     * Crée un fichier d'altitudes en échantillonnant une fonction, tuile par
+     * tuile (la mémoire utilisée se limite à une tuile), puis l'ouvre.
+     * 
+     * @param fichier     le fichier à créer (écrasé s'il existe)
+     * @param origineX    abscisse du premier échantillon
+     * @param origineY    ordonnée du premier échantillon
+     * @param pas         l'espacement des échantillons en mètres
+     * @param colonnes    le nombre d'échantillons sur X (au moins 2)
+     * @param lignes      le nombre d'échantillons sur Y (au moins 2)
+     * @param tailleTuile le côté d'une tuile en échantillons (2 à 1024)
+     * @param altitude    la fonction (x, y) -&gt; altitude en mètres
+     * @return le champ ouvert
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static ChampAltitudes creer(Path fichier, double origineX, double origineY, double pas, int colonnes,
+            int lignes, int tailleTuile, DoubleBinaryOperator altitude) throws IOException {
+        if (colonnes < 2 || lignes < 2) {
+            throw new IllegalArgumentException("Le champ doit compter au moins 2 x 2 échantillons");
+        }
+        if (tailleTuile < 2 || tailleTuile > 1024) {
+            throw new IllegalArgumentException("La taille de tuile doit être comprise entre 2 et 1024");
+        }
+        if (!(pas > 0)) {
+            throw new IllegalArgumentException("Le pas doit être positif");
+        }
+        if (altitude == null) {
+            throw new IllegalArgumentException("La fonction d'altitude ne peut pas être nulle");
+        }
+        int tuilesX = (colonnes + tailleTuile - 1) / tailleTuile;
+        int tuilesY = (lignes + tailleTuile - 1) / tailleTuile;
+        try (FileChannel sortie = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer entete = ByteBuffer.allocate(TAILLE_EN_TETE).order(ByteOrder.LITTLE_ENDIAN);
+            entete.putInt(MAGIE).putInt(VERSION).putInt(colonnes).putInt(lignes).putInt(tailleTuile);
+            entete.position(24);
+            entete.putDouble(origineX).putDouble(origineY).putDouble(pas);
+            entete.clear();
+            ecrireTout(sortie, entete);
+
+            ByteBuffer tuile = ByteBuffer.allocateDirect(4 * tailleTuile * tailleTuile)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (int ty = 0; ty < tuilesY; ty++) {
+                for (int tx = 0; tx < tuilesX; tx++) {
+                    tuile.clear();
+                    for (int j = 0; j < tailleTuile; j++) {
+                        int ligne = Math.min(lignes - 1, ty * tailleTuile + j);
+                        for (int i = 0; i < tailleTuile; i++) {
+                            int colonne = Math.min(colonnes - 1, tx * tailleTuile + i);
+                            tuile.putFloat((float) altitude.applyAsDouble(origineX + colonne * pas,
+                                    origineY + ligne * pas));
+                        }
+                    }
+                    tuile.flip();
+                    ecrireTout(sortie, tuile);
+                }
+            }
+        }
+        return ouvrir(fichier);
+    }
+
+    private static void ecrireTout(FileChannel sortie, ByteBuffer tampon) throws IOException {
+        while (tampon.hasRemaining()) {
+            sortie.write(tampon);
+        }
+    }
+
+    /**
+     * Obtient l'altitude du relief par interpolation bilinéaire.
+     * 
+     * @param x abscisse
+     * @param y ordonnée
+     * @return l'altitude en mètres, ou {@link Double#NEGATIVE_INFINITY} hors de
+     *         l'emprise du champ (aucun relief)
+     */
+    public double getAltitude(double x, double y) {
+        double fx = (x - origineX) / pas;
+        double fy = (y - origineY) / pas;
+        if (!(fx >= 0 && fy >= 0 && fx <= colonnes - 1 && fy <= lignes - 1)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int i = Math.min((int) fx, colonnes - 2);
+        int j = Math.min((int) fy, lignes - 2);
+        double u = fx - i;
+        double v = fy - j;
+        double h00 = echantillon(i, j);
+        double h10 = echantillon(i + 1, j);
+        double h01 = echantillon(i, j + 1);
+        double h11 = echantillon(i + 1, j + 1);
+        return (h00 * (1 - u) + h10 * u) * (1 - v) + (h01 * (1 - u) + h11 * u) * v;
+    }
+
+    /**
+     * Indique si une position est sous le relief (sol ou fond marin).
+     * 
+     * @param position la position
+     * @return true si la position est sous l'altitude du relief
+     */
+    public boolean estSousLeRelief(Position3D position) {
+        return position.getZ() < getAltitude(position.getX(), position.getY());
+    }
+
+    /**
+     * Calcule le dégagement vertical au-dessus du relief.
+     * 
+     * @param position la position
+     * @return Z moins l'altitude du relief (négatif sous le relief, infini hors
+     *         de l'emprise)
+     */
+    public double getDegagement(Position3D position) {
+        return position.getZ() - getAltitude(position.getX(), position.getY());
+    }
+
+    /**
+     * Lit l'échantillon (i, j).
+     */
+    double echantillon(int i, int j) {
+        int tuile = (j / tailleTuile) * tuilesX + i / tailleTuile;
+        int local = (j % tailleTuile) * tailleTuile + i % tailleTuile;
+        ByteBuffer region = region(tuile / TUILES_PAR_REGION);
+        return region.getFloat((int) ((tuile % TUILES_PAR_REGION) * octetsParTuile) + 4 * local);
+    }
+
+    private ByteBuffer region(int indice) {
+        ByteBuffer region = regions.get(indice);
+        if (region == null) {
+            long debut = TAILLE_EN_TETE + (long) indice * TUILES_PAR_REGION * octetsParTuile;
+            long taille = Math.min(TUILES_PAR_REGION, nombreTuiles - (long) indice * TUILES_PAR_REGION)
+                    * octetsParTuile;
+            try {
+                region = canal.map(FileChannel.MapMode.READ_ONLY, debut, taille).order(ByteOrder.LITTLE_ENDIAN);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Projection du champ d'altitudes impossible", e);
+            }
+            // En cas de course, la première projection publiée est conservée
+            if (!regions.compareAndSet(indice, null, region)) {
+                region = regions.get(indice);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Compte les régions déjà projetées en mémoire.
+     * 
+     * @return le nombre de régions projetées
+     */
+    public int getNombreRegionsProjetees() {
+        int n = 0;
+        for (int i = 0; i < regions.length(); i++) {
+            if (regions.get(i) != null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    public int getNombreRegions() {
+        return regions.length();
+    }
+
+    public int getColonnes() {
+        return colonnes;
+    }
+
+    public int getLignes() {
+        return lignes;
+    }
+
+    public double getPas() {
+        return pas;
+    }
+
+    public double getOrigineX() {
+        return origineX;
+    }
+
+    public double getOrigineY() {
+        return origineY;
+    }
+
+    /**
+     * Ferme le fichier. Les régions déjà projetées restent lisibles jusqu'à
+     * leur libération par le ramasse-miettes.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * À la désérialisation (ex : zone envoyée à un processus travailleur), le
+     * champ rouvre le même fichier.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            return ouvrir(Paths.get(chemin));
+        } catch (IOException e) {
+            throw new InvalidObjectException("Champ d'altitudes inaccessible: " + chemin);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChampAltitudes[%dx%d, pas=%.1fm, origine=(%.1f, %.1f)]", colonnes, lignes, pas,
+                origineX, origineY);
+    }
+}
@@ -0,0 +1,133 @@
+package fr.spiga.environment;
+
+import fr.spiga.core.Position3D;
+import java.io.Serializable;
+
+/**
+ * Découpage rectangulaire (sur X et Y) d'une zone d'opération en tuiles de
+ * même taille, numérotées ligne par ligne.
+ * 
+ * <p>
+ * Chaque point de la zone appartient à exactement une tuile ; les points hors
+ * zone sont rattachés à la tuile de bord la plus proche.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class DecoupageTuiles implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final double minX;
+    private final double minY;
+    private final double largeurTuile;
+    private final double hauteurTuile;
+    private final int colonnes;
+    private final int lignes;
+
+    /**
+     * Constructeur du découpage.
+     * 
+     * @param limitesMin le coin inférieur de la zone
+     * @param limitesMax le coin supérieur de la zone
+     * @param colonnes   le nombre de tuiles sur X
+     * @param lignes     le nombre de tuiles sur Y
+     */
+    public DecoupageTuiles(Position3D limitesMin, Position3D limitesMax, int colonnes, int lignes) {
+        if (limitesMin == null || limitesMax == null) {
+            throw new IllegalArgumentException("Les limites ne peuvent pas être nulles");
+        }
+        if (colonnes <= 0 || lignes <= 0) {
+            throw new IllegalArgumentException("Le nombre de tuiles doit être positif");
+        }
+        this.minX = limitesMin.getX();
+        this.minY = limitesMin.getY();
+        this.largeurTuile = (limitesMax.getX() - limitesMin.getX()) / colonnes;
+        this.hauteurTuile = (limitesMax.getY() - limitesMin.getY()) / lignes;
+        this.colonnes = colonnes;
+        this.lignes = lignes;
+    }
+
+    public int getNombreTuiles() {
+        return colonnes * lignes;
+    }
+
+    public int getColonnes() {
+        return colonnes;
+    }
+
+    public int getLignes() {
+        return lignes;
+    }
+
+    /**
+     * Obtient l'indice de la tuile contenant un point.
+     * 
+     * @param x la coordonnée X
+     * @param y la coordonnée Y
+     * @return l'indice de la tuile
+     */
+    public int indiceTuile(double x, double y) {
+        return indiceLigne(y) * colonnes + indiceColonne(x);
+    }
+
+    /**
+     * Obtient les tuiles, autres que la tuile propriétaire, dont le rectangle
+     * élargi du halo contient le point. Un actif à moins de {@code halo} mètres
+     * d'une frontière y est visible comme fantôme.
+     * 
+     * @param x      la coordonnée X
+     * @param y      la coordonnée Y
+     * @param halo   la largeur du halo en mètres
+     * @param sortie le tableau recevant les indices (au moins 8 cases)
+     * @return le nombre de tuiles écrites dans {@code sortie}
+     */
+    public int tuilesDansHalo(double x, double y, double halo, int[] sortie) {
+        int proprietaire = indiceTuile(x, y);
+        int colMin = indiceColonne(x - halo);
+        int colMax = indiceColonne(x + halo);
+        int ligMin = indiceLigne(y - halo);
+        int ligMax = indiceLigne(y + halo);
+        int n = 0;
+        for (int l = ligMin; l <= ligMax; l++) {
+            for (int c = colMin; c <= colMax; c++) {
+                int indice = l * colonnes + c;
+                if (indice != proprietaire) {
+                    sortie[n++] = indice;
+                }
+            }
+        }
+        return n;
+    }
+
+    public double getMinX(int indice) {
+        return minX + (indice % colonnes) * largeurTuile;
+    }
+
+    public double getMinY(int indice) {
+        return minY + (indice / colonnes) * hauteurTuile;
+    }
+
+    public double getMaxX(int indice) {
+        return getMinX(indice) + largeurTuile;
+    }
+
+    public double getMaxY(int indice) {
+        return getMinY(indice) + hauteurTuile;
+    }
+
+    private int indiceColonne(double x) {
+        int c = (int) Math.floor((x - minX) / largeurTuile);
+        return Math.max(0, Math.min(colonnes - 1, c));
+    }
+
+    private int indiceLigne(double y) {
+        int l = (int) Math.floor((y - minY) / hauteurTuile);
+        return Math.max(0, Math.min(lignes - 1, l));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DecoupageTuiles[%dx%d, tuile=%.0fm x %.0fm]", colonnes, lignes, largeurTuile,
+                hauteurTuile);
+    }
+}
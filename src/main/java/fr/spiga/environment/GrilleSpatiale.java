@@ -0,0 +1,109 @@
+package fr.spiga.environment;
+
+/**
+ * Grille uniforme en XY indexant des disques (centre, rayon), au format
+ * compact : pour chaque cellule, la tranche {@code [debuts[c], debuts[c+1])}
+ * de {@code indices} liste, par ordre croissant, les disques dont la boîte
+ * englobante recouvre la cellule.
+ * 
+ * <p>
+ * La grille est immuable une fois construite et peut donc être lue par
+ * plusieurs fils sans synchronisation. Les coordonnées hors de l'emprise sont
+ * ramenées sur les cellules de bord.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class GrilleSpatiale {
+
+    /** Nombre maximal de cellules par côté */
+    private static final int CELLULES_MAX_PAR_COTE = 1024;
+
+    final double origineX;
+    final double origineY;
+    final double tailleCellule;
+    final int colonnes;
+    final int lignes;
+    final int[] debuts;
+    final int[] indices;
+
+    private GrilleSpatiale(double origineX, double origineY, double tailleCellule, int colonnes, int lignes,
+            int[] debuts, int[] indices) {
+        this.origineX = origineX;
+        this.origineY = origineY;
+        this.tailleCellule = tailleCellule;
+        this.colonnes = colonnes;
+        this.lignes = lignes;
+        this.debuts = debuts;
+        this.indices = indices;
+    }
+
+    /**
+     * Construit la grille des {@code n} premiers disques. La taille des
+     * cellules vaut deux rayons moyens (au moins 1/1024 de l'emprise), de sorte
+     * qu'un disque typique ne recouvre que quelques cellules.
+     */
+    static GrilleSpatiale construire(double[] x, double[] y, double[] rayon, int n, double minX, double minY,
+            double maxX, double maxY) {
+        double largeur = maxX - minX;
+        double hauteur = maxY - minY;
+        double sommeRayons = 0;
+        for (int i = 0; i < n; i++) {
+            sommeRayons += rayon[i];
+        }
+        double rayonMoyen = n > 0 ? sommeRayons / n : 0;
+        double taille = Math.max(Math.max(largeur, hauteur) / CELLULES_MAX_PAR_COTE, 2 * rayonMoyen);
+        taille = Math.max(taille, 1.0);
+        int colonnes = (int) Math.min(CELLULES_MAX_PAR_COTE, Math.max(1, Math.ceil(largeur / taille)));
+        int lignes = (int) Math.min(CELLULES_MAX_PAR_COTE, Math.max(1, Math.ceil(hauteur / taille)));
+
+        GrilleSpatiale modele = new GrilleSpatiale(minX, minY, taille, colonnes, lignes, null, null);
+
+        // Passe 1 : comptage par cellule (décalé d'un cran pour la somme préfixe)
+        int[] debuts = new int[colonnes * lignes + 1];
+        for (int i = 0; i < n; i++) {
+            int c0 = modele.colonne(x[i] - rayon[i]);
+            int c1 = modele.colonne(x[i] + rayon[i]);
+            int l0 = modele.ligne(y[i] - rayon[i]);
+            int l1 = modele.ligne(y[i] + rayon[i]);
+            for (int l = l0; l <= l1; l++) {
+                for (int c = c0; c <= c1; c++) {
+                    debuts[l * colonnes + c + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < colonnes * lignes; c++) {
+            debuts[c + 1] += debuts[c];
+        }
+
+        // Passe 2 : remplissage dans l'ordre des indices (listes triées)
+        int[] curseurs = java.util.Arrays.copyOf(debuts, colonnes * lignes);
+        int[] indices = new int[debuts[colonnes * lignes]];
+        for (int i = 0; i < n; i++) {
+            int c0 = modele.colonne(x[i] - rayon[i]);
+            int c1 = modele.colonne(x[i] + rayon[i]);
+            int l0 = modele.ligne(y[i] - rayon[i]);
+            int l1 = modele.ligne(y[i] + rayon[i]);
+            for (int l = l0; l <= l1; l++) {
+                for (int c = c0; c <= c1; c++) {
+                    indices[curseurs[l * colonnes + c]++] = i;
+                }
+            }
+        }
+        return new GrilleSpatiale(minX, minY, taille, colonnes, lignes, debuts, indices);
+    }
+
+    int colonne(double x) {
+        int c = (int) Math.floor((x - origineX) / tailleCellule);
+        return c < 0 ? 0 : (c >= colonnes ? colonnes - 1 : c);
+    }
+
+    int ligne(double y) {
+        int l = (int) Math.floor((y - origineY) / tailleCellule);
+        return l < 0 ? 0 : (l >= lignes ? lignes - 1 : l);
+    }
+
+    int cellule(double x, double y) {
+        return ligne(y) * colonnes + colonne(x);
+    }
+}
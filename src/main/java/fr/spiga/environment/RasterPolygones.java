@@ -0,0 +1,264 @@
+package fr.spiga.environment;
+
+import java.util.Arrays;
+
+/**
+ * Grille d'occupation grossière de zones d'exclusion polygonales.
+ *
+ * <p>
+ * L'emprise (union des boîtes englobantes des zones) est découpée en au plus
+ * 512 × 512 cellules carrées, chacune classée une fois pour toutes :
+ * <ul>
+ * <li>{@code EXTERIEUR} : aucune zone ne touche la cellule ;</li>
+ * <li>{@code INTERIEUR} : la cellule est entièrement dans une zone sans
+ * limite d'altitude ;</li>
+ * <li>{@code MIXTE} : la tranche {@code [debuts[c], debuts[c+1])} de
+ * {@code entrees} liste les zones qui touchent la cellule, codées
+ * {@code (indice << 1) | pleine}. Une zone pleine ne demande qu'un test
+ * d'altitude ; seules les zones dont un bord traverse la cellule demandent
+ * un test exact de point dans polygone.</li>
+ * </ul>
+ * Le coût d'une requête ne dépend donc que du nombre de zones qui se
+ * partagent la cellule, pas du nombre total de zones.
+ *
+ * <p>
+ * La grille est immuable une fois construite et peut être lue par plusieurs
+ * fils sans synchronisation.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class RasterPolygones {
+
+    /** Nombre maximal de cellules par côté */
+    private static final int CELLULES_MAX_PAR_COTE = 512;
+
+    static final byte EXTERIEUR = 0;
+    static final byte INTERIEUR = 1;
+    static final byte MIXTE = 2;
+
+    private final ZoneExclusionPolygonale[] zones;
+    private final double origineX;
+    private final double origineY;
+    private final double finX;
+    private final double finY;
+    private final double tailleCellule;
+    private final int colonnes;
+    private final int lignes;
+    private final byte[] etats;
+    private final int[] debuts;
+    private final int[] entrees;
+
+    private RasterPolygones(ZoneExclusionPolygonale[] zones, double origineX, double origineY, double finX,
+            double finY, double tailleCellule, int colonnes, int lignes, byte[] etats, int[] debuts,
+            int[] entrees) {
+        this.zones = zones;
+        this.origineX = origineX;
+        this.origineY = origineY;
+        this.finX = finX;
+        this.finY = finY;
+        this.tailleCellule = tailleCellule;
+        this.colonnes = colonnes;
+        this.lignes = lignes;
+        this.etats = etats;
+        this.debuts = debuts;
+        this.entrees = entrees;
+    }
+
+    /**
+     * Rastérise les zones (au moins une).
+     */
+    static RasterPolygones construire(ZoneExclusionPolygonale[] zones) {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (ZoneExclusionPolygonale zone : zones) {
+            minX = Math.min(minX, zone.getMinX());
+            minY = Math.min(minY, zone.getMinY());
+            maxX = Math.max(maxX, zone.getMaxX());
+            maxY = Math.max(maxY, zone.getMaxY());
+        }
+        double largeur = maxX - minX;
+        double hauteur = maxY - minY;
+        double taille = Math.max(largeur, hauteur) / CELLULES_MAX_PAR_COTE;
+        int colonnes = (int) Math.min(CELLULES_MAX_PAR_COTE, Math.max(1, Math.ceil(largeur / taille)));
+        int lignes = (int) Math.min(CELLULES_MAX_PAR_COTE, Math.max(1, Math.ceil(hauteur / taille)));
+        RasterPolygones modele = new RasterPolygones(zones, minX, minY, maxX, maxY, taille, colonnes, lignes,
+                null, null, null);
+
+        // Couples (cellule, entrée) dans l'ordre des zones
+        int[] couples = new int[64];
+        int nombre = 0;
+        double marge = taille * 1e-6;
+        for (int p = 0; p < zones.length; p++) {
+            ZoneExclusionPolygonale zone = zones[p];
+            int c0 = modele.colonne(zone.getMinX());
+            int c1 = modele.colonne(zone.getMaxX());
+            int l0 = modele.ligne(zone.getMinY());
+            int l1 = modele.ligne(zone.getMaxY());
+            int largeurBoite = c1 - c0 + 1;
+            boolean[] frontiere = new boolean[largeurBoite * (l1 - l0 + 1)];
+
+            // Cellules traversées par un bord, rangée par rangée (avec une
+            // marge, une cellule marquée à tort ne coûte qu'un test exact)
+            for (int a = 0; a < zone.getNombreAnneaux(); a++) {
+                double[] xs = zone.getAnneauX(a);
+                double[] ys = zone.getAnneauY(a);
+                for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+                    double xA = xs[j];
+                    double yA = ys[j];
+                    double xB = xs[i];
+                    double yB = ys[i];
+                    double yBas = Math.min(yA, yB);
+                    double yHaut = Math.max(yA, yB);
+                    int la = Math.max(l0, modele.ligne(yBas - marge));
+                    int lb = Math.min(l1, modele.ligne(yHaut + marge));
+                    for (int l = la; l <= lb; l++) {
+                        double bas = Math.max(yBas, origineLigne(modele, l));
+                        double haut = Math.min(yHaut, origineLigne(modele, l + 1));
+                        double xDebut;
+                        double xFin;
+                        if (yA == yB) {
+                            xDebut = Math.min(xA, xB);
+                            xFin = Math.max(xA, xB);
+                        } else {
+                            double x1 = xA + (xB - xA) * (bas - yA) / (yB - yA);
+                            double x2 = xA + (xB - xA) * (haut - yA) / (yB - yA);
+                            xDebut = Math.max(Math.min(x1, x2), Math.min(xA, xB));
+                            xFin = Math.min(Math.max(x1, x2), Math.max(xA, xB));
+                        }
+                        int ca = Math.max(c0, modele.colonne(xDebut - marge));
+                        int cb = Math.min(c1, modele.colonne(xFin + marge));
+                        for (int c = ca; c <= cb; c++) {
+                            frontiere[(l - l0) * largeurBoite + (c - c0)] = true;
+                        }
+                    }
+                }
+            }
+
+            // Remplissage : une suite de cellules sans bord est entièrement
+            // dedans ou dehors, un seul test par suite suffit
+            for (int l = l0; l <= l1; l++) {
+                int c = c0;
+                while (c <= c1) {
+                    if (frontiere[(l - l0) * largeurBoite + (c - c0)]) {
+                        if (nombre + 2 > couples.length) {
+                            couples = Arrays.copyOf(couples, couples.length * 2);
+                        }
+                        couples[nombre++] = l * colonnes + c;
+                        couples[nombre++] = p << 1;
+                        c++;
+                        continue;
+                    }
+                    int fin = c;
+                    while (fin + 1 <= c1 && !frontiere[(l - l0) * largeurBoite + (fin + 1 - c0)]) {
+                        fin++;
+                    }
+                    double centreX = modele.origineX + (c + 0.5) * taille;
+                    double centreY = modele.origineY + (l + 0.5) * taille;
+                    if (zone.contient2D(centreX, centreY)) {
+                        for (int k = c; k <= fin; k++) {
+                            if (nombre + 2 > couples.length) {
+                                couples = Arrays.copyOf(couples, couples.length * 2);
+                            }
+                            couples[nombre++] = l * colonnes + k;
+                            couples[nombre++] = (p << 1) | 1;
+                        }
+                    }
+                    c = fin + 1;
+                }
+            }
+        }
+
+        // Regroupement par cellule (tri par comptage, ordre des zones conservé)
+        int cellules = colonnes * lignes;
+        int[] debuts = new int[cellules + 1];
+        for (int k = 0; k < nombre; k += 2) {
+            debuts[couples[k] + 1]++;
+        }
+        for (int c = 0; c < cellules; c++) {
+            debuts[c + 1] += debuts[c];
+        }
+        int[] curseurs = Arrays.copyOf(debuts, cellules);
+        int[] entrees = new int[nombre / 2];
+        byte[] etats = new byte[cellules];
+        for (int k = 0; k < nombre; k += 2) {
+            int cellule = couples[k];
+            int entree = couples[k + 1];
+            entrees[curseurs[cellule]++] = entree;
+            if ((entree & 1) != 0 && !zones[entree >>> 1].estBorneeEnAltitude()) {
+                etats[cellule] = INTERIEUR;
+            } else if (etats[cellule] == EXTERIEUR) {
+                etats[cellule] = MIXTE;
+            }
+        }
+        return new RasterPolygones(zones, minX, minY, maxX, maxY, taille, colonnes, lignes, etats, debuts,
+                entrees);
+    }
+
+    /**
+     * Ordonnée du bas d'une rangée ; les rangées de bord s'étendent à l'infini
+     * pour absorber les arrondis de l'emprise.
+     */
+    private static double origineLigne(RasterPolygones modele, int ligne) {
+        if (ligne <= 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (ligne >= modele.lignes) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return modele.origineY + ligne * modele.tailleCellule;
+    }
+
+    int colonne(double x) {
+        int c = (int) Math.floor((x - origineX) / tailleCellule);
+        return c < 0 ? 0 : (c >= colonnes ? colonnes - 1 : c);
+    }
+
+    int ligne(double y) {
+        int l = (int) Math.floor((y - origineY) / tailleCellule);
+        return l < 0 ? 0 : (l >= lignes ? lignes - 1 : l);
+    }
+
+    /**
+     * Obtient l'état de la cellule contenant le point (EXTERIEUR hors de
+     * l'emprise).
+     */
+    byte etat(double px, double py) {
+        if (!(px >= origineX && px <= finX && py >= origineY && py <= finY)) {
+            return EXTERIEUR;
+        }
+        return etats[ligne(py) * colonnes + colonne(px)];
+    }
+
+    /**
+     * Vérifie si un point est dans l'une des zones.
+     */
+    boolean contient(double px, double py, double pz) {
+        if (!(px >= origineX && px <= finX && py >= origineY && py <= finY)) {
+            return false;
+        }
+        int cellule = ligne(py) * colonnes + colonne(px);
+        byte etat = etats[cellule];
+        if (etat != MIXTE) {
+            return etat == INTERIEUR;
+        }
+        for (int k = debuts[cellule]; k < debuts[cellule + 1]; k++) {
+            int entree = entrees[k];
+            ZoneExclusionPolygonale zone = zones[entree >>> 1];
+            if (zone.contientAltitude(pz) && ((entree & 1) != 0 || zone.contient2D(px, py))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int getColonnes() {
+        return colonnes;
+    }
+
+    int getLignes() {
+        return lignes;
+    }
+}
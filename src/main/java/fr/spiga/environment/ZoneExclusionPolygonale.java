@@ -0,0 +1,261 @@
+package fr.spiga.environment;
+
+import fr.spiga.core.Position3D;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Zone d'exclusion polygonale (espace aérien réglementé, zone portuaire...),
+ * éventuellement percée de trous et limitée en altitude.
+ *
+ * <p>
+ * Le contour et les trous sont des anneaux dans le plan XY (la coordonnée Z
+ * des sommets est ignorée) ; l'appartenance suit la règle pair-impair, de
+ * sorte qu'un point d'un trou est hors de la zone. Les anneaux peuvent être
+ * donnés fermés ou non et dans n'importe quel sens de parcours. La zone est
+ * un prisme vertical entre {@code zMin} et {@code zMax}.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class ZoneExclusionPolygonale implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Nom ou description de la zone */
+    private final String nom;
+
+    /** Sommets des anneaux : indice 0 pour le contour, puis les trous */
+    private final double[][] anneauxX;
+    private final double[][] anneauxY;
+
+    /** Limites verticales du prisme */
+    private final double zMin;
+    private final double zMax;
+
+    /** Boîte englobante du contour */
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    /**
+     * Constructeur d'une zone polygonale sans trou ni limite d'altitude.
+     *
+     * @param nom     le nom de la zone
+     * @param contour les sommets du contour (au moins 3)
+     */
+    public ZoneExclusionPolygonale(String nom, List<Position3D> contour) {
+        this(nom, contour, Collections.emptyList(), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructeur complet.
+     *
+     * @param nom     le nom de la zone
+     * @param contour les sommets du contour (au moins 3)
+     * @param trous   les anneaux des trous (au moins 3 sommets chacun)
+     * @param zMin    l'altitude minimale de la zone
+     * @param zMax    l'altitude maximale de la zone
+     */
+    public ZoneExclusionPolygonale(String nom, List<Position3D> contour, List<List<Position3D>> trous,
+            double zMin, double zMax) {
+        if (nom == null || nom.isBlank()) {
+            throw new IllegalArgumentException("Le nom ne peut pas être vide");
+        }
+        if (contour == null) {
+            throw new IllegalArgumentException("Le contour ne peut pas être nul");
+        }
+        if (trous == null) {
+            throw new IllegalArgumentException("La liste des trous ne peut pas être nulle");
+        }
+        if (Double.isNaN(zMin) || Double.isNaN(zMax) || zMin > zMax) {
+            throw new IllegalArgumentException("zMin doit être inférieur ou égal à zMax");
+        }
+
+        this.nom = nom;
+        this.zMin = zMin;
+        this.zMax = zMax;
+        this.anneauxX = new double[trous.size() + 1][];
+        this.anneauxY = new double[trous.size() + 1][];
+        convertirAnneau(contour, 0);
+        for (int i = 0; i < trous.size(); i++) {
+            convertirAnneau(trous.get(i), i + 1);
+        }
+
+        double bMinX = Double.POSITIVE_INFINITY;
+        double bMinY = Double.POSITIVE_INFINITY;
+        double bMaxX = Double.NEGATIVE_INFINITY;
+        double bMaxY = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < anneauxX[0].length; k++) {
+            bMinX = Math.min(bMinX, anneauxX[0][k]);
+            bMinY = Math.min(bMinY, anneauxY[0][k]);
+            bMaxX = Math.max(bMaxX, anneauxX[0][k]);
+            bMaxY = Math.max(bMaxY, anneauxY[0][k]);
+        }
+        if (!(bMaxX > bMinX) || !(bMaxY > bMinY)) {
+            throw new IllegalArgumentException("Le contour doit avoir une surface non nulle");
+        }
+        this.minX = bMinX;
+        this.minY = bMinY;
+        this.maxX = bMaxX;
+        this.maxY = bMaxY;
+    }
+
+    private void convertirAnneau(List<Position3D> sommets, int indice) {
+        if (sommets == null) {
+            throw new IllegalArgumentException("Un anneau ne peut pas être nul");
+        }
+        int n = sommets.size();
+        // Un anneau fermé répète son premier sommet
+        if (n > 1 && sommets.get(0).equals(sommets.get(n - 1))) {
+            n--;
+        }
+        if (n < 3) {
+            throw new IllegalArgumentException("Un anneau doit avoir au moins 3 sommets");
+        }
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int k = 0; k < n; k++) {
+            Position3D p = sommets.get(k);
+            if (p == null) {
+                throw new IllegalArgumentException("Un sommet ne peut pas être nul");
+            }
+            if (!Double.isFinite(p.getX()) || !Double.isFinite(p.getY())) {
+                throw new IllegalArgumentException("Les sommets doivent avoir des coordonnées finies");
+            }
+            xs[k] = p.getX();
+            ys[k] = p.getY();
+        }
+        anneauxX[indice] = xs;
+        anneauxY[indice] = ys;
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    public double getZMin() {
+        return zMin;
+    }
+
+    public double getZMax() {
+        return zMax;
+    }
+
+    /**
+     * Indique si la zone est limitée en altitude.
+     */
+    public boolean estBorneeEnAltitude() {
+        return zMin != Double.NEGATIVE_INFINITY || zMax != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Obtient les sommets du contour (Z = 0).
+     *
+     * @return une nouvelle liste des sommets, sans répétition du premier
+     */
+    public List<Position3D> getContour() {
+        return versPositions(0);
+    }
+
+    /**
+     * Obtient les sommets de chaque trou (Z = 0).
+     *
+     * @return une nouvelle liste d'anneaux
+     */
+    public List<List<Position3D>> getTrous() {
+        List<List<Position3D>> trous = new ArrayList<>(anneauxX.length - 1);
+        for (int i = 1; i < anneauxX.length; i++) {
+            trous.add(versPositions(i));
+        }
+        return trous;
+    }
+
+    private List<Position3D> versPositions(int anneau) {
+        List<Position3D> sommets = new ArrayList<>(anneauxX[anneau].length);
+        for (int k = 0; k < anneauxX[anneau].length; k++) {
+            sommets.add(new Position3D(anneauxX[anneau][k], anneauxY[anneau][k], 0));
+        }
+        return sommets;
+    }
+
+    int getNombreAnneaux() {
+        return anneauxX.length;
+    }
+
+    double[] getAnneauX(int anneau) {
+        return anneauxX[anneau];
+    }
+
+    double[] getAnneauY(int anneau) {
+        return anneauxY[anneau];
+    }
+
+    double getMinX() {
+        return minX;
+    }
+
+    double getMinY() {
+        return minY;
+    }
+
+    double getMaxX() {
+        return maxX;
+    }
+
+    double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Vérifie si une altitude est dans les limites verticales de la zone.
+     */
+    boolean contientAltitude(double z) {
+        return z >= zMin && z <= zMax;
+    }
+
+    /**
+     * Test exact d'appartenance dans le plan (règle pair-impair sur tous les
+     * anneaux).
+     */
+    boolean contient2D(double px, double py) {
+        if (px < minX || px > maxX || py < minY || py > maxY) {
+            return false;
+        }
+        boolean dedans = false;
+        for (int a = 0; a < anneauxX.length; a++) {
+            double[] xs = anneauxX[a];
+            double[] ys = anneauxY[a];
+            for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+                if ((ys[i] > py) != (ys[j] > py)
+                        && px < (xs[j] - xs[i]) * (py - ys[i]) / (ys[j] - ys[i]) + xs[i]) {
+                    dedans = !dedans;
+                }
+            }
+        }
+        return dedans;
+    }
+
+    /**
+     * Vérifie si une position est dans cette zone interdite (test exact,
+     * proportionnel au nombre de sommets).
+     *
+     * @param position la position à vérifier
+     * @return true si dans la zone, false sinon
+     */
+    public boolean contientPosition(Position3D position) {
+        return contientAltitude(position.getZ()) && contient2D(position.getX(), position.getY());
+    }
+
+    @Override
+    public String toString() {
+        int sommets = 0;
+        for (double[] anneau : anneauxX) {
+            sommets += anneau.length;
+        }
+        return String.format("ZoneExclusionPolygonale[nom=%s, sommets=%d, trous=%d, z=[%.1f, %.1f]]",
+                nom, sommets, anneauxX.length - 1, zMin, zMax);
+    }
+}
@@ -2,8 +2,12 @@ package fr.spiga.environment;
 
 import fr.spiga.core.Position3D;
 import fr.spiga.core.ActifMobile;
+import fr.spiga.core.RegistreActifs;
+import fr.spiga.metriques.PhaseTick;
+import fr.spiga.metriques.RegistreMetriques;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +23,9 @@ import java.util.List;
 public class ZoneOperation implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    /** Marge de sécurité autour des obstacles pour le calcul de destination */
+    private static final double MARGE_OBSTACLE = 5.0;
+
     /** Limites de la zone */
     private final Position3D limitesMin;
     private final Position3D limitesMax;
@@ -32,14 +39,33 @@ public class ZoneOperation implements Serializable {
     /** Facteurs hydriques */
     private CourantMarin courantMarin;
 
-    /** Obstacles fixes */
-    private final List<Obstacle> obstacles;
+    /** Obstacles fixes, stockés en colonnes et indexés par grille */
+    private CatalogueObstacles obstacles;
+
+    /** Zones d'exclusion, stockées en colonnes et indexées par grille */
+    private CatalogueZonesExclusion zonesExclusion;
+
+    /** Zones d'exclusion polygonales, rastérisées en grille d'occupation */
+    private CatalogueZonesPolygonales zonesPolygonales;
+
+    /** Relief terrestre et bathymétrie (optionnel, partagé en lecture seule) */
+    private ChampAltitudes champAltitudes;
+
+    /**
+     * Indique que les listes d'obstacles et de zones d'exclusion sont partagées
+     * avec une autre zone (copie pour simulation) et doivent être copiées avant
+     * toute modification.
+     */
+    private boolean listesPartagees;
+
+    /** Actifs présents dans la zone (ordre d'enregistrement) */
+    private final RegistreActifs actifs;
 
-    /** Zones d'exclusion */
-    private final List<ZoneExclusion> zonesExclusion;
+    /** Temps simulé écoulé depuis la création de la zone (en secondes) */
+    private double tempsSimulation;
 
-    /** Actifs présents dans la zone */
-    private final List<ActifMobile> actifs;
+    /** Version des conditions environnementales, incrémentée à chaque changement */
+    private long versionEnvironnement;
 
     /**
      * Constructeur de la zone d'opération.
@@ -58,9 +84,12 @@ public class ZoneOperation implements Serializable {
 
         this.limitesMin = limitesMin;
         this.limitesMax = limitesMax;
-        this.obstacles = new ArrayList<>();
-        this.zonesExclusion = new ArrayList<>();
-        this.actifs = new ArrayList<>();
+        this.obstacles = new CatalogueObstacles(limitesMin.getX(), limitesMin.getY(), limitesMax.getX(),
+                limitesMax.getY());
+        this.zonesExclusion = new CatalogueZonesExclusion(limitesMin.getX(), limitesMin.getY(), limitesMax.getX(),
+                limitesMax.getY());
+        this.zonesPolygonales = new CatalogueZonesPolygonales();
+        this.actifs = new RegistreActifs();
 
         // Conditions par défaut (calmes)
         this.vent = new Vent(new Position3D(0, 0, 0), 0.0);
@@ -72,6 +101,63 @@ public class ZoneOperation implements Serializable {
         this.rainZoneMax = new Position3D(60000, 60000, 10000);
     }
 
+    /**
+     * Constructeur de copie pour simulation (voir {@link #copierPourSimulation()}).
+     */
+    private ZoneOperation(ZoneOperation source) {
+        this.limitesMin = source.limitesMin;
+        this.limitesMax = source.limitesMax;
+        this.rainZoneMin = source.rainZoneMin;
+        this.rainZoneMax = source.rainZoneMax;
+        this.obstacles = source.obstacles;
+        this.zonesExclusion = source.zonesExclusion;
+        this.zonesPolygonales = source.zonesPolygonales;
+        this.champAltitudes = source.champAltitudes;
+        this.listesPartagees = true;
+        source.listesPartagees = true;
+        this.actifs = new RegistreActifs();
+        this.vent = new Vent(source.vent.getDirection(), source.vent.getIntensite());
+        this.precipitation = new Precipitation(source.precipitation.getType(), source.precipitation.getIntensite());
+        this.courantMarin = new CourantMarin(source.courantMarin.getDirection(), source.courantMarin.getIntensite());
+        this.tempsSimulation = source.tempsSimulation;
+    }
+
+    /**
+     * Crée une copie légère de la zone pour une simulation indépendante.
+     * 
+     * <p>
+     * Les obstacles et zones d'exclusion sont partagés (copie à l'écriture :
+     * la première modification de l'une ou l'autre zone duplique ses listes).
+     * Les conditions environnementales sont copiées et la copie ne contient
+     * aucun actif.
+     * 
+     * @return la copie de la zone
+     */
+    public ZoneOperation copierPourSimulation() {
+        return new ZoneOperation(this);
+    }
+
+    /**
+     * Découpe la zone en tuiles rectangulaires, par exemple pour la répartir
+     * entre plusieurs processus de simulation.
+     * 
+     * @param colonnes le nombre de tuiles sur X
+     * @param lignes   le nombre de tuiles sur Y
+     * @return le découpage de la zone
+     */
+    public DecoupageTuiles decouperEnTuiles(int colonnes, int lignes) {
+        return new DecoupageTuiles(limitesMin, limitesMax, colonnes, lignes);
+    }
+
+    private void detacherListes() {
+        if (listesPartagees) {
+            obstacles = obstacles.copier();
+            zonesExclusion = zonesExclusion.copier();
+            zonesPolygonales = zonesPolygonales.copier();
+            listesPartagees = false;
+        }
+    }
+
     /**
      * Obtient la précipitation à une position donnée.
      */
@@ -83,6 +169,57 @@ public class ZoneOperation implements Serializable {
         return new Precipitation(); // Pas de pluie ailleurs
     }
 
+    /**
+     * Obtient l'intensité de précipitation à une position donnée, sans créer
+     * d'objet.
+     * 
+     * @param pos la position
+     * @return l'intensité (0 hors de la zone de pluie)
+     */
+    public double getIntensitePrecipitationAt(Position3D pos) {
+        if (pos.getX() >= rainZoneMin.getX() && pos.getX() <= rainZoneMax.getX() &&
+                pos.getY() >= rainZoneMin.getY() && pos.getY() <= rainZoneMax.getY()) {
+            return precipitation.getIntensite();
+        }
+        return 0.0;
+    }
+
+    /**
+     * Obtient la version des conditions environnementales. Elle change à chaque
+     * appel de {@link #setVent}, {@link #setPrecipitation} ou
+     * {@link #setCourantMarin} et permet aux actifs de mettre en cache leurs
+     * facteurs de consommation.
+     * 
+     * @return la version courante
+     */
+    public long getVersionEnvironnement() {
+        return versionEnvironnement;
+    }
+
+    /**
+     * Signale une modification en place du vent, des précipitations ou du
+     * courant (via leurs setters) afin d'invalider les facteurs mis en cache.
+     */
+    public void signalerChangementEnvironnement() {
+        versionEnvironnement++;
+    }
+
+    /**
+     * Fait avancer l'horloge de simulation de la zone. À appeler une fois par
+     * tick par la boucle de simulation.
+     * 
+     * @param dt le temps simulé écoulé en secondes
+     */
+    public void avancerTemps(double dt) {
+        if (dt > 0) {
+            tempsSimulation += dt;
+        }
+    }
+
+    public double getTempsSimulation() {
+        return tempsSimulation;
+    }
+
     public Position3D getRainZoneMin() {
         return rainZoneMin;
     }
@@ -108,6 +245,7 @@ public class ZoneOperation implements Serializable {
             throw new IllegalArgumentException("Le vent ne peut pas être nul");
         }
         this.vent = vent;
+        versionEnvironnement++;
     }
 
     public Precipitation getPrecipitation() {
@@ -119,6 +257,7 @@ public class ZoneOperation implements Serializable {
             throw new IllegalArgumentException("La précipitation ne peut pas être nulle");
         }
         this.precipitation = precipitation;
+        versionEnvironnement++;
     }
 
     public CourantMarin getCourantMarin() {
@@ -130,6 +269,7 @@ public class ZoneOperation implements Serializable {
             throw new IllegalArgumentException("Le courant marin ne peut pas être nul");
         }
         this.courantMarin = courantMarin;
+        versionEnvironnement++;
     }
 
     /**
@@ -139,10 +279,53 @@ public class ZoneOperation implements Serializable {
      */
     public void ajouterObstacle(Obstacle obstacle) {
         if (obstacle != null) {
-            obstacles.add(obstacle);
+            detacherListes();
+            obstacles.ajouter(obstacle);
         }
     }
 
+    /**
+     * Ajoute un obstacle sans créer d'objet {@link Obstacle} (chargement en
+     * masse). Le type est désigné par son code, obtenu une fois pour toutes
+     * avec {@link #enregistrerTypeObstacle(String)}.
+     * 
+     * @param x         abscisse du centre
+     * @param y         ordonnée du centre
+     * @param z         altitude du centre
+     * @param rayon     le rayon en mètres
+     * @param zMin      altitude minimale
+     * @param zMax      altitude maximale
+     * @param codeType  le code du type d'obstacle
+     */
+    public void ajouterObstacle(double x, double y, double z, double rayon, double zMin, double zMax,
+            int codeType) {
+        detacherListes();
+        obstacles.ajouter(x, y, z, rayon, zMin, zMax, codeType);
+    }
+
+    /**
+     * Obtient le code d'un type d'obstacle, en l'enregistrant si besoin.
+     * 
+     * @param type le type d'obstacle (ex : "Récif")
+     * @return le code à passer à
+     *         {@link #ajouterObstacle(double, double, double, double, double, double, int)}
+     */
+    public int enregistrerTypeObstacle(String type) {
+        detacherListes();
+        return obstacles.enregistrerType(type);
+    }
+
+    /**
+     * Réserve la place pour des obstacles supplémentaires, afin qu'un
+     * chargement en masse se fasse sans réallocation.
+     * 
+     * @param nombre le nombre d'obstacles à venir
+     */
+    public void reserverObstacles(int nombre) {
+        detacherListes();
+        obstacles.reserver(nombre);
+    }
+
     /**
      * Ajoute une zone d'exclusion.
      * 
@@ -150,36 +333,130 @@ public class ZoneOperation implements Serializable {
      */
     public void ajouterZoneExclusion(ZoneExclusion zone) {
         if (zone != null) {
-            zonesExclusion.add(zone);
+            detacherListes();
+            zonesExclusion.ajouter(zone);
+        }
+    }
+
+    /**
+     * Ajoute une zone d'exclusion sans créer d'objet {@link ZoneExclusion}
+     * (chargement en masse).
+     * 
+     * @param x     abscisse du centre
+     * @param y     ordonnée du centre
+     * @param z     altitude du centre
+     * @param rayon le rayon en mètres
+     * @param nom   le nom de la zone
+     */
+    public void ajouterZoneExclusion(double x, double y, double z, double rayon, String nom) {
+        detacherListes();
+        zonesExclusion.ajouter(x, y, z, rayon, nom);
+    }
+
+    /**
+     * Réserve la place pour des zones d'exclusion supplémentaires.
+     * 
+     * @param nombre le nombre de zones à venir
+     */
+    public void reserverZonesExclusion(int nombre) {
+        detacherListes();
+        zonesExclusion.reserver(nombre);
+    }
+
+    /**
+     * Ajoute une zone d'exclusion polygonale. La grille d'occupation est
+     * recalculée à la première vérification qui suit.
+     * 
+     * @param zone la zone à ajouter
+     */
+    public void ajouterZoneExclusion(ZoneExclusionPolygonale zone) {
+        if (zone != null) {
+            detacherListes();
+            zonesPolygonales.ajouter(zone);
         }
     }
 
+    /**
+     * Obtient une copie des obstacles sous forme d'objets. Chaque appel crée
+     * les objets : pour un grand nombre d'obstacles, préférer
+     * {@link #getNombreObstacles()} et {@link #getObstacle(int)}.
+     * 
+     * @return la liste des obstacles, dans l'ordre d'ajout
+     */
     public List<Obstacle> getObstacles() {
-        return new ArrayList<>(obstacles);
+        return obstacles.versListe();
+    }
+
+    public int getNombreObstacles() {
+        return obstacles.getNombre();
+    }
+
+    /**
+     * Obtient un obstacle par son indice d'ajout.
+     * 
+     * @param indice l'indice (0 à {@link #getNombreObstacles()} - 1)
+     * @return un nouvel objet décrivant l'obstacle
+     */
+    public Obstacle getObstacle(int indice) {
+        return obstacles.getObstacle(indice);
     }
 
     public List<ZoneExclusion> getZonesExclusion() {
-        return new ArrayList<>(zonesExclusion);
+        return zonesExclusion.versListe();
+    }
+
+    public int getNombreZonesExclusion() {
+        return zonesExclusion.getNombre();
+    }
+
+    /**
+     * Obtient les zones d'exclusion polygonales.
+     * 
+     * @return une vue non modifiable, dans l'ordre d'ajout
+     */
+    public List<ZoneExclusionPolygonale> getZonesExclusionPolygonales() {
+        return zonesPolygonales.versListe();
+    }
+
+    public int getNombreZonesExclusionPolygonales() {
+        return zonesPolygonales.getNombre();
     }
 
     /**
      * Enregistre um ativo na zona.
      */
     public void enregistrerActif(ActifMobile actif) {
-        if (actif != null && !actifs.contains(actif)) {
-            actifs.add(actif);
-        }
+        actifs.ajouter(actif);
+    }
+
+    /**
+     * Enregistre plusieurs actifs en une seule écriture du registre (les
+     * actifs déjà présents sont ignorés).
+     * 
+     * @param nouveaux les actifs, dans l'ordre
+     * @return le nombre d'actifs enregistrés
+     */
+    public int enregistrerActifs(Collection<? extends ActifMobile> nouveaux) {
+        return actifs.ajouterTous(nouveaux);
     }
 
     /**
      * Remove um ativo da zona.
      */
     public void retirerActif(ActifMobile actif) {
-        actifs.remove(actif);
+        actifs.retirer(actif);
     }
 
+    /**
+     * @return un instantané non modifiable des actifs, dans l'ordre
+     *         d'enregistrement
+     */
     public List<ActifMobile> getTousLesActifs() {
-        return new ArrayList<>(actifs);
+        return actifs.instantane();
+    }
+
+    public boolean contientActif(ActifMobile actif) {
+        return actifs.contient(actif);
     }
 
     /**
@@ -217,27 +494,80 @@ public class ZoneOperation implements Serializable {
      * @return true si collision, false sinon
      */
     public boolean estEnCollisionAvecObstacle(Position3D position) {
-        for (Obstacle obstacle : obstacles) {
-            if (obstacle.estEnCollision(position)) {
-                return true;
-            }
-        }
-        return false;
+        return obstacles.prochainEnCollision(position.getX(), position.getY(), position.getZ(), 0) >= 0;
+    }
+
+    /**
+     * Cherche, dans l'ordre d'ajout, le prochain obstacle en collision avec une
+     * position. Seuls les obstacles de la cellule de grille de la position sont
+     * examinés.
+     * 
+     * @param position la position à vérifier
+     * @param depuis   le premier indice d'obstacle à considérer
+     * @return l'indice de l'obstacle, ou -1 s'il n'y en a aucun
+     */
+    public int prochainObstacleEnCollision(Position3D position, int depuis) {
+        return obstacles.prochainEnCollision(position.getX(), position.getY(), position.getZ(), depuis);
+    }
+
+    public ChampAltitudes getChampAltitudes() {
+        return champAltitudes;
     }
 
     /**
-     * Vérifie si une position est dans une zone d'exclusion.
+     * Associe un champ d'altitudes (relief et fond marin) à la zone.
+     * 
+     * @param champAltitudes le champ, ou null pour le retirer
+     */
+    public void setChampAltitudes(ChampAltitudes champAltitudes) {
+        this.champAltitudes = champAltitudes;
+    }
+
+    /**
+     * Obtient l'altitude du relief (sol ou fond marin) à une position.
+     * 
+     * @param x abscisse
+     * @param y ordonnée
+     * @return l'altitude, ou {@link Double#NEGATIVE_INFINITY} sans relief connu
+     */
+    public double getAltitudeRelief(double x, double y) {
+        return champAltitudes != null ? champAltitudes.getAltitude(x, y) : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Vérifie si une position est sous le relief (collision avec le sol pour un
+     * actif aérien, avec le fond pour un sous-marin, échouage pour un navire).
+     * 
+     * @param position la position à vérifier
+     * @return true si collision avec le relief, false sinon
+     */
+    public boolean estSousLeRelief(Position3D position) {
+        return champAltitudes != null && champAltitudes.estSousLeRelief(position);
+    }
+
+    /**
+     * Calcule le dégagement vertical d'une position au-dessus du relief.
+     * 
+     * @param position la position
+     * @return la hauteur au-dessus du sol ou du fond (infinie sans relief connu)
+     */
+    public double getDegagement(Position3D position) {
+        return champAltitudes != null ? champAltitudes.getDegagement(position) : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Vérifie si une position est dans une zone d'exclusion, sphérique ou
+     * polygonale. Seules les zones qui recouvrent la cellule de la position
+     * sont examinées, quel que soit le nombre total de zones.
      * 
      * @param position la position à vérifier
      * @return true si dans une zone interdite, false sinon
      */
     public boolean estDansZoneExclusion(Position3D position) {
-        for (ZoneExclusion zone : zonesExclusion) {
-            if (zone.contientPosition(position)) {
-                return true;
-            }
-        }
-        return false;
+        double x = position.getX();
+        double y = position.getY();
+        double z = position.getZ();
+        return zonesExclusion.contient(x, y, z) || zonesPolygonales.contient(x, y, z);
     }
 
     /**
@@ -293,57 +623,95 @@ public class ZoneOperation implements Serializable {
      * @return la position accessible la plus proche sur le trajet
      */
     public Position3D getClampedTarget(ActifMobile demandeur, Position3D depart, Position3D destination, double zAlt) {
+        long debutMetrique = RegistreMetriques.debut();
+        try {
+            return calculerCibleBornee(demandeur, depart, destination, zAlt);
+        } finally {
+            RegistreMetriques.fin(PhaseTick.CIBLE_BORNEE, debutMetrique);
+        }
+    }
+
+    private Position3D calculerCibleBornee(ActifMobile demandeur, Position3D depart, Position3D destination,
+            double zAlt) {
         Position3D meilleurPoint = destination;
         double minT = 1.0;
         boolean clamped = false;
 
-        for (Obstacle obs : obstacles) {
-            // 1. Rayon effectif (marge de sécurité incluse)
-            double rayon = obs.getRayon() + 5.0; // 5m margin
-
-            // 2. Check Vertical
-            if (zAlt > obs.getZMax() + 10.0)
-                continue; // Flyover
-
-            // 3. Check si destination est dedans (2D)
-            double dxDest = destination.getX() - obs.getPosition().getX();
-            double dyDest = destination.getY() - obs.getPosition().getY();
-            boolean destInside = (dxDest * dxDest + dyDest * dyDest) < (rayon * rayon);
-
-            if (!destInside)
-                continue; // Si la destination n'est pas dans cet obstacle, on ignore (on gère l'arrivée
-                          // finale)
-
-            // 4. Calcul Intersection Rayon-Cercle
-            // Segment P = depart + t * D
-            double dx = destination.getX() - depart.getX();
-            double dy = destination.getY() - depart.getY();
-
-            // Vecteur F = depart - centre
-            double fx = depart.getX() - obs.getPosition().getX();
-            double fy = depart.getY() - obs.getPosition().getY();
-
-            // Equation quadratique at^2 + bt + c = 0
-            double a = dx * dx + dy * dy;
-            double b = 2 * (fx * dx + fy * dy);
-            double c = (fx * fx + fy * fy) - (rayon * rayon);
-
-            double delta = b * b - 4 * a * c;
-
-            if (delta >= 0) {
-                // On cherche la plus petite solution positive t
-                double t1 = (-b - Math.sqrt(delta)) / (2 * a);
-                double t2 = (-b + Math.sqrt(delta)) / (2 * a);
-
-                double t = -1.0;
-                if (t1 >= 0 && t1 <= 1.0)
-                    t = t1;
-                else if (t2 >= 0 && t2 <= 1.0)
-                    t = t2;
-
-                if (t >= 0 && t < minT) {
-                    minT = t;
-                    clamped = true;
+        // Seuls les obstacles dont le disque (marge comprise) contient la
+        // destination comptent : on ne visite que les cellules de la grille
+        // autour de la destination, chaque obstacle une seule fois (dans la
+        // première cellule commune à sa boîte et à celle de la requête).
+        GrilleSpatiale grille = obstacles.getNombre() > 0 ? obstacles.grille() : null;
+        int qc0 = 0;
+        int qc1 = -1;
+        int ql0 = 0;
+        int ql1 = -1;
+        if (grille != null) {
+            qc0 = grille.colonne(destination.getX() - MARGE_OBSTACLE);
+            qc1 = grille.colonne(destination.getX() + MARGE_OBSTACLE);
+            ql0 = grille.ligne(destination.getY() - MARGE_OBSTACLE);
+            ql1 = grille.ligne(destination.getY() + MARGE_OBSTACLE);
+        }
+        for (int ql = ql0; ql <= ql1; ql++) {
+            for (int qc = qc0; qc <= qc1; qc++) {
+                int cellule = ql * grille.colonnes + qc;
+                for (int k = grille.debuts[cellule]; k < grille.debuts[cellule + 1]; k++) {
+                    int i = grille.indices[k];
+                    double ox = obstacles.getX(i);
+                    double oy = obstacles.getY(i);
+                    double rayonObs = obstacles.getRayon(i);
+                    if (qc != Math.max(qc0, grille.colonne(ox - rayonObs))
+                            || ql != Math.max(ql0, grille.ligne(oy - rayonObs)))
+                        continue; // Déjà visité dans une cellule précédente
+
+                    // 1. Rayon effectif (marge de sécurité incluse)
+                    double rayon = rayonObs + MARGE_OBSTACLE;
+
+                    // 2. Check Vertical
+                    if (zAlt > obstacles.getZMax(i) + 10.0)
+                        continue; // Flyover
+
+                    // 3. Check si destination est dedans (2D)
+                    double dxDest = destination.getX() - ox;
+                    double dyDest = destination.getY() - oy;
+                    boolean destInside = (dxDest * dxDest + dyDest * dyDest) < (rayon * rayon);
+
+                    if (!destInside)
+                        continue; // Si la destination n'est pas dans cet obstacle, on ignore (on gère l'arrivée
+                                  // finale)
+
+                    // 4. Calcul Intersection Rayon-Cercle
+                    // Segment P = depart + t * D
+                    double dx = destination.getX() - depart.getX();
+                    double dy = destination.getY() - depart.getY();
+
+                    // Vecteur F = depart - centre
+                    double fx = depart.getX() - ox;
+                    double fy = depart.getY() - oy;
+
+                    // Equation quadratique at^2 + bt + c = 0
+                    double a = dx * dx + dy * dy;
+                    double b = 2 * (fx * dx + fy * dy);
+                    double c = (fx * fx + fy * fy) - (rayon * rayon);
+
+                    double delta = b * b - 4 * a * c;
+
+                    if (delta >= 0) {
+                        // On cherche la plus petite solution positive t
+                        double t1 = (-b - Math.sqrt(delta)) / (2 * a);
+                        double t2 = (-b + Math.sqrt(delta)) / (2 * a);
+
+                        double t = -1.0;
+                        if (t1 >= 0 && t1 <= 1.0)
+                            t = t1;
+                        else if (t2 >= 0 && t2 <= 1.0)
+                            t = t2;
+
+                        if (t >= 0 && t < minT) {
+                            minT = t;
+                            clamped = true;
+                        }
+                    }
                 }
             }
         }
@@ -417,6 +785,7 @@ public class ZoneOperation implements Serializable {
     @Override
     public String toString() {
         return String.format("ZoneOperation[limites=%s à %s, obstacles=%d, zones exclusion=%d]",
-                limitesMin, limitesMax, obstacles.size(), zonesExclusion.size());
+                limitesMin, limitesMax, obstacles.getNombre(),
+                zonesExclusion.getNombre() + zonesPolygonales.getNombre());
     }
 }
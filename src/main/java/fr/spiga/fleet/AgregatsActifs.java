@@ -0,0 +1,277 @@
+package fr.spiga.fleet;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.ObservateurActif;
+import fr.spiga.core.Position3D;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agrégats d'un groupe d'actifs (sommes des positions et des autonomies,
+ * boîte englobante alignée sur les axes), tenus à jour par les notifications
+ * des membres ({@link ObservateurActif}) : centre, autonomie moyenne et
+ * bornes se lisent en temps constant, sans parcourir les membres.
+ *
+ * <p>
+ * La dernière valeur connue de chaque membre est conservée : une
+ * notification ne fait qu'ajouter l'écart avec elle. La boîte est étendue à
+ * chaque déplacement ; elle n'est marquée à resserrer que lorsqu'un membre
+ * situé sur une de ses faces s'en éloigne vers l'intérieur. Le resserrement
+ * (un parcours des valeurs conservées, qui recalcule aussi les sommes et
+ * efface la dérive d'arrondi) est différé à la lecture suivante des bornes,
+ * soit au plus une fois par pas de simulation quel que soit le nombre de
+ * lectures.
+ *
+ * <p>
+ * Les méthodes sont synchronisées sur l'instance ; aucun autre verrou n'est
+ * pris sous ce verrou.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class AgregatsActifs implements ObservateurActif {
+
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int Z = 2;
+    private static final int AUTONOMIE = 3;
+
+    /** Dernières valeurs connues de chaque membre (ordre d'ajout) : x, y, z, autonomie */
+    private final Map<ActifMobile, double[]> valeurs = new LinkedHashMap<>();
+
+    private double sommeX;
+    private double sommeY;
+    private double sommeZ;
+    private double sommeAutonomie;
+
+    /** Boîte englobante [minX, minY, minZ] - [maxX, maxY, maxZ] */
+    private final double[] min = new double[3];
+    private final double[] max = new double[3];
+
+    /** Faux si un membre a quitté une face de la boîte vers l'intérieur */
+    private boolean bornesAJour = true;
+
+    /** Nombre de resserrements de la boîte (diagnostic) */
+    private long resserrements;
+
+    /**
+     * Ajoute un membre et s'abonne à ses changements.
+     *
+     * @param actif l'actif (ignoré s'il est déjà suivi)
+     */
+    synchronized void ajouter(ActifMobile actif) {
+        if (valeurs.containsKey(actif)) {
+            return;
+        }
+        // Abonnement avant la lecture : un changement concurrent est au pire réappliqué à l'identique
+        actif.ajouterObservateur(this);
+        Position3D p = actif.getPosition();
+        double[] v = { p.getX(), p.getY(), p.getZ(), actif.getAutonomieRestante() };
+        if (valeurs.isEmpty()) {
+            for (int k = X; k <= Z; k++) {
+                min[k] = v[k];
+                max[k] = v[k];
+            }
+            bornesAJour = true;
+        } else {
+            etendre(v);
+        }
+        valeurs.put(actif, v);
+        sommeX += v[X];
+        sommeY += v[Y];
+        sommeZ += v[Z];
+        sommeAutonomie += v[AUTONOMIE];
+    }
+
+    synchronized void ajouterTous(Collection<? extends ActifMobile> actifs) {
+        for (ActifMobile actif : actifs) {
+            if (actif != null) {
+                ajouter(actif);
+            }
+        }
+    }
+
+    /**
+     * Retire un membre et se désabonne de ses changements.
+     *
+     * @param actif l'actif
+     */
+    synchronized void retirer(ActifMobile actif) {
+        actif.retirerObservateur(this);
+        double[] v = valeurs.remove(actif);
+        if (v == null) {
+            return;
+        }
+        sommeX -= v[X];
+        sommeY -= v[Y];
+        sommeZ -= v[Z];
+        sommeAutonomie -= v[AUTONOMIE];
+        if (surUneFace(v)) {
+            bornesAJour = false;
+        }
+    }
+
+    @Override
+    public synchronized void positionModifiee(ActifMobile actif, double x, double y, double z) {
+        double[] v = valeurs.get(actif);
+        if (v == null) {
+            return; // Notification émise avant l'ajout ou après le retrait
+        }
+        sommeX += x - v[X];
+        sommeY += y - v[Y];
+        sommeZ += z - v[Z];
+        if (bornesAJour && (quitteUneFace(X, v[X], x) || quitteUneFace(Y, v[Y], y) || quitteUneFace(Z, v[Z], z))) {
+            bornesAJour = false;
+        }
+        v[X] = x;
+        v[Y] = y;
+        v[Z] = z;
+        etendre(v);
+    }
+
+    @Override
+    public synchronized void autonomieModifiee(ActifMobile actif, double autonomie) {
+        double[] v = valeurs.get(actif);
+        if (v != null) {
+            sommeAutonomie += autonomie - v[AUTONOMIE];
+            v[AUTONOMIE] = autonomie;
+        }
+    }
+
+    private boolean quitteUneFace(int axe, double ancienne, double nouvelle) {
+        return (ancienne == min[axe] && nouvelle > ancienne) || (ancienne == max[axe] && nouvelle < ancienne);
+    }
+
+    private boolean surUneFace(double[] v) {
+        for (int k = X; k <= Z; k++) {
+            if (v[k] == min[k] || v[k] == max[k]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void etendre(double[] v) {
+        for (int k = X; k <= Z; k++) {
+            if (v[k] < min[k]) {
+                min[k] = v[k];
+            }
+            if (v[k] > max[k]) {
+                max[k] = v[k];
+            }
+        }
+    }
+
+    /**
+     * Recalcule la boîte et les sommes à partir des valeurs conservées.
+     */
+    private void resserrer() {
+        sommeX = 0;
+        sommeY = 0;
+        sommeZ = 0;
+        sommeAutonomie = 0;
+        boolean premier = true;
+        for (double[] v : valeurs.values()) {
+            sommeX += v[X];
+            sommeY += v[Y];
+            sommeZ += v[Z];
+            sommeAutonomie += v[AUTONOMIE];
+            if (premier) {
+                for (int k = X; k <= Z; k++) {
+                    min[k] = v[k];
+                    max[k] = v[k];
+                }
+                premier = false;
+            } else {
+                etendre(v);
+            }
+        }
+        bornesAJour = true;
+        resserrements++;
+    }
+
+    synchronized int getNombre() {
+        return valeurs.size();
+    }
+
+    synchronized boolean contient(ActifMobile actif) {
+        return valeurs.containsKey(actif);
+    }
+
+    /**
+     * @return une copie de la liste des membres, dans l'ordre d'ajout
+     */
+    synchronized List<ActifMobile> getMembres() {
+        return new ArrayList<>(valeurs.keySet());
+    }
+
+    /**
+     * @return le centre des membres, ou null s'il n'y en a aucun
+     */
+    synchronized Position3D getCentre() {
+        int n = valeurs.size();
+        return n == 0 ? null : new Position3D(sommeX / n, sommeY / n, sommeZ / n);
+    }
+
+    /**
+     * @return l'autonomie moyenne des membres, ou 0 s'il n'y en a aucun
+     */
+    synchronized double getAutonomieMoyenne() {
+        int n = valeurs.size();
+        return n == 0 ? 0.0 : sommeAutonomie / n;
+    }
+
+    /**
+     * @return le coin minimal de la boîte englobante, ou null s'il n'y a aucun
+     *         membre
+     */
+    synchronized Position3D getBorneMin() {
+        if (valeurs.isEmpty()) {
+            return null;
+        }
+        if (!bornesAJour) {
+            resserrer();
+        }
+        return new Position3D(min[X], min[Y], min[Z]);
+    }
+
+    /**
+     * @return le coin maximal de la boîte englobante, ou null s'il n'y a aucun
+     *         membre
+     */
+    synchronized Position3D getBorneMax() {
+        if (valeurs.isEmpty()) {
+            return null;
+        }
+        if (!bornesAJour) {
+            resserrer();
+        }
+        return new Position3D(max[X], max[Y], max[Z]);
+    }
+
+    /**
+     * Copie la boîte englobante dans {@code destination} (minX, minY, minZ,
+     * maxX, maxY, maxZ), sans allocation.
+     *
+     * @param destination un tableau d'au moins six éléments
+     * @return false s'il n'y a aucun membre (destination inchangée)
+     */
+    synchronized boolean copierBornes(double[] destination) {
+        if (valeurs.isEmpty()) {
+            return false;
+        }
+        if (!bornesAJour) {
+            resserrer();
+        }
+        System.arraycopy(min, 0, destination, 0, 3);
+        System.arraycopy(max, 0, destination, 3, 3);
+        return true;
+    }
+
+    synchronized long getResserrements() {
+        return resserrements;
+    }
+}
@@ -66,8 +66,8 @@ public class DroneReconnaissance extends ActifAerien {
         double distance = getPosition().distanceVers(cible.getPosition());
         if (distance < 100.0) { // Portée de désactivation 100m
             cible.setEtatOperationnel(fr.spiga.core.EtatOperationnel.EN_PANNE);
-            cible.notifierEtatCritique("PANNE_SYSTEME");
-            System.out.println("Drone " + getId() + " a désactivé " + cible.getId());
+            cible.signalerAlerte(fr.spiga.core.CodeAlerte.PANNE_SYSTEME);
+            journaliser("Drone " + getId() + " a désactivé " + cible.getId());
             return true;
         }
         return false;
@@ -2,8 +2,10 @@ package fr.spiga.fleet;
 
 import fr.spiga.core.ActifMobile;
 import fr.spiga.core.Position3D;
+import fr.spiga.core.RegistreActifs;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,6 +13,13 @@ import java.util.UUID;
  * Classe représentant un essaim (swarm) d'actifs mobiles hétérogènes.
  * Un essaim coordonne plusieurs actifs pour accomplir des missions ensemble.
  * 
+ * <p>
+ * Les modifications (membres, formation) sont synchronisées sur l'essaim ;
+ * les calculs en lecture seule (collisions) parcourent un instantané des
+ * membres sans verrou. Le centre, l'autonomie moyenne et la boîte
+ * englobante sont tenus à jour au fil des déplacements des membres
+ * ({@link AgregatsActifs}) et se lisent en temps constant.
+ * 
  * @author SPIGA Team
  * @version 1.0
  */
@@ -23,11 +32,51 @@ public class Essaim implements Serializable {
     /** Nom de l'essaim */
     private String nom;
 
-    /** Liste des actifs membres de l'essaim */
-    private final List<ActifMobile> actifs;
+    /** Actifs membres de l'essaim (ordre d'ajout) */
+    private final RegistreActifs actifs;
+
+    /** Sommes et boîte englobante des membres, reconstruites à la désérialisation */
+    private transient AgregatsActifs agregats;
+
+    /** Gestionnaire qui a créé l'essaim et suit les actifs non assignés (ou null) */
+    private GestionnaireEssaim gestionnaire;
 
     /** Distance minimale entre actifs pour éviter les collisions (en mètres) */
-    private static final double DISTANCE_SECURITE = 50.0;
+    static final double DISTANCE_SECURITE = 50.0;
+
+    /** Distance en deçà de laquelle un suiveur est repoussé de ses voisins */
+    private static final double DISTANCE_SEPARATION = 15.0;
+
+    /** Formation active (null = chaque membre navigue seul) */
+    private TypeFormation formation;
+
+    /** Espacement entre postes de la formation (en mètres) */
+    private double espacementFormation;
+
+    /** Meneur de la formation (pilotage complet) */
+    private ActifMobile meneur;
+
+    /**
+     * Décalages précalculés de chaque membre dans le repère du meneur,
+     * indexés comme la liste des actifs (avant = selon le cap, latéral = à
+     * gauche du cap).
+     */
+    private double[] decalagesAvant = new double[0];
+    private double[] decalagesLateral = new double[0];
+
+    /**
+     * Voisins de chaque membre dans le plan de la formation (postes distants
+     * d'au plus 1,5 espacement, meneur compris), indexés comme la liste des
+     * actifs.
+     */
+    private int[][] voisinsFormation = new int[0][];
+
+    /** Correction de séparation du suiveur courant (tampon réutilisé) */
+    private transient double[] separation = new double[2];
+
+    /** Dernier cap connu du meneur (vecteur unitaire 2D) */
+    private double capX = 1.0;
+    private double capY = 0.0;
 
     /**
      * Constructeur d'un essaim.
@@ -37,7 +86,22 @@ public class Essaim implements Serializable {
     public Essaim(String nom) {
         this.id = UUID.randomUUID().toString();
         this.nom = nom != null ? nom : "Essaim-" + id.substring(0, 8);
-        this.actifs = new ArrayList<>();
+        this.actifs = new RegistreActifs();
+        this.agregats = new AgregatsActifs();
+    }
+
+    private void readObject(java.io.ObjectInputStream entree) throws java.io.IOException, ClassNotFoundException {
+        entree.defaultReadObject();
+        separation = new double[2];
+        agregats = new AgregatsActifs();
+        agregats.ajouterTous(actifs.instantane());
+    }
+
+    /**
+     * Rattache l'essaim au gestionnaire qui l'a créé, avant tout ajout.
+     */
+    void rattacher(GestionnaireEssaim gestionnaire) {
+        this.gestionnaire = gestionnaire;
     }
 
     public String getId() {
@@ -60,11 +124,44 @@ public class Essaim implements Serializable {
      * @param actif l'actif à ajouter
      * @return true si ajout réussi, false sinon
      */
-    public boolean ajouterActif(ActifMobile actif) {
-        if (actif == null || actifs.contains(actif)) {
+    public synchronized boolean ajouterActif(ActifMobile actif) {
+        if (!actifs.ajouter(actif)) {
             return false;
         }
-        return actifs.add(actif);
+        agregats.ajouter(actif);
+        if (gestionnaire != null) {
+            gestionnaire.membreAjoute(actif);
+        }
+        if (formation != null) {
+            calculerDecalages();
+        }
+        return true;
+    }
+
+    /**
+     * Ajoute plusieurs actifs en une seule opération (les décalages de
+     * formation ne sont recalculés qu'une fois).
+     * 
+     * @param nouveaux les actifs à ajouter (nuls et doublons ignorés)
+     * @return le nombre d'actifs ajoutés
+     */
+    public synchronized int ajouterActifs(Collection<? extends ActifMobile> nouveaux) {
+        int ajoutes = actifs.ajouterTous(nouveaux);
+        if (ajoutes > 0) {
+            // Tous les non-nuls sont membres ; ceux déjà suivis sont ignorés
+            agregats.ajouterTous(nouveaux);
+            if (gestionnaire != null) {
+                // Les nouveaux membres sont ajoutés à la fin du registre
+                List<ActifMobile> membres = actifs.instantane();
+                for (ActifMobile actif : membres.subList(membres.size() - ajoutes, membres.size())) {
+                    gestionnaire.membreAjoute(actif);
+                }
+            }
+        }
+        if (ajoutes > 0 && formation != null) {
+            calculerDecalages();
+        }
+        return ajoutes;
     }
 
     /**
@@ -73,17 +170,40 @@ public class Essaim implements Serializable {
      * @param actif l'actif à retirer
      * @return true si retrait réussi, false sinon
      */
-    public boolean retirerActif(ActifMobile actif) {
-        return actifs.remove(actif);
+    public synchronized boolean retirerActif(ActifMobile actif) {
+        if (!actifs.retirer(actif)) {
+            return false;
+        }
+        agregats.retirer(actif);
+        if (gestionnaire != null) {
+            gestionnaire.membreRetire(actif);
+        }
+        if (formation != null) {
+            if (actif == meneur) {
+                meneur = null;
+            }
+            calculerDecalages();
+        }
+        return true;
     }
 
     /**
-     * Obtient la liste des actifs (copie défensive).
+     * Obtient les actifs membres (instantané non modifiable, sans copie).
      * 
      * @return la liste des actifs
      */
     public List<ActifMobile> getActifs() {
-        return new ArrayList<>(actifs);
+        return actifs.instantane();
+    }
+
+    /**
+     * Indique si un actif est membre de l'essaim (temps constant).
+     * 
+     * @param actif l'actif
+     * @return true si membre
+     */
+    public boolean contientActif(ActifMobile actif) {
+        return actifs.contient(actif);
     }
 
     /**
@@ -92,94 +212,434 @@ public class Essaim implements Serializable {
      * @return le nombre d'actifs
      */
     public int getNombreActifs() {
-        return actifs.size();
+        return actifs.taille();
     }
 
     /**
      * Vérifie les risques de collision entre les actifs de l'essaim.
      * 
+     * <p>
+     * Les positions sont copiées dans des tableaux de coordonnées et chaque
+     * actif est comparé aux suivants par blocs, avec
+     * {@link fr.spiga.core.NoyauxProximite#masqueDansRayon} : seules les
+     * paires à moins de {@code DISTANCE_SECURITE} sont examinées en détail,
+     * dans le même ordre que la double boucle naïve.
+     * 
      * @return la liste des paires d'actifs en risque de collision
      */
     public List<String> verifierCollisions() {
         List<String> alertes = new ArrayList<>();
+        List<ActifMobile> membres = actifs.instantane();
+        verifierCollisionsInternes(membres, extraireCoordonnees(membres), alertes);
+        return alertes;
+    }
 
-        for (int i = 0; i < actifs.size(); i++) {
-            for (int j = i + 1; j < actifs.size(); j++) {
-                ActifMobile actif1 = actifs.get(i);
-                ActifMobile actif2 = actifs.get(j);
+    /**
+     * Copie les positions d'un groupe d'actifs en colonnes {xs, ys, zs}.
+     */
+    static double[][] extraireCoordonnees(List<ActifMobile> membres) {
+        int n = membres.size();
+        double[][] c = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            Position3D p = membres.get(i).getPosition();
+            c[0][i] = p.getX();
+            c[1][i] = p.getY();
+            c[2][i] = p.getZ();
+        }
+        return c;
+    }
 
-                // On ne vérifie que les actifs qui bougent (ou au moins un des deux)
-                if (actif1.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION &&
-                        actif2.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION) {
-                    continue;
-                }
+    /**
+     * Examine les paires d'un même groupe à moins de
+     * {@code DISTANCE_SECURITE}, par blocs.
+     */
+    static void verifierCollisionsInternes(List<ActifMobile> membres, double[][] c, List<String> alertes) {
+        int n = membres.size();
+        double[] xs = c[0];
+        double[] ys = c[1];
+        double[] zs = c[2];
+        double rayonCarre = DISTANCE_SECURITE * DISTANCE_SECURITE;
 
-                double distance = actif1.getPosition().distanceVers(actif2.getPosition());
+        for (int i = 0; i < n; i++) {
+            for (int bloc = i + 1; bloc < n; bloc += fr.spiga.core.NoyauxProximite.TAILLE_BLOC) {
+                int longueur = Math.min(fr.spiga.core.NoyauxProximite.TAILLE_BLOC, n - bloc);
+                long masque = fr.spiga.core.NoyauxProximite.masqueDansRayon(xs[i], ys[i], zs[i], xs, ys, zs, bloc,
+                        longueur, rayonCarre);
+                while (masque != 0L) {
+                    int j = bloc + Long.numberOfTrailingZeros(masque);
+                    masque &= masque - 1;
+                    verifierPaire(membres.get(i), membres.get(j), alertes);
+                }
+            }
+        }
+    }
 
-                if (distance < 10.0) { // Collision réelle
-                    if (actif1.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_PANNE) {
-                        actif1.setEtatOperationnel(fr.spiga.core.EtatOperationnel.EN_PANNE);
-                        actif1.notifierEtatCritique("COLLISION_VEHICULE");
-                    }
-                    if (actif2.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_PANNE) {
-                        actif2.setEtatOperationnel(fr.spiga.core.EtatOperationnel.EN_PANNE);
-                        actif2.notifierEtatCritique("COLLISION_VEHICULE");
+    /**
+     * Examine les paires formées d'un actif de chaque groupe à moins de
+     * {@code DISTANCE_SECURITE}, par blocs. Un actif membre des deux groupes
+     * n'est pas comparé à lui-même.
+     */
+    static void verifierCollisionsCroisees(List<ActifMobile> groupeA, double[][] a, List<ActifMobile> groupeB,
+            double[][] b, List<String> alertes) {
+        int n = groupeB.size();
+        double rayonCarre = DISTANCE_SECURITE * DISTANCE_SECURITE;
+        for (int i = 0; i < groupeA.size(); i++) {
+            ActifMobile actif = groupeA.get(i);
+            for (int bloc = 0; bloc < n; bloc += fr.spiga.core.NoyauxProximite.TAILLE_BLOC) {
+                int longueur = Math.min(fr.spiga.core.NoyauxProximite.TAILLE_BLOC, n - bloc);
+                long masque = fr.spiga.core.NoyauxProximite.masqueDansRayon(a[0][i], a[1][i], a[2][i], b[0], b[1],
+                        b[2], bloc, longueur, rayonCarre);
+                while (masque != 0L) {
+                    int j = bloc + Long.numberOfTrailingZeros(masque);
+                    masque &= masque - 1;
+                    if (groupeB.get(j) != actif) {
+                        verifierPaire(actif, groupeB.get(j), alertes);
                     }
-                    alertes.add(String.format("!!! COLLISION !!! %s e %s bateram!",
-                            actif1.getId(), actif2.getId()));
-                } else if (distance < DISTANCE_SECURITE) {
-                    alertes.add(String.format("Risque de collision: %s e %s (%.1fm)",
-                            actif1.getId(), actif2.getId(), distance));
                 }
             }
         }
+    }
 
-        return alertes;
+    /**
+     * Copie la boîte englobante des membres (minX, minY, minZ, maxX, maxY,
+     * maxZ), sans allocation.
+     * 
+     * @return false si l'essaim est vide
+     */
+    boolean copierBornes(double[] destination) {
+        return agregats.copierBornes(destination);
+    }
+
+    private static void verifierPaire(ActifMobile actif1, ActifMobile actif2, List<String> alertes) {
+        // On ne vérifie que les actifs qui bougent (ou au moins un des deux)
+        if (actif1.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION &&
+                actif2.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION) {
+            return;
+        }
+
+        double distance = actif1.getPosition().distanceVers(actif2.getPosition());
+
+        if (distance < 10.0) { // Collision réelle
+            if (actif1.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_PANNE) {
+                actif1.setEtatOperationnel(fr.spiga.core.EtatOperationnel.EN_PANNE);
+                actif1.signalerAlerte(fr.spiga.core.CodeAlerte.COLLISION_VEHICULE);
+            }
+            if (actif2.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_PANNE) {
+                actif2.setEtatOperationnel(fr.spiga.core.EtatOperationnel.EN_PANNE);
+                actif2.signalerAlerte(fr.spiga.core.CodeAlerte.COLLISION_VEHICULE);
+            }
+            alertes.add(String.format("!!! COLLISION !!! %s e %s bateram!",
+                    actif1.getId(), actif2.getId()));
+        } else if (distance < DISTANCE_SECURITE) {
+            alertes.add(String.format("Risque de collision: %s e %s (%.1fm)",
+                    actif1.getId(), actif2.getId(), distance));
+        }
     }
 
     /**
-     * Calcule le centre de l'essaim (position moyenne).
+     * Active le mode formation meneur-suiveurs.
+     * Le premier membre opérationnel devient meneur ; les décalages des
+     * suiveurs sont précalculés une fois pour toutes.
      * 
-     * @return le centre de l'essaim, ou null si essaim vide
+     * @param type       le type de formation
+     * @param espacement la distance entre postes voisins (en mètres)
+     * @return true si la formation a été activée, false si l'essaim est vide
      */
-    public Position3D calculerCentre() {
-        if (actifs.isEmpty()) {
-            return null;
+    public synchronized boolean activerFormation(TypeFormation type, double espacement) {
+        if (type == null) {
+            throw new IllegalArgumentException("Le type de formation ne peut pas être nul");
+        }
+        if (espacement <= DISTANCE_SEPARATION) {
+            throw new IllegalArgumentException("L'espacement doit dépasser " + DISTANCE_SEPARATION + "m");
+        }
+        if (actifs.estVide()) {
+            return false;
         }
+        this.formation = type;
+        this.espacementFormation = espacement;
+        this.meneur = null;
+        calculerDecalages();
+        return true;
+    }
 
-        double sumX = 0, sumY = 0, sumZ = 0;
-        for (ActifMobile actif : actifs) {
-            Position3D pos = actif.getPosition();
-            sumX += pos.getX();
-            sumY += pos.getY();
-            sumZ += pos.getZ();
+    /**
+     * Désactive le mode formation : chaque membre navigue de nouveau seul.
+     */
+    public synchronized void desactiverFormation() {
+        formation = null;
+        meneur = null;
+        decalagesAvant = new double[0];
+        decalagesLateral = new double[0];
+        voisinsFormation = new int[0][];
+    }
+
+    public TypeFormation getFormation() {
+        return formation;
+    }
+
+    public ActifMobile getMeneur() {
+        return meneur;
+    }
+
+    public boolean estEnFormation() {
+        return formation != null && meneur != null;
+    }
+
+    /**
+     * Fait progresser l'essaim en formation vers une cible.
+     * Seul le meneur exécute le pilotage complet (évitement, recalage sur
+     * obstacles, sous-pas). Chaque suiveur rejoint son poste, dérivé de la
+     * position et du cap du meneur, par un déplacement direct ; un suiveur
+     * trop proche d'un de ses voisins de formation voit son poste corrigé
+     * pour s'en écarter, sans jamais s'arrêter. Le meneur est relevé par le
+     * premier membre capable de mener dès qu'il n'est plus en mission ou n'a
+     * plus d'autonomie.
+     * 
+     * @param cible la destination du meneur
+     * @param dt    le temps écoulé en secondes
+     * @return true si le meneur est arrivé, false sinon
+     */
+    public synchronized boolean avancerEnFormation(Position3D cible, double dt) {
+        if (formation == null || cible == null) {
+            return false;
         }
+        if (meneur == null || !peutMener(meneur)) {
+            // Passation au premier membre en mission capable d'avancer
+            ActifMobile releve = null;
+            for (ActifMobile a : actifs) {
+                if (peutMener(a)) {
+                    releve = a;
+                    break;
+                }
+            }
+            if (releve != null || meneur == null
+                    || meneur.getEtatOperationnel() == fr.spiga.core.EtatOperationnel.EN_PANNE) {
+                meneur = releve;
+                calculerDecalages();
+                if (meneur == null) {
+                    return false;
+                }
+            }
+        }
+
+        boolean arrive = meneur.avancerVers(cible, dt);
+        Position3D posMeneur = meneur.getPosition();
+
+        // Cap : direction du meneur vers sa cible (conservé à l'arrivée)
+        double hx = cible.getX() - posMeneur.getX();
+        double hy = cible.getY() - posMeneur.getY();
+        double norme = Math.sqrt(hx * hx + hy * hy);
+        if (norme > 1.0) {
+            capX = hx / norme;
+            capY = hy / norme;
+        }
+
+        // Les décalages sont indexés comme l'instantané (membres modifiés sous le même verrou)
+        List<ActifMobile> membres = actifs.instantane();
+        int n = membres.size();
+        for (int i = 0; i < n; i++) {
+            ActifMobile suiveur = membres.get(i);
+            if (suiveur == meneur
+                    || suiveur.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION) {
+                continue;
+            }
 
-        int n = actifs.size();
-        return new Position3D(sumX / n, sumY / n, sumZ / n);
+            double avant = decalagesAvant[i];
+            double lateral = decalagesLateral[i];
+            calculerSeparation(membres, i);
+            Position3D poste = new Position3D(
+                    posMeneur.getX() + avant * capX - lateral * capY + separation[0],
+                    posMeneur.getY() + avant * capY + lateral * capX + separation[1],
+                    suiveur.getPosition().getZ()); // Chaque suiveur garde son altitude/profondeur
+            suiveur.avancerDirect(poste, dt);
+        }
+        return arrive;
+    }
+
+    /**
+     * Correction de séparation (répulsion) d'un suiveur : pour chaque voisin
+     * de formation à moins de {@link #DISTANCE_SEPARATION}, un écart
+     * proportionnel à l'intrusion, dirigé à l'opposé du voisin. Deux actifs
+     * confondus sont écartés selon la direction entre leurs postes. La
+     * correction (dx, dy) à ajouter au poste est écrite dans
+     * {@link #separation}.
+     */
+    private void calculerSeparation(List<ActifMobile> membres, int i) {
+        double[] correction = separation;
+        correction[0] = 0.0;
+        correction[1] = 0.0;
+        Position3D pos = membres.get(i).getPosition();
+        for (int j : voisinsFormation[i]) {
+            Position3D voisin = membres.get(j).getPosition();
+            double dx = pos.getX() - voisin.getX();
+            double dy = pos.getY() - voisin.getY();
+            double d = Math.sqrt(dx * dx + dy * dy);
+            if (d >= DISTANCE_SEPARATION) {
+                continue;
+            }
+            if (d < 1e-6) {
+                // Direction du poste voisin vers le poste du suiveur, dans le repère du meneur
+                double avant = decalagesAvant[i] - decalagesAvant[j];
+                double lateral = decalagesLateral[i] - decalagesLateral[j];
+                dx = avant * capX - lateral * capY;
+                dy = avant * capY + lateral * capX;
+                d = Math.sqrt(dx * dx + dy * dy);
+                if (d < 1e-6) {
+                    continue;
+                }
+                dx = dx / d;
+                dy = dy / d;
+                d = 0.0;
+            } else {
+                dx = dx / d;
+                dy = dy / d;
+            }
+            correction[0] += dx * (DISTANCE_SEPARATION - d);
+            correction[1] += dy * (DISTANCE_SEPARATION - d);
+        }
     }
 
     /**
-     * Calcule l'autonomie moyenne de l'essaim.
+     * Un meneur doit être en mission et capable d'avancer.
+     */
+    private static boolean peutMener(ActifMobile actif) {
+        return actif.getEtatOperationnel() == fr.spiga.core.EtatOperationnel.EN_MISSION
+                && actif.getAutonomieRestante() > 0;
+    }
+
+    private static double distance2DCarre(Position3D a, Position3D b) {
+        double dx = a.getX() - b.getX();
+        double dy = a.getY() - b.getY();
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Choisit le meneur si nécessaire et précalcule les décalages des
+     * suiveurs selon le type de formation.
+     */
+    private void calculerDecalages() {
+        List<ActifMobile> membres = actifs.instantane();
+        int n = membres.size();
+        decalagesAvant = new double[n];
+        decalagesLateral = new double[n];
+        voisinsFormation = new int[n][0];
+        if (meneur == null || !actifs.contient(meneur)) {
+            meneur = null;
+            for (ActifMobile a : membres) {
+                if (peutMener(a)) {
+                    meneur = a;
+                    break;
+                }
+            }
+            // Formation activée avant le départ : premier membre qui n'est pas en panne
+            for (int k = 0; meneur == null && k < n; k++) {
+                if (membres.get(k).getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_PANNE) {
+                    meneur = membres.get(k);
+                }
+            }
+        }
+        if (meneur == null) {
+            return;
+        }
+
+        int colonnes = (int) Math.ceil(Math.sqrt(n));
+        int rang = 0; // Rang du suiveur dans la formation (le meneur a le rang 0)
+        for (int i = 0; i < n; i++) {
+            if (membres.get(i) == meneur) {
+                continue;
+            }
+            rang++;
+            switch (formation) {
+                case LIGNE -> {
+                    int cran = (rang + 1) / 2;
+                    decalagesLateral[i] = (rang % 2 == 1 ? 1 : -1) * cran * espacementFormation;
+                }
+                case COIN -> {
+                    int cran = (rang + 1) / 2;
+                    decalagesAvant[i] = -cran * espacementFormation;
+                    decalagesLateral[i] = (rang % 2 == 1 ? 1 : -1) * cran * espacementFormation;
+                }
+                case GRILLE -> {
+                    decalagesAvant[i] = -(rang / colonnes) * espacementFormation;
+                    decalagesLateral[i] = -(rang % colonnes) * espacementFormation;
+                }
+            }
+        }
+
+        // Voisins dans le plan de la formation (diagonales de la grille comprises)
+        double portee2 = 2.25 * espacementFormation * espacementFormation;
+        voisinsFormation = new int[n][];
+        int[] tampon = new int[n];
+        for (int i = 0; i < n; i++) {
+            int k = 0;
+            for (int j = 0; j < n; j++) {
+                double da = decalagesAvant[i] - decalagesAvant[j];
+                double dl = decalagesLateral[i] - decalagesLateral[j];
+                if (j != i && da * da + dl * dl <= portee2) {
+                    tampon[k++] = j;
+                }
+            }
+            voisinsFormation[i] = java.util.Arrays.copyOf(tampon, k);
+        }
+    }
+
+    /**
+     * Retire tous les membres (et désabonne l'essaim de leurs changements).
+     * Un essaim abandonné doit être dissous pour ne plus être notifié.
+     */
+    public synchronized void dissoudre() {
+        List<ActifMobile> membres = actifs.instantane();
+        actifs.vider();
+        for (ActifMobile actif : membres) {
+            agregats.retirer(actif);
+            if (gestionnaire != null) {
+                gestionnaire.membreRetire(actif);
+            }
+        }
+        desactiverFormation();
+    }
+
+    /**
+     * Calcule le centre de l'essaim (position moyenne), en temps constant.
+     * 
+     * @return le centre de l'essaim, ou null si essaim vide
+     */
+    public Position3D calculerCentre() {
+        return agregats.getCentre();
+    }
+
+    /**
+     * Calcule l'autonomie moyenne de l'essaim, en temps constant.
      * 
      * @return l'autonomie moyenne en pourcentage
      */
     public double calculerAutonomieMoyenne() {
-        if (actifs.isEmpty()) {
-            return 0.0;
-        }
+        return agregats.getAutonomieMoyenne();
+    }
 
-        double somme = 0;
-        for (ActifMobile actif : actifs) {
-            somme += actif.getAutonomieRestante();
-        }
+    /**
+     * Obtient le coin minimal de la boîte englobante des membres, alignée sur
+     * les axes.
+     * 
+     * @return le coin minimal, ou null si essaim vide
+     */
+    public Position3D getBorneMin() {
+        return agregats.getBorneMin();
+    }
 
-        return somme / actifs.size();
+    /**
+     * Obtient le coin maximal de la boîte englobante des membres, alignée sur
+     * les axes.
+     * 
+     * @return le coin maximal, ou null si essaim vide
+     */
+    public Position3D getBorneMax() {
+        return agregats.getBorneMax();
     }
 
     @Override
     public String toString() {
         return String.format("Essaim[nom=%s, actifs=%d, autonomieMoyenne=%.1f%%]",
-                nom, actifs.size(), calculerAutonomieMoyenne());
+                nom, actifs.taille(), calculerAutonomieMoyenne());
     }
 }
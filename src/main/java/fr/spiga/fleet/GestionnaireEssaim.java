@@ -1,12 +1,20 @@
 package fr.spiga.fleet;
 
 import fr.spiga.core.ActifMobile;
+import fr.spiga.core.EtatFlotte;
+import fr.spiga.core.EtatFlotteTas;
 import fr.spiga.core.EtatOperationnel;
+import fr.spiga.core.RegistreActifs;
+import fr.spiga.metriques.PhaseTick;
+import fr.spiga.metriques.RegistreMetriques;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gestionnaire central de la flotte d'actifs mobiles et des essaims.
@@ -16,37 +24,281 @@ import java.util.stream.Collectors;
  * Implémente le principe SRP (Single Responsibility) en se concentrant
  * uniquement sur la gestion de flotte.
  * 
+ * <p>
+ * Les enregistrements sont sérialisés entre eux ; les consultations (par
+ * poignée, par identifiant, filtres par état) ne prennent aucun verrou et
+ * peuvent être faites depuis un autre fil, par exemple l'interface graphique
+ * ou le journal de télémétrie, pendant l'enregistrement d'une flotte.
+ * 
  * @author SPIGA Team
  * @version 1.0
  */
 public class GestionnaireEssaim implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    /** Liste de tous les actifs gérés */
-    private final List<ActifMobile> tousLesActifs;
+    /** Registre de tous les actifs gérés : le rang d'un actif est sa poignée */
+    private final RegistreActifs tousLesActifs;
+
+    /** Index des actifs par identifiant complet */
+    private final Map<String, ActifMobile> actifsParId;
+
+    /** Index des identifiants par préfixe */
+    private final IndexPrefixes indexPrefixes;
 
     /** Liste des essaims créés */
     private final List<Essaim> essaims;
 
+    /**
+     * Actifs enregistrés qui n'appartiennent à aucun essaim de ce gestionnaire
+     * : pseudo-essaim de la phase large des collisions.
+     */
+    private transient AgregatsActifs nonAssignes;
+
+    /** Nombre d'essaims de ce gestionnaire dont chaque actif est membre (verrou des affectations) */
+    private transient Map<ActifMobile, Integer> appartenances;
+
+    /** Nom du pseudo-essaim des actifs non assignés dans les alertes */
+    static final String NOM_NON_ASSIGNES = "Actifs non assignés";
+
+    /** Paires de groupes dont les boîtes se recouvrent, lors de la dernière vérification */
+    private transient volatile int dernieresPairesCroisees;
+
+    /**
+     * État dynamique des actifs enregistrés, en colonnes : l'emplacement d'un
+     * actif est égal à sa poignée.
+     */
+    private transient EtatFlotte etatFlotte;
+
     /**
      * Constructeur du gestionnaire d'essaim.
      */
     public GestionnaireEssaim() {
-        this.tousLesActifs = new ArrayList<>();
+        this(new EtatFlotteTas());
+    }
+
+    /**
+     * Constructeur avec un stockage d'état choisi, par exemple hors du tas
+     * ({@link fr.spiga.core.EtatFlotteHorsTas}) pour des flottes de plusieurs
+     * millions d'actifs.
+     * 
+     * <p>
+     * Le stockage peut contenir les emplacements d'une exécution précédente
+     * (fichier projeté rouvert) : l'actif enregistré sous la poignée p reprend
+     * alors l'état persisté de l'emplacement p. Les actifs doivent donc être
+     * réenregistrés dans le même ordre.
+     * 
+     * @param etatFlotte le stockage de l'état des actifs, propre à cette flotte
+     * @throws IllegalArgumentException si le stockage est nul
+     */
+    public GestionnaireEssaim(EtatFlotte etatFlotte) {
+        if (etatFlotte == null) {
+            throw new IllegalArgumentException("Le stockage ne peut pas être nul");
+        }
+        this.tousLesActifs = new RegistreActifs();
+        this.actifsParId = new ConcurrentHashMap<>();
+        this.indexPrefixes = new IndexPrefixes();
         this.essaims = new ArrayList<>();
+        this.etatFlotte = etatFlotte;
+        this.nonAssignes = new AgregatsActifs();
+        this.appartenances = new HashMap<>();
+    }
+
+    private void readObject(java.io.ObjectInputStream entree) throws java.io.IOException, ClassNotFoundException {
+        entree.defaultReadObject();
+        // Le stockage n'est pas sérialisé : l'état relu est rangé dans le tas
+        etatFlotte = new EtatFlotteTas();
+        for (ActifMobile actif : tousLesActifs) {
+            actif.migrerVers(etatFlotte);
+        }
+        nonAssignes = new AgregatsActifs();
+        appartenances = new HashMap<>();
+        for (Essaim essaim : essaims) {
+            for (ActifMobile actif : essaim.getActifs()) {
+                appartenances.merge(actif, 1, Integer::sum);
+            }
+        }
+        for (ActifMobile actif : tousLesActifs) {
+            if (!appartenances.containsKey(actif)) {
+                nonAssignes.ajouter(actif);
+            }
+        }
+    }
+
+    /**
+     * Suivi des affectations : un actif enregistré qui rejoint son premier
+     * essaim quitte le pseudo-essaim des non assignés.
+     */
+    void membreAjoute(ActifMobile actif) {
+        synchronized (appartenances) {
+            if (appartenances.merge(actif, 1, Integer::sum) == 1) {
+                nonAssignes.retirer(actif);
+            }
+        }
+    }
+
+    /**
+     * Suivi des affectations : un actif enregistré qui quitte son dernier
+     * essaim rejoint le pseudo-essaim des non assignés.
+     */
+    void membreRetire(ActifMobile actif) {
+        synchronized (appartenances) {
+            Integer restant = appartenances.computeIfPresent(actif, (a, n) -> n > 1 ? n - 1 : null);
+            if (restant == null && tousLesActifs.contient(actif)) {
+                nonAssignes.ajouter(actif);
+            }
+        }
+    }
+
+    private void suivreNouveauxActifs(List<ActifMobile> nouveaux) {
+        synchronized (appartenances) {
+            for (ActifMobile actif : nouveaux) {
+                if (!appartenances.containsKey(actif)) {
+                    nonAssignes.ajouter(actif);
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtient le stockage en colonnes de l'état des actifs enregistrés
+     * (emplacement = poignée). Un actif enregistré ne doit pas être migré
+     * vers un autre stockage.
+     * 
+     * @return le stockage de la flotte
+     */
+    public EtatFlotte getEtatFlotte() {
+        return etatFlotte;
     }
 
     /**
-     * Enregistre un nouvel actif dans la flotte.
+     * Enregistre un nouvel actif dans la flotte et lui attribue sa poignée
+     * compacte (son rang d'enregistrement).
      * 
      * @param actif l'actif à enregistrer
-     * @return true si enregistrement réussi, false sinon
+     * @return true si enregistrement réussi, false si l'actif est nul, déjà
+     *         enregistré ou rattaché à une autre flotte
      */
-    public boolean enregistrerActif(ActifMobile actif) {
-        if (actif == null || tousLesActifs.contains(actif)) {
+    public synchronized boolean enregistrerActif(ActifMobile actif) {
+        if (!preparerEnregistrement(actif, tousLesActifs.taille())) {
             return false;
         }
-        return tousLesActifs.add(actif);
+        tousLesActifs.ajouter(actif);
+        suivreNouveauxActifs(List.of(actif));
+        return true;
+    }
+
+    /**
+     * Enregistre plusieurs actifs dans l'ordre, en publiant le registre une
+     * seule fois. Les actifs nuls, déjà enregistrés ou rattachés à une autre
+     * flotte sont ignorés.
+     * 
+     * @param actifs les actifs à enregistrer
+     * @return le nombre d'actifs enregistrés
+     */
+    public synchronized int enregistrerActifs(Collection<? extends ActifMobile> actifs) {
+        List<ActifMobile> retenus = new ArrayList<>(actifs.size());
+        int premiere = tousLesActifs.taille();
+        for (ActifMobile actif : actifs) {
+            if (preparerEnregistrement(actif, premiere + retenus.size())) {
+                retenus.add(actif);
+            }
+        }
+        tousLesActifs.ajouterTous(retenus);
+        suivreNouveauxActifs(retenus);
+        return retenus.size();
+    }
+
+    /**
+     * Attribue la poignée, l'emplacement et les index d'un actif à
+     * enregistrer ; l'actif reste invisible dans le registre jusqu'à son
+     * ajout par l'appelant.
+     */
+    private boolean preparerEnregistrement(ActifMobile actif, int poignee) {
+        if (actif == null || actif.getPoignee() != ActifMobile.POIGNEE_NON_ATTRIBUEE
+                || actifsParId.containsKey(actif.getId())) {
+            return false;
+        }
+        actif.attribuerPoignee(poignee);
+        if (etatFlotte.estAlloue(poignee)) {
+            // Emplacement persisté par une exécution précédente
+            actif.reprendreEmplacement(etatFlotte, poignee);
+        } else {
+            // Emplacements attribués dans l'ordre, sans libération : emplacement = poignée
+            actif.migrerVers(etatFlotte);
+            if (actif.getSlot() != poignee) {
+                throw new IllegalStateException("Stockage de flotte incohérent: emplacement " + actif.getSlot()
+                        + " pour la poignée " + poignee);
+            }
+        }
+        actifsParId.put(actif.getId(), actif);
+        indexPrefixes.inserer(actif.getId(), poignee);
+        return true;
+    }
+
+    /**
+     * Obtient un actif à partir de sa poignée.
+     * 
+     * @param poignee la poignée de l'actif
+     * @return l'actif, ou null si la poignée est inconnue
+     */
+    public ActifMobile getActifParPoignee(int poignee) {
+        List<ActifMobile> actifs = tousLesActifs.instantane();
+        return poignee >= 0 && poignee < actifs.size() ? actifs.get(poignee) : null;
+    }
+
+    /**
+     * Obtient un actif à partir de son identifiant complet.
+     * 
+     * @param id l'identifiant de l'actif (insensible à la casse)
+     * @return l'actif, ou null si inconnu
+     */
+    public ActifMobile getActifParId(String id) {
+        if (id == null) {
+            return null;
+        }
+        ActifMobile actif = actifsParId.get(id);
+        return actif != null ? actif : actifsParId.get(id.toLowerCase());
+    }
+
+    /**
+     * Recherche les actifs dont l'identifiant commence par un préfixe.
+     * 
+     * @param prefixe le préfixe recherché (insensible à la casse)
+     * @return les actifs correspondants, par ordre d'enregistrement
+     */
+    public synchronized List<ActifMobile> rechercherParPrefixe(String prefixe) {
+        List<ActifMobile> resultat = new ArrayList<>();
+        if (prefixe == null || prefixe.isEmpty()) {
+            return resultat;
+        }
+        String prefixeMinuscule = prefixe.toLowerCase();
+        int[] poignees = indexPrefixes.rechercher(prefixeMinuscule, Integer.MAX_VALUE);
+        java.util.Arrays.sort(poignees);
+        for (int poignee : poignees) {
+            ActifMobile actif = tousLesActifs.get(poignee);
+            // Au-delà de la profondeur de l'index, le préfixe est vérifié en entier
+            if (prefixeMinuscule.length() <= IndexPrefixes.PROFONDEUR
+                    || actif.getId().toLowerCase().startsWith(prefixeMinuscule)) {
+                resultat.add(actif);
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Trouve l'unique actif désigné par un identifiant complet ou un préfixe
+     * d'identifiant.
+     * 
+     * @param idOuPrefixe l'identifiant ou son préfixe
+     * @return l'actif, ou null si introuvable ou ambigu
+     */
+    public ActifMobile trouverActif(String idOuPrefixe) {
+        ActifMobile actif = getActifParId(idOuPrefixe);
+        if (actif != null) {
+            return actif;
+        }
+        List<ActifMobile> candidats = rechercherParPrefixe(idOuPrefixe);
+        return candidats.size() == 1 ? candidats.get(0) : null;
     }
 
     /**
@@ -57,6 +309,7 @@ public class GestionnaireEssaim implements Serializable {
      */
     public Essaim creerEssaim(String nom) {
         Essaim essaim = new Essaim(nom);
+        essaim.rattacher(this);
         essaims.add(essaim);
         return essaim;
     }
@@ -67,9 +320,7 @@ public class GestionnaireEssaim implements Serializable {
      * @return la liste des actifs disponibles
      */
     public List<ActifMobile> getActifsDisponibles() {
-        return tousLesActifs.stream()
-                .filter(actif -> actif.getEtatOperationnel() == EtatOperationnel.AU_SOL)
-                .collect(Collectors.toList());
+        return filtrerParEtat(EtatOperationnel.AU_SOL, EtatOperationnel.AU_SOL);
     }
 
     /**
@@ -78,9 +329,7 @@ public class GestionnaireEssaim implements Serializable {
      * @return la liste des actifs en mission
      */
     public List<ActifMobile> getActifsEnMission() {
-        return tousLesActifs.stream()
-                .filter(actif -> actif.getEtatOperationnel() == EtatOperationnel.EN_MISSION)
-                .collect(Collectors.toList());
+        return filtrerParEtat(EtatOperationnel.EN_MISSION, EtatOperationnel.EN_MISSION);
     }
 
     /**
@@ -89,10 +338,25 @@ public class GestionnaireEssaim implements Serializable {
      * @return la liste des actifs nécessitant attention
      */
     public List<ActifMobile> getActifsNecessitantMaintenance() {
-        return tousLesActifs.stream()
-                .filter(actif -> actif.getEtatOperationnel() == EtatOperationnel.EN_PANNE ||
-                        actif.getEtatOperationnel() == EtatOperationnel.EN_MAINTENANCE)
-                .collect(Collectors.toList());
+        return filtrerParEtat(EtatOperationnel.EN_PANNE, EtatOperationnel.EN_MAINTENANCE);
+    }
+
+    /**
+     * Parcourt la colonne des états et ne matérialise que les actifs retenus,
+     * dans l'ordre des poignées.
+     */
+    private List<ActifMobile> filtrerParEtat(EtatOperationnel etat1, EtatOperationnel etat2) {
+        byte code1 = (byte) etat1.ordinal();
+        byte code2 = (byte) etat2.ordinal();
+        List<ActifMobile> actifs = tousLesActifs.instantane();
+        List<ActifMobile> resultat = new ArrayList<>();
+        for (int s = 0, n = actifs.size(); s < n; s++) {
+            byte code = etatFlotte.getCodeEtat(s);
+            if (code == code1 || code == code2) {
+                resultat.add(actifs.get(s));
+            }
+        }
+        return resultat;
     }
 
     /**
@@ -101,9 +365,18 @@ public class GestionnaireEssaim implements Serializable {
      * @return l'actif avec la meilleure autonomie, ou null si aucun disponible
      */
     public ActifMobile selectionnerActifOptimalParAutonomie() {
-        return getActifsDisponibles().stream()
-                .max(Comparator.comparingDouble(ActifMobile::getAutonomieRestante))
-                .orElse(null);
+        List<ActifMobile> actifs = tousLesActifs.instantane();
+        byte auSol = (byte) EtatOperationnel.AU_SOL.ordinal();
+        int meilleur = -1;
+        double meilleureAutonomie = Double.NEGATIVE_INFINITY;
+        for (int s = 0, n = actifs.size(); s < n; s++) {
+            // Maximum strict : le premier ex aequo est retenu, comme avec Stream.max
+            if (etatFlotte.getCodeEtat(s) == auSol && etatFlotte.getAutonomie(s) > meilleureAutonomie) {
+                meilleureAutonomie = etatFlotte.getAutonomie(s);
+                meilleur = s;
+            }
+        }
+        return meilleur >= 0 ? actifs.get(meilleur) : null;
     }
 
     /**
@@ -120,29 +393,208 @@ public class GestionnaireEssaim implements Serializable {
     }
 
     /**
-     * Vérifie les collisions dans tous les essaims.
+     * Vérifie les collisions dans tous les essaims, puis entre essaims.
+     * 
+     * <p>
+     * Les paires internes à chaque essaim sont examinées comme avant. Les
+     * collisions entre groupes passent par une phase large à deux niveaux :
+     * les essaims et le pseudo-essaim des actifs non assignés sont d'abord
+     * comparés par leurs boîtes englobantes (tenues à jour au fil des
+     * déplacements), triées sur X et balayées ; seules les paires de groupes
+     * dont les boîtes, élargies de la distance de sécurité, se recouvrent
+     * sont examinées membre à membre, en ne retenant de chaque côté que les
+     * membres situés dans la boîte élargie de l'autre groupe. Les paires
+     * internes aux actifs non assignés ne sont pas examinées.
      * 
      * @return la liste de toutes les alertes de collision
      */
     public List<String> verifierToutesLesCollisions() {
+        long debutMetrique = RegistreMetriques.debut();
         List<String> toutesLesAlertes = new ArrayList<>();
+        List<Essaim> essaimsCourants = getEssaims();
 
-        for (Essaim essaim : essaims) {
+        for (Essaim essaim : essaimsCourants) {
             List<String> alertes = essaim.verifierCollisions();
             if (!alertes.isEmpty()) {
                 toutesLesAlertes.add("Essaim: " + essaim.getNom());
                 toutesLesAlertes.addAll(alertes);
             }
         }
+        verifierCollisionsEntreGroupes(essaimsCourants, toutesLesAlertes);
 
+        RegistreMetriques.fin(PhaseTick.COLLISIONS, debutMetrique);
         return toutesLesAlertes;
     }
 
+    /**
+     * Groupe de la phase large : un essaim ou les actifs non assignés. Les
+     * positions des membres ne sont lues, et triées sur X, que si le groupe
+     * est croisé avec un autre.
+     */
+    private static final class Groupe {
+        final String nom;
+        final double[] bornes = new double[6];
+        final Essaim essaim;
+        private ActifMobile[] membres;
+        private double[] xs;
+        private double[] ys;
+        private double[] zs;
+
+        Groupe(String nom, Essaim essaim) {
+            this.nom = nom;
+            this.essaim = essaim;
+        }
+
+        private void preparer(AgregatsActifs nonAssignes) {
+            List<ActifMobile> liste = essaim != null ? essaim.getActifs() : nonAssignes.getMembres();
+            int n = liste.size();
+            double[] x = new double[n];
+            Integer[] ordre = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = liste.get(i).getPosition().getX();
+                ordre[i] = i;
+            }
+            java.util.Arrays.sort(ordre, Comparator.comparingDouble(i -> x[i]));
+            membres = new ActifMobile[n];
+            xs = new double[n];
+            ys = new double[n];
+            zs = new double[n];
+            for (int k = 0; k < n; k++) {
+                ActifMobile actif = liste.get(ordre[k]);
+                fr.spiga.core.Position3D p = actif.getPosition();
+                membres[k] = actif;
+                xs[k] = p.getX();
+                ys[k] = p.getY();
+                zs[k] = p.getZ();
+            }
+        }
+
+        /**
+         * Sélectionne les membres situés dans une boîte élargie de
+         * {@code marge} : recherche dichotomique sur X puis test de Y et Z.
+         *
+         * @param coordonnees reçoit les colonnes {xs, ys, zs} de la sélection
+         * @return les membres sélectionnés
+         */
+        List<ActifMobile> selectionner(double[] autres, double marge, AgregatsActifs nonAssignes,
+                double[][] coordonnees) {
+            if (membres == null) {
+                preparer(nonAssignes);
+            }
+            int debut = java.util.Arrays.binarySearch(xs, autres[0] - marge);
+            if (debut < 0) {
+                debut = -debut - 1;
+            }
+            while (debut > 0 && xs[debut - 1] >= autres[0] - marge) {
+                debut--; // Premier des ex aequo
+            }
+            int fin = debut;
+            while (fin < xs.length && xs[fin] <= autres[3] + marge) {
+                fin++;
+            }
+            List<ActifMobile> retenus = new ArrayList<>();
+            double[] sx = new double[fin - debut];
+            double[] sy = new double[fin - debut];
+            double[] sz = new double[fin - debut];
+            for (int k = debut; k < fin; k++) {
+                if (ys[k] >= autres[1] - marge && ys[k] <= autres[4] + marge
+                        && zs[k] >= autres[2] - marge && zs[k] <= autres[5] + marge) {
+                    int r = retenus.size();
+                    sx[r] = xs[k];
+                    sy[r] = ys[k];
+                    sz[r] = zs[k];
+                    retenus.add(membres[k]);
+                }
+            }
+            coordonnees[0] = sx;
+            coordonnees[1] = sy;
+            coordonnees[2] = sz;
+            return retenus;
+        }
+    }
+
+    private void verifierCollisionsEntreGroupes(List<Essaim> essaimsCourants, List<String> alertes) {
+        List<Groupe> groupes = new ArrayList<>(essaimsCourants.size() + 1);
+        for (Essaim essaim : essaimsCourants) {
+            Groupe groupe = new Groupe(essaim.getNom(), essaim);
+            if (essaim.copierBornes(groupe.bornes)) {
+                groupes.add(groupe);
+            }
+        }
+        Groupe libres = new Groupe(NOM_NON_ASSIGNES, null);
+        if (nonAssignes.copierBornes(libres.bornes)) {
+            groupes.add(libres);
+        }
+        groupes.sort(Comparator.comparingDouble(g -> g.bornes[0]));
+
+        double marge = Essaim.DISTANCE_SECURITE;
+        double[][] coordonneesA = new double[3][];
+        double[][] coordonneesB = new double[3][];
+        int pairesCroisees = 0;
+        for (int i = 0; i < groupes.size(); i++) {
+            Groupe a = groupes.get(i);
+            // Balayage sur X : les groupes suivants commencent trop loin
+            for (int j = i + 1; j < groupes.size() && groupes.get(j).bornes[0] <= a.bornes[3] + marge; j++) {
+                Groupe b = groupes.get(j);
+                if (!recouvrent(a.bornes, b.bornes, marge)) {
+                    continue;
+                }
+                pairesCroisees++;
+                List<ActifMobile> membresA = a.selectionner(b.bornes, marge, nonAssignes, coordonneesA);
+                if (membresA.isEmpty()) {
+                    continue;
+                }
+                List<ActifMobile> membresB = b.selectionner(a.bornes, marge, nonAssignes, coordonneesB);
+                if (membresB.isEmpty()) {
+                    continue;
+                }
+                List<String> paires = new ArrayList<>();
+                Essaim.verifierCollisionsCroisees(membresA, coordonneesA, membresB, coordonneesB, paires);
+                if (!paires.isEmpty()) {
+                    alertes.add("Essaims: " + a.nom + " / " + b.nom);
+                    alertes.addAll(paires);
+                }
+            }
+        }
+        dernieresPairesCroisees = pairesCroisees;
+    }
+
+    /** Vrai si les boîtes, élargies de {@code marge} sur chaque axe, se recouvrent */
+    private static boolean recouvrent(double[] a, double[] b, double marge) {
+        for (int k = 0; k < 3; k++) {
+            if (a[k] > b[k + 3] + marge || b[k] > a[k + 3] + marge) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtient le nombre de paires de groupes (essaims et actifs non assignés)
+     * examinées membre à membre lors de la dernière vérification des
+     * collisions.
+     * 
+     * @return le nombre de paires de groupes dont les boîtes se recouvrent
+     */
+    public int getDernieresPairesCroisees() {
+        return dernieresPairesCroisees;
+    }
+
+    /**
+     * Obtient le nombre d'actifs enregistrés qui n'appartiennent à aucun
+     * essaim de ce gestionnaire.
+     * 
+     * @return le nombre d'actifs non assignés
+     */
+    public int getNombreActifsNonAssignes() {
+        return nonAssignes.getNombre();
+    }
+
     /**
      * Recharge tous les actifs au sol.
      */
     public void rechargerTousLesActifsAuSol() {
-        tousLesActifs.stream()
+        tousLesActifs.instantane().stream()
                 .filter(actif -> actif.getEtatOperationnel() == EtatOperationnel.AU_SOL)
                 .forEach(ActifMobile::recharger);
     }
@@ -153,18 +605,21 @@ public class GestionnaireEssaim implements Serializable {
      * @return un rapport textuel des statistiques
      */
     public String genererRapportFlotte() {
-        long disponibles = tousLesActifs.stream()
-                .filter(a -> a.getEtatOperationnel() == EtatOperationnel.AU_SOL)
-                .count();
-        long enMission = tousLesActifs.stream()
-                .filter(a -> a.getEtatOperationnel() == EtatOperationnel.EN_MISSION)
-                .count();
-        long enPanne = tousLesActifs.stream()
-                .filter(a -> a.getEtatOperationnel() == EtatOperationnel.EN_PANNE)
-                .count();
-        long enMaintenance = tousLesActifs.stream()
-                .filter(a -> a.getEtatOperationnel() == EtatOperationnel.EN_MAINTENANCE)
-                .count();
+        long debutMetrique = RegistreMetriques.debut();
+        try {
+            return construireRapportFlotte();
+        } finally {
+            RegistreMetriques.fin(PhaseTick.RAPPORT, debutMetrique);
+        }
+    }
+
+    private String construireRapportFlotte() {
+        // Un seul parcours de la colonne des états
+        int[] effectifs = etatFlotte.compterParEtat();
+        int disponibles = effectifs[EtatOperationnel.AU_SOL.ordinal()];
+        int enMission = effectifs[EtatOperationnel.EN_MISSION.ordinal()];
+        int enPanne = effectifs[EtatOperationnel.EN_PANNE.ordinal()];
+        int enMaintenance = effectifs[EtatOperationnel.EN_MAINTENANCE.ordinal()];
 
         return String.format(
                 "=== Rapport de Flotte ===%n" +
@@ -174,11 +629,30 @@ public class GestionnaireEssaim implements Serializable {
                         "En panne: %d%n" +
                         "En maintenance: %d%n" +
                         "Essaims actifs: %d",
-                tousLesActifs.size(), disponibles, enMission, enPanne, enMaintenance, essaims.size());
+                tousLesActifs.taille(), disponibles, enMission, enPanne, enMaintenance, essaims.size());
     }
 
+    /**
+     * Compte les répétitions d'alertes regroupées (non réémises) sur toute la
+     * flotte.
+     * 
+     * @return le nombre total de répétitions regroupées
+     */
+    public long compterAlertesRegroupees() {
+        long total = 0;
+        for (ActifMobile actif : tousLesActifs) {
+            total += actif.getNombreAlertesSupprimees();
+        }
+        return total;
+    }
+
+    /**
+     * Obtient tous les actifs enregistrés.
+     * 
+     * @return un instantané non modifiable, indexé par poignée
+     */
     public List<ActifMobile> getTousLesActifs() {
-        return new ArrayList<>(tousLesActifs);
+        return tousLesActifs.instantane();
     }
 
     public List<Essaim> getEssaims() {
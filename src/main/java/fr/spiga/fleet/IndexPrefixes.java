@@ -0,0 +1,139 @@
+package fr.spiga.fleet;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Arbre préfixe (trie) compact des identifiants d'actifs.
+ * 
+ * <p>
+ * Les nœuds sont stockés dans des tableaux parallèles (premier enfant, frère
+ * suivant, caractère) pour éviter un objet par nœud. L'arbre est limité aux
+ * {@link #PROFONDEUR} premiers caractères, la longueur des identifiants courts
+ * affichés : au-delà, les poignées d'un même nœud sont chaînées et le préfixe
+ * complet est vérifié par l'appelant.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class IndexPrefixes implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Profondeur maximale de l'arbre (en caractères) */
+    static final int PROFONDEUR = 8;
+
+    private static final int AUCUN = -1;
+
+    private char[] caracteres = new char[64];
+    private int[] premierEnfant = new int[64];
+    private int[] frereSuivant = new int[64];
+    /** Première poignée rangée sur un nœud terminal */
+    private int[] premiereFeuille = new int[64];
+    private int nbNoeuds;
+
+    /** Chaînage des poignées partageant un même nœud terminal */
+    private int[] feuilleSuivante = new int[64];
+
+    IndexPrefixes() {
+        nbNoeuds = 1; // Racine
+        premierEnfant[0] = AUCUN;
+        frereSuivant[0] = AUCUN;
+        premiereFeuille[0] = AUCUN;
+        Arrays.fill(feuilleSuivante, AUCUN);
+    }
+
+    /**
+     * Insère un identifiant associé à une poignée.
+     * 
+     * @param id      l'identifiant (comparé en minuscules)
+     * @param poignee la poignée de l'actif
+     */
+    void inserer(String id, int poignee) {
+        int noeud = 0;
+        int longueur = Math.min(PROFONDEUR, id.length());
+        for (int i = 0; i < longueur; i++) {
+            char c = Character.toLowerCase(id.charAt(i));
+            int enfant = chercherEnfant(noeud, c);
+            if (enfant == AUCUN) {
+                enfant = creerNoeud(c);
+                frereSuivant[enfant] = premierEnfant[noeud];
+                premierEnfant[noeud] = enfant;
+            }
+            noeud = enfant;
+        }
+        if (poignee >= feuilleSuivante.length) {
+            int ancienne = feuilleSuivante.length;
+            feuilleSuivante = Arrays.copyOf(feuilleSuivante, Math.max(poignee + 1, ancienne * 2));
+            Arrays.fill(feuilleSuivante, ancienne, feuilleSuivante.length, AUCUN);
+        }
+        feuilleSuivante[poignee] = premiereFeuille[noeud];
+        premiereFeuille[noeud] = poignee;
+    }
+
+    /**
+     * Recherche les poignées dont l'identifiant commence par le préfixe (sur
+     * au plus {@link #PROFONDEUR} caractères).
+     * 
+     * @param prefixe le préfixe recherché
+     * @param max     le nombre maximal de poignées retournées
+     * @return les poignées candidates
+     */
+    int[] rechercher(String prefixe, int max) {
+        int noeud = 0;
+        int longueur = Math.min(PROFONDEUR, prefixe.length());
+        for (int i = 0; i < longueur && noeud != AUCUN; i++) {
+            noeud = chercherEnfant(noeud, Character.toLowerCase(prefixe.charAt(i)));
+        }
+        if (noeud == AUCUN) {
+            return new int[0];
+        }
+
+        int[] resultat = new int[Math.min(max, 16)];
+        int n = 0;
+        // Parcours en profondeur du sous-arbre avec une pile explicite
+        int[] pile = new int[16];
+        int sommet = 0;
+        pile[sommet++] = noeud;
+        while (sommet > 0 && n < max) {
+            int courant = pile[--sommet];
+            for (int p = premiereFeuille[courant]; p != AUCUN && n < max; p = feuilleSuivante[p]) {
+                if (n == resultat.length) {
+                    resultat = Arrays.copyOf(resultat, Math.min(max, n * 2));
+                }
+                resultat[n++] = p;
+            }
+            for (int e = premierEnfant[courant]; e != AUCUN; e = frereSuivant[e]) {
+                if (sommet == pile.length) {
+                    pile = Arrays.copyOf(pile, sommet * 2);
+                }
+                pile[sommet++] = e;
+            }
+        }
+        return Arrays.copyOf(resultat, n);
+    }
+
+    private int chercherEnfant(int noeud, char c) {
+        for (int e = premierEnfant[noeud]; e != AUCUN; e = frereSuivant[e]) {
+            if (caracteres[e] == c) {
+                return e;
+            }
+        }
+        return AUCUN;
+    }
+
+    private int creerNoeud(char c) {
+        if (nbNoeuds == caracteres.length) {
+            int capacite = nbNoeuds * 2;
+            caracteres = Arrays.copyOf(caracteres, capacite);
+            premierEnfant = Arrays.copyOf(premierEnfant, capacite);
+            frereSuivant = Arrays.copyOf(frereSuivant, capacite);
+            premiereFeuille = Arrays.copyOf(premiereFeuille, capacite);
+        }
+        int n = nbNoeuds++;
+        caracteres[n] = c;
+        premierEnfant[n] = AUCUN;
+        frereSuivant[n] = AUCUN;
+        premiereFeuille[n] = AUCUN;
+        return n;
+    }
+}
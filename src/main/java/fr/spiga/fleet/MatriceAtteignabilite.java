@@ -0,0 +1,117 @@
+package fr.spiga.fleet;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import java.util.List;
+
+/**
+ * Matrice actifs × cibles des coûts énergétiques et durées de trajet, produite
+ * par le {@link ServiceAtteignabilite}.
+ * 
+ * <p>
+ * Les valeurs sont rangées à plat, ligne par actif ({@code i * nbCibles + j}).
+ * La matrice est un instantané : elle n'évolue plus une fois calculée.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class MatriceAtteignabilite {
+
+    private final List<ActifMobile> actifs;
+    private final List<Position3D> cibles;
+
+    /** Consommation estimée de l'aller (en % d'autonomie) */
+    private final double[] energieAller;
+
+    /** Consommation estimée du retour au point de départ (en % d'autonomie) */
+    private final double[] energieRetour;
+
+    /** Durée estimée de l'aller (en secondes) */
+    private final double[] dureeAller;
+
+    /** Autonomie exploitable de chaque actif (autonomie restante - réserve) */
+    private final double[] autonomieUtilisable;
+
+    MatriceAtteignabilite(List<ActifMobile> actifs, List<Position3D> cibles, double[] energieAller,
+            double[] energieRetour, double[] dureeAller, double[] autonomieUtilisable) {
+        this.actifs = actifs;
+        this.cibles = cibles;
+        this.energieAller = energieAller;
+        this.energieRetour = energieRetour;
+        this.dureeAller = dureeAller;
+        this.autonomieUtilisable = autonomieUtilisable;
+    }
+
+    public int getNombreActifs() {
+        return actifs.size();
+    }
+
+    public int getNombreCibles() {
+        return cibles.size();
+    }
+
+    public ActifMobile getActif(int i) {
+        return actifs.get(i);
+    }
+
+    public Position3D getCible(int j) {
+        return cibles.get(j);
+    }
+
+    /**
+     * Obtient la consommation estimée pour rejoindre une cible.
+     * 
+     * @param i l'indice de l'actif
+     * @param j l'indice de la cible
+     * @return la consommation en pourcentage d'autonomie
+     */
+    public double getEnergieAller(int i, int j) {
+        return energieAller[i * cibles.size() + j];
+    }
+
+    /**
+     * Obtient la consommation estimée pour rejoindre une cible puis revenir.
+     * 
+     * @param i l'indice de l'actif
+     * @param j l'indice de la cible
+     * @return la consommation en pourcentage d'autonomie
+     */
+    public double getEnergieAllerRetour(int i, int j) {
+        int k = i * cibles.size() + j;
+        return energieAller[k] + energieRetour[k];
+    }
+
+    /**
+     * Obtient la durée estimée pour rejoindre une cible.
+     * 
+     * @param i l'indice de l'actif
+     * @param j l'indice de la cible
+     * @return la durée en secondes
+     */
+    public double getDureeAller(int i, int j) {
+        return dureeAller[i * cibles.size() + j];
+    }
+
+    /**
+     * Indique si l'actif peut rejoindre la cible avec son autonomie actuelle.
+     * 
+     * @param i l'indice de l'actif
+     * @param j l'indice de la cible
+     * @return true si la cible est atteignable
+     */
+    public boolean estAtteignable(int i, int j) {
+        return getEnergieAller(i, j) <= autonomieUtilisable[i];
+    }
+
+    /**
+     * Indique si l'actif peut rejoindre la cible et revenir à son point de
+     * départ avec son autonomie actuelle.
+     * 
+     * @param i l'indice de l'actif
+     * @param j l'indice de la cible
+     * @return true si l'aller-retour est possible
+     */
+    public boolean estAllerRetourPossible(int i, int j) {
+        return getEnergieAllerRetour(i, j) <= autonomieUtilisable[i];
+    }
+}
@@ -0,0 +1,137 @@
+package fr.spiga.fleet;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Service de calcul de l'atteignabilité des cibles par la flotte.
+ * 
+ * <p>
+ * Pour chaque couple actif × cible, estime l'énergie (aller et retour) et la
+ * durée du trajet avec le modèle de consommation propre au type de l'actif et
+ * les conditions environnementales courantes, sans déplacer l'actif. Les lignes
+ * de la matrice sont calculées par lots en parallèle : chaque actif n'est lu
+ * que par un seul lot.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class ServiceAtteignabilite {
+
+    /** Nombre d'actifs traités par lot parallèle */
+    private static final int TAILLE_LOT = 32;
+
+    /** Autonomie conservée en réserve (en pourcentage) */
+    private final double reserveAutonomie;
+
+    /** Utiliser la longueur du trajet planifié plutôt que la ligne droite */
+    private final boolean utiliserTrajetPlanifie;
+
+    /**
+     * Constructeur par défaut : réserve nulle et distances en ligne droite.
+     */
+    public ServiceAtteignabilite() {
+        this(0.0, false);
+    }
+
+    /**
+     * Constructeur complet.
+     * 
+     * @param reserveAutonomie       l'autonomie à conserver en réserve (0 à 100)
+     * @param utiliserTrajetPlanifie true pour mesurer la longueur du trajet
+     *                               planifié ({@code calculerTrajet})
+     */
+    public ServiceAtteignabilite(double reserveAutonomie, boolean utiliserTrajetPlanifie) {
+        if (reserveAutonomie < 0 || reserveAutonomie > 100) {
+            throw new IllegalArgumentException("La réserve doit être entre 0 et 100");
+        }
+        this.reserveAutonomie = reserveAutonomie;
+        this.utiliserTrajetPlanifie = utiliserTrajetPlanifie;
+    }
+
+    /**
+     * Calcule la matrice d'atteignabilité actifs × cibles.
+     * 
+     * @param actifs les actifs
+     * @param cibles les cibles
+     * @return la matrice calculée
+     */
+    public MatriceAtteignabilite calculer(List<ActifMobile> actifs, List<Position3D> cibles) {
+        if (actifs == null || cibles == null) {
+            throw new IllegalArgumentException("Les actifs et les cibles ne peuvent pas être nuls");
+        }
+        List<ActifMobile> lignes = List.copyOf(actifs);
+        List<Position3D> colonnes = List.copyOf(cibles);
+        int nbActifs = lignes.size();
+        int nbCibles = colonnes.size();
+
+        double[] energieAller = new double[nbActifs * nbCibles];
+        double[] energieRetour = new double[nbActifs * nbCibles];
+        double[] dureeAller = new double[nbActifs * nbCibles];
+        double[] autonomieUtilisable = new double[nbActifs];
+
+        int nbLots = (nbActifs + TAILLE_LOT - 1) / TAILLE_LOT;
+        IntStream.range(0, nbLots).parallel().forEach(lot -> {
+            int fin = Math.min(nbActifs, (lot + 1) * TAILLE_LOT);
+            for (int i = lot * TAILLE_LOT; i < fin; i++) {
+                ActifMobile actif = lignes.get(i);
+                autonomieUtilisable[i] = actif.getAutonomieRestante() - reserveAutonomie;
+                double vitesse = actif.estimerVitesseCroisiere();
+                int base = i * nbCibles;
+                for (int j = 0; j < nbCibles; j++) {
+                    double distance = longueurTrajet(actif, colonnes.get(j));
+                    energieAller[base + j] = actif.estimerConsommation(distance);
+                    // Retour par le même chemin, aux conditions actuelles
+                    energieRetour[base + j] = energieAller[base + j];
+                    dureeAller[base + j] = vitesse > 0 ? distance / vitesse : Double.POSITIVE_INFINITY;
+                }
+            }
+        });
+
+        return new MatriceAtteignabilite(lignes, colonnes, energieAller, energieRetour, dureeAller,
+                autonomieUtilisable);
+    }
+
+    /**
+     * Filtre les actifs capables d'atteindre une cible (et d'en revenir si
+     * demandé).
+     * 
+     * @param actifs     les actifs candidats
+     * @param cible      la cible à atteindre
+     * @param allerRetour true si le retour au point de départ est exigé
+     * @return les actifs retenus, dans l'ordre d'origine
+     */
+    public List<ActifMobile> filtrerAtteignables(List<ActifMobile> actifs, Position3D cible, boolean allerRetour) {
+        MatriceAtteignabilite matrice = calculer(actifs, List.of(cible));
+        List<ActifMobile> retenus = new ArrayList<>();
+        for (int i = 0; i < matrice.getNombreActifs(); i++) {
+            if (allerRetour ? matrice.estAllerRetourPossible(i, 0) : matrice.estAtteignable(i, 0)) {
+                retenus.add(matrice.getActif(i));
+            }
+        }
+        return retenus;
+    }
+
+    private double longueurTrajet(ActifMobile actif, Position3D cible) {
+        if (!utiliserTrajetPlanifie) {
+            return actif.getPosition().distanceVers(cible);
+        }
+        List<Position3D> trajet = actif.calculerTrajet(cible);
+        double longueur = 0.0;
+        for (int k = 1; k < trajet.size(); k++) {
+            longueur += trajet.get(k - 1).distanceVers(trajet.get(k));
+        }
+        return longueur;
+    }
+
+    public double getReserveAutonomie() {
+        return reserveAutonomie;
+    }
+
+    public boolean isUtiliserTrajetPlanifie() {
+        return utiliserTrajetPlanifie;
+    }
+}
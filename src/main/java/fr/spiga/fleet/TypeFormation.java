@@ -0,0 +1,26 @@
+package fr.spiga.fleet;
+
+/**
+ * Énumération des formations possibles d'un essaim en mode meneur-suiveurs.
+ * Les décalages sont exprimés dans le repère du meneur (axe avant = cap).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public enum TypeFormation {
+    /**
+     * Ligne de front : les suiveurs s'alignent de part et d'autre du meneur
+     */
+    LIGNE,
+
+    /**
+     * Formation en V : les suiveurs s'échelonnent en arrière, alternativement
+     * à gauche et à droite
+     */
+    COIN,
+
+    /**
+     * Grille : rangées successives derrière le meneur
+     */
+    GRILLE
+}
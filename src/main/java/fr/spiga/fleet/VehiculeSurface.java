@@ -60,16 +60,15 @@ public class VehiculeSurface extends ActifMarin {
     }
 
     @Override
-    protected double calculerConsommation(double distance) {
-        double conso = super.calculerConsommation(distance);
+    protected double calculerFacteurEnvironnement(fr.spiga.environment.ZoneOperation zone) {
+        double facteur = super.calculerFacteurEnvironnement(zone);
 
         // Sensibilité au vent (État de la mer)
         // Le vent crée des vagues qui ralentissent/augmentent la consommation
-        if (zoneOperation != null && zoneOperation.getVent() != null) {
-            double facteurVent = 1.0 + (zoneOperation.getVent().getIntensite() / 100.0) * 0.5; // +50% max
-            conso *= facteurVent;
+        if (zone.getVent() != null) {
+            facteur *= 1.0 + (zone.getVent().getIntensite() / 100.0) * 0.5; // +50% max
         }
-        return conso;
+        return facteur;
     }
 
     @Override
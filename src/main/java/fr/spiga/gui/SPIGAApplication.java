@@ -4,6 +4,8 @@ import fr.spiga.core.*;
 import fr.spiga.environment.ZoneOperation;
 import fr.spiga.fleet.*;
 import fr.spiga.mission.*;
+import fr.spiga.metriques.PhaseTick;
+import fr.spiga.metriques.RegistreMetriques;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +34,12 @@ public class SPIGAApplication extends Application {
     private GestionnaireEssaim gestionnaire;
     private List<Mission> missions;
     private ZoneOperation zoneOperation;
+    private fr.spiga.communication.BusMessages busMessages;
+    private long messagesPerdusSignales;
+    private final ServiceAtteignabilite serviceAtteignabilite = new ServiceAtteignabilite();
+
+    /** Journal de télémétrie (activé par -Dspiga.telemetrie ou SPIGA_TELEMETRIE), ou null */
+    private fr.spiga.telemetrie.JournalTelemetrie journalTelemetrie;
     private Canvas canvas;
     private TextArea logArea;
     private TextArea statsArea;
@@ -96,6 +104,7 @@ public class SPIGAApplication extends Application {
                 // Mettre à jour toutes les missions actives
                 // Accélérer massivement le temps simulé (x200) pour une réactivité optimale
                 double simulationDt = dt * 200.0;
+                zoneOperation.avancerTemps(simulationDt);
 
                 // Mettre à jour l'affichage de l'environnement
                 mettreAJourAffichageEnvironnement();
@@ -106,6 +115,20 @@ public class SPIGAApplication extends Application {
                     }
                 }
 
+                // Livraison groupée des messages publiés pendant le tick
+                busMessages.distribuer();
+                busMessages.livrerAlertes();
+                long perdus = busMessages.getMessagesPerdus();
+                if (perdus > messagesPerdusSignales) {
+                    ajouterLog((perdus - messagesPerdusSignales) + " message(s) perdu(s) : boîte aux lettres pleine.");
+                    messagesPerdusSignales = perdus;
+                }
+
+                // Publication des positions pour les outils de supervision externes
+                if (journalTelemetrie != null) {
+                    journalTelemetrie.publier(zoneOperation.getTempsSimulation(), gestionnaire.getTousLesActifs());
+                }
+
                 // Vérifier les collisions entre actifs
                 List<String> collisions = gestionnaire.verifierToutesLesCollisions();
                 for (String c : collisions) {
@@ -122,12 +145,30 @@ public class SPIGAApplication extends Application {
         primaryStage.show();
     }
 
+    @Override
+    public void stop() throws Exception {
+        if (journalTelemetrie != null) {
+            journalTelemetrie.close();
+        }
+    }
+
     /**
      * Initialise le système.
      */
     private void initialiser() {
         gestionnaire = new GestionnaireEssaim();
         missions = new ArrayList<>();
+        busMessages = new fr.spiga.communication.BusMessages();
+
+        String fichierTelemetrie = System.getProperty("spiga.telemetrie", System.getenv("SPIGA_TELEMETRIE"));
+        if (fichierTelemetrie != null) {
+            try {
+                journalTelemetrie = new fr.spiga.telemetrie.JournalTelemetrie(
+                        java.nio.file.Paths.get(fichierTelemetrie), 1024);
+            } catch (java.io.IOException e) {
+                System.err.println("Télémétrie désactivée: " + e.getMessage());
+            }
+        }
 
         // Créer la zone d'opération
         Position3D min = new Position3D(0, 0, -2000);
@@ -232,6 +273,11 @@ public class SPIGAApplication extends Application {
         gestionnaire.enregistrerActif(usv);
         gestionnaire.enregistrerActif(auv);
 
+        for (fr.spiga.core.ActifMobile a : gestionnaire.getTousLesActifs()) {
+            busMessages.abonner(a, fr.spiga.communication.SujetMessage.ALERTE,
+                    fr.spiga.communication.SujetMessage.STATUT);
+        }
+
         ajouterLog("4 actifs de démonstration créés (positions validées)");
     }
 
@@ -495,9 +541,57 @@ public class SPIGAApplication extends Application {
             gc.setFill(Color.RED);
             gc.fillText("INTERDIT: " + z.getNom(), cx - 30, cy);
         }
+
+        // Dessiner les zones d'exclusion polygonales (trous en règle pair-impair)
+        for (fr.spiga.environment.ZoneExclusionPolygonale z : zoneOperation.getZonesExclusionPolygonales()) {
+            gc.beginPath();
+            tracerAnneau(gc, z.getContour());
+            for (java.util.List<Position3D> trou : z.getTrous()) {
+                tracerAnneau(gc, trou);
+            }
+            gc.setFillRule(javafx.scene.shape.FillRule.EVEN_ODD);
+            gc.setFill(Color.rgb(255, 0, 0, 0.1));
+            gc.fill();
+            gc.setFillRule(javafx.scene.shape.FillRule.NON_ZERO);
+            gc.setStroke(Color.RED);
+            gc.setLineWidth(2.0);
+            gc.setLineDashes(10.0);
+            gc.stroke();
+            gc.setLineDashes(0);
+            Position3D premier = z.getContour().get(0);
+            gc.setFill(Color.RED);
+            gc.fillText("INTERDIT: " + z.getNom(), (premier.getX() / 100000.0) * CANVAS_WIDTH,
+                    (premier.getY() / 100000.0) * CANVAS_HEIGHT - 5);
+        }
+
+        // Dessiner les routes des patrouilles en cours
+        gc.setStroke(Color.DARKBLUE);
+        gc.setLineWidth(1.5);
+        gc.setLineDashes(4.0);
+        for (Mission mission : missions) {
+            if (mission instanceof MissionPatrouille patrouille && "EN_COURS".equals(mission.getStatut())) {
+                gc.beginPath();
+                tracerAnneau(gc, patrouille.getRoute().getPointsDePassage());
+                gc.stroke();
+            }
+        }
+        gc.setLineDashes(0);
         gc.setLineWidth(1.0);
     }
 
+    private void tracerAnneau(GraphicsContext gc, java.util.List<Position3D> sommets) {
+        for (int i = 0; i < sommets.size(); i++) {
+            double x = (sommets.get(i).getX() / 100000.0) * CANVAS_WIDTH;
+            double y = (sommets.get(i).getY() / 100000.0) * CANVAS_HEIGHT;
+            if (i == 0) {
+                gc.moveTo(x, y);
+            } else {
+                gc.lineTo(x, y);
+            }
+        }
+        gc.closePath();
+    }
+
     /**
      * Dessine un actif sur le canvas.
      */
@@ -641,6 +735,8 @@ public class SPIGAApplication extends Application {
         if (actif != null) {
             actif.setZoneOperation(zoneOperation);
             gestionnaire.enregistrerActif(actif);
+            busMessages.abonner(actif, fr.spiga.communication.SujetMessage.ALERTE,
+                    fr.spiga.communication.SujetMessage.STATUT);
             ajouterLog("Actif créé: " + actif.getType() + " em " + pos);
             mettreAJourAffichage();
         }
@@ -674,7 +770,7 @@ public class SPIGAApplication extends Application {
         // 1. Choisir le type
         List<String> types = List.of("Recherche et Sauvetage", "Surveillance Maritime",
                 "Inspection Sous-Marine",
-                "Reconnaissance Aérienne");
+                "Reconnaissance Aérienne", "Patrouille");
         ChoiceDialog<String> dialogType = new ChoiceDialog<>(types.get(0),
                 types);
         dialogType.setTitle("Nouvelle Mission");
@@ -728,6 +824,34 @@ public class SPIGAApplication extends Application {
                 return;
 
             mission = new fr.spiga.mission.MissionRechercheEtSauvetage(now, fin, cibleOpt.get());
+        } else if (typeChoisi.equals("Patrouille")) {
+            TextInputDialog dialogRoute = new TextInputDialog(
+                    "48000,48000; 52000,48000; 52000,52000; 48000,52000");
+            dialogRoute.setTitle("Configuration Patrouille");
+            dialogRoute.setHeaderText("Étape 2/3 : Route de patrouille (boucle fermée)");
+            dialogRoute.setContentText("Points de passage (x,y; x,y; ...) :");
+
+            Optional<String> routeOpt = dialogRoute.showAndWait();
+            if (routeOpt.isEmpty())
+                return;
+            try {
+                List<Position3D> points = new ArrayList<>();
+                for (String point : routeOpt.get().split(";")) {
+                    String[] coords = point.split(",");
+                    points.add(new Position3D(Double.parseDouble(coords[0].trim()),
+                            Double.parseDouble(coords[1].trim()), 0));
+                }
+                mission = new MissionPatrouille(now, fin, new RoutePatrouille(points));
+            } catch (RuntimeException e) {
+                Alert alert = new Alert(Alert.AlertType.ERROR);
+                alert.setTitle("Erreur");
+                alert.setHeaderText("Route invalide");
+                alert.setContentText(e instanceof IllegalArgumentException && e.getMessage() != null
+                        ? e.getMessage()
+                        : "Format attendu : x,y; x,y; ...");
+                alert.showAndWait();
+                return;
+            }
         } else {
             // Pour les autres missions : Point-to-Point avec Coordonnées
 
@@ -793,6 +917,16 @@ public class SPIGAApplication extends Application {
                 .filter(missionFinale::estCompatible)
                 .collect(java.util.stream.Collectors.toList());
 
+        // Écarter les véhicules qui ne peuvent pas atteindre l'objectif
+        Position3D objectif = missionFinale.getPointObjectif();
+        if (objectif != null) {
+            int nbCompatibles = candidats.size();
+            candidats = serviceAtteignabilite.filtrerAtteignables(candidats, objectif, missionFinale.exigeRetour());
+            if (candidats.size() < nbCompatibles) {
+                ajouterLog((nbCompatibles - candidats.size()) + " véhicule(s) écarté(s) : objectif hors de portée.");
+            }
+        }
+
         if (candidats.isEmpty()) {
             Alert alert = new Alert(Alert.AlertType.ERROR);
             alert.setTitle("Erreur");
@@ -871,11 +1005,14 @@ public class SPIGAApplication extends Application {
      * Met à jour l'affichage.
      */
     private void mettreAJourAffichage() {
+        long debutMetrique = RegistreMetriques.debut();
         dessinerVisualization();
         mettreAJourListeActifs();
         if (statsArea != null) {
-            statsArea.setText(gestionnaire.genererRapportFlotte());
+            statsArea.setText(gestionnaire.genererRapportFlotte()
+                    + "\nAlertes regroupées: " + gestionnaire.compterAlertesRegroupees());
         }
+        RegistreMetriques.fin(PhaseTick.RENDU, debutMetrique);
     }
 
     /**
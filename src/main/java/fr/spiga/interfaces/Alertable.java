@@ -17,6 +17,15 @@ public interface Alertable {
      */
     void notifierEtatCritique(String message);
 
+    /**
+     * Notifie la fin d'un état critique précédemment signalé.
+     * Ne fait rien par défaut.
+     * 
+     * @param message le code de l'alerte levée
+     */
+    default void notifierRetourNormal(String message) {
+    }
+
     /**
      * Vérifie si l'actif est dans un état critique.
      * 
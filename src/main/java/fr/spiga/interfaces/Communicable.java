@@ -27,4 +27,14 @@ public interface Communicable {
      * @param emetteur l'actif émetteur du message
      */
     void recevoirAlerte(String message, ActifMobile emetteur);
+
+    /**
+     * Diffuse une alerte à tous les actifs abonnés situés dans un rayon donné.
+     * La livraison est différée au prochain lot du bus de messages.
+     * 
+     * @param message le message d'alerte à diffuser
+     * @param portee  la portée de diffusion en mètres
+     * @return true si la diffusion a été mise en file, false sinon (pas de bus)
+     */
+    boolean diffuserAlerte(String message, double portee);
 }
@@ -0,0 +1,105 @@
+package fr.spiga.metriques;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme à seaux logarithmiques (puissances de 2) de valeurs positives.
+ * 
+ * <p>
+ * L'enregistrement coûte quelques additions sans verrou ({@link LongAdder}),
+ * même depuis plusieurs fils. Les centiles sont estimés à la borne supérieure
+ * du seau, soit une précision d'un facteur 2 au plus.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class Histogramme {
+
+    private static final int NB_SEAUX = 64;
+
+    private final LongAdder[] seaux = new LongAdder[NB_SEAUX];
+    private final LongAdder nombre = new LongAdder();
+    private final LongAdder somme = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public Histogramme() {
+        for (int i = 0; i < NB_SEAUX; i++) {
+            seaux[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Enregistre une valeur (les valeurs négatives comptent pour 0).
+     * 
+     * @param valeur la valeur
+     */
+    public void enregistrer(long valeur) {
+        long v = Math.max(0L, valeur);
+        seaux[Math.min(NB_SEAUX - 1, 64 - Long.numberOfLeadingZeros(v))].increment();
+        nombre.increment();
+        somme.add(v);
+        max.accumulate(v);
+    }
+
+    public long getNombre() {
+        return nombre.sum();
+    }
+
+    public long getSomme() {
+        return somme.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMoyenne() {
+        long n = nombre.sum();
+        return n > 0 ? (double) somme.sum() / n : 0.0;
+    }
+
+    /**
+     * Estime un centile.
+     * 
+     * @param centile le centile (0 à 100)
+     * @return la borne supérieure du seau contenant le centile, 0 si vide
+     */
+    public long getCentile(double centile) {
+        if (centile < 0 || centile > 100) {
+            throw new IllegalArgumentException("Le centile doit être entre 0 et 100");
+        }
+        long[] comptes = new long[NB_SEAUX];
+        long total = 0;
+        for (int i = 0; i < NB_SEAUX; i++) {
+            comptes[i] = seaux[i].sum();
+            total += comptes[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rang = Math.max(1L, (long) Math.ceil(centile / 100.0 * total));
+        long cumul = 0;
+        for (int i = 0; i < NB_SEAUX; i++) {
+            cumul += comptes[i];
+            if (cumul >= rang) {
+                // Le seau i contient les valeurs de [2^(i-1), 2^i - 1]
+                long borne = i == 0 ? 0L : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                return Math.min(borne, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Remet l'histogramme à zéro.
+     */
+    public void reinitialiser() {
+        for (LongAdder seau : seaux) {
+            seau.reset();
+        }
+        nombre.reset();
+        somme.reset();
+        max.reset();
+    }
+}
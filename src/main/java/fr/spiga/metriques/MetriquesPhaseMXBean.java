@@ -0,0 +1,24 @@
+package fr.spiga.metriques;
+
+/**
+ * Vue JMX des métriques d'une phase de simulation.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public interface MetriquesPhaseMXBean {
+
+    String getUnite();
+
+    long getNombre();
+
+    double getMoyenne();
+
+    long getP50();
+
+    long getP99();
+
+    long getMax();
+
+    void reinitialiser();
+}
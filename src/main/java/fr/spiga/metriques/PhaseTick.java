@@ -0,0 +1,39 @@
+package fr.spiga.metriques;
+
+/**
+ * Phases instrumentées d'un pas de simulation.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public enum PhaseTick {
+    /** Mise à jour d'une mission ({@code Mission.mettreAJour}) */
+    MISSIONS("ns"),
+    /** Déplacement d'un actif ({@code ActifMobile.avancerVers}) */
+    AVANCER_VERS("ns"),
+    /** Calcul de destination bornée ({@code ZoneOperation.getClampedTarget}) */
+    CIBLE_BORNEE("ns"),
+    /** Nombre de sous-étapes par appel à {@code avancerVers} */
+    SOUS_ETAPES("pas"),
+    /** Vérification des collisions de la flotte */
+    COLLISIONS("ns"),
+    /** Rendu de l'affichage graphique */
+    RENDU("ns"),
+    /** Génération du rapport de flotte */
+    RAPPORT("ns");
+
+    private final String unite;
+
+    PhaseTick(String unite) {
+        this.unite = unite;
+    }
+
+    /**
+     * Obtient l'unité des valeurs enregistrées pour la phase.
+     * 
+     * @return "ns" pour une durée, "pas" pour un comptage
+     */
+    public String getUnite() {
+        return unite;
+    }
+}
@@ -0,0 +1,232 @@
+package fr.spiga.metriques;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registre global des métriques de simulation par phase de pas.
+ * 
+ * <p>
+ * Usage dans le code instrumenté :
+ * 
+ * <pre>
+ * long debut = RegistreMetriques.debut();
+ * ... // phase mesurée
+ * RegistreMetriques.fin(PhaseTick.COLLISIONS, debut);
+ * </pre>
+ * 
+ * Désactivé (par défaut), chaque point de mesure se réduit à la lecture d'un
+ * booléen. Le registre s'active par programme, par la propriété système
+ * {@code spiga.metriques=true} ou via JMX ({@code fr.spiga:type=Metriques}).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class RegistreMetriques {
+
+    private static final PhaseTick[] PHASES = PhaseTick.values();
+
+    private static final Histogramme[] HISTOGRAMMES = new Histogramme[PHASES.length];
+
+    static {
+        for (int i = 0; i < PHASES.length; i++) {
+            HISTOGRAMMES[i] = new Histogramme();
+        }
+    }
+
+    private static volatile boolean actif;
+
+    private static boolean mbeansEnregistres;
+
+    static {
+        if (Boolean.getBoolean("spiga.metriques")) {
+            activer();
+        }
+    }
+
+    private RegistreMetriques() {
+    }
+
+    /**
+     * Active la collecte et publie les MBeans JMX (une seule fois).
+     */
+    public static void activer() {
+        enregistrerMBeans();
+        actif = true;
+    }
+
+    /**
+     * Désactive la collecte (les valeurs déjà enregistrées sont conservées).
+     */
+    public static void desactiver() {
+        actif = false;
+    }
+
+    public static boolean estActif() {
+        return actif;
+    }
+
+    /**
+     * Marque le début d'une phase chronométrée.
+     * 
+     * @return l'instant de début, ou 0 si le registre est désactivé
+     */
+    public static long debut() {
+        return actif ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Enregistre la durée d'une phase commencée par {@link #debut()}.
+     * 
+     * @param phase la phase
+     * @param debut la valeur retournée par {@link #debut()}
+     */
+    public static void fin(PhaseTick phase, long debut) {
+        if (debut != 0L) {
+            HISTOGRAMMES[phase.ordinal()].enregistrer(System.nanoTime() - debut);
+        }
+    }
+
+    /**
+     * Enregistre une valeur de comptage pour une phase (ex : sous-étapes).
+     * 
+     * @param phase  la phase
+     * @param valeur la valeur
+     */
+    public static void compter(PhaseTick phase, long valeur) {
+        if (actif) {
+            HISTOGRAMMES[phase.ordinal()].enregistrer(valeur);
+        }
+    }
+
+    /**
+     * Obtient l'histogramme d'une phase.
+     * 
+     * @param phase la phase
+     * @return l'histogramme
+     */
+    public static Histogramme getHistogramme(PhaseTick phase) {
+        return HISTOGRAMMES[phase.ordinal()];
+    }
+
+    /**
+     * Remet toutes les métriques à zéro.
+     */
+    public static void reinitialiserTout() {
+        for (Histogramme h : HISTOGRAMMES) {
+            h.reinitialiser();
+        }
+    }
+
+    /**
+     * Génère un rapport textuel des métriques (durées en microsecondes).
+     * 
+     * @return le rapport
+     */
+    public static String genererRapport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== Métriques de simulation (%s) ===%n", actif ? "actives" : "désactivées"));
+        sb.append(String.format("%-14s %10s %12s %10s %10s %10s%n", "Phase", "Nombre", "Moyenne", "P50", "P99",
+                "Max"));
+        for (PhaseTick phase : PHASES) {
+            Histogramme h = HISTOGRAMMES[phase.ordinal()];
+            boolean duree = "ns".equals(phase.getUnite());
+            double diviseur = duree ? 1000.0 : 1.0;
+            sb.append(String.format("%-14s %10d %12.2f %10.1f %10.1f %10.1f %s%n", phase, h.getNombre(),
+                    h.getMoyenne() / diviseur, h.getCentile(50) / diviseur, h.getCentile(99) / diviseur,
+                    h.getMax() / diviseur, duree ? "µs" : phase.getUnite()));
+        }
+        sb.append(String.format("Noyaux de proximité: %s%n", fr.spiga.core.NoyauxProximite.getDescription()));
+        return sb.toString();
+    }
+
+    private static synchronized void enregistrerMBeans() {
+        if (mbeansEnregistres) {
+            return;
+        }
+        mbeansEnregistres = true;
+        try {
+            MBeanServer serveur = ManagementFactory.getPlatformMBeanServer();
+            serveur.registerMBean(new Controle(), new ObjectName("fr.spiga:type=Metriques"));
+            for (PhaseTick phase : PHASES) {
+                serveur.registerMBean(new MetriquesPhase(phase),
+                        new ObjectName("fr.spiga:type=Metriques,phase=" + phase.name()));
+            }
+        } catch (JMException e) {
+            System.err.println("MBeans de métriques non publiés: " + e.getMessage());
+        }
+    }
+
+    /** MBean de contrôle du registre */
+    private static final class Controle implements RegistreMetriquesMXBean {
+        @Override
+        public boolean isActif() {
+            return actif;
+        }
+
+        @Override
+        public void setActif(boolean valeur) {
+            actif = valeur;
+        }
+
+        @Override
+        public void reinitialiserTout() {
+            RegistreMetriques.reinitialiserTout();
+        }
+
+        @Override
+        public String getRapport() {
+            return genererRapport();
+        }
+    }
+
+    /** MBean exposant l'histogramme d'une phase */
+    private static final class MetriquesPhase implements MetriquesPhaseMXBean {
+        private final PhaseTick phase;
+
+        MetriquesPhase(PhaseTick phase) {
+            this.phase = phase;
+        }
+
+        private Histogramme histogramme() {
+            return HISTOGRAMMES[phase.ordinal()];
+        }
+
+        @Override
+        public String getUnite() {
+            return phase.getUnite();
+        }
+
+        @Override
+        public long getNombre() {
+            return histogramme().getNombre();
+        }
+
+        @Override
+        public double getMoyenne() {
+            return histogramme().getMoyenne();
+        }
+
+        @Override
+        public long getP50() {
+            return histogramme().getCentile(50);
+        }
+
+        @Override
+        public long getP99() {
+            return histogramme().getCentile(99);
+        }
+
+        @Override
+        public long getMax() {
+            return histogramme().getMax();
+        }
+
+        @Override
+        public void reinitialiser() {
+            histogramme().reinitialiser();
+        }
+    }
+}
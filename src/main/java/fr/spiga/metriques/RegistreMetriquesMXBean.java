@@ -0,0 +1,18 @@
+package fr.spiga.metriques;
+
+/**
+ * Vue JMX du registre de métriques (activation et remise à zéro).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public interface RegistreMetriquesMXBean {
+
+    boolean isActif();
+
+    void setActif(boolean actif);
+
+    void reinitialiserTout();
+
+    String getRapport();
+}
@@ -0,0 +1,139 @@
+package fr.spiga.mission;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.ZoneOperation;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Répartit les actifs d'une mission sur des emplacements (slots) distincts
+ * autour d'une destination commune.
+ * 
+ * <p>
+ * Les emplacements suivent un pavage hexagonal en anneaux concentriques
+ * (1, 6, 12, 18... emplacements) centré sur la destination. Les emplacements
+ * hors zone, dans un obstacle ou dans une zone d'exclusion sont écartés.
+ * L'espacement par défaut dépasse la portée de l'évitement par pilotage de
+ * {@link ActifMobile#avancerVers(Position3D, double)}, de sorte que les actifs
+ * déjà posés ne perturbent plus ceux qui arrivent.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class AllocationSlots {
+
+    /** Espacement par défaut entre deux emplacements voisins (en mètres) */
+    public static final double ESPACEMENT_DEFAUT = 80.0;
+
+    /** Directions axiales du pavage hexagonal */
+    private static final int[][] DIRECTIONS = {
+            { 1, 0 }, { 1, -1 }, { 0, -1 }, { -1, 0 }, { -1, 1 }, { 0, 1 } };
+
+    private static final double RACINE3_SUR_2 = Math.sqrt(3.0) / 2.0;
+
+    private AllocationSlots() {
+    }
+
+    /**
+     * Calcule un emplacement distinct pour chaque actif.
+     * Chaque actif (du plus proche au plus éloigné de la destination) prend
+     * l'emplacement libre le plus proche de lui, ce qui limite les croisements.
+     * 
+     * @param destination la destination commune
+     * @param actifs      les actifs à placer
+     * @param zone        la zone d'opération (peut être nulle : aucun filtrage)
+     * @param espacement  la distance entre deux emplacements voisins
+     * @return les emplacements, dans l'ordre du tableau d'actifs
+     */
+    public static Position3D[] allouer(Position3D destination, ActifMobile[] actifs, ZoneOperation zone,
+            double espacement) {
+        if (destination == null || actifs == null) {
+            throw new IllegalArgumentException("La destination et les actifs ne peuvent pas être nuls");
+        }
+        if (espacement <= 0) {
+            throw new IllegalArgumentException("L'espacement doit être positif");
+        }
+
+        int n = actifs.length;
+        Position3D[] resultat = new Position3D[n];
+        if (n == 0) {
+            return resultat;
+        }
+
+        Position3D[] candidats = genererEmplacements(destination, n, zone, espacement);
+        boolean[] pris = new boolean[candidats.length];
+
+        Integer[] ordre = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            ordre[i] = i;
+        }
+        Arrays.sort(ordre, Comparator.comparingDouble(i -> actifs[i].getPosition().distanceVers(destination)));
+
+        for (int i : ordre) {
+            Position3D pos = actifs[i].getPosition();
+            int meilleur = -1;
+            double meilleureDistance = Double.MAX_VALUE;
+            for (int c = 0; c < candidats.length; c++) {
+                if (pris[c])
+                    continue;
+                double d = pos.distance2DVers(candidats[c]);
+                if (d < meilleureDistance) {
+                    meilleureDistance = d;
+                    meilleur = c;
+                }
+            }
+            if (meilleur >= 0) {
+                pris[meilleur] = true;
+                resultat[i] = candidats[meilleur];
+            } else {
+                // Plus aucun emplacement valide : repli sur la destination
+                resultat[i] = destination;
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Génère jusqu'à {@code nombre} emplacements valides, anneau par anneau.
+     */
+    private static Position3D[] genererEmplacements(Position3D centre, int nombre, ZoneOperation zone,
+            double espacement) {
+        Position3D[] emplacements = new Position3D[nombre];
+        int trouves = 0;
+
+        if (estValide(centre, zone)) {
+            emplacements[trouves++] = centre;
+        }
+
+        // Borne de sécurité : assez d'anneaux pour contourner de gros obstacles
+        int anneauxMax = (int) Math.ceil(Math.sqrt(nombre)) + 50;
+        for (int k = 1; k <= anneauxMax && trouves < nombre; k++) {
+            int q = DIRECTIONS[4][0] * k;
+            int r = DIRECTIONS[4][1] * k;
+            for (int cote = 0; cote < 6 && trouves < nombre; cote++) {
+                for (int pas = 0; pas < k && trouves < nombre; pas++) {
+                    Position3D p = new Position3D(
+                            centre.getX() + espacement * (q + r / 2.0),
+                            centre.getY() + espacement * (r * RACINE3_SUR_2),
+                            centre.getZ());
+                    if (estValide(p, zone)) {
+                        emplacements[trouves++] = p;
+                    }
+                    q += DIRECTIONS[cote][0];
+                    r += DIRECTIONS[cote][1];
+                }
+            }
+        }
+        return Arrays.copyOf(emplacements, trouves);
+    }
+
+    private static boolean estValide(Position3D p, ZoneOperation zone) {
+        if (zone == null) {
+            return true;
+        }
+        return zone.estDansZone(p)
+                && !zone.estEnCollisionAvecObstacle(p)
+                && !zone.estDansZoneExclusion(p);
+    }
+}
@@ -0,0 +1,233 @@
+package fr.spiga.mission;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.EtatOperationnel;
+import fr.spiga.environment.CourantMarin;
+import fr.spiga.environment.Precipitation;
+import fr.spiga.environment.Vent;
+import fr.spiga.environment.ZoneOperation;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Estimateur Monte Carlo de la probabilité de succès d'une mission.
+ * 
+ * <p>
+ * Chaque simulation travaille sur une copie légère du monde utile à la
+ * mission : la zone d'opération (obstacles partagés en copie à l'écriture),
+ * les actifs référencés par la mission et la mission elle-même. Le vent, le
+ * courant et les précipitations sont tirés selon des lois normales centrées
+ * sur les conditions actuelles. Les simulations sont indépendantes et
+ * exécutées en parallèle ; chacune a sa propre graine, ce qui rend le résultat
+ * reproductible.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class EstimateurSuccesMission {
+
+    /** Nombre de simulations par défaut */
+    public static final int NOMBRE_SIMULATIONS_DEFAUT = 200;
+
+    /** Pas de temps simulé par défaut (en secondes) */
+    public static final double PAS_TEMPS_DEFAUT = 1.0;
+
+    /** Durée simulée maximale par défaut (en secondes) */
+    public static final double DUREE_MAX_DEFAUT = 4 * 3600.0;
+
+    private final int nombreSimulations;
+    private final double pasTemps;
+    private final double dureeMax;
+    private final long graine;
+
+    /** Écarts-types des perturbations (intensités sur l'échelle 0-100) */
+    private double ecartTypeVent = 10.0;
+    private double ecartTypeDirectionVent = Math.PI / 8;
+    private double ecartTypeCourant = 5.0;
+    private double ecartTypePrecipitation = 10.0;
+
+    /**
+     * Constructeur avec les paramètres par défaut.
+     * 
+     * @param graine la graine aléatoire
+     */
+    public EstimateurSuccesMission(long graine) {
+        this(NOMBRE_SIMULATIONS_DEFAUT, PAS_TEMPS_DEFAUT, DUREE_MAX_DEFAUT, graine);
+    }
+
+    /**
+     * Constructeur complet.
+     * 
+     * @param nombreSimulations le nombre de simulations
+     * @param pasTemps          le pas de temps simulé (en secondes)
+     * @param dureeMax          la durée simulée maximale (en secondes)
+     * @param graine            la graine aléatoire
+     */
+    public EstimateurSuccesMission(int nombreSimulations, double pasTemps, double dureeMax, long graine) {
+        if (nombreSimulations <= 0) {
+            throw new IllegalArgumentException("Le nombre de simulations doit être positif");
+        }
+        if (pasTemps <= 0 || dureeMax <= 0) {
+            throw new IllegalArgumentException("Le pas de temps et la durée maximale doivent être positifs");
+        }
+        this.nombreSimulations = nombreSimulations;
+        this.pasTemps = pasTemps;
+        this.dureeMax = dureeMax;
+        this.graine = graine;
+    }
+
+    /**
+     * Définit les écarts-types des perturbations météorologiques.
+     * 
+     * @param vent           l'écart-type de l'intensité du vent
+     * @param directionVent  l'écart-type de la direction du vent (en radians)
+     * @param courant        l'écart-type de l'intensité du courant
+     * @param precipitation  l'écart-type de l'intensité des précipitations
+     */
+    public void setEcartsTypes(double vent, double directionVent, double courant, double precipitation) {
+        if (vent < 0 || directionVent < 0 || courant < 0 || precipitation < 0) {
+            throw new IllegalArgumentException("Les écarts-types doivent être positifs ou nuls");
+        }
+        this.ecartTypeVent = vent;
+        this.ecartTypeDirectionVent = directionVent;
+        this.ecartTypeCourant = courant;
+        this.ecartTypePrecipitation = precipitation;
+    }
+
+    /**
+     * Estime la probabilité de succès d'une mission planifiée (ou en cours).
+     * La mission, ses actifs et la zone ne sont pas modifiés.
+     * 
+     * @param mission la mission à évaluer
+     * @param zone    la zone d'opération (null pour celle de la mission ou de
+     *                son premier actif)
+     * @return le résultat de l'estimation
+     */
+    public EstimationMission estimer(Mission mission, ZoneOperation zone) {
+        if (mission == null) {
+            throw new IllegalArgumentException("La mission ne peut pas être nulle");
+        }
+        List<ActifMobile> actifs = mission.getActifsAssignes();
+        if (actifs.isEmpty()) {
+            throw new IllegalArgumentException("La mission n'a aucun actif assigné");
+        }
+        ZoneOperation zoneReference = zone != null ? zone
+                : mission.getZoneOperation() != null ? mission.getZoneOperation() : actifs.get(0).getZoneOperation();
+        if (zoneReference == null) {
+            throw new IllegalArgumentException("Aucune zone d'opération pour simuler la mission");
+        }
+
+        // Copie de référence faite une fois : les simulations ne lisent qu'elle
+        ZoneOperation base = zoneReference.copierPourSimulation();
+
+        double[] marges = new double[nombreSimulations];
+        double[] durees = new double[nombreSimulations];
+        boolean[] succes = new boolean[nombreSimulations];
+
+        IntStream.range(0, nombreSimulations).parallel().forEach(k -> {
+            SplittableRandom alea = new SplittableRandom(graine + k * 0x9E3779B97F4A7C15L);
+            ZoneOperation zoneSimulee = base.copierPourSimulation();
+            perturber(zoneSimulee, base, alea);
+
+            Map<ActifMobile, ActifMobile> copies = new IdentityHashMap<>();
+            Mission copie = mission.copierPourSimulation(actif -> copies.computeIfAbsent(actif, a -> {
+                ActifMobile c = a.copierPourSimulation();
+                c.setZoneOperation(zoneSimulee);
+                return c;
+            }), zoneSimulee);
+            List<ActifMobile> actifsSimules = copie.getActifsAssignes();
+
+            double t = simuler(copie, actifsSimules, zoneSimulee);
+            succes[k] = "TERMINEE".equals(copie.getStatut());
+            durees[k] = t;
+            double marge = 100.0;
+            for (ActifMobile actif : actifsSimules) {
+                marge = Math.min(marge, actif.getAutonomieRestante());
+            }
+            marges[k] = marge;
+        });
+
+        int nbSucces = 0;
+        for (boolean s : succes) {
+            if (s) {
+                nbSucces++;
+            }
+        }
+        double[] dureesSucces = new double[nbSucces];
+        for (int k = 0, n = 0; k < nombreSimulations; k++) {
+            if (succes[k]) {
+                dureesSucces[n++] = durees[k];
+            }
+        }
+        return new EstimationMission(nombreSimulations, nbSucces, marges, dureesSucces);
+    }
+
+    /**
+     * Déroule une simulation jusqu'à la fin de la mission, la panne de tous
+     * ses actifs ou la durée maximale.
+     * 
+     * @return le temps simulé écoulé
+     */
+    private double simuler(Mission mission, List<ActifMobile> actifs, ZoneOperation zone) {
+        if ("PLANIFIEE".equals(mission.getStatut()) && !mission.demarrer()) {
+            return 0.0;
+        }
+        double t = 0.0;
+        while ("EN_COURS".equals(mission.getStatut()) && t < dureeMax) {
+            zone.avancerTemps(pasTemps);
+            mission.mettreAJour(pasTemps);
+            t += pasTemps;
+            if (tousEnPanne(actifs)) {
+                break;
+            }
+        }
+        return t;
+    }
+
+    private static boolean tousEnPanne(List<ActifMobile> actifs) {
+        for (ActifMobile actif : actifs) {
+            if (actif.getEtatOperationnel() != EtatOperationnel.EN_PANNE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void perturber(ZoneOperation zone, ZoneOperation reference, SplittableRandom alea) {
+        Vent vent = reference.getVent();
+        double angle = Math.atan2(vent.getDirection().getY(), vent.getDirection().getX())
+                + gauss(alea) * ecartTypeDirectionVent;
+        zone.setVent(new Vent(angle, borner(vent.getIntensite() + gauss(alea) * ecartTypeVent)));
+
+        CourantMarin courant = reference.getCourantMarin();
+        zone.setCourantMarin(new CourantMarin(courant.getDirection(),
+                borner(courant.getIntensite() + gauss(alea) * ecartTypeCourant)));
+
+        Precipitation precipitation = reference.getPrecipitation();
+        double intensite = borner(precipitation.getIntensite() + gauss(alea) * ecartTypePrecipitation);
+        Precipitation.TypePrecipitation type = precipitation.getType();
+        if (intensite == 0.0) {
+            type = Precipitation.TypePrecipitation.AUCUNE;
+        } else if (type == Precipitation.TypePrecipitation.AUCUNE) {
+            type = Precipitation.TypePrecipitation.PLUIE_LEGERE;
+        }
+        zone.setPrecipitation(new Precipitation(type, intensite));
+    }
+
+    /** Tirage selon la loi normale centrée réduite (Box-Muller) */
+    private static double gauss(SplittableRandom alea) {
+        double u = 1.0 - alea.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2 * Math.PI * alea.nextDouble());
+    }
+
+    private static double borner(double intensite) {
+        return Math.max(0.0, Math.min(100.0, intensite));
+    }
+
+    public int getNombreSimulations() {
+        return nombreSimulations;
+    }
+}
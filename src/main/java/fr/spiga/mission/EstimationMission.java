@@ -0,0 +1,97 @@
+package fr.spiga.mission;
+
+import java.util.Arrays;
+
+/**
+ * Résultat d'une estimation Monte Carlo du succès d'une mission (voir
+ * {@link EstimateurSuccesMission}).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class EstimationMission {
+
+    private final int nombreSimulations;
+    private final int nombreSucces;
+
+    /** Marge d'énergie finale (autonomie minimale des actifs, en %), triée */
+    private final double[] margesEnergie;
+
+    /** Durées des simulations réussies (en secondes simulées), triées */
+    private final double[] durees;
+
+    EstimationMission(int nombreSimulations, int nombreSucces, double[] margesEnergie, double[] durees) {
+        this.nombreSimulations = nombreSimulations;
+        this.nombreSucces = nombreSucces;
+        this.margesEnergie = margesEnergie.clone();
+        this.durees = durees.clone();
+        Arrays.sort(this.margesEnergie);
+        Arrays.sort(this.durees);
+    }
+
+    public int getNombreSimulations() {
+        return nombreSimulations;
+    }
+
+    public int getNombreSucces() {
+        return nombreSucces;
+    }
+
+    /**
+     * Obtient la proportion de simulations où la mission s'est terminée avec
+     * succès.
+     * 
+     * @return le taux de succès (0.0 à 1.0)
+     */
+    public double getTauxSucces() {
+        return nombreSimulations > 0 ? (double) nombreSucces / nombreSimulations : 0.0;
+    }
+
+    /**
+     * Obtient un centile de la marge d'énergie finale (autonomie restante du
+     * plus faible des actifs assignés), sur toutes les simulations.
+     * 
+     * @param centile le centile (0 à 100)
+     * @return la marge en pourcentage d'autonomie, ou NaN sans simulation
+     */
+    public double getMargeEnergie(double centile) {
+        return centile(margesEnergie, centile);
+    }
+
+    /**
+     * Obtient un centile de la durée de mission, sur les simulations réussies.
+     * 
+     * @param centile le centile (0 à 100)
+     * @return la durée en secondes simulées, ou NaN sans succès
+     */
+    public double getDuree(double centile) {
+        return centile(durees, centile);
+    }
+
+    private static double centile(double[] valeursTriees, double centile) {
+        if (centile < 0 || centile > 100) {
+            throw new IllegalArgumentException("Le centile doit être entre 0 et 100");
+        }
+        if (valeursTriees.length == 0) {
+            return Double.NaN;
+        }
+        // Interpolation linéaire entre les deux rangs encadrants
+        double rang = centile / 100.0 * (valeursTriees.length - 1);
+        int bas = (int) Math.floor(rang);
+        int haut = Math.min(bas + 1, valeursTriees.length - 1);
+        return valeursTriees[bas] + (rang - bas) * (valeursTriees[haut] - valeursTriees[bas]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "=== Estimation Monte Carlo ===%n" +
+                        "Simulations: %d%n" +
+                        "Taux de succès: %.1f%%%n" +
+                        "Marge d'énergie (P5/P50/P95): %.1f%% / %.1f%% / %.1f%%%n" +
+                        "Durée (P5/P50/P95): %.0fs / %.0fs / %.0fs",
+                nombreSimulations, getTauxSucces() * 100,
+                getMargeEnergie(5), getMargeEnergie(50), getMargeEnergie(95),
+                getDuree(5), getDuree(50), getDuree(95));
+    }
+}
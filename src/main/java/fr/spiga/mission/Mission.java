@@ -1,11 +1,18 @@
 package fr.spiga.mission;
 
 import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.core.RegistreActifs;
+import fr.spiga.metriques.PhaseTick;
+import fr.spiga.metriques.RegistreMetriques;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 /**
  * Classe abstraite représentant une mission.
@@ -14,7 +21,7 @@ import java.util.UUID;
  * @author SPIGA Team
  * @version 1.0
  */
-public abstract class Mission implements Serializable {
+public abstract class Mission implements Serializable, Cloneable {
     private static final long serialVersionUID = 1L;
 
     /** Identifiant unique de la mission */
@@ -41,8 +48,23 @@ public abstract class Mission implements Serializable {
     /** Date/heure de fin réelle */
     private LocalDateTime finReelle;
 
-    /** Actifs assignés à la mission */
-    private final List<ActifMobile> actifsAssignes;
+    /** Actifs assignés à la mission (ordre d'assignation) */
+    private RegistreActifs actifsAssignes;
+
+    /**
+     * Instantané des actifs assignés, figé au démarrage (l'assignation est
+     * fermée une fois la mission lancée). Parcouru par indice à chaque tick.
+     */
+    private ActifMobile[] tableauActifs = new ActifMobile[0];
+
+    /** Actifs arrivés à destination, indexés par rang d'assignation */
+    private BitSet actifsArrives = new BitSet();
+
+    /** Emplacement d'arrivée de chaque actif, alloué au premier ralliement */
+    private Position3D[] emplacements;
+
+    /** Tolérance d'arrivée sur un emplacement (en mètres) */
+    private static final double RAYON_ARRIVEE_EMPLACEMENT = 10.0;
 
     /** Résultats attendus */
     private String resultatsAttendus;
@@ -50,6 +72,9 @@ public abstract class Mission implements Serializable {
     /** Résultats obtenus */
     private String resultatsObtenus;
 
+    /** Vrai pour une copie de simulation : aucun message n'est affiché */
+    private boolean silencieuse;
+
     /**
      * Constructeur protégé pour les sous-classes.
      * 
@@ -76,7 +101,7 @@ public abstract class Mission implements Serializable {
         this.debutPrevu = debutPrevu;
         this.finPrevue = finPrevue;
         this.resultatsAttendus = resultatsAttendus;
-        this.actifsAssignes = new ArrayList<>();
+        this.actifsAssignes = new RegistreActifs();
     }
 
     public String getId() {
@@ -107,8 +132,13 @@ public abstract class Mission implements Serializable {
         return finReelle;
     }
 
+    /**
+     * Obtient les actifs assignés (instantané non modifiable, sans copie).
+     * 
+     * @return les actifs dans l'ordre d'assignation
+     */
     public List<ActifMobile> getActifsAssignes() {
-        return new ArrayList<>(actifsAssignes);
+        return actifsAssignes.instantane();
     }
 
     public String getResultatsAttendus() {
@@ -137,21 +167,45 @@ public abstract class Mission implements Serializable {
      * @return true si assignation réussie, false sinon
      */
     public boolean assignerActif(ActifMobile actif) {
-        if (actif == null || actifsAssignes.contains(actif)) {
+        return estAssignable(actif) && actifsAssignes.ajouter(actif);
+    }
+
+    /**
+     * Assigne plusieurs actifs en une seule écriture du registre. Les actifs
+     * indisponibles, incompatibles ou déjà assignés sont ignorés.
+     * 
+     * @param actifs les actifs à assigner, dans l'ordre
+     * @return le nombre d'actifs assignés
+     */
+    public int assignerActifs(Collection<? extends ActifMobile> actifs) {
+        if (actifs == null || !"PLANIFIEE".equals(statut)) {
+            return 0;
+        }
+        List<ActifMobile> retenus = new ArrayList<>(actifs.size());
+        for (ActifMobile actif : actifs) {
+            if (estAssignable(actif)) {
+                retenus.add(actif);
+            }
+        }
+        return actifsAssignes.ajouterTous(retenus);
+    }
+
+    private boolean estAssignable(ActifMobile actif) {
+        if (actif == null || actifsAssignes.contient(actif)) {
             return false;
         }
         if (!"PLANIFIEE".equals(statut)) {
             return false; // Impossible d'assigner si mission déjà lancée
         }
         if (actif.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.AU_SOL) {
-            System.out.println("Actif " + actif.getId() + " indisponible (état: " + actif.getEtatOperationnel() + ")");
+            journaliser("Actif " + actif.getId() + " indisponible (état: " + actif.getEtatOperationnel() + ")");
             return false;
         }
         if (!estCompatible(actif)) {
-            System.out.println("Actif " + actif.getId() + " incompatible avec la mission " + getNom());
+            journaliser("Actif " + actif.getId() + " incompatible avec la mission " + getNom());
             return false;
         }
-        return actifsAssignes.add(actif);
+        return true;
     }
 
     /**
@@ -164,13 +218,7 @@ public abstract class Mission implements Serializable {
         if (essaim == null || !"PLANIFIEE".equals(statut)) {
             return false;
         }
-        boolean assigned = false;
-        for (ActifMobile actif : essaim.getActifs()) {
-            if (assignerActif(actif)) {
-                assigned = true;
-            }
-        }
-        return assigned;
+        return assignerActifs(essaim.getActifs()) > 0;
     }
 
     /**
@@ -182,13 +230,16 @@ public abstract class Mission implements Serializable {
         if (!"PLANIFIEE".equals(statut)) {
             return false;
         }
-        if (actifsAssignes.isEmpty()) {
-            System.out.println("Impossible de démarrer: aucun actif assigné");
+        if (actifsAssignes.estVide()) {
+            journaliser("Impossible de démarrer: aucun actif assigné");
             return false;
         }
 
         this.statut = "EN_COURS";
         this.debutReel = LocalDateTime.now();
+        this.tableauActifs = actifsAssignes.instantane().toArray(new ActifMobile[0]);
+        this.actifsArrives.clear();
+        this.emplacements = null;
 
         // Démarrer tous les actifs assignés
         for (ActifMobile actif : actifsAssignes) {
@@ -254,17 +305,117 @@ public abstract class Mission implements Serializable {
         if (!"EN_COURS".equals(statut)) {
             return;
         }
+        long debutMetrique = RegistreMetriques.debut();
 
         // Vérifier si des actifs assignés sont revenus à un état disponible (AU_SOL)
         // après une panne ou rechargement, et les remettre en mission.
-        for (ActifMobile actif : actifsAssignes) {
-            if (actif.getEtatOperationnel() == fr.spiga.core.EtatOperationnel.AU_SOL) {
-                System.out.println("Actif " + actif.getId() + " de nouveau opérationnel. Reprise de mission.");
+        // Les actifs déjà arrivés sont posés volontairement : on les ignore.
+        for (int i = 0; i < tableauActifs.length; i++) {
+            ActifMobile actif = tableauActifs[i];
+            if (!actifsArrives.get(i)
+                    && actif.getEtatOperationnel() == fr.spiga.core.EtatOperationnel.AU_SOL) {
+                journaliser("Actif " + actif.getId() + " de nouveau opérationnel. Reprise de mission.");
                 actif.demarrer(); // Remet en état EN_MISSION
             }
         }
 
         mettreAJourSpecifique(dt);
+        RegistreMetriques.fin(PhaseTick.MISSIONS, debutMetrique);
+    }
+
+    /**
+     * Étape commune de ralliement (goal-seek) des missions point-à-point.
+     * Une seule passe sur le tableau des actifs assignés, sans copie ni
+     * allocation : chaque actif en mission non encore arrivé avance vers son
+     * emplacement autour de la destination, et
+     * {@link #surArrivee(ActifMobile)} est appelé une seule fois lors de son
+     * arrivée.
+     * 
+     * <p>
+     * Au premier appel, chaque actif reçoit un emplacement distinct (voir
+     * {@link AllocationSlots}) afin que les actifs ne se disputent pas le même
+     * point d'arrivée.
+     * 
+     * @param destination le point à rejoindre
+     * @param dt          le temps écoulé en secondes
+     * @return true si tous les actifs encore opérationnels sont arrivés
+     */
+    protected final boolean avancerVersDestination(Position3D destination, double dt) {
+        ActifMobile[] actifs = tableauActifs;
+        if (actifs.length == 0) {
+            return false;
+        }
+        if (emplacements == null) {
+            fr.spiga.environment.ZoneOperation zone = zoneOperation != null ? zoneOperation
+                    : actifs[0].getZoneOperation();
+            emplacements = AllocationSlots.allouer(destination, actifs, zone, AllocationSlots.ESPACEMENT_DEFAUT);
+        }
+
+        boolean tousArrives = true;
+        for (int i = actifsArrives.nextClearBit(0); i < actifs.length; i = actifsArrives.nextClearBit(i + 1)) {
+            ActifMobile actif = actifs[i];
+            // Les actifs hors mission (panne, maintenance) ne bloquent pas la fin
+            if (actif.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION)
+                continue;
+
+            Position3D emplacement = emplacements[i];
+            boolean arrive = actif.avancerVers(emplacement, dt);
+            if (arrive || actif.getPosition().distanceVers(emplacement) < RAYON_ARRIVEE_EMPLACEMENT) {
+                actifsArrives.set(i);
+                actif.eteindre();
+                actif.setEtatOperationnel(fr.spiga.core.EtatOperationnel.AU_SOL);
+                surArrivee(actif);
+            } else {
+                tousArrives = false;
+            }
+        }
+        return tousArrives;
+    }
+
+    /**
+     * Obtient l'emplacement d'arrivée alloué à un actif.
+     * 
+     * @param actif l'actif assigné
+     * @return l'emplacement, ou null si non encore alloué
+     */
+    public Position3D getEmplacement(ActifMobile actif) {
+        if (emplacements == null) {
+            return null;
+        }
+        int i = getRang(actif);
+        return i >= 0 ? emplacements[i] : null;
+    }
+
+    /**
+     * Obtient en temps constant le rang d'assignation d'un actif, qui est aussi
+     * son indice dans les tableaux par actif des sous-classes.
+     * 
+     * @param actif l'actif
+     * @return le rang, ou -1 si l'actif n'est pas assigné ou si la mission n'a
+     *         pas démarré
+     */
+    protected final int getRang(ActifMobile actif) {
+        // L'assignation est fermée au démarrage : rang d'assignation = indice
+        int i = actifsAssignes.rang(actif);
+        return i >= 0 && i < tableauActifs.length && tableauActifs[i] == actif ? i : -1;
+    }
+
+    /**
+     * Rappel déclenché une seule fois lorsqu'un actif atteint la destination
+     * (l'actif est déjà éteint et posé). Ne fait rien par défaut.
+     * 
+     * @param actif l'actif arrivé
+     */
+    protected void surArrivee(ActifMobile actif) {
+    }
+
+    /**
+     * Obtient le nombre d'actifs arrivés à destination.
+     * 
+     * @return le nombre d'actifs arrivés
+     */
+    public int getNombreActifsArrives() {
+        return actifsArrives.cardinality();
     }
 
     /**
@@ -291,6 +442,82 @@ public abstract class Mission implements Serializable {
         return resultatsAttendus;
     }
 
+    /**
+     * Crée une copie de la mission pour une simulation indépendante, dans
+     * laquelle chaque actif référencé est remplacé par sa copie.
+     * 
+     * @param copieActif fournit la copie d'un actif (toujours la même pour un
+     *                   actif donné)
+     * @param zone       la zone d'opération de la simulation
+     * @return la copie de la mission
+     */
+    public Mission copierPourSimulation(UnaryOperator<ActifMobile> copieActif,
+            fr.spiga.environment.ZoneOperation zone) {
+        Mission copie;
+        try {
+            copie = (Mission) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        List<ActifMobile> copiesAssignees = new ArrayList<>(actifsAssignes.taille());
+        for (ActifMobile actif : actifsAssignes) {
+            copiesAssignees.add(copieActif.apply(actif));
+        }
+        copie.actifsAssignes = new RegistreActifs();
+        copie.actifsAssignes.ajouterTous(copiesAssignees);
+        copie.tableauActifs = new ActifMobile[tableauActifs.length];
+        for (int i = 0; i < tableauActifs.length; i++) {
+            copie.tableauActifs[i] = copieActif.apply(tableauActifs[i]);
+        }
+        copie.actifsArrives = (BitSet) actifsArrives.clone();
+        copie.emplacements = emplacements != null ? emplacements.clone() : null;
+        copie.zoneOperation = zone;
+        copie.silencieuse = true;
+        copie.remplacerActifs(copieActif);
+        return copie;
+    }
+
+    /**
+     * Affiche un message sur la console, sauf pour une copie de simulation
+     * (voir {@link #copierPourSimulation}).
+     * 
+     * @param message le message
+     */
+    protected void journaliser(String message) {
+        if (!silencieuse) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Remplace les actifs référencés par une sous-classe lors d'une copie pour
+     * simulation. Ne fait rien par défaut.
+     * 
+     * @param copieActif fournit la copie d'un actif
+     */
+    protected void remplacerActifs(UnaryOperator<ActifMobile> copieActif) {
+    }
+
+    /**
+     * Obtient le point que les actifs assignés doivent rejoindre, utilisé pour
+     * écarter les actifs incapables de l'atteindre.
+     * 
+     * @return le point objectif, ou null si la mission n'en a pas
+     */
+    public Position3D getPointObjectif() {
+        return null;
+    }
+
+    /**
+     * Indique si les actifs doivent revenir à leur point de départ après avoir
+     * rejoint l'objectif.
+     * 
+     * @return true si un aller-retour est nécessaire
+     */
+    public boolean exigeRetour() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return String.format("%s [ID: %s] - %s (Statut: %s)",
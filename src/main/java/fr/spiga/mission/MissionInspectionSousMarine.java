@@ -4,8 +4,6 @@ import fr.spiga.core.Position3D;
 import fr.spiga.fleet.VehiculeSousMarin;
 import java.time.LocalDateTime;
 
-import java.util.List; // Added this line
-
 /**
  * Mission d'inspection sous-marine.
  * Cette mission consiste à passer par une série de points de passage
@@ -18,7 +16,6 @@ import java.util.List; // Added this line
 public class MissionInspectionSousMarine extends Mission {
 
     private final Position3D destination;
-    private final List<fr.spiga.core.ActifMobile> actifsArrives = new java.util.ArrayList<>();
 
     public MissionInspectionSousMarine(LocalDateTime debutPrevu, LocalDateTime finPrevue, Position3D destination) {
         super("RECONNAISSANCE", debutPrevu, finPrevue, "Inspection sous-marine au point " + destination);
@@ -28,6 +25,15 @@ public class MissionInspectionSousMarine extends Mission {
         this.destination = destination;
     }
 
+    public Position3D getDestination() {
+        return destination;
+    }
+
+    @Override
+    public Position3D getPointObjectif() {
+        return destination;
+    }
+
     @Override
     public String getNom() {
         return "Mission Inspection Sous-Marine";
@@ -41,34 +47,13 @@ public class MissionInspectionSousMarine extends Mission {
 
     @Override
     protected void mettreAJourSpecifique(double dt) {
-        if (getActifsAssignes().isEmpty())
-            return;
-
-        boolean tousArrives = true;
-
-        for (fr.spiga.core.ActifMobile actif : getActifsAssignes()) {
-            if (actif.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION)
-                continue;
-
-            if (!actifsArrives.contains(actif)) {
-                // Mouvement vers le point
-                boolean arrive = actif.avancerVers(destination, dt);
-
-                if (arrive || actif.getPosition().distanceVers(destination) < 50.0) {
-                    if (!actifsArrives.contains(actif)) {
-                        actifsArrives.add(actif);
-                        actif.eteindre();
-                        actif.setEtatOperationnel(fr.spiga.core.EtatOperationnel.AU_SOL);
-                        System.out.println("Submersible " + actif.getId() + " est arrivé au point d'inspection.");
-                    }
-                } else {
-                    tousArrives = false;
-                }
-            }
-        }
-
-        if (tousArrives && !getActifsAssignes().isEmpty()) {
+        if (avancerVersDestination(destination, dt)) {
             terminer("Inspection terminée. Tous les submersibles sont sur zone.");
         }
     }
+
+    @Override
+    protected void surArrivee(fr.spiga.core.ActifMobile actif) {
+        journaliser("Submersible " + actif.getId() + " est arrivé au point d'inspection.");
+    }
 }
@@ -0,0 +1,213 @@
+package fr.spiga.mission;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.EtatOperationnel;
+import fr.spiga.core.Position3D;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Mission de patrouille : les actifs parcourent en boucle une route fermée
+ * ({@link RoutePatrouille}), répartis à intervalles réguliers le long de la
+ * route.
+ *
+ * <p>
+ * Tous les actifs partagent la même route ; chacun ne conserve que son
+ * abscisse courante. L'actif de rang i sur n part de l'abscisse
+ * {@code i * longueur / n}, la rallie, puis suit un point de consigne qui
+ * avance sur la route de sa vitesse maximale à chaque tick, tant que l'actif
+ * le talonne. La consigne du tick s'obtient en temps constant.
+ *
+ * <p>
+ * Chaque actif patrouille à sa propre altitude (ou profondeur). Sans nombre
+ * de tours requis, la patrouille est permanente : elle dure jusqu'à son
+ * arrêt ({@link #terminer} ou {@link #annuler}).
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class MissionPatrouille extends Mission {
+
+    /** Distance à la consigne en deçà de laquelle un actif est sur la route (en mètres) */
+    private static final double RAYON_RALLIEMENT = 20.0;
+
+    private final RoutePatrouille route;
+
+    /** Nombre de tours à effectuer par actif (0 = patrouille permanente) */
+    private final int toursRequis;
+
+    /** Abscisse de la consigne de chaque actif, indexée par rang d'assignation */
+    private double[] abscisses;
+
+    /** Distance parcourue sur la route par chaque actif depuis son ralliement */
+    private double[] parcourus;
+
+    /** Actifs ayant rallié la route */
+    private boolean[] rallies;
+
+    /**
+     * Constructeur d'une patrouille permanente.
+     *
+     * @param debutPrevu la date/heure de début prévue
+     * @param finPrevue  la date/heure de fin prévue
+     * @param route      la route, éventuellement partagée avec d'autres
+     *                   missions
+     */
+    public MissionPatrouille(LocalDateTime debutPrevu, LocalDateTime finPrevue, RoutePatrouille route) {
+        this(debutPrevu, finPrevue, route, 0);
+    }
+
+    /**
+     * Constructeur.
+     *
+     * @param debutPrevu  la date/heure de début prévue
+     * @param finPrevue   la date/heure de fin prévue
+     * @param route       la route, éventuellement partagée avec d'autres
+     *                    missions
+     * @param toursRequis le nombre de tours par actif (0 = patrouille
+     *                    permanente)
+     * @throws IllegalArgumentException si la route est nulle ou le nombre de
+     *                                  tours négatif
+     */
+    public MissionPatrouille(LocalDateTime debutPrevu, LocalDateTime finPrevue, RoutePatrouille route,
+            int toursRequis) {
+        super("PATROUILLE", debutPrevu, finPrevue, "Patrouille sur " + route);
+        if (route == null) {
+            throw new IllegalArgumentException("La route ne peut pas être nulle");
+        }
+        if (toursRequis < 0) {
+            throw new IllegalArgumentException("Le nombre de tours ne peut pas être négatif");
+        }
+        this.route = route;
+        this.toursRequis = toursRequis;
+    }
+
+    public RoutePatrouille getRoute() {
+        return route;
+    }
+
+    public int getToursRequis() {
+        return toursRequis;
+    }
+
+    @Override
+    public Position3D getPointObjectif() {
+        return route.getPoint(0, 0);
+    }
+
+    @Override
+    public String getNom() {
+        return "Mission Patrouille (Route en boucle)";
+    }
+
+    @Override
+    public boolean estCompatible(ActifMobile actif) {
+        // Tous les types d'actifs peuvent patrouiller à leur altitude
+        return true;
+    }
+
+    /**
+     * Obtient l'abscisse de la consigne d'un actif sur la route.
+     *
+     * @param actif l'actif assigné
+     * @return l'abscisse dans [0, longueur), ou -1 si la patrouille n'a pas
+     *         commencé pour cet actif
+     */
+    public double getAbscisse(ActifMobile actif) {
+        int i = rang(actif);
+        return i >= 0 ? route.normaliser(abscisses[i]) : -1;
+    }
+
+    /**
+     * Obtient le nombre de tours effectués par un actif depuis son ralliement.
+     *
+     * @param actif l'actif assigné
+     * @return le nombre de tours (fractionnaire)
+     */
+    public double getToursEffectues(ActifMobile actif) {
+        int i = rang(actif);
+        return i >= 0 ? parcourus[i] / route.getLongueur() : 0.0;
+    }
+
+    private int rang(ActifMobile actif) {
+        if (abscisses == null) {
+            return -1;
+        }
+        int i = getRang(actif);
+        return i < abscisses.length ? i : -1;
+    }
+
+    /**
+     * Répartit les actifs sur la route au premier tick.
+     */
+    private void initialiserPhases(int n) {
+        abscisses = new double[n];
+        parcourus = new double[n];
+        rallies = new boolean[n];
+        double ecart = route.getLongueur() / n;
+        for (int i = 0; i < n; i++) {
+            abscisses[i] = i * ecart;
+        }
+    }
+
+    @Override
+    protected void mettreAJourSpecifique(double dt) {
+        List<ActifMobile> actifs = getActifsAssignes();
+        int n = actifs.size();
+        if (abscisses == null) {
+            initialiserPhases(n);
+        }
+
+        double objectif = toursRequis * route.getLongueur();
+        double sommeProgres = 0;
+        int operationnels = 0;
+        boolean tousTermines = true;
+        for (int i = 0; i < n; i++) {
+            ActifMobile actif = actifs.get(i);
+            if (actif.getEtatOperationnel() != EtatOperationnel.EN_MISSION) {
+                continue;
+            }
+            operationnels++;
+            Position3D position = actif.getPosition();
+            Position3D consigne = route.getPoint(abscisses[i], position.getZ());
+
+            if (!rallies[i]) {
+                if (actif.avancerVers(consigne, dt) || position.distanceVers(consigne) < RAYON_RALLIEMENT) {
+                    rallies[i] = true;
+                }
+            } else {
+                // La consigne n'avance que si l'actif la talonne
+                double pas = actif.getVitesseMax() * dt;
+                if (position.distanceVers(consigne) < RAYON_RALLIEMENT + pas) {
+                    abscisses[i] += pas;
+                    parcourus[i] += pas;
+                    consigne = route.getPoint(abscisses[i], position.getZ());
+                }
+                actif.avancerVers(consigne, dt);
+            }
+
+            if (toursRequis > 0) {
+                sommeProgres += Math.min(1.0, parcourus[i] / objectif);
+                tousTermines &= parcourus[i] >= objectif;
+            }
+        }
+
+        if (toursRequis > 0 && operationnels > 0) {
+            progres = sommeProgres / operationnels;
+            if (tousTermines) {
+                terminer("Patrouille terminée : " + toursRequis + " tour(s) effectué(s) par chaque actif.");
+            }
+        }
+    }
+
+    @Override
+    protected void remplacerActifs(UnaryOperator<ActifMobile> copieActif) {
+        // La route est partagée ; l'état de chaque actif est propre à la copie
+        if (abscisses != null) {
+            abscisses = abscisses.clone();
+            parcourus = parcourus.clone();
+            rallies = rallies.clone();
+        }
+    }
+}
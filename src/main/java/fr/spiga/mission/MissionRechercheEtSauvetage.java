@@ -2,7 +2,6 @@ package fr.spiga.mission;
 
 import fr.spiga.core.ActifMobile;
 import fr.spiga.core.Position3D;
-import fr.spiga.core.Position3D;
 import java.time.LocalDateTime;
 
 /**
@@ -14,7 +13,7 @@ import java.time.LocalDateTime;
  */
 public class MissionRechercheEtSauvetage extends Mission {
 
-    private final ActifMobile cible;
+    private ActifMobile cible;
     private boolean surPlace = false;
     private boolean phaseRetourBase = false; // Added as field
     private Position3D baseDepart; // Added as field
@@ -36,6 +35,21 @@ public class MissionRechercheEtSauvetage extends Mission {
         return actif != cible; // On ne peut pas se sauver soi-même dans cette mission
     }
 
+    @Override
+    protected void remplacerActifs(java.util.function.UnaryOperator<ActifMobile> copieActif) {
+        cible = copieActif.apply(cible);
+    }
+
+    @Override
+    public Position3D getPointObjectif() {
+        return cible.getPosition();
+    }
+
+    @Override
+    public boolean exigeRetour() {
+        return true; // Le sauveteur retourne à sa base
+    }
+
     @Override
     public String getNom() {
         return "Mission Recherche & Sauvetage";
@@ -66,7 +80,7 @@ public class MissionRechercheEtSauvetage extends Mission {
             boolean arrive = sauveteur.avancerVers(cible.getPosition(), dt);
             if (arrive || sauveteur.getPosition().distanceVers(cible.getPosition()) < 50.0) {
                 surPlace = true;
-                System.out.println("Sauveteur " + sauveteur.getId() + " arrivé sur zone. Début du ravitaillement de "
+                journaliser("Sauveteur " + sauveteur.getId() + " arrivé sur zone. Début du ravitaillement de "
                         + cible.getId());
             }
         }
@@ -112,14 +126,14 @@ public class MissionRechercheEtSauvetage extends Mission {
                                                                             // base
                 }
 
-                System.out.println("Ravitaillement en cours... Cible à "
+                journaliser("Ravitaillement en cours... Cible à "
                         + (cible.getAutonomieRestante() + vitesseCharge) + "% (Simulé)");
 
                 // On force la fin rapidement pour la démo
                 if (Math.random() > 0.9) { // 10% chance par tick de finir (simulation rapide)
                     surPlace = false;
                     phaseRetourBase = true;
-                    System.out.println("Cible rechargée. Préparation au retour à la base.");
+                    journaliser("Cible rechargée. Préparation au retour à la base.");
                 }
 
             } else {
@@ -132,7 +146,7 @@ public class MissionRechercheEtSauvetage extends Mission {
             // Similaire à MissionLogistique, le sauveteur retourne à sa base
             boolean arriveBase = sauveteur.avancerVers(baseDepart, dt); // Use baseDepart
             if (arriveBase) {
-                System.out.println("Sauveteur " + sauveteur.getId() + " est retourné à sa base.");
+                journaliser("Sauveteur " + sauveteur.getId() + " est retourné à sa base.");
                 sauveteur.eteindre(); // Added
                 sauveteur.setEtatOperationnel(fr.spiga.core.EtatOperationnel.AU_SOL); // Added
                 terminer("Sauvetage et ravitaillement terminés. Retour à la base effectué.");
@@ -1,7 +1,6 @@
 package fr.spiga.mission;
 
 import fr.spiga.core.Position3D;
-import java.util.List;
 import java.time.LocalDateTime;
 
 /**
@@ -14,7 +13,6 @@ import java.time.LocalDateTime;
 public class MissionSurveillanceMaritime extends Mission {
 
     private final Position3D destination;
-    private final List<fr.spiga.core.ActifMobile> actifsArrives = new java.util.ArrayList<>();
 
     public MissionSurveillanceMaritime(LocalDateTime debutPrevu, LocalDateTime finPrevue, Position3D destination) {
         super("SURVEILLANCE", debutPrevu, finPrevue, "Surveillance au point " + destination);
@@ -29,6 +27,11 @@ public class MissionSurveillanceMaritime extends Mission {
         return destination;
     }
 
+    @Override
+    public Position3D getPointObjectif() {
+        return destination;
+    }
+
     @Override
     public String getNom() {
         return "Mission Surveillance (Point-à-Point)";
@@ -42,41 +45,14 @@ public class MissionSurveillanceMaritime extends Mission {
 
     @Override
     protected void mettreAJourSpecifique(double dt) {
-        if (getActifsAssignes().isEmpty())
-            return;
-
-        boolean tousArrives = true;
-
-        for (fr.spiga.core.ActifMobile actif : getActifsAssignes()) {
-            if (actif.getEtatOperationnel() != fr.spiga.core.EtatOperationnel.EN_MISSION)
-                continue;
-
-            if (!actifsArrives.contains(actif)) {
-                // Mouvement vers le point
-                boolean arrive = actif.avancerVers(destination, dt);
-
-                // On considère arrivé si proche (car collisions évitent le point exact si
-                // plusieurs arrivent)
-                if (arrive || actif.getPosition().distanceVers(destination) < 100.0) {
-                    if (!actifsArrives.contains(actif)) {
-                        actifsArrives.add(actif);
-                        actif.eteindre();
-                        actif.setEtatOperationnel(fr.spiga.core.EtatOperationnel.AU_SOL);
-                        System.out.println("Actif " + actif.getId() + " est arrivé au point de surveillance.");
-                    }
-                } else {
-                    tousArrives = false;
-                }
-            } else {
-                // Déjà arrivé, peut patrouiller ou s'arrêter. Pour l'instant s'arrête.
-                // Pour éviter le spam console on ne fait rien
-            }
-        }
-
-        if (tousArrives && !getActifsAssignes().isEmpty()) {
-            // Optionnel : attente ou fin immédiate. Le user demande "ir de um ponto a
-            // outro".
+        // Chaque actif rejoint son propre emplacement autour du point
+        if (avancerVersDestination(destination, dt)) {
             terminer("Surveillance établie. Tous les actifs sont sur position.");
         }
     }
+
+    @Override
+    protected void surArrivee(fr.spiga.core.ActifMobile actif) {
+        journaliser("Actif " + actif.getId() + " est arrivé au point de surveillance.");
+    }
 }
@@ -0,0 +1,172 @@
+package fr.spiga.mission;
+
+import fr.spiga.core.Position3D;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Route de patrouille fermée : polyligne horizontale (X, Y) reliant des
+ * points de passage, le dernier étant relié au premier.
+ *
+ * <p>
+ * La route est précalculée en abscisse curviligne : l'abscisse cumulée de
+ * chaque point de passage et une table de seaux d'égale longueur donnant,
+ * pour chaque seau, le segment qui contient son début. Le point situé à une
+ * abscisse donnée s'obtient en temps constant (un accès à la table, au plus
+ * quelques avancées de segment, une interpolation), sans recherche.
+ *
+ * <p>
+ * Une route est immuable : plusieurs actifs, et plusieurs missions, peuvent
+ * la partager, chacun ne conservant que sa propre abscisse.
+ *
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class RoutePatrouille implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Nombre maximal de seaux de la table d'abscisses */
+    private static final int SEAUX_MAX = 1 << 16;
+
+    private final double[] xs;
+    private final double[] ys;
+
+    /** Abscisse cumulée du début de chaque segment ; la dernière vaut la longueur */
+    private final double[] abscisses;
+
+    private final double longueur;
+
+    /** Segment contenant le début de chaque seau */
+    private final int[] segmentParSeau;
+
+    /** Nombre de seaux par mètre */
+    private final double seauxParMetre;
+
+    /**
+     * Construit une route fermée.
+     *
+     * @param pointsDePassage au moins deux points de passage, dans l'ordre de
+     *                        parcours (seules leurs coordonnées X et Y sont
+     *                        retenues)
+     * @throws IllegalArgumentException si la liste est nulle, trop courte, ou
+     *                                  contient un point nul ou deux points
+     *                                  consécutifs confondus
+     */
+    public RoutePatrouille(List<Position3D> pointsDePassage) {
+        if (pointsDePassage == null || pointsDePassage.size() < 2) {
+            throw new IllegalArgumentException("Une route de patrouille exige au moins deux points de passage");
+        }
+        int n = pointsDePassage.size();
+        this.xs = new double[n];
+        this.ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            Position3D p = pointsDePassage.get(i);
+            if (p == null) {
+                throw new IllegalArgumentException("Un point de passage ne peut pas être nul");
+            }
+            xs[i] = p.getX();
+            ys[i] = p.getY();
+        }
+
+        this.abscisses = new double[n + 1];
+        double plusCourt = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            int suivant = (i + 1) % n;
+            double l = Math.hypot(xs[suivant] - xs[i], ys[suivant] - ys[i]);
+            if (!(l > 0)) {
+                throw new IllegalArgumentException("Les points de passage " + i + " et " + suivant
+                        + " sont confondus");
+            }
+            abscisses[i + 1] = abscisses[i] + l;
+            plusCourt = Math.min(plusCourt, l);
+        }
+        this.longueur = abscisses[n];
+
+        // Seaux pas plus longs que le plus court segment : au plus une frontière de segment par seau
+        int seaux = (int) Math.min(SEAUX_MAX, Math.max(n, Math.ceil(longueur / plusCourt)));
+        this.seauxParMetre = seaux / longueur;
+        this.segmentParSeau = new int[seaux];
+        int segment = 0;
+        for (int b = 0; b < seaux; b++) {
+            double debut = b / seauxParMetre;
+            while (segment < n - 1 && abscisses[segment + 1] <= debut) {
+                segment++;
+            }
+            segmentParSeau[b] = segment;
+        }
+    }
+
+    /**
+     * Obtient la longueur totale de la boucle.
+     *
+     * @return la longueur en mètres
+     */
+    public double getLongueur() {
+        return longueur;
+    }
+
+    public int getNombrePointsDePassage() {
+        return xs.length;
+    }
+
+    /**
+     * Obtient les points de passage (à l'altitude 0), dans l'ordre de
+     * parcours.
+     *
+     * @return une liste non modifiable
+     */
+    public List<Position3D> getPointsDePassage() {
+        List<Position3D> points = new ArrayList<>(xs.length);
+        for (int i = 0; i < xs.length; i++) {
+            points.add(new Position3D(xs[i], ys[i], 0));
+        }
+        return Collections.unmodifiableList(points);
+    }
+
+    /**
+     * Ramène une abscisse quelconque dans [0, longueur).
+     *
+     * @param abscisse l'abscisse en mètres (négative ou au-delà d'un tour)
+     * @return l'abscisse équivalente sur la boucle
+     */
+    public double normaliser(double abscisse) {
+        double s = abscisse - longueur * Math.floor(abscisse / longueur);
+        return s < longueur ? s : 0.0; // Arrondi de floor sur une abscisse négative minuscule
+    }
+
+    /**
+     * Trouve le segment contenant une abscisse normalisée, en temps constant.
+     */
+    int segment(double s) {
+        int seau = Math.min(segmentParSeau.length - 1, (int) (s * seauxParMetre));
+        int segment = segmentParSeau[seau];
+        int dernier = xs.length - 1;
+        while (segment < dernier && abscisses[segment + 1] <= s) {
+            segment++;
+        }
+        return segment;
+    }
+
+    /**
+     * Obtient le point de la route situé à une abscisse curviligne donnée.
+     *
+     * @param abscisse l'abscisse en mètres depuis le premier point de passage
+     *                 (ramenée sur la boucle)
+     * @param z        l'altitude ou la profondeur du point retourné
+     * @return le point de la route
+     */
+    public Position3D getPoint(double abscisse, double z) {
+        double s = normaliser(abscisse);
+        int i = segment(s);
+        int suivant = i + 1 < xs.length ? i + 1 : 0;
+        double t = (s - abscisses[i]) / (abscisses[i + 1] - abscisses[i]);
+        return new Position3D(xs[i] + t * (xs[suivant] - xs[i]), ys[i] + t * (ys[suivant] - ys[i]), z);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RoutePatrouille[%d points, longueur=%.1fm]", xs.length, longueur);
+    }
+}
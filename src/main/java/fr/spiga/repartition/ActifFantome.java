@@ -0,0 +1,59 @@
+package fr.spiga.repartition;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.EtatOperationnel;
+import fr.spiga.core.Position3D;
+import java.util.List;
+
+/**
+ * Copie locale, en lecture seule, d'un actif d'une tuile voisine situé dans le
+ * halo. Elle est enregistrée dans la zone du travailleur pour que l'évitement
+ * et les collisions tiennent compte des actifs de l'autre côté de la
+ * frontière, mais n'est jamais déplacée localement.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+class ActifFantome extends ActifMobile {
+    private static final long serialVersionUID = 1L;
+
+    /** Identifiant de l'actif d'origine */
+    private final String idOrigine;
+
+    /** Type de l'actif d'origine */
+    private final String typeOrigine;
+
+    /** Numéro du pas de simulation de la dernière mise à jour */
+    long dernierTick;
+
+    ActifFantome(String idOrigine, String typeOrigine, Position3D position) {
+        super(position, 1.0, 1.0);
+        this.idOrigine = idOrigine;
+        this.typeOrigine = typeOrigine;
+    }
+
+    void mettreAJour(Position3D position, EtatOperationnel etat, long tick) {
+        setPosition(position);
+        setEtatOperationnel(etat);
+        this.dernierTick = tick;
+    }
+
+    public String getIdOrigine() {
+        return idOrigine;
+    }
+
+    @Override
+    public boolean deplacer(Position3D cible) {
+        return false; // Déplacé uniquement par sa tuile propriétaire
+    }
+
+    @Override
+    public List<Position3D> calculerTrajet(Position3D cible) {
+        return List.of(getPosition());
+    }
+
+    @Override
+    public String getType() {
+        return typeOrigine;
+    }
+}
@@ -0,0 +1,384 @@
+package fr.spiga.repartition;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.EtatOperationnel;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.DecoupageTuiles;
+import fr.spiga.environment.ZoneOperation;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinateur d'une simulation répartie par tuiles.
+ * 
+ * <p>
+ * La zone d'opération est découpée en tuiles rectangulaires ; chaque tuile est
+ * simulée par un {@link TravailleurTuile} dans son propre processus Java (ou
+ * dans un fil du processus courant pour la mise au point), relié au
+ * coordinateur par une socket locale. Le coordinateur fait avancer toutes les
+ * tuiles au même pas fixe : il envoie d'abord le pas à chaque travailleur, qui
+ * calculent en parallèle, puis lit leurs réponses et route vers les tuiles
+ * destinataires les actifs transférés et les fantômes du halo, livrés au pas
+ * suivant.
+ * 
+ * <pre>
+ * try (CoordinateurTuiles coordinateur = new CoordinateurTuiles(zone, 2, 2, 200.0, true)) {
+ *     coordinateur.demarrer();
+ *     coordinateur.ajouterActif(drone, destination);
+ *     for (int i = 0; i &lt; 1000; i++) {
+ *         coordinateur.avancer(1.0);
+ *     }
+ *     List&lt;EtatActifDistant&gt; etats = coordinateur.getEtats();
+ * }
+ * </pre>
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class CoordinateurTuiles implements AutoCloseable {
+
+    /** Délai maximal de connexion des travailleurs (en millisecondes) */
+    private static final int DELAI_CONNEXION_MS = 30000;
+
+    private static final EtatOperationnel[] ETATS = EtatOperationnel.values();
+
+    private final ZoneOperation zone;
+    private final DecoupageTuiles decoupage;
+    private final double largeurHalo;
+    private final boolean processusSepares;
+    private final int nbTuiles;
+
+    private final Socket[] sockets;
+    private final DataInputStream[] entrees;
+    private final DataOutputStream[] sorties;
+    private final List<Process> processus = new ArrayList<>();
+    private final List<Thread> fils = new ArrayList<>();
+
+    /** Actifs en attente de livraison, par tuile destinataire */
+    private final List<List<byte[]>> entrantsEnAttente = new ArrayList<>();
+    private final List<List<Position3D>> destinationsEnAttente = new ArrayList<>();
+
+    /** Fantômes à livrer au prochain pas, encodés par tuile destinataire */
+    private final ByteArrayOutputStream[] tamponsFantomes;
+    private final DataOutputStream[] fantomes;
+    private final int[] nbFantomes;
+
+    private boolean demarre;
+    private long nombreTicks;
+    private long nombreTransferts;
+    private long nombreFantomesPublies;
+
+    /**
+     * Constructeur du coordinateur.
+     * 
+     * @param zone             la zone d'opération (obstacles, météo) à répartir
+     * @param colonnes         le nombre de tuiles sur X
+     * @param lignes           le nombre de tuiles sur Y
+     * @param largeurHalo      la largeur du halo de fantômes aux frontières (m)
+     * @param processusSepares true pour un processus par tuile, false pour des
+     *                         fils du processus courant
+     */
+    public CoordinateurTuiles(ZoneOperation zone, int colonnes, int lignes, double largeurHalo,
+            boolean processusSepares) {
+        if (zone == null) {
+            throw new IllegalArgumentException("La zone ne peut pas être nulle");
+        }
+        if (largeurHalo < 0) {
+            throw new IllegalArgumentException("La largeur du halo doit être positive");
+        }
+        this.zone = zone;
+        this.decoupage = zone.decouperEnTuiles(colonnes, lignes);
+        this.largeurHalo = largeurHalo;
+        this.processusSepares = processusSepares;
+        this.nbTuiles = decoupage.getNombreTuiles();
+
+        this.sockets = new Socket[nbTuiles];
+        this.entrees = new DataInputStream[nbTuiles];
+        this.sorties = new DataOutputStream[nbTuiles];
+        this.tamponsFantomes = new ByteArrayOutputStream[nbTuiles];
+        this.fantomes = new DataOutputStream[nbTuiles];
+        this.nbFantomes = new int[nbTuiles];
+        for (int t = 0; t < nbTuiles; t++) {
+            entrantsEnAttente.add(new ArrayList<>());
+            destinationsEnAttente.add(new ArrayList<>());
+            tamponsFantomes[t] = new ByteArrayOutputStream();
+            fantomes[t] = new DataOutputStream(tamponsFantomes[t]);
+        }
+    }
+
+    /**
+     * Lance les travailleurs, attend leur connexion et leur transmet la zone.
+     * 
+     * @throws IOException en cas d'échec du lancement ou de la connexion
+     */
+    public void demarrer() throws IOException {
+        if (demarre) {
+            throw new IllegalStateException("Le coordinateur est déjà démarré");
+        }
+        byte[] zoneSerialisee = ProtocoleTuiles.serialiser(zone.copierPourSimulation());
+        byte[] decoupageSerialise = ProtocoleTuiles.serialiser(decoupage);
+
+        try (ServerSocket serveur = new ServerSocket(0, nbTuiles, InetAddress.getLoopbackAddress())) {
+            serveur.setSoTimeout(DELAI_CONNEXION_MS);
+            for (int t = 0; t < nbTuiles; t++) {
+                lancerTravailleur(serveur.getLocalPort(), t);
+            }
+            for (int i = 0; i < nbTuiles; i++) {
+                Socket socket = serveur.accept();
+                socket.setTcpNoDelay(true);
+                DataInputStream entree = new DataInputStream(
+                        new BufferedInputStream(socket.getInputStream(), 1 << 16));
+                int t = entree.readInt();
+                sockets[t] = socket;
+                entrees[t] = entree;
+                sorties[t] = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+            }
+        }
+
+        for (int t = 0; t < nbTuiles; t++) {
+            sorties[t].writeByte(ProtocoleTuiles.INIT);
+            ProtocoleTuiles.ecrireOctets(sorties[t], zoneSerialisee);
+            ProtocoleTuiles.ecrireOctets(sorties[t], decoupageSerialise);
+            sorties[t].writeDouble(largeurHalo);
+            sorties[t].flush();
+        }
+        demarre = true;
+    }
+
+    private void lancerTravailleur(int port, int indice) throws IOException {
+        if (processusSepares) {
+            String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+            ProcessBuilder pb = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    TravailleurTuile.class.getName(), "127.0.0.1", String.valueOf(port), String.valueOf(indice));
+            // Les traces des actifs restent dans le travailleur ; les erreurs remontent
+            pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+            processus.add(pb.start());
+        } else {
+            Thread fil = new Thread(() -> {
+                try {
+                    new TravailleurTuile("127.0.0.1", port, indice).executer();
+                } catch (IOException e) {
+                    System.err.println("Travailleur " + indice + " interrompu: " + e.getMessage());
+                }
+            }, "tuile-" + indice);
+            fil.setDaemon(true);
+            fil.start();
+            fils.add(fil);
+        }
+    }
+
+    /**
+     * Confie un actif à la simulation répartie. Une copie de l'actif est
+     * transmise à la tuile qui contient sa position et sera simulée à partir du
+     * prochain pas ; l'original n'est pas modifié.
+     * 
+     * @param actif       l'actif à simuler
+     * @param destination la position que l'actif doit rejoindre
+     * @throws IOException si l'actif ne peut pas être sérialisé
+     */
+    public void ajouterActif(ActifMobile actif, Position3D destination) throws IOException {
+        if (actif == null || destination == null) {
+            throw new IllegalArgumentException("L'actif et la destination ne peuvent pas être nuls");
+        }
+        Position3D p = actif.getPosition();
+        int t = decoupage.indiceTuile(p.getX(), p.getY());
+        entrantsEnAttente.get(t).add(ProtocoleTuiles.serialiser(actif.copierPourSimulation()));
+        destinationsEnAttente.get(t).add(destination);
+    }
+
+    /**
+     * Fait avancer toutes les tuiles d'un pas de simulation, en parallèle.
+     * 
+     * @param dt le pas de temps simulé en secondes
+     * @throws IOException en cas d'erreur de communication
+     */
+    public void avancer(double dt) throws IOException {
+        verifierDemarre();
+
+        // 1. Diffuser le pas (les travailleurs calculent dès réception)
+        for (int t = 0; t < nbTuiles; t++) {
+            DataOutputStream sortie = sorties[t];
+            sortie.writeByte(ProtocoleTuiles.TICK);
+            sortie.writeDouble(dt);
+            List<byte[]> entrants = entrantsEnAttente.get(t);
+            List<Position3D> destinations = destinationsEnAttente.get(t);
+            sortie.writeInt(entrants.size());
+            for (int i = 0; i < entrants.size(); i++) {
+                TravailleurTuile.ecrirePosition(sortie, destinations.get(i));
+                ProtocoleTuiles.ecrireOctets(sortie, entrants.get(i));
+            }
+            sortie.writeInt(nbFantomes[t]);
+            tamponsFantomes[t].writeTo(sortie);
+            sortie.flush();
+
+            entrants.clear();
+            destinations.clear();
+            tamponsFantomes[t].reset();
+            nbFantomes[t] = 0;
+        }
+
+        // 2. Collecter les réponses et router transferts et fantômes
+        for (int t = 0; t < nbTuiles; t++) {
+            DataInputStream entree = entrees[t];
+            int nbSortants = entree.readInt();
+            for (int i = 0; i < nbSortants; i++) {
+                int cible = entree.readInt();
+                destinationsEnAttente.get(cible).add(TravailleurTuile.lirePosition(entree));
+                entrantsEnAttente.get(cible).add(ProtocoleTuiles.lireOctets(entree));
+            }
+            nombreTransferts += nbSortants;
+
+            int nbEnregistrements = entree.readInt();
+            for (int i = 0; i < nbEnregistrements; i++) {
+                int cible = entree.readInt();
+                DataOutputStream f = fantomes[cible];
+                f.writeUTF(entree.readUTF());
+                f.writeUTF(entree.readUTF());
+                f.writeDouble(entree.readDouble());
+                f.writeDouble(entree.readDouble());
+                f.writeDouble(entree.readDouble());
+                f.writeByte(entree.readByte());
+                nbFantomes[cible]++;
+            }
+            nombreFantomesPublies += nbEnregistrements;
+        }
+        nombreTicks++;
+    }
+
+    /**
+     * Obtient un instantané de tous les actifs simulés par les tuiles (les
+     * actifs en cours de transfert apparaissent au pas suivant).
+     * 
+     * @return les états des actifs
+     * @throws IOException en cas d'erreur de communication
+     */
+    public List<EtatActifDistant> getEtats() throws IOException {
+        verifierDemarre();
+        for (int t = 0; t < nbTuiles; t++) {
+            sorties[t].writeByte(ProtocoleTuiles.ETAT);
+            sorties[t].flush();
+        }
+        List<EtatActifDistant> etats = new ArrayList<>();
+        for (int t = 0; t < nbTuiles; t++) {
+            DataInputStream entree = entrees[t];
+            int n = entree.readInt();
+            for (int i = 0; i < n; i++) {
+                String id = entree.readUTF();
+                String type = entree.readUTF();
+                Position3D position = TravailleurTuile.lirePosition(entree);
+                double autonomie = entree.readDouble();
+                EtatOperationnel etat = ETATS[entree.readByte()];
+                boolean arrive = entree.readBoolean();
+                etats.add(new EtatActifDistant(id, type, position, autonomie, etat, t, arrive));
+            }
+        }
+        return etats;
+    }
+
+    /**
+     * Retire tous les actifs de la simulation répartie et les restitue avec
+     * leur état complet (y compris ceux en cours de transfert).
+     * 
+     * @return les actifs restitués, détachés de toute zone
+     * @throws IOException en cas d'erreur de communication
+     */
+    public List<ActifMobile> recupererActifs() throws IOException {
+        verifierDemarre();
+        for (int t = 0; t < nbTuiles; t++) {
+            sorties[t].writeByte(ProtocoleTuiles.RECUPERER);
+            sorties[t].flush();
+        }
+        List<ActifMobile> actifs = new ArrayList<>();
+        for (int t = 0; t < nbTuiles; t++) {
+            int n = entrees[t].readInt();
+            for (int i = 0; i < n; i++) {
+                actifs.add((ActifMobile) ProtocoleTuiles.deserialiser(ProtocoleTuiles.lireOctets(entrees[t])));
+            }
+            for (byte[] enAttente : entrantsEnAttente.get(t)) {
+                actifs.add((ActifMobile) ProtocoleTuiles.deserialiser(enAttente));
+            }
+            entrantsEnAttente.get(t).clear();
+            destinationsEnAttente.get(t).clear();
+        }
+        return actifs;
+    }
+
+    private void verifierDemarre() {
+        if (!demarre) {
+            throw new IllegalStateException("Le coordinateur n'est pas démarré");
+        }
+    }
+
+    public DecoupageTuiles getDecoupage() {
+        return decoupage;
+    }
+
+    public long getNombreTicks() {
+        return nombreTicks;
+    }
+
+    /**
+     * Obtient le nombre total d'actifs transférés d'une tuile à une autre.
+     * 
+     * @return le nombre de transferts
+     */
+    public long getNombreTransferts() {
+        return nombreTransferts;
+    }
+
+    /**
+     * Obtient le nombre total de fantômes publiés dans les halos.
+     * 
+     * @return le nombre de fantômes publiés
+     */
+    public long getNombreFantomesPublies() {
+        return nombreFantomesPublies;
+    }
+
+    /**
+     * Arrête les travailleurs et libère les connexions.
+     */
+    @Override
+    public void close() {
+        for (int t = 0; t < nbTuiles; t++) {
+            if (sorties[t] != null) {
+                try {
+                    sorties[t].writeByte(ProtocoleTuiles.FIN);
+                    sorties[t].flush();
+                } catch (IOException e) {
+                    // Travailleur déjà arrêté
+                }
+            }
+            if (sockets[t] != null) {
+                try {
+                    sockets[t].close();
+                } catch (IOException e) {
+                    // Ignoré à la fermeture
+                }
+            }
+        }
+        for (Process p : processus) {
+            try {
+                if (!p.waitFor(5, TimeUnit.SECONDS)) {
+                    p.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                p.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        demarre = false;
+    }
+}
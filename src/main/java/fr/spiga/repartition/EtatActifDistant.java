@@ -0,0 +1,76 @@
+package fr.spiga.repartition;
+
+import fr.spiga.core.EtatOperationnel;
+import fr.spiga.core.Position3D;
+
+/**
+ * Instantané de l'état d'un actif simulé par un travailleur de tuile.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class EtatActifDistant {
+
+    private final String id;
+    private final String type;
+    private final Position3D position;
+    private final double autonomieRestante;
+    private final EtatOperationnel etatOperationnel;
+    private final int tuile;
+    private final boolean arrive;
+
+    EtatActifDistant(String id, String type, Position3D position, double autonomieRestante,
+            EtatOperationnel etatOperationnel, int tuile, boolean arrive) {
+        this.id = id;
+        this.type = type;
+        this.position = position;
+        this.autonomieRestante = autonomieRestante;
+        this.etatOperationnel = etatOperationnel;
+        this.tuile = tuile;
+        this.arrive = arrive;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Position3D getPosition() {
+        return position;
+    }
+
+    public double getAutonomieRestante() {
+        return autonomieRestante;
+    }
+
+    public EtatOperationnel getEtatOperationnel() {
+        return etatOperationnel;
+    }
+
+    /**
+     * Obtient l'indice de la tuile qui simule l'actif.
+     * 
+     * @return l'indice de la tuile
+     */
+    public int getTuile() {
+        return tuile;
+    }
+
+    /**
+     * Indique si l'actif a atteint sa destination.
+     * 
+     * @return true si arrivé
+     */
+    public boolean estArrive() {
+        return arrive;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[id=%s, tuile=%d, position=%s, autonomie=%.1f%%]",
+                type, id.substring(0, 8), tuile, position, autonomieRestante);
+    }
+}
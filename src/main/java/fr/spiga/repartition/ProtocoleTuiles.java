@@ -0,0 +1,69 @@
+package fr.spiga.repartition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Constantes et utilitaires du protocole entre le coordinateur et les
+ * travailleurs de tuiles.
+ * 
+ * <p>
+ * Chaque commande du coordinateur commence par un octet de code. Les actifs
+ * transférés entre tuiles sont sérialisés (état complet) ; les fantômes du halo
+ * sont transmis sous forme d'enregistrements compacts.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class ProtocoleTuiles {
+
+    /** Configuration initiale : zone, découpage, indice de tuile, halo */
+    static final byte INIT = 1;
+
+    /** Pas de simulation : transferts entrants, fantômes, dt */
+    static final byte TICK = 2;
+
+    /** Demande d'instantané des actifs possédés */
+    static final byte ETAT = 3;
+
+    /** Restitution (et retrait) de tous les actifs possédés */
+    static final byte RECUPERER = 4;
+
+    /** Arrêt du travailleur */
+    static final byte FIN = 5;
+
+    private ProtocoleTuiles() {
+    }
+
+    static byte[] serialiser(Object objet) throws IOException {
+        ByteArrayOutputStream octets = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream sortie = new ObjectOutputStream(octets)) {
+            sortie.writeObject(objet);
+        }
+        return octets.toByteArray();
+    }
+
+    static Object deserialiser(byte[] donnees) throws IOException {
+        try (ObjectInputStream entree = new ObjectInputStream(new ByteArrayInputStream(donnees))) {
+            return entree.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Classe inconnue lors de la désérialisation", e);
+        }
+    }
+
+    static void ecrireOctets(DataOutputStream sortie, byte[] donnees) throws IOException {
+        sortie.writeInt(donnees.length);
+        sortie.write(donnees);
+    }
+
+    static byte[] lireOctets(DataInputStream entree) throws IOException {
+        byte[] donnees = new byte[entree.readInt()];
+        entree.readFully(donnees);
+        return donnees;
+    }
+}
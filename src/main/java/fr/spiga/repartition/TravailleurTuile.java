@@ -0,0 +1,237 @@
+package fr.spiga.repartition;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.EtatOperationnel;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.DecoupageTuiles;
+import fr.spiga.environment.ZoneOperation;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Travailleur simulant une tuile de la zone d'opération, normalement dans son
+ * propre processus (voir {@link CoordinateurTuiles}).
+ * 
+ * <p>
+ * À chaque pas, le travailleur intègre les actifs transférés par les tuiles
+ * voisines, remplace les fantômes du halo, fait avancer ses actifs vers leur
+ * destination, puis renvoie au coordinateur les actifs sortis de sa tuile et
+ * les fantômes à publier chez ses voisines.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class TravailleurTuile {
+
+    private static final EtatOperationnel[] ETATS = EtatOperationnel.values();
+
+    /** Actif possédé par la tuile, avec sa destination */
+    private static final class ActifPossede {
+        final ActifMobile actif;
+        final Position3D destination;
+        boolean arrive;
+
+        ActifPossede(ActifMobile actif, Position3D destination) {
+            this.actif = actif;
+            this.destination = destination;
+        }
+    }
+
+    private final String hote;
+    private final int port;
+    private final int indice;
+
+    private ZoneOperation zone;
+    private DecoupageTuiles decoupage;
+    private double largeurHalo;
+    private long tick;
+
+    private final List<ActifPossede> possedes = new ArrayList<>();
+    private final Map<String, ActifFantome> fantomes = new HashMap<>();
+
+    /**
+     * Constructeur du travailleur.
+     * 
+     * @param hote   l'hôte du coordinateur
+     * @param port   le port du coordinateur
+     * @param indice l'indice de la tuile simulée
+     */
+    public TravailleurTuile(String hote, int port, int indice) {
+        this.hote = hote;
+        this.port = port;
+        this.indice = indice;
+    }
+
+    /**
+     * Point d'entrée d'un processus travailleur.
+     * 
+     * @param args hôte, port et indice de tuile
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: TravailleurTuile <hote> <port> <indice>");
+            System.exit(2);
+        }
+        new TravailleurTuile(args[0], Integer.parseInt(args[1]), Integer.parseInt(args[2])).executer();
+    }
+
+    /**
+     * Se connecte au coordinateur et traite ses commandes jusqu'à l'arrêt.
+     * 
+     * @throws IOException en cas d'erreur de communication
+     */
+    public void executer() throws IOException {
+        try (Socket socket = new Socket(hote, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream entree = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+            DataOutputStream sortie = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+            sortie.writeInt(indice);
+            sortie.flush();
+
+            boolean continuer = true;
+            while (continuer) {
+                byte commande = entree.readByte();
+                switch (commande) {
+                    case ProtocoleTuiles.INIT -> initialiser(entree);
+                    case ProtocoleTuiles.TICK -> avancer(entree, sortie);
+                    case ProtocoleTuiles.ETAT -> envoyerEtat(sortie);
+                    case ProtocoleTuiles.RECUPERER -> restituer(sortie);
+                    case ProtocoleTuiles.FIN -> continuer = false;
+                    default -> throw new IOException("Commande inconnue: " + commande);
+                }
+                sortie.flush();
+            }
+        }
+    }
+
+    private void initialiser(DataInputStream entree) throws IOException {
+        zone = (ZoneOperation) ProtocoleTuiles.deserialiser(ProtocoleTuiles.lireOctets(entree));
+        decoupage = (DecoupageTuiles) ProtocoleTuiles.deserialiser(ProtocoleTuiles.lireOctets(entree));
+        largeurHalo = entree.readDouble();
+    }
+
+    private void avancer(DataInputStream entree, DataOutputStream sortie) throws IOException {
+        tick++;
+        double dt = entree.readDouble();
+
+        // 1. Actifs entrants (transferts depuis les tuiles voisines)
+        int nbEntrants = entree.readInt();
+        for (int i = 0; i < nbEntrants; i++) {
+            Position3D destination = lirePosition(entree);
+            ActifMobile actif = (ActifMobile) ProtocoleTuiles.deserialiser(ProtocoleTuiles.lireOctets(entree));
+            actif.setZoneOperation(zone);
+            possedes.add(new ActifPossede(actif, destination));
+        }
+
+        // 2. Fantômes du halo (état des voisines au pas précédent)
+        int nbFantomes = entree.readInt();
+        for (int i = 0; i < nbFantomes; i++) {
+            String id = entree.readUTF();
+            String type = entree.readUTF();
+            Position3D position = lirePosition(entree);
+            EtatOperationnel etat = ETATS[entree.readByte()];
+            ActifFantome fantome = fantomes.get(id);
+            if (fantome == null) {
+                fantome = new ActifFantome(id, type, position);
+                fantomes.put(id, fantome);
+                zone.enregistrerActif(fantome);
+            }
+            fantome.mettreAJour(position, etat, tick);
+        }
+        for (Iterator<ActifFantome> it = fantomes.values().iterator(); it.hasNext();) {
+            ActifFantome fantome = it.next();
+            if (fantome.dernierTick != tick) {
+                zone.retirerActif(fantome);
+                it.remove();
+            }
+        }
+
+        // 3. Simulation locale
+        zone.avancerTemps(dt);
+        for (ActifPossede possede : possedes) {
+            if (!possede.arrive) {
+                possede.arrive = possede.actif.avancerVers(possede.destination, dt);
+            }
+        }
+
+        // 4. Sorties : transferts puis fantômes à publier
+        List<ActifPossede> sortants = new ArrayList<>();
+        for (Iterator<ActifPossede> it = possedes.iterator(); it.hasNext();) {
+            ActifPossede possede = it.next();
+            Position3D p = possede.actif.getPosition();
+            if (decoupage.indiceTuile(p.getX(), p.getY()) != indice) {
+                it.remove();
+                possede.actif.setZoneOperation(null);
+                sortants.add(possede);
+            }
+        }
+        sortie.writeInt(sortants.size());
+        for (ActifPossede possede : sortants) {
+            Position3D p = possede.actif.getPosition();
+            sortie.writeInt(decoupage.indiceTuile(p.getX(), p.getY()));
+            ecrirePosition(sortie, possede.destination);
+            ProtocoleTuiles.ecrireOctets(sortie, ProtocoleTuiles.serialiser(possede.actif));
+        }
+
+        int[] voisines = new int[8];
+        int nbEnregistrements = 0;
+        for (ActifPossede possede : possedes) {
+            Position3D p = possede.actif.getPosition();
+            nbEnregistrements += decoupage.tuilesDansHalo(p.getX(), p.getY(), largeurHalo, voisines);
+        }
+        sortie.writeInt(nbEnregistrements);
+        for (ActifPossede possede : possedes) {
+            ActifMobile actif = possede.actif;
+            Position3D p = actif.getPosition();
+            int n = decoupage.tuilesDansHalo(p.getX(), p.getY(), largeurHalo, voisines);
+            for (int k = 0; k < n; k++) {
+                sortie.writeInt(voisines[k]);
+                sortie.writeUTF(actif.getId());
+                sortie.writeUTF(actif.getType());
+                ecrirePosition(sortie, p);
+                sortie.writeByte(actif.getEtatOperationnel().ordinal());
+            }
+        }
+    }
+
+    private void envoyerEtat(DataOutputStream sortie) throws IOException {
+        sortie.writeInt(possedes.size());
+        for (ActifPossede possede : possedes) {
+            ActifMobile actif = possede.actif;
+            sortie.writeUTF(actif.getId());
+            sortie.writeUTF(actif.getType());
+            ecrirePosition(sortie, actif.getPosition());
+            sortie.writeDouble(actif.getAutonomieRestante());
+            sortie.writeByte(actif.getEtatOperationnel().ordinal());
+            sortie.writeBoolean(possede.arrive);
+        }
+    }
+
+    private void restituer(DataOutputStream sortie) throws IOException {
+        sortie.writeInt(possedes.size());
+        for (ActifPossede possede : possedes) {
+            possede.actif.setZoneOperation(null);
+            ProtocoleTuiles.ecrireOctets(sortie, ProtocoleTuiles.serialiser(possede.actif));
+        }
+        possedes.clear();
+    }
+
+    static Position3D lirePosition(DataInputStream entree) throws IOException {
+        return new Position3D(entree.readDouble(), entree.readDouble(), entree.readDouble());
+    }
+
+    static void ecrirePosition(DataOutputStream sortie, Position3D p) throws IOException {
+        sortie.writeDouble(p.getX());
+        sortie.writeDouble(p.getY());
+        sortie.writeDouble(p.getZ());
+    }
+}
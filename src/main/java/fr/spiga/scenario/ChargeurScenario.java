@@ -0,0 +1,624 @@
+package fr.spiga.scenario;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.ZoneExclusionPolygonale;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.GestionnaireEssaim;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chargeur en flux de scénarios volumineux (voir {@link FormatScenario}).
+ * 
+ * <p>
+ * Le fichier est lu par blocs dans un tampon NIO de taille fixe et analysé
+ * directement sur les octets : ni ligne, ni jeton, ni objet
+ * {@link fr.spiga.environment.Obstacle} n'est créé par enregistrement. Les
+ * obstacles et zones sont versés dans les tableaux de la zone d'opération, et
+ * la grille spatiale est construite une seule fois, à la première requête.
+ * La mémoire de travail du chargeur est donc bornée par son tampon, quelle
+ * que soit la taille du fichier.
+ * 
+ * <p>
+ * Un chargeur s'utilise depuis un seul fil.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class ChargeurScenario {
+
+    /** Taille du tampon de lecture (et longueur maximale d'une ligne) */
+    private static final int TAILLE_TAMPON = 1 << 20;
+
+    /** Puissances de 10 exactement représentables en double */
+    private static final double[] PUISSANCES_DIX = new double[23];
+
+    static {
+        PUISSANCES_DIX[0] = 1.0;
+        for (int i = 1; i < PUISSANCES_DIX.length; i++) {
+            PUISSANCES_DIX[i] = PUISSANCES_DIX[i - 1] * 10.0;
+        }
+    }
+
+    private static final byte[] MOT_OBSTACLE = octets("OBSTACLE");
+    private static final byte[] MOT_EXCLUSION = octets("EXCLUSION");
+    private static final byte[] MOT_ACTIF = octets("ACTIF");
+    private static final byte[] MOT_POLYGONE = octets("POLYGONE");
+
+    /** Nombre maximal de sommets d'un anneau de polygone */
+    private static final int SOMMETS_MAX = 1 << 24;
+    private static final byte[][] MOTS_TYPES_ACTIF = new byte[FormatScenario.TYPES_ACTIF.length][];
+
+    static {
+        for (int i = 0; i < MOTS_TYPES_ACTIF.length; i++) {
+            MOTS_TYPES_ACTIF[i] = octets(FormatScenario.TYPES_ACTIF[i]);
+        }
+    }
+
+    private final ZoneOperation zone;
+    private final GestionnaireEssaim gestionnaire;
+    private final List<ActifMobile> actifsCharges = new ArrayList<>();
+    private int obstaclesCharges;
+    private int zonesExclusionChargees;
+
+    /** État de l'analyse de la ligne courante (format texte) */
+    private byte[] octets;
+    private int curseur;
+    private int finLigne;
+    private long numeroLigne;
+
+    /** Dictionnaire des types d'obstacle déjà rencontrés, par octets */
+    private byte[][] clesTypes = new byte[64][];
+    private int[] codesTypes = new int[64];
+    private int nombreTypes;
+
+    /**
+     * Constructeur du chargeur.
+     * 
+     * @param zone         la zone d'opération à peupler
+     * @param gestionnaire le gestionnaire où enregistrer les actifs, ou null
+     *                     pour les rattacher à la zone seulement
+     */
+    public ChargeurScenario(ZoneOperation zone, GestionnaireEssaim gestionnaire) {
+        if (zone == null) {
+            throw new IllegalArgumentException("La zone ne peut pas être nulle");
+        }
+        this.zone = zone;
+        this.gestionnaire = gestionnaire;
+    }
+
+    /**
+     * Charge un fichier en détectant son format (binaire si l'en-tête porte le
+     * nombre magique, texte sinon).
+     * 
+     * @param fichier le fichier à charger
+     * @throws IOException en cas d'erreur de lecture ou de format
+     */
+    public void charger(Path fichier) throws IOException {
+        boolean binaire;
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            ByteBuffer entete = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            while (entete.hasRemaining() && canal.read(entete) >= 0) {
+                // lecture des 4 premiers octets
+            }
+            binaire = !entete.hasRemaining() && entete.getInt(0) == FormatScenario.MAGIE;
+        }
+        if (binaire) {
+            chargerBinaire(fichier);
+        } else {
+            chargerTexte(fichier);
+        }
+    }
+
+    /**
+     * Charge un fichier au format texte.
+     * 
+     * @param fichier le fichier à charger
+     * @throws IOException en cas d'erreur de lecture ou de ligne invalide
+     */
+    public void chargerTexte(Path fichier) throws IOException {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            ByteBuffer tampon = ByteBuffer.allocate(TAILLE_TAMPON);
+            octets = tampon.array();
+            numeroLigne = 0;
+            boolean finFichier = false;
+            while (!finFichier) {
+                finFichier = canal.read(tampon) < 0;
+                int limite = tampon.position();
+                int debut = 0;
+                for (int i = 0; i < limite; i++) {
+                    if (octets[i] == '\n') {
+                        analyserLigne(debut, i);
+                        debut = i + 1;
+                    }
+                }
+                if (finFichier) {
+                    if (debut < limite) {
+                        analyserLigne(debut, limite);
+                    }
+                } else {
+                    if (debut == 0 && limite == octets.length) {
+                        throw new IOException("Ligne " + (numeroLigne + 1) + ": ligne trop longue");
+                    }
+                    // Reporter la ligne incomplète en tête du tampon
+                    System.arraycopy(octets, debut, octets, 0, limite - debut);
+                    tampon.position(limite - debut);
+                }
+            }
+        } finally {
+            octets = null;
+        }
+    }
+
+    /**
+     * Charge un fichier au format binaire.
+     * 
+     * @param fichier le fichier à charger
+     * @throws IOException en cas d'erreur de lecture ou de fichier invalide
+     */
+    public void chargerBinaire(Path fichier) throws IOException {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            ByteBuffer tampon = ByteBuffer.allocate(TAILLE_TAMPON).order(ByteOrder.LITTLE_ENDIAN);
+            tampon.limit(0);
+            exiger(canal, tampon, FormatScenario.TAILLE_EN_TETE);
+            if (tampon.getInt() != FormatScenario.MAGIE) {
+                throw new IOException("Fichier de scénario binaire invalide: " + fichier);
+            }
+            if (tampon.getInt() != FormatScenario.VERSION) {
+                throw new IOException("Version de scénario non supportée");
+            }
+            int nbObstacles = tampon.getInt();
+            int nbZones = tampon.getInt();
+            tampon.position(FormatScenario.TAILLE_EN_TETE);
+            zone.reserverObstacles(nbObstacles);
+            zone.reserverZonesExclusion(nbZones);
+
+            // Table de correspondance code fichier -> code de la zone
+            int[] codes = new int[16];
+            while (exiger(canal, tampon, 1)) {
+                byte etiquette = tampon.get();
+                switch (etiquette) {
+                    case FormatScenario.ETIQUETTE_TYPE -> {
+                        exigerComplet(canal, tampon, 4);
+                        int codeFichier = tampon.getShort() & 0xFFFF;
+                        String type = lireLibelle(canal, tampon, tampon.getShort() & 0xFFFF);
+                        if (codeFichier >= codes.length) {
+                            codes = Arrays.copyOf(codes, Math.max(codes.length * 2, codeFichier + 1));
+                        }
+                        codes[codeFichier] = zone.enregistrerTypeObstacle(type);
+                    }
+                    case FormatScenario.ETIQUETTE_OBSTACLE -> {
+                        exigerComplet(canal, tampon, 34);
+                        double x = tampon.getDouble();
+                        double y = tampon.getDouble();
+                        double z = FormatScenario.versDouble(tampon.getFloat());
+                        double rayon = tampon.getFloat();
+                        double zMin = FormatScenario.versDouble(tampon.getFloat());
+                        double zMax = FormatScenario.versDouble(tampon.getFloat());
+                        int codeFichier = tampon.getShort() & 0xFFFF;
+                        if (codeFichier >= codes.length) {
+                            throw new IOException("Type d'obstacle non défini: " + codeFichier);
+                        }
+                        zone.ajouterObstacle(x, y, z, rayon, zMin, zMax, codes[codeFichier]);
+                        obstaclesCharges++;
+                    }
+                    case FormatScenario.ETIQUETTE_EXCLUSION -> {
+                        exigerComplet(canal, tampon, 26);
+                        double x = tampon.getDouble();
+                        double y = tampon.getDouble();
+                        double z = tampon.getFloat();
+                        double rayon = tampon.getFloat();
+                        String nom = lireLibelle(canal, tampon, tampon.getShort() & 0xFFFF);
+                        zone.ajouterZoneExclusion(x, y, z, rayon, nom);
+                        zonesExclusionChargees++;
+                    }
+                    case FormatScenario.ETIQUETTE_POLYGONE -> {
+                        exigerComplet(canal, tampon, 18);
+                        double zMin = tampon.getDouble();
+                        double zMax = tampon.getDouble();
+                        int nbAnneaux = tampon.getShort() & 0xFFFF;
+                        List<List<Position3D>> anneaux = new ArrayList<>(nbAnneaux);
+                        for (int a = 0; a < nbAnneaux; a++) {
+                            exigerComplet(canal, tampon, 4);
+                            int n = verifierNombreSommets(tampon.getInt());
+                            List<Position3D> sommets = new ArrayList<>(n);
+                            for (int k = 0; k < n; k++) {
+                                exigerComplet(canal, tampon, 16);
+                                sommets.add(new Position3D(tampon.getDouble(), tampon.getDouble(), 0));
+                            }
+                            anneaux.add(sommets);
+                        }
+                        exigerComplet(canal, tampon, 2);
+                        String nom = lireLibelle(canal, tampon, tampon.getShort() & 0xFFFF);
+                        ajouterPolygone(nom, anneaux, zMin, zMax);
+                    }
+                    case FormatScenario.ETIQUETTE_ACTIF -> {
+                        exigerComplet(canal, tampon, 21);
+                        int type = tampon.get();
+                        double x = tampon.getDouble();
+                        double y = tampon.getDouble();
+                        double z = tampon.getFloat();
+                        ajouterActif(type, x, y, z);
+                    }
+                    default -> throw new IOException("Enregistrement inconnu: " + etiquette);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Enregistrement invalide: " + e.getMessage(), e);
+        }
+    }
+
+    public int getObstaclesCharges() {
+        return obstaclesCharges;
+    }
+
+    /**
+     * Obtient le nombre de zones d'exclusion chargées, sphériques et
+     * polygonales.
+     */
+    public int getZonesExclusionChargees() {
+        return zonesExclusionChargees;
+    }
+
+    /**
+     * Obtient les actifs créés par les chargements successifs.
+     * 
+     * @return une copie de la liste des actifs chargés
+     */
+    public List<ActifMobile> getActifsCharges() {
+        return new ArrayList<>(actifsCharges);
+    }
+
+    private void ajouterPolygone(String nom, List<List<Position3D>> anneaux, double zMin, double zMax) {
+        if (anneaux.isEmpty()) {
+            throw new IllegalArgumentException("Polygone sans contour");
+        }
+        zone.ajouterZoneExclusion(new ZoneExclusionPolygonale(nom, anneaux.get(0),
+                anneaux.subList(1, anneaux.size()), zMin, zMax));
+        zonesExclusionChargees++;
+    }
+
+    private static int verifierNombreSommets(int n) {
+        if (n < 0 || n > SOMMETS_MAX) {
+            throw new IllegalArgumentException("Nombre de sommets invalide: " + n);
+        }
+        return n;
+    }
+
+    private void ajouterActif(int type, double x, double y, double z) {
+        ActifMobile actif = FormatScenario.creerActif(type, x, y, z);
+        actif.setZoneOperation(zone);
+        if (gestionnaire != null) {
+            gestionnaire.enregistrerActif(actif);
+        }
+        actifsCharges.add(actif);
+    }
+
+    // ===== Format binaire =====
+
+    /**
+     * Garantit {@code n} octets lisibles dans le tampon.
+     * 
+     * @return false si la fin du fichier est atteinte avant tout octet
+     */
+    private static boolean exiger(FileChannel canal, ByteBuffer tampon, int n) throws IOException {
+        if (tampon.remaining() >= n) {
+            return true;
+        }
+        tampon.compact();
+        while (tampon.position() < n) {
+            if (canal.read(tampon) < 0) {
+                break;
+            }
+        }
+        tampon.flip();
+        if (tampon.remaining() >= n) {
+            return true;
+        }
+        if (tampon.hasRemaining()) {
+            throw new IOException("Fichier de scénario tronqué");
+        }
+        return false;
+    }
+
+    private static void exigerComplet(FileChannel canal, ByteBuffer tampon, int n) throws IOException {
+        if (!exiger(canal, tampon, n)) {
+            throw new IOException("Fichier de scénario tronqué");
+        }
+    }
+
+    private static String lireLibelle(FileChannel canal, ByteBuffer tampon, int longueur) throws IOException {
+        if (longueur > FormatScenario.LONGUEUR_LIBELLE_MAX) {
+            throw new IOException("Libellé trop long: " + longueur + " octets");
+        }
+        exigerComplet(canal, tampon, longueur);
+        String libelle = new String(tampon.array(), tampon.arrayOffset() + tampon.position(), longueur,
+                StandardCharsets.UTF_8);
+        tampon.position(tampon.position() + longueur);
+        return libelle;
+    }
+
+    // ===== Format texte =====
+
+    private void analyserLigne(int debut, int fin) throws IOException {
+        numeroLigne++;
+        curseur = debut;
+        finLigne = fin;
+        if (finLigne > curseur && octets[finLigne - 1] == '\r') {
+            finLigne--;
+        }
+        sauterEspaces();
+        if (curseur >= finLigne || octets[curseur] == '#') {
+            return;
+        }
+        try {
+            if (motCle(MOT_OBSTACLE)) {
+                double x = lireNombre();
+                double y = lireNombre();
+                double z = lireNombre();
+                double rayon = lireNombre();
+                double zMin = lireNombre();
+                double zMax = lireNombre();
+                zone.ajouterObstacle(x, y, z, rayon, zMin, zMax, lireCodeType());
+                obstaclesCharges++;
+            } else if (motCle(MOT_EXCLUSION)) {
+                double x = lireNombre();
+                double y = lireNombre();
+                double z = lireNombre();
+                double rayon = lireNombre();
+                zone.ajouterZoneExclusion(x, y, z, rayon, lireFinDeLigne());
+                zonesExclusionChargees++;
+            } else if (motCle(MOT_POLYGONE)) {
+                double zMin = lireNombre();
+                double zMax = lireNombre();
+                int nbAnneaux = lireEntier();
+                List<List<Position3D>> anneaux = new ArrayList<>(Math.min(nbAnneaux, 16));
+                for (int a = 0; a < nbAnneaux; a++) {
+                    int n = verifierNombreSommets(lireEntier());
+                    List<Position3D> sommets = new ArrayList<>(Math.min(n, 1024));
+                    for (int k = 0; k < n; k++) {
+                        double x = lireNombre();
+                        double y = lireNombre();
+                        sommets.add(new Position3D(x, y, 0));
+                    }
+                    anneaux.add(sommets);
+                }
+                ajouterPolygone(lireFinDeLigne(), anneaux, zMin, zMax);
+            } else if (motCle(MOT_ACTIF)) {
+                int type = -1;
+                for (int i = 0; i < MOTS_TYPES_ACTIF.length && type < 0; i++) {
+                    if (motCle(MOTS_TYPES_ACTIF[i])) {
+                        type = i;
+                    }
+                }
+                if (type < 0) {
+                    throw erreur("type d'actif inconnu");
+                }
+                double x = lireNombre();
+                double y = lireNombre();
+                double z = lireNombre();
+                ajouterActif(type, x, y, z);
+            } else {
+                throw erreur("entrée inconnue");
+            }
+        } catch (IllegalArgumentException e) {
+            throw erreur(e.getMessage());
+        }
+    }
+
+    private IOException erreur(String message) {
+        return new IOException("Ligne " + numeroLigne + ": " + message);
+    }
+
+    private static boolean estEspace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    private void sauterEspaces() {
+        while (curseur < finLigne && estEspace(octets[curseur])) {
+            curseur++;
+        }
+    }
+
+    /**
+     * Consomme le mot-clé s'il forme le jeton courant.
+     */
+    private boolean motCle(byte[] mot) {
+        int fin = curseur + mot.length;
+        if (fin > finLigne || (fin < finLigne && !estEspace(octets[fin]))) {
+            return false;
+        }
+        for (int i = 0; i < mot.length; i++) {
+            if (octets[curseur + i] != mot[i]) {
+                return false;
+            }
+        }
+        curseur = fin;
+        sauterEspaces();
+        return true;
+    }
+
+    /**
+     * Lit un nombre décimal. Le cas courant (au plus 15 chiffres significatifs,
+     * exposant décimal entre -22 et 22) est converti exactement sans objet
+     * intermédiaire ; les autres formes passent par
+     * {@link Double#parseDouble(String)}.
+     */
+    private double lireNombre() throws IOException {
+        sauterEspaces();
+        int debut = curseur;
+        int i = curseur;
+        boolean negatif = false;
+        if (i < finLigne && (octets[i] == '-' || octets[i] == '+')) {
+            negatif = octets[i] == '-';
+            i++;
+        }
+        long mantisse = 0;
+        int chiffres = 0;
+        int exposant = 0;
+        boolean vuChiffre = false;
+        while (i < finLigne && octets[i] >= '0' && octets[i] <= '9') {
+            mantisse = mantisse * 10 + (octets[i] - '0');
+            if (mantisse != 0) {
+                chiffres++;
+            }
+            vuChiffre = true;
+            i++;
+        }
+        if (i < finLigne && octets[i] == '.') {
+            i++;
+            while (i < finLigne && octets[i] >= '0' && octets[i] <= '9') {
+                mantisse = mantisse * 10 + (octets[i] - '0');
+                if (mantisse != 0) {
+                    chiffres++;
+                }
+                exposant--;
+                vuChiffre = true;
+                i++;
+            }
+        }
+        boolean simple = vuChiffre && chiffres <= 15;
+        if (simple && i < finLigne && (octets[i] == 'e' || octets[i] == 'E')) {
+            i++;
+            boolean expNegatif = false;
+            if (i < finLigne && (octets[i] == '-' || octets[i] == '+')) {
+                expNegatif = octets[i] == '-';
+                i++;
+            }
+            int e = 0;
+            boolean vuExp = false;
+            while (i < finLigne && octets[i] >= '0' && octets[i] <= '9' && e < 1000) {
+                e = e * 10 + (octets[i] - '0');
+                vuExp = true;
+                i++;
+            }
+            simple = vuExp;
+            exposant += expNegatif ? -e : e;
+        }
+        simple = simple && (i == finLigne || estEspace(octets[i])) && exposant >= -22 && exposant <= 22;
+        if (simple) {
+            curseur = i;
+            double valeur = exposant >= 0 ? mantisse * PUISSANCES_DIX[exposant]
+                    : mantisse / PUISSANCES_DIX[-exposant];
+            return negatif ? -valeur : valeur;
+        }
+
+        // Cas rare : trop de chiffres, exposant large, Infinity, ou jeton invalide
+        int fin = debut;
+        while (fin < finLigne && !estEspace(octets[fin])) {
+            fin++;
+        }
+        if (fin == debut) {
+            throw erreur("nombre attendu");
+        }
+        String jeton = new String(octets, debut, fin - debut, StandardCharsets.US_ASCII);
+        curseur = fin;
+        try {
+            return Double.parseDouble(jeton);
+        } catch (NumberFormatException e) {
+            throw erreur("nombre invalide '" + jeton + "'");
+        }
+    }
+
+    /**
+     * Lit un entier positif ou nul.
+     */
+    private int lireEntier() throws IOException {
+        double valeur = lireNombre();
+        if (valeur < 0 || valeur > Integer.MAX_VALUE || valeur != Math.rint(valeur)) {
+            throw erreur("entier attendu");
+        }
+        return (int) valeur;
+    }
+
+    /**
+     * Lit la fin de la ligne (espaces de fin retirés).
+     */
+    private String lireFinDeLigne() throws IOException {
+        sauterEspaces();
+        int fin = finLigne;
+        while (fin > curseur && estEspace(octets[fin - 1])) {
+            fin--;
+        }
+        if (fin == curseur) {
+            throw erreur("libellé attendu");
+        }
+        String libelle = new String(octets, curseur, fin - curseur, StandardCharsets.UTF_8);
+        curseur = finLigne;
+        return libelle;
+    }
+
+    /**
+     * Lit le type d'obstacle (fin de ligne) et retourne son code dans la zone.
+     * Les types déjà vus sont retrouvés par comparaison d'octets, sans créer de
+     * chaîne.
+     */
+    private int lireCodeType() throws IOException {
+        sauterEspaces();
+        int fin = finLigne;
+        while (fin > curseur && estEspace(octets[fin - 1])) {
+            fin--;
+        }
+        if (fin == curseur) {
+            throw erreur("type d'obstacle attendu");
+        }
+        int hachage = 1;
+        for (int i = curseur; i < fin; i++) {
+            hachage = 31 * hachage + octets[i];
+        }
+        int masque = clesTypes.length - 1;
+        int emplacement = (hachage ^ (hachage >>> 16)) & masque;
+        while (clesTypes[emplacement] != null) {
+            if (Arrays.equals(clesTypes[emplacement], 0, clesTypes[emplacement].length, octets, curseur, fin)) {
+                curseur = finLigne;
+                return codesTypes[emplacement];
+            }
+            emplacement = (emplacement + 1) & masque;
+        }
+        byte[] cle = Arrays.copyOfRange(octets, curseur, fin);
+        int code = zone.enregistrerTypeObstacle(new String(cle, StandardCharsets.UTF_8));
+        clesTypes[emplacement] = cle;
+        codesTypes[emplacement] = code;
+        curseur = finLigne;
+        if (++nombreTypes * 2 > clesTypes.length) {
+            agrandirDictionnaire();
+        }
+        return code;
+    }
+
+    private void agrandirDictionnaire() {
+        byte[][] anciennesCles = clesTypes;
+        int[] anciensCodes = codesTypes;
+        clesTypes = new byte[anciennesCles.length * 2][];
+        codesTypes = new int[anciennesCles.length * 2];
+        int masque = clesTypes.length - 1;
+        for (int i = 0; i < anciennesCles.length; i++) {
+            byte[] cle = anciennesCles[i];
+            if (cle != null) {
+                int hachage = 1;
+                for (byte b : cle) {
+                    hachage = 31 * hachage + b;
+                }
+                int emplacement = (hachage ^ (hachage >>> 16)) & masque;
+                while (clesTypes[emplacement] != null) {
+                    emplacement = (emplacement + 1) & masque;
+                }
+                clesTypes[emplacement] = cle;
+                codesTypes[emplacement] = anciensCodes[i];
+            }
+        }
+    }
+
+    private static byte[] octets(String mot) {
+        return mot.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,285 @@
+package fr.spiga.scenario;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.Obstacle;
+import fr.spiga.environment.ZoneExclusion;
+import fr.spiga.environment.ZoneExclusionPolygonale;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.DroneLogistique;
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.VehiculeSousMarin;
+import fr.spiga.fleet.VehiculeSurface;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formats de fichier de scénario lus par {@link ChargeurScenario}.
+ * 
+ * <p>
+ * <b>Format texte</b> (UTF-8, une entrée par ligne, champs séparés par des
+ * espaces, lignes vides et commentaires {@code #} ignorés) :
+ * 
+ * <pre>
+ * OBSTACLE  x y z rayon zMin zMax type...
+ * EXCLUSION x y z rayon nom...
+ * POLYGONE  zMin zMax anneaux n x1 y1 ... xn yn [n x1 y1 ...] nom...
+ * ACTIF     TypeActif x y z
+ * </pre>
+ * 
+ * Un polygone donne son nombre d'anneaux puis, pour chacun, son nombre de
+ * sommets et leurs coordonnées : le premier anneau est le contour, les
+ * suivants sont des trous. Les altitudes non bornées s'écrivent
+ * {@code -Infinity} et {@code Infinity}.
+ * Le type d'obstacle et le nom de zone occupent la fin de la ligne. Le type
+ * d'actif est l'un de {@code DroneReconnaissance}, {@code DroneLogistique},
+ * {@code VehiculeSurface}, {@code VehiculeSousMarin}.
+ * 
+ * <p>
+ * <b>Format binaire</b> (petit-boutiste) : un en-tête de 32 octets (magie
+ * {@code SPGS}, version, nombres d'obstacles, de zones et d'actifs) suivi
+ * d'enregistrements préfixés par une étiquette d'un octet :
+ * 
+ * <pre>
+ * TYPE      code:u16 longueur:u16 octets UTF-8
+ * OBSTACLE  x:f64 y:f64 z:f32 rayon:f32 zMin:f32 zMax:f32 code:u16   (35 octets)
+ * EXCLUSION x:f64 y:f64 z:f32 rayon:f32 longueur:u16 octets UTF-8
+ * POLYGONE  zMin:f64 zMax:f64 anneaux:u16 (n:i32 (x:f64 y:f64)×n)×anneaux
+ *           longueur:u16 octets UTF-8
+ * ACTIF     type:u8 x:f64 y:f64 z:f32
+ * </pre>
+ * 
+ * Un type est défini avant son premier usage. Les bornes infinies
+ * ({@code ±Double.MAX_VALUE}) survivent au passage en f32.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public final class FormatScenario {
+
+    /** Nombre magique du format binaire ("SPGS") */
+    public static final int MAGIE = 0x53475053;
+
+    /** Version du format binaire */
+    public static final int VERSION = 1;
+
+    /** Taille de l'en-tête binaire */
+    static final int TAILLE_EN_TETE = 32;
+
+    /** Longueur maximale en octets d'un type ou d'un nom */
+    static final int LONGUEUR_LIBELLE_MAX = 0x7FFF;
+
+    static final byte ETIQUETTE_TYPE = 1;
+    static final byte ETIQUETTE_OBSTACLE = 2;
+    static final byte ETIQUETTE_EXCLUSION = 3;
+    static final byte ETIQUETTE_ACTIF = 4;
+    static final byte ETIQUETTE_POLYGONE = 5;
+
+    /** Noms des types d'actif, indexés par code binaire */
+    static final String[] TYPES_ACTIF = { "DroneReconnaissance", "DroneLogistique", "VehiculeSurface",
+            "VehiculeSousMarin" };
+
+    private FormatScenario() {
+    }
+
+    /**
+     * Crée un actif à partir de son code de type.
+     */
+    static ActifMobile creerActif(int code, double x, double y, double z) {
+        Position3D position = new Position3D(x, y, z);
+        return switch (code) {
+            case 0 -> new DroneReconnaissance(position);
+            case 1 -> new DroneLogistique(position);
+            case 2 -> new VehiculeSurface(position);
+            case 3 -> new VehiculeSousMarin(position);
+            default -> throw new IllegalArgumentException("Type d'actif inconnu: " + code);
+        };
+    }
+
+    static int codeActif(ActifMobile actif) {
+        for (int i = 0; i < TYPES_ACTIF.length; i++) {
+            if (TYPES_ACTIF[i].equals(actif.getClass().getSimpleName())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Type d'actif non exportable: " + actif.getClass().getSimpleName());
+    }
+
+    /**
+     * Écrit les obstacles, zones d'exclusion et actifs au format texte.
+     * 
+     * @param zone    la zone d'opération
+     * @param actifs  les actifs à écrire (peut être vide)
+     * @param fichier le fichier de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrireTexte(ZoneOperation zone, List<ActifMobile> actifs, Path fichier) throws IOException {
+        try (BufferedWriter sortie = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            sortie.write("# Scénario SPIGA");
+            sortie.newLine();
+            for (int i = 0; i < zone.getNombreObstacles(); i++) {
+                Obstacle o = zone.getObstacle(i);
+                Position3D p = o.getPosition();
+                sortie.write("OBSTACLE " + p.getX() + " " + p.getY() + " " + p.getZ() + " " + o.getRayon() + " "
+                        + o.getZMin() + " " + o.getZMax() + " " + o.getType());
+                sortie.newLine();
+            }
+            for (ZoneExclusion z : zone.getZonesExclusion()) {
+                Position3D c = z.getCentre();
+                sortie.write("EXCLUSION " + c.getX() + " " + c.getY() + " " + c.getZ() + " " + z.getRayon() + " "
+                        + z.getNom());
+                sortie.newLine();
+            }
+            for (ZoneExclusionPolygonale z : zone.getZonesExclusionPolygonales()) {
+                StringBuilder ligne = new StringBuilder("POLYGONE ");
+                ligne.append(z.getZMin()).append(' ').append(z.getZMax()).append(' ')
+                        .append(z.getTrous().size() + 1);
+                ajouterAnneau(ligne, z.getContour());
+                for (List<Position3D> trou : z.getTrous()) {
+                    ajouterAnneau(ligne, trou);
+                }
+                ligne.append(' ').append(z.getNom());
+                sortie.write(ligne.toString());
+                sortie.newLine();
+            }
+            for (ActifMobile actif : actifs) {
+                Position3D p = actif.getPosition();
+                sortie.write(String.format(Locale.ROOT, "ACTIF %s %s %s %s", TYPES_ACTIF[codeActif(actif)],
+                        p.getX(), p.getY(), p.getZ()));
+                sortie.newLine();
+            }
+        }
+    }
+
+    /**
+     * Écrit les obstacles, zones d'exclusion et actifs au format binaire.
+     * 
+     * @param zone    la zone d'opération
+     * @param actifs  les actifs à écrire (peut être vide)
+     * @param fichier le fichier de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrireBinaire(ZoneOperation zone, List<ActifMobile> actifs, Path fichier) throws IOException {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer tampon = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            tampon.putInt(MAGIE).putInt(VERSION).putInt(zone.getNombreObstacles())
+                    .putInt(zone.getNombreZonesExclusion()).putInt(actifs.size());
+            tampon.position(TAILLE_EN_TETE);
+
+            Map<String, Integer> codes = new HashMap<>();
+            for (int i = 0; i < zone.getNombreObstacles(); i++) {
+                Obstacle o = zone.getObstacle(i);
+                Integer code = codes.get(o.getType());
+                if (code == null) {
+                    code = codes.size();
+                    codes.put(o.getType(), code);
+                    byte[] octets = encoderLibelle(o.getType());
+                    vider(canal, tampon, 5 + octets.length);
+                    tampon.put(ETIQUETTE_TYPE).putShort(code.shortValue()).putShort((short) octets.length)
+                            .put(octets);
+                }
+                Position3D p = o.getPosition();
+                vider(canal, tampon, 35);
+                tampon.put(ETIQUETTE_OBSTACLE).putDouble(p.getX()).putDouble(p.getY()).putFloat((float) p.getZ())
+                        .putFloat((float) o.getRayon()).putFloat((float) o.getZMin()).putFloat((float) o.getZMax())
+                        .putShort(code.shortValue());
+            }
+            for (ZoneExclusion z : zone.getZonesExclusion()) {
+                Position3D c = z.getCentre();
+                byte[] octets = encoderLibelle(z.getNom());
+                vider(canal, tampon, 27 + octets.length);
+                tampon.put(ETIQUETTE_EXCLUSION).putDouble(c.getX()).putDouble(c.getY()).putFloat((float) c.getZ())
+                        .putFloat((float) z.getRayon()).putShort((short) octets.length).put(octets);
+            }
+            for (ZoneExclusionPolygonale z : zone.getZonesExclusionPolygonales()) {
+                List<List<Position3D>> trous = z.getTrous();
+                if (trous.size() + 1 > 0xFFFF) {
+                    throw new IllegalArgumentException("Trop de trous pour le format binaire: " + z.getNom());
+                }
+                vider(canal, tampon, 19);
+                tampon.put(ETIQUETTE_POLYGONE).putDouble(z.getZMin()).putDouble(z.getZMax())
+                        .putShort((short) (trous.size() + 1));
+                ecrireAnneau(canal, tampon, z.getContour());
+                for (List<Position3D> trou : trous) {
+                    ecrireAnneau(canal, tampon, trou);
+                }
+                byte[] octets = encoderLibelle(z.getNom());
+                vider(canal, tampon, 2 + octets.length);
+                tampon.putShort((short) octets.length).put(octets);
+            }
+            for (ActifMobile actif : actifs) {
+                Position3D p = actif.getPosition();
+                vider(canal, tampon, 22);
+                tampon.put(ETIQUETTE_ACTIF).put((byte) codeActif(actif)).putDouble(p.getX()).putDouble(p.getY())
+                        .putFloat((float) p.getZ());
+            }
+            tampon.flip();
+            while (tampon.hasRemaining()) {
+                canal.write(tampon);
+            }
+        }
+    }
+
+    private static void ajouterAnneau(StringBuilder ligne, List<Position3D> sommets) {
+        ligne.append(' ').append(sommets.size());
+        for (Position3D p : sommets) {
+            ligne.append(' ').append(p.getX()).append(' ').append(p.getY());
+        }
+    }
+
+    private static void ecrireAnneau(FileChannel canal, ByteBuffer tampon, List<Position3D> sommets)
+            throws IOException {
+        vider(canal, tampon, 4);
+        tampon.putInt(sommets.size());
+        for (Position3D p : sommets) {
+            vider(canal, tampon, 16);
+            tampon.putDouble(p.getX()).putDouble(p.getY());
+        }
+    }
+
+    private static byte[] encoderLibelle(String libelle) {
+        byte[] octets = libelle.getBytes(StandardCharsets.UTF_8);
+        if (octets.length > LONGUEUR_LIBELLE_MAX) {
+            throw new IllegalArgumentException("Libellé trop long pour le format binaire: " + libelle);
+        }
+        return octets;
+    }
+
+    /**
+     * Écrit le tampon sur le canal s'il reste moins de {@code requis} octets.
+     */
+    private static void vider(FileChannel canal, ByteBuffer tampon, int requis) throws IOException {
+        if (tampon.remaining() < requis) {
+            tampon.flip();
+            while (tampon.hasRemaining()) {
+                canal.write(tampon);
+            }
+            tampon.clear();
+        }
+    }
+
+    /**
+     * Relit une valeur f32 en rétablissant les bornes infinies.
+     */
+    static double versDouble(float valeur) {
+        if (valeur == Float.POSITIVE_INFINITY) {
+            return Double.MAX_VALUE;
+        }
+        if (valeur == Float.NEGATIVE_INFINITY) {
+            return -Double.MAX_VALUE;
+        }
+        return valeur;
+    }
+}
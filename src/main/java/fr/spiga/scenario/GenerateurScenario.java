@@ -0,0 +1,284 @@
+package fr.spiga.scenario;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.CourantMarin;
+import fr.spiga.environment.Obstacle;
+import fr.spiga.environment.Precipitation;
+import fr.spiga.environment.Precipitation.TypePrecipitation;
+import fr.spiga.environment.Vent;
+import fr.spiga.environment.ZoneExclusion;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.DroneLogistique;
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.Essaim;
+import fr.spiga.fleet.GestionnaireEssaim;
+import fr.spiga.fleet.VehiculeSousMarin;
+import fr.spiga.fleet.VehiculeSurface;
+import fr.spiga.mission.Mission;
+import fr.spiga.mission.MissionInspectionSousMarine;
+import fr.spiga.mission.MissionRechercheEtSauvetage;
+import fr.spiga.mission.MissionReconnaissanceAerienne;
+import fr.spiga.mission.MissionSurveillanceMaritime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Générateur procédural et reproductible de scénarios.
+ * 
+ * <p>
+ * À graine égale, deux générations produisent les mêmes positions, obstacles,
+ * zones d'exclusion, conditions météorologiques et assignations. Les actifs
+ * et les destinations de mission sont placés hors des obstacles et des zones
+ * d'exclusion, par tirages successifs comme dans l'interface graphique.
+ * 
+ * <p>
+ * Les obstacles suivent quatre gabarits aux bornes verticales réalistes :
+ * île (du fond à 50-300 m), montagne (jusqu'à 1000-3000 m), récif (de
+ * -100/-300 m à la surface) et épave (posée entre -200 et -800 m).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class GenerateurScenario {
+
+    /** Nombre de tirages avant d'abandonner un placement */
+    private static final int TENTATIVES_PLACEMENT = 200;
+
+    /** Fond de la zone d'opération */
+    private static final double Z_MIN_ZONE = -2000.0;
+
+    /** Plafond de la zone d'opération */
+    private static final double Z_MAX_ZONE = 10000.0;
+
+    private final long graine;
+
+    /**
+     * Constructeur du générateur.
+     * 
+     * @param graine la graine du générateur pseudo-aléatoire
+     */
+    public GenerateurScenario(long graine) {
+        this.graine = graine;
+    }
+
+    public long getGraine() {
+        return graine;
+    }
+
+    /**
+     * Génère un scénario prédéfini.
+     * 
+     * @param preset le preset
+     * @return le scénario généré
+     */
+    public Scenario generer(PresetScenario preset) {
+        if (preset == null) {
+            throw new IllegalArgumentException("Le preset ne peut pas être nul");
+        }
+        return generer(preset.getLibelle(), preset.creerParametres());
+    }
+
+    /**
+     * Génère un scénario à partir de paramètres explicites.
+     * 
+     * @param nom        le nom du scénario
+     * @param parametres les paramètres de génération
+     * @return le scénario généré
+     * @throws IllegalStateException si un actif ou une destination ne peut pas
+     *                               être placé (zone trop encombrée)
+     */
+    public Scenario generer(String nom, ParametresScenario parametres) {
+        if (parametres == null) {
+            throw new IllegalArgumentException("Les paramètres ne peuvent pas être nuls");
+        }
+        SplittableRandom aleatoire = new SplittableRandom(graine);
+        double taille = parametres.getTailleZone();
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, Z_MIN_ZONE),
+                new Position3D(taille, taille, Z_MAX_ZONE));
+
+        genererMeteo(aleatoire, zone, parametres);
+        for (int i = 0; i < parametres.getNombreObstacles(); i++) {
+            zone.ajouterObstacle(genererObstacle(aleatoire, taille, i + 1));
+        }
+        for (int i = 0; i < parametres.getNombreZonesExclusion(); i++) {
+            Position3D centre = new Position3D(tirerCoordonnee(aleatoire, taille), tirerCoordonnee(aleatoire, taille),
+                    0);
+            zone.ajouterZoneExclusion(new ZoneExclusion(centre, uniforme(aleatoire, 500, 3000),
+                    "Zone interdite " + (i + 1)));
+        }
+
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        List<ActifMobile> actifs = genererActifs(aleatoire, zone, gestionnaire, parametres);
+        List<Mission> missions = genererMissions(aleatoire, zone, actifs, parametres.getNombreMissions());
+
+        return new Scenario(nom, graine, zone, gestionnaire, actifs, missions);
+    }
+
+    private void genererMeteo(SplittableRandom aleatoire, ZoneOperation zone, ParametresScenario parametres) {
+        zone.setVent(new Vent(uniforme(aleatoire, 0, 2 * Math.PI),
+                uniforme(aleatoire, parametres.getVentMin(), parametres.getVentMax())));
+        if (parametres.getTypePrecipitation() == TypePrecipitation.AUCUNE) {
+            zone.setPrecipitation(new Precipitation());
+        } else {
+            zone.setPrecipitation(new Precipitation(parametres.getTypePrecipitation(),
+                    uniforme(aleatoire, parametres.getPrecipitationMin(), parametres.getPrecipitationMax())));
+        }
+        double angleCourant = uniforme(aleatoire, 0, 2 * Math.PI);
+        zone.setCourantMarin(new CourantMarin(new Position3D(Math.cos(angleCourant), Math.sin(angleCourant), 0),
+                uniforme(aleatoire, 0, parametres.getCourantMax())));
+    }
+
+    private Obstacle genererObstacle(SplittableRandom aleatoire, double taille, int numero) {
+        double x = tirerCoordonnee(aleatoire, taille);
+        double y = tirerCoordonnee(aleatoire, taille);
+        switch (aleatoire.nextInt(4)) {
+            case 0 -> {
+                return new Obstacle(new Position3D(x, y, 0), uniforme(aleatoire, 1000, 3000), Z_MIN_ZONE,
+                        uniforme(aleatoire, 50, 300), "Île " + numero);
+            }
+            case 1 -> {
+                return new Obstacle(new Position3D(x, y, 0), uniforme(aleatoire, 1000, 2500), Z_MIN_ZONE,
+                        uniforme(aleatoire, 1000, 3000), "Montagne " + numero);
+            }
+            case 2 -> {
+                double zMin = uniforme(aleatoire, -300, -100);
+                return new Obstacle(new Position3D(x, y, zMin / 2), uniforme(aleatoire, 300, 1500), zMin, 0,
+                        "Récif " + numero);
+            }
+            default -> {
+                double zMin = uniforme(aleatoire, -800, -200);
+                double zMax = zMin + uniforme(aleatoire, 20, 80);
+                return new Obstacle(new Position3D(x, y, (zMin + zMax) / 2), uniforme(aleatoire, 100, 400), zMin,
+                        zMax, "Épave " + numero);
+            }
+        }
+    }
+
+    private List<ActifMobile> genererActifs(SplittableRandom aleatoire, ZoneOperation zone,
+            GestionnaireEssaim gestionnaire, ParametresScenario parametres) {
+        double taille = parametres.getTailleZone();
+        double rayon = parametres.getRayonRegroupement();
+        double centreX = taille / 2;
+        double centreY = taille / 2;
+        if (rayon > 0) {
+            // Le point de regroupement est lui-même tiré pour varier avec la graine
+            double marge = Math.min(rayon, taille / 2);
+            centreX = uniforme(aleatoire, marge, taille - marge);
+            centreY = uniforme(aleatoire, marge, taille - marge);
+        }
+
+        List<ActifMobile> actifs = new ArrayList<>(parametres.getNombreActifs());
+        Essaim essaim = null;
+        for (int i = 0; i < parametres.getNombreActifs(); i++) {
+            double tirage = aleatoire.nextDouble();
+            ActifMobile actif;
+            if (tirage < 0.35) {
+                actif = new DroneReconnaissance(
+                        trouverPosition(aleatoire, zone, uniforme(aleatoire, 300, 1500), centreX, centreY, rayon));
+            } else if (tirage < 0.60) {
+                actif = new DroneLogistique(
+                        trouverPosition(aleatoire, zone, uniforme(aleatoire, 300, 1000), centreX, centreY, rayon));
+            } else if (tirage < 0.80) {
+                actif = new VehiculeSurface(trouverPosition(aleatoire, zone, 0, centreX, centreY, rayon));
+            } else {
+                actif = new VehiculeSousMarin(
+                        trouverPosition(aleatoire, zone, uniforme(aleatoire, -400, -50), centreX, centreY, rayon));
+            }
+            actif.setZoneOperation(zone);
+            gestionnaire.enregistrerActif(actif);
+            if (i % parametres.getTailleEssaim() == 0) {
+                essaim = gestionnaire.creerEssaim("Essaim " + (i / parametres.getTailleEssaim() + 1));
+            }
+            essaim.ajouterActif(actif);
+            actifs.add(actif);
+        }
+        return actifs;
+    }
+
+    private List<Mission> genererMissions(SplittableRandom aleatoire, ZoneOperation zone, List<ActifMobile> actifs,
+            int nombreMissions) {
+        List<Mission> missions = new ArrayList<>(nombreMissions);
+        if (actifs.isEmpty()) {
+            return missions;
+        }
+        double taille = zone.getLimitesMax().getX();
+        int actifsParMission = Math.max(1, actifs.size() / Math.max(1, nombreMissions) / 2);
+        BitSet pris = new BitSet(actifs.size());
+        LocalDateTime debut = LocalDateTime.now();
+
+        for (int i = 0; i < nombreMissions; i++) {
+            LocalDateTime fin = debut.plusHours(1 + aleatoire.nextInt(8));
+            Mission mission;
+            switch (aleatoire.nextInt(4)) {
+                case 0 -> mission = new MissionReconnaissanceAerienne(debut, fin,
+                        trouverPosition(aleatoire, zone, 500, taille / 2, taille / 2, 0));
+                case 1 -> mission = new MissionSurveillanceMaritime(debut, fin,
+                        trouverPosition(aleatoire, zone, 0, taille / 2, taille / 2, 0));
+                case 2 -> mission = new MissionInspectionSousMarine(debut, fin,
+                        trouverPosition(aleatoire, zone, -100, taille / 2, taille / 2, 0));
+                default -> {
+                    int indiceCible = aleatoire.nextInt(actifs.size());
+                    pris.set(indiceCible);
+                    mission = new MissionRechercheEtSauvetage(debut, fin, actifs.get(indiceCible));
+                }
+            }
+            mission.setZoneOperation(zone);
+
+            // Parcours circulaire depuis un point de départ tiré : reproductible et
+            // sans biais vers les premiers actifs
+            int depart = aleatoire.nextInt(actifs.size());
+            int assignes = 0;
+            for (int k = 0; k < actifs.size() && assignes < actifsParMission; k++) {
+                int indice = (depart + k) % actifs.size();
+                ActifMobile actif = actifs.get(indice);
+                if (!pris.get(indice) && mission.estCompatible(actif) && mission.assignerActif(actif)) {
+                    pris.set(indice);
+                    assignes++;
+                }
+            }
+            missions.add(mission);
+        }
+        return missions;
+    }
+
+    /**
+     * Tire une position libre (hors obstacles et zones d'exclusion).
+     * 
+     * @param rayon le rayon du disque de tirage autour du centre, 0 pour toute
+     *              la zone (marges de 5 % exclues)
+     */
+    private Position3D trouverPosition(SplittableRandom aleatoire, ZoneOperation zone, double z, double centreX,
+            double centreY, double rayon) {
+        double taille = zone.getLimitesMax().getX();
+        for (int tentative = 0; tentative < TENTATIVES_PLACEMENT; tentative++) {
+            double x;
+            double y;
+            if (rayon > 0) {
+                double r = rayon * Math.sqrt(aleatoire.nextDouble());
+                double angle = uniforme(aleatoire, 0, 2 * Math.PI);
+                x = Math.max(0, Math.min(taille, centreX + r * Math.cos(angle)));
+                y = Math.max(0, Math.min(taille, centreY + r * Math.sin(angle)));
+            } else {
+                x = tirerCoordonnee(aleatoire, taille);
+                y = tirerCoordonnee(aleatoire, taille);
+            }
+            Position3D position = new Position3D(x, y, z);
+            if (!zone.estEnCollisionAvecObstacle(position) && !zone.estDansZoneExclusion(position)) {
+                return position;
+            }
+        }
+        throw new IllegalStateException("Aucune position libre trouvée à z=" + z + " : zone trop encombrée");
+    }
+
+    private static double tirerCoordonnee(SplittableRandom aleatoire, double taille) {
+        return uniforme(aleatoire, 0.05 * taille, 0.95 * taille);
+    }
+
+    private static double uniforme(SplittableRandom aleatoire, double min, double max) {
+        return min == max ? min : aleatoire.nextDouble(min, max);
+    }
+}
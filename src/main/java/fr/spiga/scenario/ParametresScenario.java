@@ -0,0 +1,167 @@
+package fr.spiga.scenario;
+
+import fr.spiga.environment.Precipitation.TypePrecipitation;
+
+/**
+ * Paramètres de génération d'un scénario.
+ * 
+ * <p>
+ * Les effectifs sont fixés à la construction ; la taille de la zone, le
+ * regroupement des actifs et les plages météorologiques ont des valeurs par
+ * défaut modifiables par les setters.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class ParametresScenario {
+
+    private final int nombreActifs;
+    private final int nombreObstacles;
+    private final int nombreZonesExclusion;
+    private final int nombreMissions;
+
+    /** Côté de la zone carrée en mètres */
+    private double tailleZone = 100000.0;
+    /** Rayon de regroupement des actifs autour du centre (0 = zone entière) */
+    private double rayonRegroupement = 0.0;
+    /** Taille maximale d'un essaim généré */
+    private int tailleEssaim = 50;
+
+    private double ventMin = 0.0;
+    private double ventMax = 30.0;
+    private TypePrecipitation typePrecipitation = TypePrecipitation.AUCUNE;
+    private double precipitationMin = 0.0;
+    private double precipitationMax = 0.0;
+    private double courantMax = 20.0;
+
+    /**
+     * Constructeur des paramètres de scénario.
+     * 
+     * @param nombreActifs         le nombre d'actifs (types mélangés)
+     * @param nombreObstacles      le nombre d'obstacles
+     * @param nombreZonesExclusion le nombre de zones d'exclusion
+     * @param nombreMissions       le nombre de missions planifiées
+     */
+    public ParametresScenario(int nombreActifs, int nombreObstacles, int nombreZonesExclusion, int nombreMissions) {
+        if (nombreActifs < 0 || nombreObstacles < 0 || nombreZonesExclusion < 0 || nombreMissions < 0) {
+            throw new IllegalArgumentException("Les effectifs d'un scénario ne peuvent pas être négatifs");
+        }
+        this.nombreActifs = nombreActifs;
+        this.nombreObstacles = nombreObstacles;
+        this.nombreZonesExclusion = nombreZonesExclusion;
+        this.nombreMissions = nombreMissions;
+    }
+
+    public int getNombreActifs() {
+        return nombreActifs;
+    }
+
+    public int getNombreObstacles() {
+        return nombreObstacles;
+    }
+
+    public int getNombreZonesExclusion() {
+        return nombreZonesExclusion;
+    }
+
+    public int getNombreMissions() {
+        return nombreMissions;
+    }
+
+    public double getTailleZone() {
+        return tailleZone;
+    }
+
+    public void setTailleZone(double tailleZone) {
+        if (tailleZone < 10000.0) {
+            throw new IllegalArgumentException("La zone doit mesurer au moins 10 km de côté");
+        }
+        this.tailleZone = tailleZone;
+    }
+
+    public double getRayonRegroupement() {
+        return rayonRegroupement;
+    }
+
+    public void setRayonRegroupement(double rayonRegroupement) {
+        if (rayonRegroupement < 0) {
+            throw new IllegalArgumentException("Le rayon de regroupement ne peut pas être négatif");
+        }
+        this.rayonRegroupement = rayonRegroupement;
+    }
+
+    public int getTailleEssaim() {
+        return tailleEssaim;
+    }
+
+    public void setTailleEssaim(int tailleEssaim) {
+        if (tailleEssaim <= 0) {
+            throw new IllegalArgumentException("La taille d'un essaim doit être positive");
+        }
+        this.tailleEssaim = tailleEssaim;
+    }
+
+    public double getVentMin() {
+        return ventMin;
+    }
+
+    public double getVentMax() {
+        return ventMax;
+    }
+
+    /**
+     * Définit la plage d'intensité du vent tirée à la génération.
+     * 
+     * @param min l'intensité minimale (0-100)
+     * @param max l'intensité maximale (0-100)
+     */
+    public void setVent(double min, double max) {
+        verifierPlage(min, max);
+        this.ventMin = min;
+        this.ventMax = max;
+    }
+
+    public TypePrecipitation getTypePrecipitation() {
+        return typePrecipitation;
+    }
+
+    public double getPrecipitationMin() {
+        return precipitationMin;
+    }
+
+    public double getPrecipitationMax() {
+        return precipitationMax;
+    }
+
+    /**
+     * Définit le type et la plage d'intensité des précipitations.
+     * 
+     * @param type le type de précipitation
+     * @param min  l'intensité minimale (0-100)
+     * @param max  l'intensité maximale (0-100)
+     */
+    public void setPrecipitation(TypePrecipitation type, double min, double max) {
+        if (type == null) {
+            throw new IllegalArgumentException("Le type ne peut pas être nul");
+        }
+        verifierPlage(min, max);
+        this.typePrecipitation = type;
+        this.precipitationMin = min;
+        this.precipitationMax = max;
+    }
+
+    public double getCourantMax() {
+        return courantMax;
+    }
+
+    public void setCourantMax(double courantMax) {
+        verifierPlage(0, courantMax);
+        this.courantMax = courantMax;
+    }
+
+    private static void verifierPlage(double min, double max) {
+        if (min < 0 || max > 100 || min > max) {
+            throw new IllegalArgumentException("La plage d'intensité doit être comprise entre 0 et 100");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package fr.spiga.scenario;
+
+import fr.spiga.environment.Precipitation.TypePrecipitation;
+
+/**
+ * Scénarios prédéfinis pour les essais de montée en charge.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public enum PresetScenario {
+    /** Nombreux actifs regroupés dans un rayon de 5 km, météo calme */
+    ESSAIM_DENSE("Essaim dense"),
+    /** Zone encombrée d'obstacles et de zones d'exclusion */
+    CHAMP_OBSTACLES("Champ d'obstacles"),
+    /** Vent violent, grêle et fort courant */
+    FRONT_ORAGEUX("Front orageux");
+
+    private final String libelle;
+
+    PresetScenario(String libelle) {
+        this.libelle = libelle;
+    }
+
+    public String getLibelle() {
+        return libelle;
+    }
+
+    /**
+     * Crée les paramètres du preset.
+     * 
+     * @return de nouveaux paramètres, modifiables par l'appelant
+     */
+    public ParametresScenario creerParametres() {
+        ParametresScenario parametres;
+        switch (this) {
+            case ESSAIM_DENSE -> {
+                parametres = new ParametresScenario(500, 10, 2, 5);
+                parametres.setRayonRegroupement(5000.0);
+                parametres.setVent(5.0, 20.0);
+            }
+            case CHAMP_OBSTACLES -> {
+                parametres = new ParametresScenario(60, 400, 20, 8);
+                parametres.setVent(10.0, 30.0);
+                parametres.setPrecipitation(TypePrecipitation.PLUIE_LEGERE, 10.0, 30.0);
+            }
+            default -> {
+                parametres = new ParametresScenario(100, 30, 5, 6);
+                parametres.setVent(70.0, 95.0);
+                parametres.setPrecipitation(TypePrecipitation.GRELE, 60.0, 90.0);
+                parametres.setCourantMax(80.0);
+            }
+        }
+        return parametres;
+    }
+
+    @Override
+    public String toString() {
+        return libelle;
+    }
+}
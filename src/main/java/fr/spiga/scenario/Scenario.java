@@ -0,0 +1,66 @@
+package fr.spiga.scenario;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.GestionnaireEssaim;
+import fr.spiga.mission.Mission;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scénario généré : zone d'opération peuplée, flotte enregistrée et missions
+ * planifiées (actifs assignés, non démarrées).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class Scenario {
+
+    private final String nom;
+    private final long graine;
+    private final ZoneOperation zone;
+    private final GestionnaireEssaim gestionnaire;
+    private final List<ActifMobile> actifs;
+    private final List<Mission> missions;
+
+    Scenario(String nom, long graine, ZoneOperation zone, GestionnaireEssaim gestionnaire,
+            List<ActifMobile> actifs, List<Mission> missions) {
+        this.nom = nom;
+        this.graine = graine;
+        this.zone = zone;
+        this.gestionnaire = gestionnaire;
+        this.actifs = Collections.unmodifiableList(actifs);
+        this.missions = Collections.unmodifiableList(missions);
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    public long getGraine() {
+        return graine;
+    }
+
+    public ZoneOperation getZone() {
+        return zone;
+    }
+
+    public GestionnaireEssaim getGestionnaire() {
+        return gestionnaire;
+    }
+
+    public List<ActifMobile> getActifs() {
+        return actifs;
+    }
+
+    public List<Mission> getMissions() {
+        return missions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Scénario %s (graine %d): %d actifs, %d obstacles, %d zones d'exclusion, %d missions",
+                nom, graine, actifs.size(), zone.getNombreObstacles(), zone.getNombreZonesExclusion(),
+                missions.size());
+    }
+}
@@ -0,0 +1,75 @@
+package fr.spiga.telemetrie;
+
+import fr.spiga.core.EtatOperationnel;
+
+/**
+ * Copie locale d'un cadre de télémétrie, réutilisable d'une lecture à l'autre
+ * pour ne pas allouer (voir {@link LecteurTelemetrie#lireDernierCadre}).
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class CadreTelemetrie {
+
+    private static final EtatOperationnel[] ETATS = EtatOperationnel.values();
+
+    long numero = -1;
+    double tempsSimulation;
+    int taille;
+    final int[] poignees;
+    final int[] etats;
+    final double[] x;
+    final double[] y;
+    final double[] z;
+    final double[] autonomies;
+
+    /**
+     * Constructeur d'un cadre vide.
+     * 
+     * @param capacite le nombre maximal d'enregistrements
+     */
+    public CadreTelemetrie(int capacite) {
+        this.poignees = new int[capacite];
+        this.etats = new int[capacite];
+        this.x = new double[capacite];
+        this.y = new double[capacite];
+        this.z = new double[capacite];
+        this.autonomies = new double[capacite];
+    }
+
+    public long getNumero() {
+        return numero;
+    }
+
+    public double getTempsSimulation() {
+        return tempsSimulation;
+    }
+
+    public int getTaille() {
+        return taille;
+    }
+
+    public int getPoignee(int i) {
+        return poignees[i];
+    }
+
+    public EtatOperationnel getEtat(int i) {
+        return ETATS[etats[i]];
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double getZ(int i) {
+        return z[i];
+    }
+
+    public double getAutonomie(int i) {
+        return autonomies[i];
+    }
+}
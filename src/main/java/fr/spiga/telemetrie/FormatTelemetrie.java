@@ -0,0 +1,74 @@
+package fr.spiga.telemetrie;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Disposition du fichier anneau de télémétrie, partagée par l'écrivain et les
+ * lecteurs.
+ * 
+ * <pre>
+ * En-tête (64 octets, petit-boutiste)
+ *   0  int    magique 'SPGT'
+ *   4  int    version du format
+ *   8  int    nombre de cadres de l'anneau
+ *  12  int    capacité en enregistrements par cadre
+ *  16  int    taille d'un cadre en octets
+ *  24  long   numéro du dernier cadre publié (-1 si aucun)
+ * Cadre k (à 64 + k * tailleCadre)
+ *   0  long   séquence (impaire pendant l'écriture, paire une fois publiée)
+ *   8  long   numéro du cadre (le cadre n occupe la case n % nombreCadres)
+ *  16  double temps simulé (s)
+ *  24  int    nombre d'enregistrements
+ *  32  enregistrements de 40 octets :
+ *        0 int poignée, 4 int état, 8 double x, 16 double y, 24 double z,
+ *       32 double autonomie (%)
+ * </pre>
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+final class FormatTelemetrie {
+
+    static final int MAGIQUE = 0x54475053; // "SPGT"
+    static final int VERSION = 1;
+
+    static final int TAILLE_ENTETE = 64;
+    static final int ENTETE_MAGIQUE = 0;
+    static final int ENTETE_VERSION = 4;
+    static final int ENTETE_NB_CADRES = 8;
+    static final int ENTETE_CAPACITE = 12;
+    static final int ENTETE_TAILLE_CADRE = 16;
+    static final int ENTETE_DERNIER_CADRE = 24;
+
+    static final int CADRE_SEQUENCE = 0;
+    static final int CADRE_NUMERO = 8;
+    static final int CADRE_TEMPS = 16;
+    static final int CADRE_NB_ENREGISTREMENTS = 24;
+    static final int CADRE_ENREGISTREMENTS = 32;
+
+    static final int TAILLE_ENREGISTREMENT = 40;
+    static final int ENR_POIGNEE = 0;
+    static final int ENR_ETAT = 4;
+    static final int ENR_X = 8;
+    static final int ENR_Y = 16;
+    static final int ENR_Z = 24;
+    static final int ENR_AUTONOMIE = 32;
+
+    static final ByteOrder ORDRE = ByteOrder.LITTLE_ENDIAN;
+
+    /** Accès ordonnés (acquisition / libération) aux champs long alignés */
+    static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ORDRE);
+
+    private FormatTelemetrie() {
+    }
+
+    static int tailleCadre(int capacite) {
+        return CADRE_ENREGISTREMENTS + capacite * TAILLE_ENREGISTREMENT;
+    }
+
+    static long tailleFichier(int nbCadres, int capacite) {
+        return TAILLE_ENTETE + (long) nbCadres * tailleCadre(capacite);
+    }
+}
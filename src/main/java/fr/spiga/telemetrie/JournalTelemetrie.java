@@ -0,0 +1,151 @@
+package fr.spiga.telemetrie;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Écrivain de l'anneau de télémétrie en mémoire partagée (fichier projeté).
+ * 
+ * <p>
+ * À chaque pas, {@link #publier} écrit un cadre contenant un enregistrement
+ * compact par actif (poignée, position, autonomie, état) dans la case suivante
+ * de l'anneau. Chaque cadre est protégé par un compteur de séquence (seqlock) :
+ * l'écrivain ne bloque jamais, et un lecteur d'un autre processus (voir
+ * {@link LecteurTelemetrie}) détecte un cadre en cours de réécriture et
+ * recommence sa lecture. Il ne doit y avoir qu'un seul écrivain par fichier.
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class JournalTelemetrie implements AutoCloseable {
+
+    /** Nombre de cadres par défaut dans l'anneau */
+    public static final int NOMBRE_CADRES_DEFAUT = 64;
+
+    private final FileChannel canal;
+    private final MappedByteBuffer tampon;
+    private final int nbCadres;
+    private final int capacite;
+    private final int tailleCadre;
+
+    /** Numéro du prochain cadre à écrire */
+    private long prochainCadre;
+
+    /** Nombre d'actifs omis faute de place dans un cadre */
+    private long enregistrementsTronques;
+
+    /**
+     * Crée (ou remplace) le fichier de télémétrie.
+     * 
+     * @param fichier  le chemin du fichier projeté
+     * @param capacite le nombre maximal d'actifs par cadre
+     * @param nbCadres le nombre de cadres de l'anneau
+     * @throws IOException si le fichier ne peut pas être créé ou projeté
+     */
+    public JournalTelemetrie(Path fichier, int capacite, int nbCadres) throws IOException {
+        if (capacite <= 0 || nbCadres <= 1) {
+            throw new IllegalArgumentException("La capacité doit être positive et l'anneau compter au moins 2 cadres");
+        }
+        this.nbCadres = nbCadres;
+        this.capacite = capacite;
+        this.tailleCadre = FormatTelemetrie.tailleCadre(capacite);
+        long taille = FormatTelemetrie.tailleFichier(nbCadres, capacite);
+        if (taille > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Anneau de télémétrie trop grand");
+        }
+
+        this.canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.tampon = canal.map(FileChannel.MapMode.READ_WRITE, 0, taille);
+        tampon.order(FormatTelemetrie.ORDRE);
+
+        // En-tête : le dernier cadre est invalidé avant la signature magique
+        FormatTelemetrie.LONG.setRelease(tampon, FormatTelemetrie.ENTETE_DERNIER_CADRE, -1L);
+        tampon.putInt(FormatTelemetrie.ENTETE_VERSION, FormatTelemetrie.VERSION);
+        tampon.putInt(FormatTelemetrie.ENTETE_NB_CADRES, nbCadres);
+        tampon.putInt(FormatTelemetrie.ENTETE_CAPACITE, capacite);
+        tampon.putInt(FormatTelemetrie.ENTETE_TAILLE_CADRE, tailleCadre);
+        VarHandle.releaseFence();
+        tampon.putInt(FormatTelemetrie.ENTETE_MAGIQUE, FormatTelemetrie.MAGIQUE);
+    }
+
+    /**
+     * Crée le fichier de télémétrie avec l'anneau par défaut.
+     * 
+     * @param fichier  le chemin du fichier projeté
+     * @param capacite le nombre maximal d'actifs par cadre
+     * @throws IOException si le fichier ne peut pas être créé ou projeté
+     */
+    public JournalTelemetrie(Path fichier, int capacite) throws IOException {
+        this(fichier, capacite, NOMBRE_CADRES_DEFAUT);
+    }
+
+    /**
+     * Publie le cadre d'un pas de simulation.
+     * 
+     * @param tempsSimulation le temps simulé (en secondes)
+     * @param actifs          les actifs à publier (tronqués à la capacité)
+     * @return le numéro du cadre publié
+     */
+    public long publier(double tempsSimulation, List<ActifMobile> actifs) {
+        long numero = prochainCadre++;
+        int base = FormatTelemetrie.TAILLE_ENTETE + (int) (numero % nbCadres) * tailleCadre;
+
+        // Ouverture du seqlock : séquence impaire pendant l'écriture
+        long sequence = (long) FormatTelemetrie.LONG.getOpaque(tampon, base + FormatTelemetrie.CADRE_SEQUENCE);
+        FormatTelemetrie.LONG.setOpaque(tampon, base + FormatTelemetrie.CADRE_SEQUENCE, sequence + 1);
+        VarHandle.storeStoreFence();
+
+        int n = Math.min(actifs.size(), capacite);
+        enregistrementsTronques += actifs.size() - n;
+        tampon.putLong(base + FormatTelemetrie.CADRE_NUMERO, numero);
+        tampon.putDouble(base + FormatTelemetrie.CADRE_TEMPS, tempsSimulation);
+        tampon.putInt(base + FormatTelemetrie.CADRE_NB_ENREGISTREMENTS, n);
+        int position = base + FormatTelemetrie.CADRE_ENREGISTREMENTS;
+        for (int i = 0; i < n; i++, position += FormatTelemetrie.TAILLE_ENREGISTREMENT) {
+            ActifMobile actif = actifs.get(i);
+            Position3D p = actif.getPosition();
+            tampon.putInt(position + FormatTelemetrie.ENR_POIGNEE, actif.getPoignee());
+            tampon.putInt(position + FormatTelemetrie.ENR_ETAT, actif.getEtatOperationnel().ordinal());
+            tampon.putDouble(position + FormatTelemetrie.ENR_X, p.getX());
+            tampon.putDouble(position + FormatTelemetrie.ENR_Y, p.getY());
+            tampon.putDouble(position + FormatTelemetrie.ENR_Z, p.getZ());
+            tampon.putDouble(position + FormatTelemetrie.ENR_AUTONOMIE, actif.getAutonomieRestante());
+        }
+
+        // Fermeture du seqlock puis publication du numéro de cadre
+        FormatTelemetrie.LONG.setRelease(tampon, base + FormatTelemetrie.CADRE_SEQUENCE, sequence + 2);
+        FormatTelemetrie.LONG.setRelease(tampon, FormatTelemetrie.ENTETE_DERNIER_CADRE, numero);
+        return numero;
+    }
+
+    public int getCapacite() {
+        return capacite;
+    }
+
+    public int getNombreCadres() {
+        return nbCadres;
+    }
+
+    /**
+     * Obtient le nombre d'enregistrements omis parce qu'un cadre était plein.
+     * 
+     * @return le nombre d'enregistrements tronqués
+     */
+    public long getEnregistrementsTronques() {
+        return enregistrementsTronques;
+    }
+
+    @Override
+    public void close() throws IOException {
+        tampon.force();
+        canal.close();
+    }
+}
@@ -0,0 +1,189 @@
+package fr.spiga.telemetrie;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lecteur de l'anneau de télémétrie, utilisable depuis n'importe quel processus
+ * local pendant que le simulateur écrit.
+ * 
+ * <p>
+ * La lecture se fait directement dans le fichier projeté, sans appel système
+ * ni verrou : le lecteur copie le cadre voulu puis vérifie que sa séquence n'a
+ * pas changé pendant la copie, sinon il recommence.
+ * 
+ * <p>
+ * Utilisable en ligne de commande pour suivre la flotte :
+ * {@code java -cp target/classes fr.spiga.telemetrie.LecteurTelemetrie <fichier> [periode_ms]}
+ * 
+ * @author SPIGA Team
+ * @version 1.0
+ */
+public class LecteurTelemetrie implements AutoCloseable {
+
+    /** Nombre maximal de tentatives pour une lecture cohérente */
+    private static final int TENTATIVES_MAX = 100;
+
+    private final FileChannel canal;
+    private final MappedByteBuffer tampon;
+    private final int nbCadres;
+    private final int capacite;
+    private final int tailleCadre;
+
+    /** Nombre de lectures recommencées à cause d'une écriture concurrente */
+    private long lecturesRecommencees;
+
+    /**
+     * Ouvre un fichier de télémétrie en lecture.
+     * 
+     * @param fichier le chemin du fichier projeté
+     * @throws IOException si le fichier est absent ou n'est pas un anneau valide
+     */
+    public LecteurTelemetrie(Path fichier) throws IOException {
+        this.canal = FileChannel.open(fichier, StandardOpenOption.READ);
+        this.tampon = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        tampon.order(FormatTelemetrie.ORDRE);
+        if (canal.size() < FormatTelemetrie.TAILLE_ENTETE
+                || tampon.getInt(FormatTelemetrie.ENTETE_MAGIQUE) != FormatTelemetrie.MAGIQUE) {
+            canal.close();
+            throw new IOException("Fichier de télémétrie invalide: " + fichier);
+        }
+        VarHandle.acquireFence();
+        if (tampon.getInt(FormatTelemetrie.ENTETE_VERSION) != FormatTelemetrie.VERSION) {
+            canal.close();
+            throw new IOException("Version de télémétrie non supportée");
+        }
+        this.nbCadres = tampon.getInt(FormatTelemetrie.ENTETE_NB_CADRES);
+        this.capacite = tampon.getInt(FormatTelemetrie.ENTETE_CAPACITE);
+        this.tailleCadre = tampon.getInt(FormatTelemetrie.ENTETE_TAILLE_CADRE);
+    }
+
+    /**
+     * Obtient le numéro du dernier cadre publié.
+     * 
+     * @return le numéro, ou -1 si aucun cadre n'a encore été publié
+     */
+    public long getDernierNumero() {
+        return (long) FormatTelemetrie.LONG.getAcquire(tampon, FormatTelemetrie.ENTETE_DERNIER_CADRE);
+    }
+
+    /**
+     * Copie le dernier cadre publié dans {@code cadre}.
+     * 
+     * @param cadre le cadre de destination (capacité suffisante)
+     * @return true si un cadre cohérent a été lu
+     */
+    public boolean lireDernierCadre(CadreTelemetrie cadre) {
+        for (int tentative = 0; tentative < TENTATIVES_MAX; tentative++) {
+            long numero = getDernierNumero();
+            if (numero < 0) {
+                return false;
+            }
+            if (lireCadre(numero, cadre)) {
+                return true;
+            }
+            lecturesRecommencees++;
+            Thread.onSpinWait();
+        }
+        return false;
+    }
+
+    /**
+     * Copie un cadre donné s'il est encore présent dans l'anneau.
+     * 
+     * @param numero le numéro du cadre
+     * @param cadre  le cadre de destination
+     * @return false si le cadre a été écrasé ou était en cours d'écriture
+     */
+    public boolean lireCadre(long numero, CadreTelemetrie cadre) {
+        int base = FormatTelemetrie.TAILLE_ENTETE + (int) (numero % nbCadres) * tailleCadre;
+        long avant = (long) FormatTelemetrie.LONG.getAcquire(tampon, base + FormatTelemetrie.CADRE_SEQUENCE);
+        if ((avant & 1) != 0) {
+            return false; // Écriture en cours
+        }
+
+        long numeroLu = tampon.getLong(base + FormatTelemetrie.CADRE_NUMERO);
+        int n = Math.min(tampon.getInt(base + FormatTelemetrie.CADRE_NB_ENREGISTREMENTS),
+                Math.min(capacite, cadre.poignees.length));
+        n = Math.max(0, n);
+        double temps = tampon.getDouble(base + FormatTelemetrie.CADRE_TEMPS);
+        int position = base + FormatTelemetrie.CADRE_ENREGISTREMENTS;
+        for (int i = 0; i < n; i++, position += FormatTelemetrie.TAILLE_ENREGISTREMENT) {
+            cadre.poignees[i] = tampon.getInt(position + FormatTelemetrie.ENR_POIGNEE);
+            cadre.etats[i] = tampon.getInt(position + FormatTelemetrie.ENR_ETAT);
+            cadre.x[i] = tampon.getDouble(position + FormatTelemetrie.ENR_X);
+            cadre.y[i] = tampon.getDouble(position + FormatTelemetrie.ENR_Y);
+            cadre.z[i] = tampon.getDouble(position + FormatTelemetrie.ENR_Z);
+            cadre.autonomies[i] = tampon.getDouble(position + FormatTelemetrie.ENR_AUTONOMIE);
+        }
+
+        // La copie n'est valide que si la séquence n'a pas bougé entre-temps
+        VarHandle.loadLoadFence();
+        long apres = (long) FormatTelemetrie.LONG.getAcquire(tampon, base + FormatTelemetrie.CADRE_SEQUENCE);
+        if (apres != avant || numeroLu != numero) {
+            return false;
+        }
+        cadre.numero = numeroLu;
+        cadre.tempsSimulation = temps;
+        cadre.taille = n;
+        return true;
+    }
+
+    public int getCapacite() {
+        return capacite;
+    }
+
+    public int getNombreCadres() {
+        return nbCadres;
+    }
+
+    /**
+     * Obtient le nombre de lectures recommencées à cause d'une écriture
+     * concurrente.
+     * 
+     * @return le nombre de lectures recommencées
+     */
+    public long getLecturesRecommencees() {
+        return lecturesRecommencees;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Affiche périodiquement le dernier cadre d'un fichier de télémétrie.
+     * 
+     * @param args le fichier et, optionnellement, la période en millisecondes
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: LecteurTelemetrie <fichier> [periode_ms]");
+            System.exit(2);
+        }
+        long periode = args.length > 1 ? Long.parseLong(args[1]) : 1000L;
+        try (LecteurTelemetrie lecteur = new LecteurTelemetrie(Paths.get(args[0]))) {
+            CadreTelemetrie cadre = new CadreTelemetrie(lecteur.getCapacite());
+            long dernierAffiche = -1;
+            while (true) {
+                if (lecteur.lireDernierCadre(cadre) && cadre.getNumero() != dernierAffiche) {
+                    dernierAffiche = cadre.getNumero();
+                    System.out.printf("--- Cadre %d (t=%.1fs, %d actifs) ---%n", cadre.getNumero(),
+                            cadre.getTempsSimulation(), cadre.getTaille());
+                    for (int i = 0; i < cadre.getTaille(); i++) {
+                        System.out.printf("#%-5d %-12s (%.1f, %.1f, %.1f) %.1f%%%n", cadre.getPoignee(i),
+                                cadre.getEtat(i), cadre.getX(i), cadre.getY(i), cadre.getZ(i),
+                                cadre.getAutonomie(i));
+                    }
+                }
+                Thread.sleep(periode);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package fr.spiga.acteurs;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.GestionnaireEssaim;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests unitaires pour le moteur d'exécution par acteurs.
+ */
+class MoteurActeursTest {
+
+    @Test
+    void testCommandesTraiteesEnOrdreUneAUne() throws InterruptedException {
+        try (MoteurActeurs moteur = new MoteurActeurs(Ordonnanceur.VOL_DE_TRAVAIL, 4)) {
+            DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+            moteur.enregistrer(drone);
+            // Liste non synchronisée : seul l'acteur du drone y écrit
+            List<Integer> ordre = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                int rang = i;
+                assertTrue(moteur.envoyer(drone, (actif, m) -> {
+                    ordre.add(rang);
+                    actif.consommerAutonomie(0.05);
+                }));
+            }
+            assertTrue(moteur.attendreInactivite(10, TimeUnit.SECONDS));
+            assertEquals(1000, ordre.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, ordre.get(i));
+            }
+            assertEquals(50.0, drone.getAutonomieRestante(), 1e-9);
+            assertEquals(1000, moteur.getActeur(drone).getCommandesTraitees());
+        }
+    }
+
+    @Test
+    void testAlertesRouteesVersLActeurDestinataire() throws InterruptedException {
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        DroneReconnaissance a = new DroneReconnaissance(new Position3D(0, 0, 100));
+        DroneReconnaissance b = new DroneReconnaissance(new Position3D(50, 0, 100));
+        gestionnaire.enregistrerActif(a);
+        gestionnaire.enregistrerActif(b);
+        try (MoteurActeurs moteur = new MoteurActeurs(Ordonnanceur.VOL_DE_TRAVAIL, 2)) {
+            moteur.enregistrerTous(gestionnaire.getTousLesActifs());
+            moteur.envoyer(a, CommandeActif.transmettreAlerte("BATTERIE_CRITIQUE", b));
+            moteur.envoyer(a, CommandeActif.avancerVers(new Position3D(100, 0, 100), 1.0));
+            moteur.envoyerATous(CommandeActif.recharger());
+            assertTrue(moteur.attendreInactivite(10, TimeUnit.SECONDS));
+
+            assertEquals(1, b.getHistoriqueAlertes().getTotal());
+            assertEquals(a.getPoignee(), b.getHistoriqueAlertes().getEmetteur(0));
+            assertEquals(0, a.getHistoriqueAlertes().getTotal());
+            assertTrue(a.getPosition().getX() > 0);
+            assertEquals(5, moteur.getCommandesTraitees());
+        }
+    }
+
+    @Test
+    void testErreursEtCommandesNonLivrees() throws InterruptedException {
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+        DroneReconnaissance inconnu = new DroneReconnaissance(new Position3D(10, 0, 100));
+        MoteurActeurs moteur = new MoteurActeurs(Ordonnanceur.VOL_DE_TRAVAIL, 1);
+        moteur.enregistrer(drone);
+        moteur.envoyer(drone, (actif, m) -> {
+            throw new IllegalStateException("échec");
+        });
+        moteur.envoyer(drone, CommandeActif.recharger());
+        assertFalse(moteur.envoyer(inconnu, CommandeActif.recharger()));
+        assertTrue(moteur.attendreInactivite(10, TimeUnit.SECONDS));
+
+        assertEquals(1, moteur.getCommandesEnErreur());
+        assertEquals("échec", moteur.getDerniereErreur().getMessage());
+        assertEquals(2, moteur.getCommandesTraitees());
+        assertEquals(1, moteur.getCommandesNonLivrees());
+        assertTrue(moteur.genererRapport().contains("Acteurs: 1"));
+
+        moteur.close();
+        assertFalse(moteur.envoyer(drone, CommandeActif.recharger()));
+        assertThrows(IllegalArgumentException.class, () -> moteur.envoyer(drone, null));
+    }
+
+    @Test
+    void testActivationRefuseeCompteNonLivree() throws InterruptedException {
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+        MoteurActeurs moteur = new MoteurActeurs(Ordonnanceur.VOL_DE_TRAVAIL, 1);
+        moteur.enregistrer(drone);
+
+        // Envoi concurrent de close() : commande acceptée, ordonnanceur déjà arrêté
+        moteur.executeur().shutdown();
+        assertTrue(moteur.envoyer(drone, CommandeActif.recharger()));
+        assertTrue(moteur.envoyer(drone, CommandeActif.recharger()));
+
+        assertTrue(moteur.attendreInactivite(1, TimeUnit.SECONDS));
+        assertEquals(0, moteur.getCommandesEnCours());
+        assertEquals(0, moteur.getCommandesTraitees());
+        assertEquals(2, moteur.getCommandesNonLivrees());
+        assertEquals(0, moteur.getActeur(drone).getTailleBoite());
+        moteur.close();
+    }
+
+    private void verifierMessagerieIntensive(Ordonnanceur ordonnanceur) throws InterruptedException {
+        List<ActifMobile> actifs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            actifs.add(new DroneReconnaissance(new Position3D(i * 10.0, 0, 100)));
+        }
+        try (MoteurActeurs moteur = new MoteurActeurs(ordonnanceur, 4)) {
+            moteur.enregistrerTous(actifs);
+            SplittableRandom aleatoire = new SplittableRandom(11);
+            for (ActifMobile emetteur : actifs) {
+                for (int k = 0; k < 50; k++) {
+                    ActifMobile cible = actifs.get(aleatoire.nextInt(actifs.size()));
+                    moteur.envoyer(emetteur, CommandeActif.transmettreAlerte("COLLISION_IMMINENTE", cible));
+                }
+            }
+            assertTrue(moteur.attendreInactivite(30, TimeUnit.SECONDS));
+
+            long recues = actifs.stream().mapToLong(a -> a.getHistoriqueAlertes().getTotal()).sum();
+            assertEquals(200 * 50, recues);
+            assertEquals(2 * 200 * 50, moteur.getCommandesTraitees());
+            assertEquals(0, moteur.getCommandesEnErreur());
+            assertEquals(moteur.getCommandesTraitees(), moteur.getLatences().getNombre());
+        }
+    }
+
+    @Test
+    void testRepliOrdonnanceurSignaleDansRapport() {
+        assumeFalse(Ordonnanceur.FILS_VIRTUELS.estDisponible(), "Fils virtuels disponibles");
+        String precedent = System.getProperty(Ordonnanceur.PROPRIETE);
+        System.setProperty(Ordonnanceur.PROPRIETE, "virtuel");
+        try (MoteurActeurs moteur = new MoteurActeurs()) {
+            assertEquals(Ordonnanceur.VOL_DE_TRAVAIL, moteur.getOrdonnanceur());
+            assertTrue(moteur.genererRapport().contains("repli : FILS_VIRTUELS indisponible"));
+        } finally {
+            if (precedent == null) {
+                System.clearProperty(Ordonnanceur.PROPRIETE);
+            } else {
+                System.setProperty(Ordonnanceur.PROPRIETE, precedent);
+            }
+        }
+        try (MoteurActeurs moteur = new MoteurActeurs(Ordonnanceur.VOL_DE_TRAVAIL, 1)) {
+            assertFalse(moteur.genererRapport().contains("repli"));
+        }
+    }
+
+    @Test
+    void testMessagerieIntensiveVolDeTravail() throws InterruptedException {
+        verifierMessagerieIntensive(Ordonnanceur.VOL_DE_TRAVAIL);
+    }
+
+    @Test
+    void testMessagerieIntensiveFilsVirtuels() throws InterruptedException {
+        assumeTrue(Ordonnanceur.FILS_VIRTUELS.estDisponible(), "Fils virtuels indisponibles (JDK 21 requis)");
+        verifierMessagerieIntensive(Ordonnanceur.FILS_VIRTUELS);
+    }
+}
@@ -0,0 +1,89 @@
+package fr.spiga.communication;
+
+import fr.spiga.core.Position3D;
+import fr.spiga.fleet.DroneReconnaissance;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour BusMessages.
+ */
+class BusMessagesTest {
+
+    @Test
+    void testDiffusionLimiteeParPortee() {
+        BusMessages bus = new BusMessages(500.0, 8);
+        DroneReconnaissance emetteur = new DroneReconnaissance(new Position3D(0, 0, 100));
+        DroneReconnaissance proche = new DroneReconnaissance(new Position3D(800, 0, 100));
+        DroneReconnaissance loin = new DroneReconnaissance(new Position3D(5000, 0, 100));
+        DroneReconnaissance nonAbonne = new DroneReconnaissance(new Position3D(100, 0, 100));
+
+        bus.abonner(emetteur, SujetMessage.ALERTE);
+        bus.abonner(proche, SujetMessage.ALERTE);
+        bus.abonner(loin, SujetMessage.ALERTE);
+        bus.abonner(nonAbonne, SujetMessage.STATUT);
+
+        assertTrue(emetteur.diffuserAlerte("BATTERIE_CRITIQUE", 1000.0));
+
+        // Rien n'est livré avant la distribution du tick
+        assertEquals(0, bus.getBoite(proche).getTaille());
+
+        assertEquals(1, bus.distribuer());
+        List<Message> recus = new ArrayList<>();
+        assertEquals(1, bus.relever(proche, recus::add));
+        assertEquals("BATTERIE_CRITIQUE", recus.get(0).getContenu());
+        assertSame(emetteur, recus.get(0).getEmetteur());
+
+        assertEquals(0, bus.getBoite(loin).getTaille());
+        assertEquals(0, bus.getBoite(nonAbonne).getTaille());
+        assertEquals(0, bus.getBoite(emetteur).getTaille());
+    }
+
+    @Test
+    void testBoiteBorneeEcraseLesPlusAnciens() {
+        BusMessages bus = new BusMessages(1000.0, 3);
+        DroneReconnaissance a = new DroneReconnaissance(new Position3D(0, 0, 100));
+        DroneReconnaissance b = new DroneReconnaissance(new Position3D(10, 0, 100));
+        bus.abonner(a, SujetMessage.ALERTE);
+        bus.abonner(b, SujetMessage.ALERTE);
+
+        for (int i = 0; i < 5; i++) {
+            a.transmettreAlerte("m" + i, b);
+        }
+        bus.distribuer();
+
+        BoiteAuxLettres boite = bus.getBoite(b);
+        assertEquals(3, boite.getTaille());
+        assertEquals(2, boite.getMessagesPerdus());
+
+        List<String> contenus = new ArrayList<>();
+        boite.relever(m -> contenus.add(m.getContenu()));
+        assertEquals(List.of("m2", "m3", "m4"), contenus);
+    }
+
+    @Test
+    void testAlerteParLeBusArriveDansHistorique() {
+        BusMessages bus = new BusMessages();
+        DroneReconnaissance a = new DroneReconnaissance(new Position3D(0, 0, 100));
+        DroneReconnaissance b = new DroneReconnaissance(new Position3D(10, 0, 100));
+        bus.abonner(a, SujetMessage.ALERTE);
+        bus.abonner(b, SujetMessage.ALERTE, SujetMessage.STATUT);
+
+        assertTrue(a.transmettreAlerte("BATTERIE_CRITIQUE", b));
+        assertTrue(a.diffuserAlerte("Obstacle en vue", 100.0));
+        bus.publier(a, SujetMessage.STATUT, "position", 100.0);
+        bus.distribuer();
+        assertEquals(0, b.getHistoriqueAlertes().getTotal());
+
+        assertEquals(2, bus.livrerAlertes());
+        assertEquals(0, bus.getBoite(b).getTaille());
+        assertEquals(2, b.getHistoriqueAlertes().getTotal());
+        assertEquals(fr.spiga.core.CodeAlerte.BATTERIE_CRITIQUE, b.getHistoriqueAlertes().getCode(0));
+        assertEquals(a.getPoignee(), b.getHistoriqueAlertes().getEmetteur(0));
+        assertTrue(b.getHistoriqueAlertes().formater().get(1).endsWith("Obstacle en vue"));
+        assertEquals(0, a.getHistoriqueAlertes().getTotal());
+        assertEquals(0, bus.getMessagesPerdus());
+    }
+}
@@ -0,0 +1,126 @@
+package fr.spiga.core;
+
+import fr.spiga.environment.ZoneOperation;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le filtrage des alertes (fronts et regroupement).
+ */
+class AlertesTest {
+
+    /** Actif minimal qui enregistre les notifications au lieu de les afficher */
+    private static class ActifTest extends ActifMobile {
+        final List<String> emises = new ArrayList<>();
+        final List<String> levees = new ArrayList<>();
+
+        ActifTest() {
+            super(new Position3D(0, 0, 0), 10.0, 10.0);
+        }
+
+        @Override
+        public boolean deplacer(Position3D cible) {
+            return false;
+        }
+
+        @Override
+        public List<Position3D> calculerTrajet(Position3D cible) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void notifierEtatCritique(String message) {
+            emises.add(message);
+        }
+
+        @Override
+        public void notifierRetourNormal(String message) {
+            levees.add(message);
+        }
+
+        @Override
+        public String getType() {
+            return "ActifTest";
+        }
+    }
+
+    @Test
+    void testBatterieCritiqueEmiseSurFrontUniquement() {
+        ActifTest actif = new ActifTest();
+        actif.consommerAutonomie(81.0); // 19% : entrée en état critique
+        for (int i = 0; i < 10; i++) {
+            actif.consommerAutonomie(0.1);
+        }
+
+        assertEquals(List.of("BATTERIE_CRITIQUE"), actif.emises);
+        assertTrue(actif.estAlerteActive(CodeAlerte.BATTERIE_CRITIQUE));
+        assertEquals(10, actif.getNombreAlertesSupprimees(CodeAlerte.BATTERIE_CRITIQUE));
+
+        actif.recharger();
+        assertEquals(List.of("BATTERIE_CRITIQUE"), actif.levees);
+        assertFalse(actif.estAlerteActive(CodeAlerte.BATTERIE_CRITIQUE));
+
+        // Nouvelle entrée en état critique : nouvelle émission
+        actif.consommerAutonomie(90.0);
+        assertEquals(2, actif.emises.size());
+    }
+
+    @Test
+    void testAlertePonctuelleRegroupeeSurFenetre() {
+        ZoneOperation zone = new ZoneOperation(new Position3D(-100, -100, -100), new Position3D(100, 100, 100));
+        ActifTest actif = new ActifTest();
+        actif.setZoneOperation(zone);
+
+        assertTrue(actif.signalerAlerte(CodeAlerte.ZONE_INTERDITE));
+        assertFalse(actif.signalerAlerte(CodeAlerte.ZONE_INTERDITE));
+
+        zone.avancerTemps(ActifMobile.FENETRE_COALESCENCE_ALERTES + 1.0);
+        assertTrue(actif.signalerAlerte(CodeAlerte.ZONE_INTERDITE));
+
+        assertEquals(2, actif.emises.size());
+        assertEquals(1, actif.getNombreAlertesSupprimees());
+    }
+
+    @Test
+    void testHorlogeMonotoneSansTempsSimule() throws InterruptedException {
+        ActifTest actif = new ActifTest();
+        double debut = actif.getInstantCourant();
+        Thread.sleep(20);
+        assertTrue(actif.getInstantCourant() >= debut + 0.015, "L'horloge doit avancer sans zone");
+
+        // Zone dont l'horloge n'avance pas (CLI) : horloge monotone également
+        ZoneOperation zone = new ZoneOperation(new Position3D(-100, -100, -100), new Position3D(100, 100, 100));
+        actif.setZoneOperation(zone);
+        assertTrue(actif.getInstantCourant() > 0);
+        assertTrue(actif.signalerAlerte(CodeAlerte.ZONE_INTERDITE));
+        assertFalse(actif.signalerAlerte(CodeAlerte.ZONE_INTERDITE));
+
+        // La simulation cadencée prend le relais : la fenêtre suit le temps simulé
+        zone.avancerTemps(1_000_000.0);
+        assertEquals(1_000_000.0, actif.getInstantCourant(), 0.0);
+        assertTrue(actif.signalerAlerte(CodeAlerte.ZONE_INTERDITE));
+        zone.avancerTemps(1.0);
+        assertFalse(actif.signalerAlerte(CodeAlerte.ZONE_INTERDITE));
+        assertEquals(2, actif.getNombreAlertesSupprimees(CodeAlerte.ZONE_INTERDITE));
+    }
+
+    @Test
+    void testMessageDeplacementAfficheSeulementSiAlerteEmise() {
+        fr.spiga.fleet.DroneReconnaissance drone = new fr.spiga.fleet.DroneReconnaissance(new Position3D(0, 0, 100));
+        java.io.PrintStream sortie = System.out;
+        java.io.ByteArrayOutputStream capture = new java.io.ByteArrayOutputStream();
+        System.setOut(new java.io.PrintStream(capture, true));
+        try {
+            for (int i = 0; i < 5; i++) {
+                assertFalse(drone.deplacer(new Position3D(0, 0, 1_000_000)));
+            }
+        } finally {
+            System.setOut(sortie);
+        }
+        String texte = capture.toString();
+        assertEquals(1, texte.split("Altitude cible invalide", -1).length - 1, texte);
+        assertEquals(4, drone.getNombreAlertesSupprimees(CodeAlerte.ALTITUDE_INVALIDE));
+    }
+}
@@ -0,0 +1,130 @@
+package fr.spiga.core;
+
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.GestionnaireEssaim;
+import fr.spiga.fleet.VehiculeSurface;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le stockage de l'état de la flotte hors du tas.
+ */
+class EtatFlotteHorsTasTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void testTamponsDirectsSurPlusieursPages() {
+        EtatFlotteHorsTas etat = EtatFlotteHorsTas.enMemoire();
+        assertFalse(etat.estPersistant());
+        int n = EtatFlotteHorsTas.TAILLE_PAGE + 5;
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, etat.allouer());
+        }
+        int dernier = n - 1;
+        etat.setPosition(dernier, 1.5, -2.5, 300);
+        etat.setAutonomie(dernier, 42);
+        etat.setVitesse(dernier, 25);
+        etat.setEtat(dernier, EtatOperationnel.EN_MISSION);
+        assertEquals(-2.5, etat.getY(dernier));
+        assertEquals(42.0, etat.getAutonomie(dernier));
+        assertEquals(25.0, etat.getVitesse(dernier));
+        assertEquals(EtatOperationnel.EN_MISSION, etat.getEtat(dernier));
+
+        etat.liberer(3);
+        assertFalse(etat.estAlloue(3));
+        int[] effectifs = etat.compterParEtat();
+        assertEquals(1, effectifs[EtatOperationnel.EN_MISSION.ordinal()]);
+        assertEquals(n - 2, effectifs[EtatOperationnel.AU_SOL.ordinal()]);
+        assertEquals(3, etat.allouer());
+        assertEquals(n, etat.getNombre());
+    }
+
+    @Test
+    void testFichierProjeteSurvitAuRedemarrage() throws IOException {
+        Path fichier = dossier.resolve("flotte.sfe");
+        try (EtatFlotteHorsTas etat = EtatFlotteHorsTas.projeter(fichier)) {
+            assertTrue(etat.estPersistant());
+            for (int i = 0; i < 10; i++) {
+                etat.setPosition(etat.allouer(), i, 2 * i, 100);
+            }
+            etat.setAutonomie(7, 33.0);
+            etat.liberer(4);
+        }
+
+        try (EtatFlotteHorsTas etat = EtatFlotteHorsTas.projeter(fichier)) {
+            assertEquals(9, etat.getNombre());
+            assertEquals(10, etat.getLimite());
+            assertEquals(14.0, etat.getY(7));
+            assertEquals(33.0, etat.getAutonomie(7));
+            assertFalse(etat.estAlloue(4));
+            // La réserve des emplacements libres est reconstituée
+            assertEquals(4, etat.allouer());
+            assertEquals(10, etat.allouer());
+        }
+    }
+
+    @Test
+    void testFichierInvalide() throws IOException {
+        Path fichier = dossier.resolve("invalide.sfe");
+        Files.write(fichier, new byte[64]);
+        assertThrows(IOException.class, () -> EtatFlotteHorsTas.projeter(fichier));
+
+        Path tronque = dossier.resolve("tronque.sfe");
+        try (EtatFlotteHorsTas etat = EtatFlotteHorsTas.projeter(tronque)) {
+            etat.allouer();
+        }
+        try (FileChannel canal = FileChannel.open(tronque, StandardOpenOption.WRITE)) {
+            canal.truncate(1000);
+        }
+        assertThrows(IOException.class, () -> EtatFlotteHorsTas.projeter(tronque));
+
+        Path version = dossier.resolve("version.sfe");
+        EtatFlotteHorsTas.projeter(version).close();
+        try (FileChannel canal = FileChannel.open(version, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] { 9, 0, 0, 0 }), 4);
+        }
+        assertThrows(IOException.class, () -> EtatFlotteHorsTas.projeter(version));
+    }
+
+    @Test
+    void testFlotteRepriseDepuisLeFichier() throws IOException {
+        Path fichier = dossier.resolve("reprise.sfe");
+        try (EtatFlotteHorsTas etat = EtatFlotteHorsTas.projeter(fichier)) {
+            GestionnaireEssaim gestionnaire = new GestionnaireEssaim(etat);
+            DroneReconnaissance drone = new DroneReconnaissance(new Position3D(10, 20, 150));
+            VehiculeSurface navire = new VehiculeSurface(new Position3D(500, 600, 0));
+            gestionnaire.enregistrerActif(drone);
+            gestionnaire.enregistrerActif(navire);
+            assertSame(etat, drone.getEtatFlotte());
+            drone.consommerAutonomie(30);
+            navire.setEtatOperationnel(EtatOperationnel.EN_MAINTENANCE);
+        }
+
+        // Redémarrage : les actifs réenregistrés dans le même ordre reprennent leur état
+        try (EtatFlotteHorsTas etat = EtatFlotteHorsTas.projeter(fichier)) {
+            GestionnaireEssaim gestionnaire = new GestionnaireEssaim(etat);
+            DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+            VehiculeSurface navire = new VehiculeSurface(new Position3D(0, 0, 0));
+            DroneReconnaissance nouveau = new DroneReconnaissance(new Position3D(1, 1, 100));
+            gestionnaire.enregistrerActif(drone);
+            gestionnaire.enregistrerActif(navire);
+            gestionnaire.enregistrerActif(nouveau);
+
+            assertEquals(new Position3D(10, 20, 150), drone.getPosition());
+            assertEquals(70.0, drone.getAutonomieRestante());
+            assertEquals(EtatOperationnel.EN_MAINTENANCE, navire.getEtatOperationnel());
+            assertEquals(2, nouveau.getSlot());
+            assertEquals(100.0, nouveau.getAutonomieRestante());
+            assertSame(navire, gestionnaire.getActifsNecessitantMaintenance().get(0));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package fr.spiga.core;
+
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.GestionnaireEssaim;
+import fr.spiga.fleet.VehiculeSurface;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le stockage en colonnes de l'état de la flotte.
+ */
+class EtatFlotteTest {
+
+    @Test
+    void testAllocationParPagesEtReutilisation() {
+        EtatFlotteTas etat = new EtatFlotteTas();
+        int n = EtatFlotteTas.TAILLE_PAGE * 2 + 10;
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, etat.allouer());
+            etat.setPosition(i, i, -i, 2 * i);
+            etat.setAutonomie(i, i % 100);
+        }
+        assertEquals(n, etat.getNombre());
+        assertEquals(1500.0, etat.getX(1500));
+        assertEquals(-1500.0, etat.getY(1500));
+        assertEquals(EtatOperationnel.AU_SOL, etat.getEtat(1500));
+
+        etat.liberer(7);
+        assertFalse(etat.estAlloue(7));
+        assertNull(etat.getEtat(7));
+        assertThrows(IllegalArgumentException.class, () -> etat.liberer(7));
+        // L'emplacement libéré est réutilisé, remis à zéro
+        assertEquals(7, etat.allouer());
+        assertEquals(0.0, etat.getX(7));
+        assertEquals(n, etat.getLimite());
+    }
+
+    @Test
+    void testActifVueSurSonEmplacement() {
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(10, 20, 100));
+        EtatFlotte etat = drone.getEtatFlotte();
+        int slot = drone.getSlot();
+        assertSame(EtatFlotteTas.getParDefaut(), etat);
+
+        Position3D avant = drone.getPosition();
+        assertSame(avant, drone.getPosition(), "Position réutilisée tant qu'elle ne change pas");
+        etat.setPosition(slot, 30, 40, 150);
+        assertEquals(new Position3D(30, 40, 150), drone.getPosition());
+
+        drone.consommerAutonomie(25);
+        assertEquals(75.0, etat.getAutonomie(slot));
+        drone.setEtatOperationnel(EtatOperationnel.EN_MAINTENANCE);
+        assertEquals(EtatOperationnel.EN_MAINTENANCE, etat.getEtat(slot));
+        assertEquals(drone.getVitesseMax(), etat.getVitesse(slot));
+
+        ActifMobile copie = drone.copierPourSimulation();
+        assertNotEquals(slot, copie.getSlot());
+        copie.consommerAutonomie(10);
+        assertEquals(75.0, drone.getAutonomieRestante());
+        assertEquals(65.0, copie.getAutonomieRestante());
+        assertEquals(drone.getPosition(), copie.getPosition());
+    }
+
+    @Test
+    void testGestionnaireMigreLesActifs() {
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(1, 2, 100));
+        VehiculeSurface navire = new VehiculeSurface(new Position3D(5, 6, 0));
+        drone.consommerAutonomie(40);
+        int ancienSlot = drone.getSlot();
+        gestionnaire.enregistrerActif(drone);
+        assertFalse(EtatFlotteTas.getParDefaut().estAlloue(ancienSlot), "L'ancien emplacement est rendu");
+        gestionnaire.enregistrerActif(navire);
+
+        assertSame(gestionnaire.getEtatFlotte(), drone.getEtatFlotte());
+        assertEquals(drone.getPoignee(), drone.getSlot());
+        assertEquals(navire.getPoignee(), navire.getSlot());
+        assertEquals(60.0, drone.getAutonomieRestante());
+        assertEquals(new Position3D(1, 2, 100), drone.getPosition());
+
+        navire.setEtatOperationnel(EtatOperationnel.EN_PANNE);
+        assertEquals(1, gestionnaire.getActifsDisponibles().size());
+        assertSame(navire, gestionnaire.getActifsNecessitantMaintenance().get(0));
+        assertSame(drone, gestionnaire.selectionnerActifOptimalParAutonomie());
+        assertTrue(gestionnaire.genererRapportFlotte().contains("En panne: 1"));
+    }
+
+    @Test
+    void testSerialisationConserveLEtat() throws IOException, ClassNotFoundException {
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        VehiculeSurface navire = new VehiculeSurface(new Position3D(100, 200, 0));
+        gestionnaire.enregistrerActif(navire);
+        navire.consommerAutonomie(12.5);
+        navire.setEtatOperationnel(EtatOperationnel.EN_MISSION);
+
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        try (ObjectOutputStream sortie = new ObjectOutputStream(octets)) {
+            sortie.writeObject(gestionnaire);
+        }
+        GestionnaireEssaim relu;
+        try (ObjectInputStream entree = new ObjectInputStream(new ByteArrayInputStream(octets.toByteArray()))) {
+            relu = (GestionnaireEssaim) entree.readObject();
+        }
+
+        ActifMobile copie = relu.getTousLesActifs().get(0);
+        assertSame(relu.getEtatFlotte(), copie.getEtatFlotte());
+        assertEquals(new Position3D(100, 200, 0), copie.getPosition());
+        assertEquals(87.5, copie.getAutonomieRestante());
+        assertEquals(EtatOperationnel.EN_MISSION, copie.getEtatOperationnel());
+        assertEquals(1, relu.getActifsEnMission().size());
+    }
+
+    @Test
+    void testMasqueDeProximiteSurLesColonnes() {
+        EtatFlotteTas etat = new EtatFlotteTas();
+        for (int i = 0; i < 100; i++) {
+            etat.setPosition(etat.allouer(), i * 10.0, 0, 0);
+        }
+        // Emplacements 64..99 : seuls 70 et 71 sont à moins de 12 m de x = 705
+        assertEquals(0b11L << 6, etat.masqueDansRayon(705, 0, 0, 64, 12 * 12));
+        assertEquals(0L, etat.masqueDansRayon(705, 0, 0, 0, 12 * 12));
+        assertThrows(IllegalArgumentException.class, () -> etat.masqueDansRayon(0, 0, 0, 3, 1));
+    }
+}
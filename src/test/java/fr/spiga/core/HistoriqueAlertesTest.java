@@ -0,0 +1,62 @@
+package fr.spiga.core;
+
+import fr.spiga.fleet.DroneReconnaissance;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour HistoriqueAlertes.
+ */
+class HistoriqueAlertesTest {
+
+    @Test
+    void testCapaciteBorneeEtOrdre() {
+        HistoriqueAlertes historique = new HistoriqueAlertes(3);
+        for (int i = 0; i < 5; i++) {
+            historique.enregistrer("BATTERIE_CRITIQUE", i, i * 10.0);
+        }
+
+        assertEquals(3, historique.getTaille());
+        assertEquals(5, historique.getTotal());
+        // Les deux plus anciens ont été écrasés
+        assertEquals(2, historique.getEmetteur(0));
+        assertEquals(4, historique.getEmetteur(2));
+        assertEquals(CodeAlerte.BATTERIE_CRITIQUE, historique.getCode(0));
+        assertEquals(40.0, historique.getInstant(2), 1e-9);
+    }
+
+    @Test
+    void testMessagesLibresFormatesALaDemande() {
+        HistoriqueAlertes historique = new HistoriqueAlertes();
+        historique.enregistrer("Rejoindre le point B", 7, 12.5);
+        historique.enregistrer("PANNE_SYSTEME", 8, 13.0);
+
+        assertNull(historique.getCode(0));
+        assertEquals(CodeAlerte.PANNE_SYSTEME, historique.getCode(1));
+        assertEquals("[t=12.5s] Alerte de #7: Rejoindre le point B", historique.formater().get(0)
+                .replace(',', '.'));
+        assertThrows(IndexOutOfBoundsException.class, () -> historique.getCode(2));
+    }
+
+    @Test
+    void testEmetteurNonEnregistreAfficheInconnu() {
+        HistoriqueAlertes historique = new HistoriqueAlertes();
+        historique.enregistrer("PANNE_SYSTEME", ActifMobile.POIGNEE_NON_ATTRIBUEE, 4.0);
+
+        String ligne = historique.formater().get(0);
+        assertTrue(ligne.contains("Alerte d'un émetteur inconnu: PANNE_SYSTEME"), ligne);
+        assertFalse(ligne.contains("#-1"), ligne);
+    }
+
+    @Test
+    void testReceptionDateeParInstantCourant() {
+        // Sans zone d'opération : horloge monotone plutôt que t=0
+        DroneReconnaissance recepteur = new DroneReconnaissance(new Position3D(0, 0, 100));
+        double avant = recepteur.getInstantCourant();
+        recepteur.recevoirAlerte("Rejoindre le point B", new DroneReconnaissance(new Position3D(0, 0, 100)));
+
+        HistoriqueAlertes historique = recepteur.getHistoriqueAlertes();
+        assertTrue(historique.getInstant(0) >= avant);
+        assertTrue(historique.getInstant(0) <= recepteur.getInstantCourant());
+    }
+}
@@ -0,0 +1,110 @@
+package fr.spiga.core;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests unitaires pour les noyaux de proximité (scalaire et vectoriel).
+ */
+class NoyauxProximiteTest {
+
+    private static final int NOMBRE = 1000;
+
+    private final double[] xs = new double[NOMBRE];
+    private final double[] ys = new double[NOMBRE];
+    private final double[] zs = new double[NOMBRE];
+
+    NoyauxProximiteTest() {
+        SplittableRandom aleatoire = new SplittableRandom(3);
+        for (int i = 0; i < NOMBRE; i++) {
+            xs[i] = aleatoire.nextDouble(-500, 500);
+            ys[i] = aleatoire.nextDouble(-500, 500);
+            zs[i] = aleatoire.nextDouble(-50, 50);
+        }
+    }
+
+    /** Référence : même test que le code historique, sur objets */
+    private long masqueReference(Position3D centre, int debut, int longueur, double rayonCarre) {
+        long masque = 0L;
+        for (int k = 0; k < longueur; k++) {
+            Position3D p = new Position3D(xs[debut + k], ys[debut + k], zs[debut + k]);
+            double d = centre.distanceVers(p);
+            if (d * d <= rayonCarre) {
+                masque |= 1L << k;
+            }
+        }
+        return masque;
+    }
+
+    private void verifierNoyau(NoyauProximite noyau) {
+        Position3D centre = new Position3D(12.5, -40, 3);
+        double rayonCarre = 200.0 * 200.0;
+        double[] sortie = new double[NoyauxProximite.TAILLE_BLOC];
+        // Longueurs non multiples de la largeur vectorielle pour couvrir la fin de bloc
+        for (int longueur : new int[] { 0, 1, 3, 7, 13, 64 }) {
+            for (int debut = 0; debut + longueur <= NOMBRE; debut += 97) {
+                long attendu = masqueReference(centre, debut, longueur, rayonCarre);
+                assertEquals(attendu, noyau.masqueDansRayon(centre.getX(), centre.getY(), centre.getZ(), xs, ys, zs,
+                        debut, longueur, rayonCarre), noyau.getDescription() + " bloc " + debut + "+" + longueur);
+
+                noyau.distancesCarrees(centre.getX(), centre.getY(), centre.getZ(), xs, ys, zs, debut, longueur,
+                        sortie);
+                for (int k = 0; k < longueur; k++) {
+                    double d = centre.distanceVers(new Position3D(xs[debut + k], ys[debut + k], zs[debut + k]));
+                    assertEquals(d, Math.sqrt(sortie[k]), 0.0, "Résultat identique au bit près");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNoyauScalaire() {
+        verifierNoyau(new NoyauScalaire());
+    }
+
+    @Test
+    void testNoyauVectoriel() throws ReflectiveOperationException {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+                "Module jdk.incubator.vector absent");
+        NoyauProximite noyau;
+        try {
+            // Classe compilée seulement avec le profil vectoriel
+            noyau = (NoyauProximite) Class.forName("fr.spiga.core.NoyauVectoriel").getDeclaredConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException e) {
+            assumeTrue(false, "NoyauVectoriel non compilé (profil vectoriel)");
+            return;
+        } catch (java.lang.reflect.InvocationTargetException e) {
+            assumeTrue(false, e.getCause().getMessage());
+            return;
+        }
+        verifierNoyau(noyau);
+    }
+
+    @Test
+    void testSelectionDansRayon() {
+        int[] indices = new int[NOMBRE];
+        double rayonCarre = 150.0 * 150.0;
+        int nombre = NoyauxProximite.selectionnerDansRayon(0, 0, 0, xs, ys, zs, 5, NOMBRE, rayonCarre, indices);
+
+        int attendu = 0;
+        for (int i = 5; i < NOMBRE; i++) {
+            if (xs[i] * xs[i] + ys[i] * ys[i] + zs[i] * zs[i] <= rayonCarre) {
+                assertEquals(i, indices[attendu++]);
+            }
+        }
+        assertEquals(attendu, nombre);
+        assertTrue(nombre > 0);
+    }
+
+    @Test
+    void testValidationDuBloc() {
+        assertThrows(IllegalArgumentException.class,
+                () -> NoyauxProximite.masqueDansRayon(0, 0, 0, xs, ys, zs, 0, 65, 1.0));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> NoyauxProximite.masqueDansRayon(0, 0, 0, xs, ys, zs, NOMBRE - 10, 20, 1.0));
+        assertNotNull(NoyauxProximite.getDescription());
+    }
+}
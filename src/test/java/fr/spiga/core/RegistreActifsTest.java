@@ -0,0 +1,159 @@
+package fr.spiga.core;
+
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.Essaim;
+import fr.spiga.fleet.GestionnaireEssaim;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le registre d'actifs ordonné et concurrent.
+ */
+class RegistreActifsTest {
+
+    private static List<ActifMobile> creerDrones(int n) {
+        List<ActifMobile> drones = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            drones.add(new DroneReconnaissance(new Position3D(i * 10.0, 0, 100)));
+        }
+        return drones;
+    }
+
+    @Test
+    void testOrdreRangsEtDoublons() {
+        List<ActifMobile> drones = creerDrones(20);
+        RegistreActifs registre = new RegistreActifs();
+        assertTrue(registre.estVide());
+        for (ActifMobile drone : drones) {
+            assertTrue(registre.ajouter(drone));
+        }
+        assertFalse(registre.ajouter(drones.get(3)));
+        assertFalse(registre.ajouter(null));
+        assertEquals(20, registre.taille());
+        for (int i = 0; i < 20; i++) {
+            assertSame(drones.get(i), registre.get(i));
+            assertEquals(i, registre.rang(drones.get(i)));
+        }
+        assertEquals(-1, registre.rang(new DroneReconnaissance(new Position3D(0, 0, 0))));
+
+        assertTrue(registre.retirer(drones.get(5)));
+        assertFalse(registre.retirer(drones.get(5)));
+        assertFalse(registre.contient(drones.get(5)));
+        assertEquals(19, registre.taille());
+        assertEquals(5, registre.rang(drones.get(6)));
+        assertSame(drones.get(19), registre.get(18));
+    }
+
+    @Test
+    void testAjoutGroupeIgnoreDoublons() {
+        List<ActifMobile> drones = creerDrones(10);
+        RegistreActifs registre = new RegistreActifs();
+        registre.ajouter(drones.get(0));
+        List<ActifMobile> lot = new ArrayList<>(drones);
+        lot.add(drones.get(4));
+        lot.add(null);
+        assertEquals(9, registre.ajouterTous(lot));
+        assertEquals(drones, registre.instantane());
+        assertEquals(0, registre.ajouterTous(drones));
+    }
+
+    @Test
+    void testInstantaneFigeEtNonModifiable() {
+        List<ActifMobile> drones = creerDrones(3);
+        RegistreActifs registre = new RegistreActifs();
+        registre.ajouter(drones.get(0));
+        registre.ajouter(drones.get(1));
+        List<ActifMobile> avant = registre.instantane();
+
+        registre.ajouter(drones.get(2));
+        registre.retirer(drones.get(0));
+        assertEquals(List.of(drones.get(0), drones.get(1)), avant);
+        assertEquals(List.of(drones.get(1), drones.get(2)), registre.instantane());
+        assertThrows(UnsupportedOperationException.class, () -> avant.add(drones.get(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> avant.get(2));
+
+        registre.vider();
+        assertTrue(registre.estVide());
+        assertEquals(2, avant.size());
+    }
+
+    @Test
+    void testSerialisationConserveOrdreEtIndex() throws Exception {
+        RegistreActifs registre = new RegistreActifs();
+        registre.ajouterTous(creerDrones(5));
+
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        try (ObjectOutputStream sortie = new ObjectOutputStream(octets)) {
+            sortie.writeObject(registre);
+        }
+        RegistreActifs relu;
+        try (ObjectInputStream entree = new ObjectInputStream(new ByteArrayInputStream(octets.toByteArray()))) {
+            relu = (RegistreActifs) entree.readObject();
+        }
+        assertEquals(5, relu.taille());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(registre.get(i).getId(), relu.get(i).getId());
+            assertEquals(i, relu.rang(relu.get(i)));
+        }
+    }
+
+    @Test
+    void testLectureConcurrentePendantEnregistrement() throws InterruptedException {
+        List<ActifMobile> drones = creerDrones(20000);
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        AtomicReference<Throwable> echec = new AtomicReference<>();
+        Thread lecteur = new Thread(() -> {
+            try {
+                int vus = 0;
+                while (vus < drones.size()) {
+                    List<ActifMobile> instantane = gestionnaire.getTousLesActifs();
+                    // Un instantané est cohérent : chaque poignée désigne son actif
+                    for (int p = 0; p < instantane.size(); p++) {
+                        if (instantane.get(p).getPoignee() != p) {
+                            throw new AssertionError("Poignée " + p + " incohérente");
+                        }
+                    }
+                    vus = instantane.size();
+                }
+            } catch (Throwable t) {
+                echec.set(t);
+            }
+        });
+        lecteur.start();
+        gestionnaire.enregistrerActifs(drones.subList(0, 10000));
+        for (ActifMobile drone : drones.subList(10000, 20000)) {
+            assertTrue(gestionnaire.enregistrerActif(drone));
+        }
+        lecteur.join(30000);
+        assertFalse(lecteur.isAlive());
+        assertNull(echec.get());
+        assertEquals(0, gestionnaire.enregistrerActifs(drones));
+        assertSame(drones.get(12345), gestionnaire.getActifParPoignee(12345));
+    }
+
+    @Test
+    void testEnregistrementGroupeDansEssaimEtZone() {
+        List<ActifMobile> drones = creerDrones(50);
+        Essaim essaim = new Essaim("Alpha");
+        assertEquals(50, essaim.ajouterActifs(drones));
+        assertEquals(0, essaim.ajouterActifs(drones.subList(10, 20)));
+        assertTrue(essaim.contientActif(drones.get(49)));
+        assertEquals(drones, essaim.getActifs());
+
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, 0), new Position3D(1000, 1000, 1000));
+        assertEquals(50, zone.enregistrerActifs(drones));
+        zone.enregistrerActif(drones.get(0));
+        assertEquals(50, zone.getTousLesActifs().size());
+        zone.retirerActif(drones.get(0));
+        assertFalse(zone.contientActif(drones.get(0)));
+        assertEquals(drones.get(1), zone.getTousLesActifs().get(0));
+    }
+}
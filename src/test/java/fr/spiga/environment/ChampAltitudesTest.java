@@ -0,0 +1,104 @@
+package fr.spiga.environment;
+
+import fr.spiga.core.EtatOperationnel;
+import fr.spiga.core.Position3D;
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.VehiculeSousMarin;
+import fr.spiga.fleet.VehiculeSurface;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ChampAltitudes.
+ */
+class ChampAltitudesTest {
+
+    @TempDir
+    Path dossier;
+
+    /** Plan incliné : fond à -500 m à l'ouest, côte à x = 5000, colline à l'est */
+    private static double plan(double x, double y) {
+        return -500.0 + x * 0.1 + y * 0.01;
+    }
+
+    private ChampAltitudes creerPlan() throws IOException {
+        // 1001 x 601 échantillons de 10 m, tuiles de 64 : dernières tuiles partielles
+        return ChampAltitudes.creer(dossier.resolve("plan.hf"), 0, 0, 10.0, 1001, 601, 64,
+                ChampAltitudesTest::plan);
+    }
+
+    @Test
+    void testInterpolationEtTuiles() throws IOException {
+        try (ChampAltitudes champ = creerPlan()) {
+            assertEquals(0, champ.getNombreRegionsProjetees());
+            // Projection paresseuse : seule la région lue est projetée
+            assertEquals(plan(15, 25), champ.getAltitude(15, 25), 1e-3);
+            assertEquals(1, champ.getNombreRegionsProjetees());
+            assertTrue(champ.getNombreRegions() > 1);
+
+            // Un plan est reproduit exactement par l'interpolation bilinéaire,
+            // y compris à cheval sur les tuiles et au bord
+            double[][] points = { { 0, 0 }, { 639.9, 640.1 }, { 5000, 3000 }, { 10000, 6000 }, { 1234.5, 17.25 } };
+            for (double[] p : points) {
+                assertEquals(plan(p[0], p[1]), champ.getAltitude(p[0], p[1]), 1e-3);
+            }
+            assertEquals(Double.NEGATIVE_INFINITY, champ.getAltitude(-1, 0));
+            assertEquals(Double.NEGATIVE_INFINITY, champ.getAltitude(0, 6000.5));
+
+            ChampAltitudes relu = ChampAltitudes.ouvrir(dossier.resolve("plan.hf"));
+            assertEquals(champ.getAltitude(777, 333), relu.getAltitude(777, 333), 0.0);
+            relu.close();
+        }
+    }
+
+    @Test
+    void testCollisionsEtDegagement() throws IOException {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -2000), new Position3D(10000, 6000, 5000));
+        zone.setChampAltitudes(creerPlan());
+
+        // x = 1000 : fond à -400 m
+        VehiculeSousMarin auv = new VehiculeSousMarin(new Position3D(1000, 0, -300));
+        auv.setZoneOperation(zone);
+        assertEquals(100.0, auv.getHauteurFond(), 1e-3);
+        assertFalse(auv.plonger(450));
+        assertTrue(auv.plonger(350));
+
+        // x = 8000 : sol à +300 m
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(8000, 0, 500));
+        drone.setZoneOperation(zone);
+        assertEquals(200.0, drone.getHauteurSol(), 1e-3);
+        assertFalse(drone.deplacer(new Position3D(8000, 0, 250)));
+
+        // Un navire qui fait route vers la côte (x = 5000) s'échoue
+        VehiculeSurface usv = new VehiculeSurface(new Position3D(4000, 0, 0));
+        usv.setZoneOperation(zone);
+        usv.demarrer();
+        for (int i = 0; i < 200 && usv.getEtatOperationnel() != EtatOperationnel.EN_PANNE; i++) {
+            usv.avancerVers(new Position3D(6000, 0, 0), 1.0);
+        }
+        assertEquals(EtatOperationnel.EN_PANNE, usv.getEtatOperationnel());
+        assertTrue(usv.getPosition().getX() <= 5000.0);
+    }
+
+    @Test
+    void testSerialisationRouvreLeFichier() throws Exception {
+        ChampAltitudes champ = creerPlan();
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        try (ObjectOutputStream sortie = new ObjectOutputStream(octets)) {
+            sortie.writeObject(champ);
+        }
+        try (ObjectInputStream entree = new ObjectInputStream(new ByteArrayInputStream(octets.toByteArray()))) {
+            ChampAltitudes copie = (ChampAltitudes) entree.readObject();
+            assertEquals(champ.getAltitude(4321, 1234), copie.getAltitude(4321, 1234), 0.0);
+            copie.close();
+        }
+        champ.close();
+    }
+}
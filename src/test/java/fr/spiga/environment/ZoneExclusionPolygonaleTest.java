@@ -0,0 +1,132 @@
+package fr.spiga.environment;
+
+import fr.spiga.core.Position3D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ZoneExclusionPolygonale et sa grille d'occupation.
+ */
+class ZoneExclusionPolygonaleTest {
+
+    private static List<Position3D> carre(double x, double y, double cote) {
+        return List.of(new Position3D(x, y, 0), new Position3D(x + cote, y, 0),
+                new Position3D(x + cote, y + cote, 0), new Position3D(x, y + cote, 0));
+    }
+
+    /** Polygone étoilé (non convexe) autour d'un centre */
+    private static List<Position3D> etoile(SplittableRandom aleatoire, double cx, double cy, double rayon) {
+        int n = 5 + aleatoire.nextInt(20);
+        List<Position3D> sommets = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) {
+            double angle = 2 * Math.PI * k / n;
+            double r = rayon * (0.3 + 0.7 * aleatoire.nextDouble());
+            sommets.add(new Position3D(cx + r * Math.cos(angle), cy + r * Math.sin(angle), 0));
+        }
+        return sommets;
+    }
+
+    private static ZoneOperation nouvelleZone() {
+        return new ZoneOperation(new Position3D(0, 0, -2000), new Position3D(100000, 100000, 10000));
+    }
+
+    @Test
+    void testPolygoneAvecTrouEtAltitudes() {
+        ZoneExclusionPolygonale port = new ZoneExclusionPolygonale("Port", carre(0, 0, 1000),
+                List.of(carre(400, 400, 200)), -50, 300);
+
+        assertTrue(port.contientPosition(new Position3D(100, 100, 0)));
+        assertFalse(port.contientPosition(new Position3D(500, 500, 0)), "Dans le trou");
+        assertFalse(port.contientPosition(new Position3D(1500, 500, 0)));
+        assertFalse(port.contientPosition(new Position3D(100, 100, 500)), "Au-dessus du plafond");
+        assertFalse(port.contientPosition(new Position3D(100, 100, -100)), "Sous le plancher");
+        assertTrue(port.estBorneeEnAltitude());
+        assertEquals(1, port.getTrous().size());
+    }
+
+    @Test
+    void testValidation() {
+        List<Position3D> ferme = new ArrayList<>(carre(0, 0, 10));
+        ferme.add(new Position3D(0, 0, 0));
+        assertEquals(4, new ZoneExclusionPolygonale("Fermé", ferme).getContour().size());
+
+        assertThrows(IllegalArgumentException.class, () -> new ZoneExclusionPolygonale("Segment",
+                List.of(new Position3D(0, 0, 0), new Position3D(10, 0, 0))));
+        assertThrows(IllegalArgumentException.class, () -> new ZoneExclusionPolygonale("Plat",
+                List.of(new Position3D(0, 0, 0), new Position3D(10, 0, 0), new Position3D(20, 0, 0))));
+        assertThrows(IllegalArgumentException.class, () -> new ZoneExclusionPolygonale(" ", carre(0, 0, 10)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ZoneExclusionPolygonale("Inversé", carre(0, 0, 10), List.of(), 10, 0));
+    }
+
+    @Test
+    void testGrilleEquivalenteAuTestExact() {
+        SplittableRandom aleatoire = new SplittableRandom(42);
+        ZoneOperation zone = nouvelleZone();
+        List<ZoneExclusionPolygonale> polygones = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            double cx = aleatoire.nextDouble(100000);
+            double cy = aleatoire.nextDouble(100000);
+            double rayon = 200 + aleatoire.nextDouble(5000);
+            List<List<Position3D>> trous = i % 3 == 0
+                    ? List.of(etoile(aleatoire, cx, cy, rayon * 0.2))
+                    : List.of();
+            double plafond = i % 4 == 0 ? 1000 : Double.POSITIVE_INFINITY;
+            ZoneExclusionPolygonale p = new ZoneExclusionPolygonale("Z" + i, etoile(aleatoire, cx, cy, rayon),
+                    trous, Double.NEGATIVE_INFINITY, plafond);
+            polygones.add(p);
+            zone.ajouterZoneExclusion(p);
+        }
+
+        int dedans = 0;
+        for (int k = 0; k < 50000; k++) {
+            Position3D pos = new Position3D(aleatoire.nextDouble(-1000, 101000), aleatoire.nextDouble(-1000, 101000),
+                    aleatoire.nextDouble(0, 2000));
+            boolean attendu = false;
+            for (ZoneExclusionPolygonale p : polygones) {
+                attendu |= p.contientPosition(pos);
+            }
+            assertEquals(attendu, zone.estDansZoneExclusion(pos), "Position " + pos);
+            if (attendu) {
+                dedans++;
+            }
+        }
+        assertTrue(dedans > 1000, "L'échantillon doit couvrir des zones");
+    }
+
+    @Test
+    void testCellulesInterieuresSansTestExact() {
+        CatalogueZonesPolygonales catalogue = new CatalogueZonesPolygonales();
+        catalogue.ajouter(new ZoneExclusionPolygonale("Grand", carre(0, 0, 10000)));
+        catalogue.ajouter(new ZoneExclusionPolygonale("Petit", carre(20000, 20000, 100)));
+        RasterPolygones raster = catalogue.raster();
+
+        assertEquals(RasterPolygones.INTERIEUR, raster.etat(5000, 5000));
+        // Cellules de 20100 / 512 ≈ 39 m : le bord du petit carré tombe dans une cellule mixte
+        assertEquals(RasterPolygones.MIXTE, raster.etat(20005, 20050));
+        assertEquals(RasterPolygones.INTERIEUR, raster.etat(20050, 20050));
+        assertEquals(RasterPolygones.EXTERIEUR, raster.etat(15000, 15000));
+        assertEquals(RasterPolygones.EXTERIEUR, raster.etat(-10, 5000));
+        assertTrue(catalogue.contient(20005, 20050, 0));
+        assertFalse(catalogue.contient(19995, 20050, 0));
+        assertFalse(catalogue.contient(20150, 20050, 0));
+    }
+
+    @Test
+    void testCopieSimulationIndependante() {
+        ZoneOperation zone = nouvelleZone();
+        zone.ajouterZoneExclusion(new ZoneExclusionPolygonale("A", carre(1000, 1000, 500)));
+        ZoneOperation copie = zone.copierPourSimulation();
+        copie.ajouterZoneExclusion(new ZoneExclusionPolygonale("B", carre(5000, 5000, 500)));
+
+        Position3D dansB = new Position3D(5200, 5200, 0);
+        assertTrue(copie.estDansZoneExclusion(dansB));
+        assertFalse(zone.estDansZoneExclusion(dansB));
+        assertTrue(zone.estDansZoneExclusion(new Position3D(1200, 1200, 0)));
+        assertEquals(1, zone.getNombreZonesExclusionPolygonales());
+        assertEquals(2, copie.getNombreZonesExclusionPolygonales());
+    }
+}
@@ -54,4 +54,84 @@ class ZoneOperationTest {
         assertTrue(zone.estEnCollisionAvecObstacle(new Position3D(500, 500, 0)));
         assertFalse(zone.estEnCollisionAvecObstacle(new Position3D(800, 800, 0)));
     }
+
+    @Test
+    void testFacteurEnvironnementInvalideParSetVent() {
+        ZoneOperation zone = new ZoneOperation(
+                new Position3D(0, 0, -1000),
+                new Position3D(100000, 100000, 1000));
+        fr.spiga.fleet.VehiculeSurface usv = new fr.spiga.fleet.VehiculeSurface(new Position3D(0, 0, 0));
+        usv.setZoneOperation(zone);
+
+        assertTrue(usv.deplacer(new Position3D(10000, 0, 0)));
+        double consoCalme = 100.0 - usv.getAutonomieRestante();
+
+        long version = zone.getVersionEnvironnement();
+        zone.setVent(new Vent(0.0, 100.0));
+        assertTrue(zone.getVersionEnvironnement() > version);
+
+        usv.recharger();
+        assertTrue(usv.deplacer(new Position3D(0, 0, 0)));
+        double consoVent = 100.0 - usv.getAutonomieRestante();
+
+        // Vent maximal : +50% pour l'état de la mer (courant nul par défaut)
+        assertEquals(consoCalme * 1.5, consoVent, 1e-9);
+    }
+
+    @Test
+    void testGrilleEquivalenteAuParcoursComplet() {
+        ZoneOperation zone = new ZoneOperation(
+                new Position3D(0, 0, -1000),
+                new Position3D(10000, 10000, 1000));
+        java.util.SplittableRandom aleatoire = new java.util.SplittableRandom(3);
+        for (int i = 0; i < 2000; i++) {
+            zone.ajouterObstacle(new Obstacle(
+                    new Position3D(aleatoire.nextDouble(-500, 10500), aleatoire.nextDouble(-500, 10500), 0),
+                    aleatoire.nextDouble(5, i % 100 == 0 ? 2000 : 100), aleatoire.nextDouble(-500, 0),
+                    aleatoire.nextDouble(0, 500), "Récif"));
+        }
+        for (int i = 0; i < 200; i++) {
+            zone.ajouterZoneExclusion(new ZoneExclusion(
+                    new Position3D(aleatoire.nextDouble(0, 10000), aleatoire.nextDouble(0, 10000), 0),
+                    aleatoire.nextDouble(10, 300), "Zone " + i));
+        }
+        java.util.List<Obstacle> obstacles = zone.getObstacles();
+        java.util.List<ZoneExclusion> zones = zone.getZonesExclusion();
+
+        for (int i = 0; i < 20000; i++) {
+            Position3D p = new Position3D(aleatoire.nextDouble(-1000, 11000), aleatoire.nextDouble(-1000, 11000),
+                    aleatoire.nextDouble(-600, 600));
+            int attendu = -1;
+            for (int k = 0; k < obstacles.size() && attendu < 0; k++) {
+                if (obstacles.get(k).estEnCollision(p)) {
+                    attendu = k;
+                }
+            }
+            assertEquals(attendu, zone.prochainObstacleEnCollision(p, 0));
+            assertEquals(attendu >= 0, zone.estEnCollisionAvecObstacle(p));
+            assertEquals(zones.stream().anyMatch(z -> z.contientPosition(p)), zone.estDansZoneExclusion(p));
+        }
+    }
+
+    @Test
+    void testCibleBorneeParGrille() {
+        ZoneOperation zone = new ZoneOperation(
+                new Position3D(0, 0, -1000),
+                new Position3D(100000, 100000, 1000));
+        for (int i = 0; i < 1000; i++) {
+            zone.ajouterObstacle(new Obstacle(new Position3D(1000 + i * 90, 50000, 0), 20, -100, 10, "Bouée"));
+        }
+        Position3D depart = new Position3D(40000, 40000, 0);
+        Position3D cible = new Position3D(1000 + 500 * 90, 50000, 0);
+
+        Position3D bornee = zone.getClampedTarget(null, depart, cible, 0);
+        double distanceAuCentre = Math.hypot(bornee.getX() - cible.getX(), bornee.getY() - cible.getY());
+        // Point d'entrée dans le disque élargi de 5 m, reculé de 0,1 % du trajet
+        double recul = 0.001 * depart.distanceVers(cible);
+        assertTrue(distanceAuCentre >= 25.0 - 1e-6 && distanceAuCentre <= 25.0 + recul + 1e-6,
+                "distance = " + distanceAuCentre);
+
+        // Au-dessus de l'obstacle : pas de bornage
+        assertSame(cible, zone.getClampedTarget(null, depart, cible, 100));
+    }
 }
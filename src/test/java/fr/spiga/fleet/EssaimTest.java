@@ -1,6 +1,7 @@
 package fr.spiga.fleet;
 
 import fr.spiga.core.Position3D;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,4 +50,206 @@ class EssaimTest {
         assertEquals(50.0, centre.getX(), 0.001);
         assertEquals(50.0, centre.getY(), 0.001);
     }
+
+    @Test
+    void testFormationEnCoin() {
+        fr.spiga.environment.ZoneOperation zone = new fr.spiga.environment.ZoneOperation(
+                new Position3D(0, 0, 0), new Position3D(20000, 20000, 5000));
+        Essaim essaim = new Essaim("Formation");
+        for (int i = 0; i < 5; i++) {
+            DroneReconnaissance d = new DroneReconnaissance(new Position3D(1000 + i * 30.0, 1000, 500));
+            d.setZoneOperation(zone);
+            d.demarrer();
+            essaim.ajouterActif(d);
+        }
+
+        assertTrue(essaim.activerFormation(TypeFormation.COIN, 60.0));
+        assertTrue(essaim.estEnFormation());
+
+        Position3D cible = new Position3D(4000, 1000, 500);
+        for (int t = 0; t < 120; t++) {
+            essaim.avancerEnFormation(cible, 1.0);
+        }
+
+        Position3D posMeneur = essaim.getMeneur().getPosition();
+        assertTrue(posMeneur.distanceVers(cible) < 5.0, "Le meneur doit atteindre la cible");
+
+        // Le premier suiveur tient son poste : 60m en arrière et 60m sur le côté
+        for (fr.spiga.core.ActifMobile a : essaim.getActifs()) {
+            if (a == essaim.getMeneur()) {
+                continue;
+            }
+            assertTrue(a.getPosition().getX() < posMeneur.getX(), "Les suiveurs restent derrière le meneur");
+            assertTrue(a.getPosition().distanceVers(posMeneur) >= 60.0 - 1.0);
+        }
+    }
+
+    @Test
+    void testSuiveursProchesRejoignentLeursPostes() {
+        Essaim essaim = new Essaim("Grille");
+        // Meneur immobile, deux suiveurs à 10m l'un de l'autre, tout contre le meneur
+        DroneReconnaissance meneur = new DroneReconnaissance(new Position3D(1000, 1000, 500));
+        DroneReconnaissance a = new DroneReconnaissance(new Position3D(1000, 1008, 500));
+        DroneReconnaissance b = new DroneReconnaissance(new Position3D(1000, 998, 500));
+        for (DroneReconnaissance d : List.of(meneur, a, b)) {
+            d.demarrer();
+            essaim.ajouterActif(d);
+        }
+        assertTrue(essaim.activerFormation(TypeFormation.GRILLE, 60.0));
+        assertSame(meneur, essaim.getMeneur());
+
+        Position3D cible = meneur.getPosition();
+        for (int t = 0; t < 30; t++) {
+            essaim.avancerEnFormation(cible, 1.0);
+        }
+
+        // Grille 2 colonnes, cap par défaut selon +X : postes à 60m à droite et 60m en arrière
+        assertTrue(a.getPosition().distanceVers(new Position3D(1000, 940, 500)) < 1.0,
+                "Le premier suiveur doit atteindre son poste : " + a.getPosition());
+        assertTrue(b.getPosition().distanceVers(new Position3D(940, 1000, 500)) < 1.0,
+                "Le second suiveur doit atteindre son poste : " + b.getPosition());
+    }
+
+    @Test
+    void testReleveDuMeneurAuSol() {
+        Essaim essaim = new Essaim("Relève");
+        List<DroneReconnaissance> drones = new java.util.ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            DroneReconnaissance d = new DroneReconnaissance(new Position3D(1000, 1000 + i * 100.0, 500));
+            d.demarrer();
+            essaim.ajouterActif(d);
+            drones.add(d);
+        }
+        assertTrue(essaim.activerFormation(TypeFormation.LIGNE, 60.0));
+        assertSame(drones.get(0), essaim.getMeneur());
+
+        drones.get(0).eteindre(); // Meneur posé : la formation ne doit pas s'arrêter autour de lui
+        Position3D cible = new Position3D(3000, 1100, 500);
+        essaim.avancerEnFormation(cible, 1.0);
+        assertSame(drones.get(1), essaim.getMeneur());
+        for (int t = 0; t < 30; t++) {
+            essaim.avancerEnFormation(cible, 1.0);
+        }
+        assertTrue(drones.get(1).getPosition().getX() > 1500);
+        assertEquals(1000, drones.get(0).getPosition().getX(), 1e-9);
+    }
+
+    @Test
+    void testSuiveurBloqueParZoneExclusion() {
+        fr.spiga.environment.ZoneOperation zone = new fr.spiga.environment.ZoneOperation(
+                new Position3D(0, 0, 0), new Position3D(20000, 20000, 5000));
+        // Zone couvrant le poste du suiveur (60m à gauche du cap), pas le trajet du meneur
+        zone.ajouterZoneExclusion(1000, 1060, 500, 20, "Poste interdit");
+        Essaim essaim = new Essaim("Exclusion");
+        DroneReconnaissance meneur = new DroneReconnaissance(new Position3D(1000, 1000, 500));
+        DroneReconnaissance suiveur = new DroneReconnaissance(new Position3D(1000, 1100, 500));
+        for (DroneReconnaissance d : List.of(meneur, suiveur)) {
+            d.setZoneOperation(zone);
+            d.demarrer();
+            essaim.ajouterActif(d);
+        }
+        assertTrue(essaim.activerFormation(TypeFormation.LIGNE, 60.0));
+        for (int t = 0; t < 10; t++) {
+            essaim.avancerEnFormation(meneur.getPosition(), 1.0);
+        }
+        assertFalse(zone.estDansZoneExclusion(suiveur.getPosition()));
+        assertEquals(fr.spiga.core.EtatOperationnel.EN_PANNE, suiveur.getEtatOperationnel());
+        assertTrue(suiveur.estAlerteActive(fr.spiga.core.CodeAlerte.PANNE_SYSTEME));
+    }
+
+    /**
+     * Recalcule centre, autonomie moyenne et bornes en parcourant les membres.
+     */
+    private static void verifierAgregats(Essaim essaim) {
+        double sx = 0, sy = 0, sz = 0, sa = 0;
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        double minZ = Double.POSITIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (fr.spiga.core.ActifMobile a : essaim.getActifs()) {
+            Position3D p = a.getPosition();
+            sx += p.getX();
+            sy += p.getY();
+            sz += p.getZ();
+            sa += a.getAutonomieRestante();
+            minX = Math.min(minX, p.getX());
+            maxX = Math.max(maxX, p.getX());
+            minY = Math.min(minY, p.getY());
+            maxY = Math.max(maxY, p.getY());
+            minZ = Math.min(minZ, p.getZ());
+            maxZ = Math.max(maxZ, p.getZ());
+        }
+        int n = essaim.getNombreActifs();
+        Position3D centre = essaim.calculerCentre();
+        assertEquals(sx / n, centre.getX(), 1e-6);
+        assertEquals(sy / n, centre.getY(), 1e-6);
+        assertEquals(sz / n, centre.getZ(), 1e-6);
+        assertEquals(sa / n, essaim.calculerAutonomieMoyenne(), 1e-6);
+        assertEquals(minX, essaim.getBorneMin().getX());
+        assertEquals(maxX, essaim.getBorneMax().getX());
+        assertEquals(minY, essaim.getBorneMin().getY());
+        assertEquals(maxY, essaim.getBorneMax().getY());
+        assertEquals(minZ, essaim.getBorneMin().getZ());
+        assertEquals(maxZ, essaim.getBorneMax().getZ());
+    }
+
+    @Test
+    void testAgregatsSuiventDeplacementsEtAutonomie() {
+        Essaim essaim = new Essaim("Agregats");
+        assertNull(essaim.calculerCentre());
+        assertNull(essaim.getBorneMin());
+        assertEquals(0.0, essaim.calculerAutonomieMoyenne());
+
+        DroneReconnaissance[] drones = new DroneReconnaissance[6];
+        for (int i = 0; i < drones.length; i++) {
+            drones[i] = new DroneReconnaissance(new Position3D(1000 + i * 100.0, 2000 - i * 50.0, 300 + i));
+            drones[i].demarrer();
+        }
+        essaim.ajouterActifs(java.util.Arrays.asList(drones));
+        verifierAgregats(essaim);
+
+        // Les membres des faces se déplacent vers l'intérieur puis vers l'extérieur
+        for (int t = 0; t < 20; t++) {
+            drones[0].avancerDirect(new Position3D(1500, 1800, 310), 1.0);
+            drones[5].avancerDirect(new Position3D(5000, 5000, 250), 1.0);
+            drones[2].consommerAutonomie(0.5);
+            verifierAgregats(essaim);
+        }
+
+        drones[3].recharger();
+        essaim.retirerActif(drones[5]);
+        verifierAgregats(essaim);
+
+        // Un actif retiré ne modifie plus les agrégats
+        Position3D centre = essaim.calculerCentre();
+        drones[5].avancerDirect(new Position3D(0, 0, 300), 1.0);
+        assertEquals(centre.toString(), essaim.calculerCentre().toString());
+
+        essaim.dissoudre();
+        assertNull(essaim.calculerCentre());
+        drones[0].avancerDirect(new Position3D(0, 0, 300), 1.0);
+        assertEquals(0, essaim.getNombreActifs());
+    }
+
+    @Test
+    void testAgregatsApresSerialisation() throws Exception {
+        Essaim essaim = new Essaim("Serialise");
+        essaim.ajouterActif(new DroneReconnaissance(new Position3D(0, 0, 100)));
+        essaim.ajouterActif(new DroneReconnaissance(new Position3D(200, 100, 300)));
+
+        java.io.ByteArrayOutputStream octets = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream sortie = new java.io.ObjectOutputStream(octets)) {
+            sortie.writeObject(essaim);
+        }
+        Essaim relu;
+        try (java.io.ObjectInputStream entree = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(octets.toByteArray()))) {
+            relu = (Essaim) entree.readObject();
+        }
+        assertEquals(100.0, relu.calculerCentre().getX(), 1e-9);
+        assertEquals(200.0, relu.getBorneMax().getX());
+        fr.spiga.core.ActifMobile membre = relu.getActifs().get(1);
+        membre.demarrer();
+        membre.avancerDirect(new Position3D(400, 100, 300), 1000.0);
+        verifierAgregats(relu);
+    }
 }
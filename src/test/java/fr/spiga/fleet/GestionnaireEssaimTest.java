@@ -0,0 +1,116 @@
+package fr.spiga.fleet;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour GestionnaireEssaim.
+ */
+class GestionnaireEssaimTest {
+
+    @Test
+    void testPoigneesEtRecherche() {
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+        DroneLogistique logistique = new DroneLogistique(new Position3D(10, 0, 100));
+
+        assertEquals(ActifMobile.POIGNEE_NON_ATTRIBUEE, drone.getPoignee());
+        assertTrue(gestionnaire.enregistrerActif(drone));
+        assertTrue(gestionnaire.enregistrerActif(logistique));
+        assertFalse(gestionnaire.enregistrerActif(drone));
+
+        // Poignées compactes dans l'ordre d'enregistrement
+        assertEquals(0, drone.getPoignee());
+        assertEquals(1, logistique.getPoignee());
+        assertSame(logistique, gestionnaire.getActifParPoignee(1));
+        assertNull(gestionnaire.getActifParPoignee(2));
+
+        assertSame(drone, gestionnaire.getActifParId(drone.getId().toUpperCase()));
+        assertSame(drone, gestionnaire.trouverActif(drone.getIdCourt()));
+
+        // Préfixe plus long que la profondeur de l'index
+        List<ActifMobile> trouves = gestionnaire.rechercherParPrefixe(logistique.getId().substring(0, 13));
+        assertEquals(List.of(logistique), trouves);
+        assertTrue(gestionnaire.rechercherParPrefixe("").isEmpty());
+        assertTrue(gestionnaire.rechercherParPrefixe("zz").isEmpty());
+
+        // Un actif ne peut appartenir qu'à une flotte
+        assertFalse(new GestionnaireEssaim().enregistrerActif(drone));
+    }
+
+    private static DroneReconnaissance creerDrone(GestionnaireEssaim gestionnaire, double x, double y) {
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(x, y, 300));
+        gestionnaire.enregistrerActif(drone);
+        drone.demarrer();
+        return drone;
+    }
+
+    @Test
+    void testSuiviDesActifsNonAssignes() {
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        DroneReconnaissance a = creerDrone(gestionnaire, 0, 0);
+        DroneReconnaissance b = creerDrone(gestionnaire, 100, 0);
+        assertEquals(2, gestionnaire.getNombreActifsNonAssignes());
+
+        Essaim alpha = gestionnaire.creerEssaim("Alpha");
+        Essaim bravo = gestionnaire.creerEssaim("Bravo");
+        alpha.ajouterActif(a);
+        bravo.ajouterActifs(List.of(a, b));
+        assertEquals(0, gestionnaire.getNombreActifsNonAssignes());
+
+        alpha.retirerActif(a);
+        assertEquals(0, gestionnaire.getNombreActifsNonAssignes()); // encore membre de Bravo
+        bravo.dissoudre();
+        assertEquals(2, gestionnaire.getNombreActifsNonAssignes());
+
+        // Un actif d'une autre flotte n'est pas suivi
+        alpha.ajouterActif(new DroneReconnaissance(new Position3D(0, 0, 300)));
+        alpha.dissoudre();
+        assertEquals(2, gestionnaire.getNombreActifsNonAssignes());
+    }
+
+    @Test
+    void testCollisionsEntreEssaimsVoisins() {
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        Essaim alpha = gestionnaire.creerEssaim("Alpha");
+        Essaim bravo = gestionnaire.creerEssaim("Bravo");
+        alpha.ajouterActif(creerDrone(gestionnaire, 1000, 1000));
+        alpha.ajouterActif(creerDrone(gestionnaire, 900, 1000));
+        bravo.ajouterActif(creerDrone(gestionnaire, 1030, 1000));
+        bravo.ajouterActif(creerDrone(gestionnaire, 1200, 1000));
+        DroneReconnaissance libre = creerDrone(gestionnaire, 1195, 1000);
+
+        List<String> alertes = gestionnaire.verifierToutesLesCollisions();
+        // Paires internes : aucune ; entre groupes : Alpha/Bravo (30 m) et Bravo/non assignés (5 m)
+        assertTrue(alertes.contains("Essaims: Alpha / Bravo"), alertes.toString());
+        assertTrue(alertes.stream().anyMatch(l -> l.startsWith("Risque de collision") && l.contains("30.0m")));
+        assertTrue(alertes.contains("Essaims: Bravo / " + GestionnaireEssaim.NOM_NON_ASSIGNES), alertes.toString());
+        assertEquals(fr.spiga.core.EtatOperationnel.EN_PANNE, libre.getEtatOperationnel());
+        assertEquals(2, gestionnaire.getDernieresPairesCroisees());
+    }
+
+    @Test
+    void testEssaimsEloignesNonCroises() {
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        for (int e = 0; e < 20; e++) {
+            Essaim essaim = gestionnaire.creerEssaim("E" + e);
+            for (int i = 0; i < 10; i++) {
+                essaim.ajouterActif(creerDrone(gestionnaire, e * 2000.0 + i * 60.0, 500));
+            }
+        }
+        assertTrue(gestionnaire.verifierToutesLesCollisions().isEmpty());
+        assertEquals(0, gestionnaire.getDernieresPairesCroisees());
+
+        // Deux essaims se rapprochent : seule leur paire est examinée
+        Essaim e3 = gestionnaire.getEssaims().get(3);
+        for (ActifMobile actif : e3.getActifs()) {
+            Position3D p = actif.getPosition();
+            actif.avancerDirect(new Position3D(p.getX() - 1500, p.getY(), p.getZ()), 1000.0);
+        }
+        gestionnaire.verifierToutesLesCollisions();
+        assertEquals(1, gestionnaire.getDernieresPairesCroisees());
+    }
+}
@@ -0,0 +1,46 @@
+package fr.spiga.fleet;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ServiceAtteignabilite.
+ */
+class ServiceAtteignabiliteTest {
+
+    @Test
+    void testMatriceAllerEtRetour() {
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+        VehiculeSurface usv = new VehiculeSurface(new Position3D(0, 0, 0));
+        Position3D proche = new Position3D(100000, 0, 100);
+        Position3D lointaine = new Position3D(200000, 0, 100);
+
+        MatriceAtteignabilite matrice = new ServiceAtteignabilite()
+                .calculer(List.of(drone, usv), List.of(proche, lointaine));
+
+        assertEquals(2, matrice.getNombreActifs());
+        assertEquals(drone.estimerConsommation(100000), matrice.getEnergieAller(0, 0), 1e-9);
+        assertEquals(100000 / drone.getVitesseMax(), matrice.getDureeAller(0, 0), 1e-6);
+
+        // ~40% pour 100 km : aller-retour possible, mais pas vers 200 km
+        assertTrue(matrice.estAllerRetourPossible(0, 0));
+        assertTrue(matrice.estAtteignable(0, 1));
+        assertFalse(matrice.estAllerRetourPossible(0, 1));
+    }
+
+    @Test
+    void testFiltrageAvecReserve() {
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+        Position3D cible = new Position3D(100000, 0, 100);
+
+        ServiceAtteignabilite service = new ServiceAtteignabilite(30.0, true);
+        List<ActifMobile> allerSimple = service.filtrerAtteignables(List.of(drone), cible, false);
+        List<ActifMobile> allerRetour = service.filtrerAtteignables(List.of(drone), cible, true);
+
+        assertEquals(List.of(drone), allerSimple);
+        assertTrue(allerRetour.isEmpty());
+    }
+}
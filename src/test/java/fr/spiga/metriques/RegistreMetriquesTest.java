@@ -0,0 +1,79 @@
+package fr.spiga.metriques;
+
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.DroneReconnaissance;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour RegistreMetriques et Histogramme.
+ */
+class RegistreMetriquesTest {
+
+    @AfterEach
+    void nettoyer() {
+        RegistreMetriques.desactiver();
+        RegistreMetriques.reinitialiserTout();
+    }
+
+    @Test
+    void testCentilesHistogramme() {
+        Histogramme h = new Histogramme();
+        for (int i = 1; i <= 100; i++) {
+            h.enregistrer(i);
+        }
+        assertEquals(100, h.getNombre());
+        assertEquals(50.5, h.getMoyenne(), 1e-9);
+        assertEquals(100, h.getMax());
+        // Précision d'un facteur 2 : la borne du seau encadre la vraie valeur
+        long p50 = h.getCentile(50);
+        assertTrue(p50 >= 50 && p50 <= 100, "P50 = " + p50);
+        assertEquals(100, h.getCentile(100));
+        h.reinitialiser();
+        assertEquals(0, h.getNombre());
+        assertEquals(0, h.getCentile(99));
+    }
+
+    @Test
+    void testAucuneCollecteQuandDesactive() {
+        RegistreMetriques.desactiver();
+        DroneReconnaissance drone = creerDrone();
+        for (int i = 0; i < 10; i++) {
+            drone.avancerVers(new Position3D(5000, 5000, 200), 0.1);
+        }
+        assertEquals(0, RegistreMetriques.debut());
+        assertEquals(0, RegistreMetriques.getHistogramme(PhaseTick.AVANCER_VERS).getNombre());
+        assertEquals(0, RegistreMetriques.getHistogramme(PhaseTick.SOUS_ETAPES).getNombre());
+    }
+
+    @Test
+    void testCollecteEtExpositionJmx() throws Exception {
+        RegistreMetriques.activer();
+        DroneReconnaissance drone = creerDrone();
+        for (int i = 0; i < 10; i++) {
+            drone.avancerVers(new Position3D(5000, 5000, 200), 0.1);
+        }
+        assertEquals(10, RegistreMetriques.getHistogramme(PhaseTick.AVANCER_VERS).getNombre());
+        assertEquals(10, RegistreMetriques.getHistogramme(PhaseTick.SOUS_ETAPES).getNombre());
+        assertTrue(RegistreMetriques.getHistogramme(PhaseTick.CIBLE_BORNEE).getNombre() > 0);
+
+        MBeanServer serveur = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nom = new ObjectName("fr.spiga:type=Metriques,phase=AVANCER_VERS");
+        assertEquals(10L, serveur.getAttribute(nom, "Nombre"));
+        assertEquals(Boolean.TRUE, serveur.getAttribute(new ObjectName("fr.spiga:type=Metriques"), "Actif"));
+        assertTrue(RegistreMetriques.genererRapport().contains("AVANCER_VERS"));
+    }
+
+    private DroneReconnaissance creerDrone() {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -1000), new Position3D(10000, 10000, 5000));
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(100, 100, 200));
+        drone.setZoneOperation(zone);
+        drone.demarrer();
+        return drone;
+    }
+}
@@ -0,0 +1,53 @@
+package fr.spiga.mission;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.Obstacle;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.VehiculeSurface;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour AllocationSlots.
+ */
+class AllocationSlotsTest {
+
+    @Test
+    void testEmplacementsDistinctsEtEspaces() {
+        ActifMobile[] actifs = new ActifMobile[12];
+        for (int i = 0; i < actifs.length; i++) {
+            actifs[i] = new VehiculeSurface(new Position3D(i * 100.0, 0, 0));
+        }
+
+        Position3D destination = new Position3D(5000, 5000, 0);
+        Position3D[] slots = AllocationSlots.allouer(destination, actifs, null, 80.0);
+
+        assertEquals(actifs.length, slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            for (int j = i + 1; j < slots.length; j++) {
+                assertTrue(slots[i].distanceVers(slots[j]) >= 79.9,
+                        "Emplacements trop proches: " + slots[i] + " / " + slots[j]);
+            }
+        }
+    }
+
+    @Test
+    void testEmplacementsEvitentObstacles() {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -100), new Position3D(10000, 10000, 100));
+        Position3D destination = new Position3D(5000, 5000, 0);
+        // Obstacle couvrant la destination et le premier anneau
+        zone.ajouterObstacle(new Obstacle(destination, 150.0, "Récif"));
+
+        ActifMobile[] actifs = new ActifMobile[5];
+        for (int i = 0; i < actifs.length; i++) {
+            actifs[i] = new VehiculeSurface(new Position3D(1000 + i * 100.0, 1000, 0));
+        }
+
+        Position3D[] slots = AllocationSlots.allouer(destination, actifs, zone, 80.0);
+        for (Position3D slot : slots) {
+            assertFalse(zone.estEnCollisionAvecObstacle(slot), "Emplacement dans l'obstacle: " + slot);
+            assertTrue(zone.estDansZone(slot));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package fr.spiga.mission;
+
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.Obstacle;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.DroneReconnaissance;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour EstimateurSuccesMission.
+ */
+class EstimateurSuccesMissionTest {
+
+    @Test
+    void testEstimationSansModifierLeMonde() {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -1000), new Position3D(100000, 100000, 5000));
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(1000, 1000, 200));
+        drone.setZoneOperation(zone);
+
+        LocalDateTime debut = LocalDateTime.now();
+        MissionSurveillanceMaritime mission = new MissionSurveillanceMaritime(
+                debut, debut.plusHours(2), new Position3D(4000, 1000, 200));
+        assertTrue(mission.assignerActif(drone));
+
+        EstimateurSuccesMission estimateur = new EstimateurSuccesMission(40, 1.0, 3600.0, 42L);
+        EstimationMission estimation = estimateur.estimer(mission, zone);
+
+        assertEquals(40, estimation.getNombreSimulations());
+        assertEquals(1.0, estimation.getTauxSucces(), 1e-9);
+        assertTrue(estimation.getDuree(50) > 0);
+        assertTrue(estimation.getDuree(5) <= estimation.getDuree(95));
+        assertTrue(estimation.getMargeEnergie(50) < 100.0);
+
+        // La mission, l'actif et la zone d'origine sont intacts
+        assertEquals("PLANIFIEE", mission.getStatut());
+        assertEquals(new Position3D(1000, 1000, 200), drone.getPosition());
+        assertEquals(100.0, drone.getAutonomieRestante(), 1e-9);
+        assertEquals(1, zone.getTousLesActifs().size());
+
+        // Copie à l'écriture : un obstacle ajouté ensuite reste propre à la zone
+        ZoneOperation copie = zone.copierPourSimulation();
+        zone.ajouterObstacle(new Obstacle(new Position3D(500, 500, 0), 50, "Bouée"));
+        assertEquals(1, zone.getObstacles().size());
+        assertTrue(copie.getObstacles().isEmpty());
+    }
+
+    @Test
+    void testSimulationsSilencieuses() {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -1000), new Position3D(100000, 100000, 5000));
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(1000, 1000, 200));
+        drone.setZoneOperation(zone);
+        LocalDateTime debut = LocalDateTime.now();
+        MissionSurveillanceMaritime mission = new MissionSurveillanceMaritime(
+                debut, debut.plusHours(2), new Position3D(4000, 1000, 200));
+        mission.assignerActif(drone);
+        assertFalse(drone.estSilencieux());
+        assertTrue(drone.copierPourSimulation().estSilencieux());
+
+        // Une seconde mission traverse une zone d'exclusion : blocage des copies
+        zone.ajouterZoneExclusion(10000, 1000, 200, 300, "Zone bloquante");
+        DroneReconnaissance bloque = new DroneReconnaissance(new Position3D(9000, 1000, 200));
+        bloque.setZoneOperation(zone);
+        MissionSurveillanceMaritime traversee = new MissionSurveillanceMaritime(
+                debut, debut.plusHours(2), new Position3D(11000, 1000, 200));
+        traversee.assignerActif(bloque);
+
+        java.io.PrintStream sortie = System.out;
+        java.io.PrintStream erreurs = System.err;
+        java.io.ByteArrayOutputStream capture = new java.io.ByteArrayOutputStream();
+        java.io.PrintStream flux = new java.io.PrintStream(capture, true);
+        System.setOut(flux);
+        System.setErr(flux);
+        EstimationMission estimation;
+        EstimationMission estimationBloquee;
+        try {
+            estimation = new EstimateurSuccesMission(20, 1.0, 3600.0, 3L).estimer(mission, zone);
+            estimationBloquee = new EstimateurSuccesMission(20, 1.0, 3600.0, 3L).estimer(traversee, zone);
+        } finally {
+            System.setOut(sortie);
+            System.setErr(erreurs);
+        }
+        assertEquals(1.0, estimation.getTauxSucces(), 1e-9);
+        assertEquals(0.0, estimationBloquee.getTauxSucces(), 1e-9);
+        assertEquals("", capture.toString(), "Les simulations ne doivent rien afficher");
+    }
+
+    @Test
+    void testDureeMaximaleDepassee() {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -1000), new Position3D(100000, 100000, 5000));
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(1000, 1000, 200));
+        drone.setZoneOperation(zone);
+
+        LocalDateTime debut = LocalDateTime.now();
+        MissionSurveillanceMaritime mission = new MissionSurveillanceMaritime(
+                debut, debut.plusHours(2), new Position3D(90000, 90000, 200));
+        mission.assignerActif(drone);
+
+        EstimationMission estimation = new EstimateurSuccesMission(8, 5.0, 60.0, 7L).estimer(mission, zone);
+
+        assertEquals(0, estimation.getNombreSucces());
+        assertTrue(Double.isNaN(estimation.getDuree(50)));
+    }
+}
@@ -0,0 +1,163 @@
+package fr.spiga.mission;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.fleet.DroneReconnaissance;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour MissionPatrouille et RoutePatrouille.
+ */
+class MissionPatrouilleTest {
+
+    /** Carré de 400 m de côté : longueur 1600 m */
+    private static RoutePatrouille creerCarre() {
+        return new RoutePatrouille(List.of(
+                new Position3D(0, 0, 0),
+                new Position3D(400, 0, 0),
+                new Position3D(400, 400, 0),
+                new Position3D(0, 400, 0)));
+    }
+
+    @Test
+    void testRouteAbscisseCurviligne() {
+        RoutePatrouille route = creerCarre();
+        assertEquals(1600.0, route.getLongueur(), 1e-9);
+        assertEquals(4, route.getNombrePointsDePassage());
+
+        Position3D p = route.getPoint(500, 120);
+        assertEquals(400.0, p.getX(), 1e-9);
+        assertEquals(100.0, p.getY(), 1e-9);
+        assertEquals(120.0, p.getZ(), 1e-9);
+
+        // Abscisses au-delà d'un tour ou négatives ramenées sur la boucle
+        assertEquals(route.getPoint(500, 0).getX(), route.getPoint(500 + 3 * 1600, 0).getX(), 1e-9);
+        Position3D retour = route.getPoint(-100, 0);
+        assertEquals(0.0, retour.getX(), 1e-9);
+        assertEquals(100.0, retour.getY(), 1e-9);
+        assertEquals(0.0, route.normaliser(-1e-18), 0.0);
+    }
+
+    @Test
+    void testSegmentParSeauxEgalRechercheLineaire() {
+        // Segments de longueurs très inégales
+        RoutePatrouille route = new RoutePatrouille(List.of(
+                new Position3D(0, 0, 0),
+                new Position3D(1, 0, 0),
+                new Position3D(1000, 0, 0),
+                new Position3D(1000, 3, 0),
+                new Position3D(500, 700, 0)));
+        double[] bornes = new double[6];
+        List<Position3D> points = route.getPointsDePassage();
+        for (int i = 0; i < 5; i++) {
+            bornes[i + 1] = bornes[i] + points.get(i).distanceVers(points.get((i + 1) % 5));
+        }
+        for (int k = 0; k < 20000; k++) {
+            double s = route.getLongueur() * k / 20000.0;
+            int attendu = 0;
+            while (attendu < 4 && bornes[attendu + 1] <= s) {
+                attendu++;
+            }
+            assertEquals(attendu, route.segment(s), "abscisse " + s);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, route.segment(bornes[i]));
+        }
+    }
+
+    @Test
+    void testRouteInvalide() {
+        assertThrows(IllegalArgumentException.class, () -> new RoutePatrouille(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RoutePatrouille(List.of(new Position3D(0, 0, 0))));
+        assertThrows(IllegalArgumentException.class, () -> new RoutePatrouille(List.of(
+                new Position3D(0, 0, 0), new Position3D(0, 0, 50), new Position3D(10, 0, 0))));
+        LocalDateTime debut = LocalDateTime.now();
+        assertThrows(IllegalArgumentException.class,
+                () -> new MissionPatrouille(debut, debut.plusHours(1), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MissionPatrouille(debut, debut.plusHours(1), creerCarre(), -1));
+    }
+
+    @Test
+    void testPhasesEchelonneesSurRoutePartagee() {
+        LocalDateTime debut = LocalDateTime.now();
+        RoutePatrouille route = creerCarre();
+        MissionPatrouille mission = new MissionPatrouille(debut, debut.plusHours(2), route);
+        MissionPatrouille autre = new MissionPatrouille(debut, debut.plusHours(2), route);
+        assertSame(mission.getRoute(), autre.getRoute());
+
+        ActifMobile[] drones = new ActifMobile[4];
+        for (int i = 0; i < drones.length; i++) {
+            drones[i] = new DroneReconnaissance(new Position3D(200, 200, 100));
+            assertTrue(mission.assignerActif(drones[i]));
+        }
+        assertEquals(-1, mission.getAbscisse(drones[0]));
+        assertTrue(mission.demarrer());
+        mission.mettreAJour(0.1);
+
+        for (int i = 0; i < drones.length; i++) {
+            assertEquals(i * 400.0, mission.getAbscisse(drones[i]), 1e-6);
+        }
+        // Actif non assigné ou assigné à une autre mission : pas de rang
+        assertEquals(-1, mission.getAbscisse(new DroneReconnaissance(new Position3D(0, 0, 100))));
+        ActifMobile etranger = new DroneReconnaissance(new Position3D(0, 0, 100));
+        autre.assignerActif(etranger);
+        assertEquals(-1, mission.getAbscisse(etranger));
+        assertEquals(0.0, mission.getToursEffectues(etranger), 0.0);
+
+        for (int t = 0; t < 600; t++) {
+            mission.mettreAJour(0.5);
+        }
+        assertEquals("EN_COURS", mission.getStatut());
+        for (int i = 0; i < drones.length; i++) {
+            int suivant = (i + 1) % drones.length;
+            double ecart = route.normaliser(mission.getAbscisse(drones[suivant]) - mission.getAbscisse(drones[i]));
+            assertEquals(400.0, ecart, 60.0, "écart entre les actifs " + i + " et " + suivant);
+            // Chaque actif reste sur la route, à sa propre altitude
+            Position3D consigne = route.getPoint(mission.getAbscisse(drones[i]), drones[i].getPosition().getZ());
+            assertTrue(drones[i].getPosition().distanceVers(consigne) < 60.0);
+            assertTrue(mission.getToursEffectues(drones[i]) > 0.5);
+        }
+    }
+
+    @Test
+    void testToursRequisTerminentMission() {
+        LocalDateTime debut = LocalDateTime.now();
+        MissionPatrouille mission = new MissionPatrouille(debut, debut.plusHours(2), creerCarre(), 1);
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+        mission.assignerActif(drone);
+        mission.demarrer();
+
+        for (int t = 0; t < 2000 && "EN_COURS".equals(mission.getStatut()); t++) {
+            mission.mettreAJour(0.5);
+        }
+        assertEquals("TERMINEE", mission.getStatut());
+        assertTrue(mission.getToursEffectues(drone) >= 1.0);
+    }
+
+    @Test
+    void testCopiePourSimulationIndependante() {
+        LocalDateTime debut = LocalDateTime.now();
+        MissionPatrouille mission = new MissionPatrouille(debut, debut.plusHours(2), creerCarre());
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(0, 0, 100));
+        mission.assignerActif(drone);
+        mission.demarrer();
+        for (int t = 0; t < 20; t++) {
+            mission.mettreAJour(0.5);
+        }
+        double abscisse = mission.getAbscisse(drone);
+
+        ActifMobile copieDrone = drone.copierPourSimulation();
+        MissionPatrouille copie = (MissionPatrouille) mission.copierPourSimulation(a -> copieDrone, null);
+        assertSame(mission.getRoute(), copie.getRoute());
+        for (int t = 0; t < 20; t++) {
+            copie.mettreAJour(0.5);
+        }
+        assertTrue(copie.getAbscisse(copieDrone) > abscisse);
+        assertEquals(abscisse, mission.getAbscisse(drone), 0.0);
+    }
+}
@@ -70,4 +70,33 @@ class MissionSurveillanceMaritimeTest {
         assertEquals("TERMINEE", mission.getStatut());
         assertNotNull(mission.getResultatsObtenus());
     }
+
+    @Test
+    void testRalliementTermineMission() {
+        LocalDateTime debut = LocalDateTime.now().plusHours(1);
+        LocalDateTime fin = debut.plusHours(4);
+
+        MissionSurveillanceMaritime mission = new MissionSurveillanceMaritime(
+                debut, fin, new Position3D(2000, 0, 100));
+
+        DroneReconnaissance proche = new DroneReconnaissance(new Position3D(1950, 0, 100));
+        DroneReconnaissance loin = new DroneReconnaissance(new Position3D(0, 0, 100));
+        mission.assignerActif(proche);
+        mission.assignerActif(loin);
+        mission.demarrer();
+
+        // Premier tick : seul le drone proche arrive et reste posé
+        mission.mettreAJour(1.0);
+        assertEquals(1, mission.getNombreActifsArrives());
+        assertEquals(fr.spiga.core.EtatOperationnel.AU_SOL, proche.getEtatOperationnel());
+
+        for (int i = 0; i < 100 && "EN_COURS".equals(mission.getStatut()); i++) {
+            mission.mettreAJour(1.0);
+            // L'actif arrivé n'est pas relancé par la reprise de mission
+            assertNotEquals(fr.spiga.core.EtatOperationnel.EN_MISSION, proche.getEtatOperationnel());
+        }
+
+        assertEquals("TERMINEE", mission.getStatut());
+        assertEquals(2, mission.getNombreActifsArrives());
+    }
 }
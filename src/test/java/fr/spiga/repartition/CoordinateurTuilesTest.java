@@ -0,0 +1,55 @@
+package fr.spiga.repartition;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.DroneReconnaissance;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour CoordinateurTuiles.
+ */
+class CoordinateurTuilesTest {
+
+    private void verifierTransfert(boolean processusSepares) throws Exception {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -500), new Position3D(2000, 1000, 1000));
+        DroneReconnaissance drone = new DroneReconnaissance(new Position3D(900, 500, 100));
+        Position3D destination = new Position3D(1500, 500, 100);
+
+        try (CoordinateurTuiles coordinateur = new CoordinateurTuiles(zone, 2, 1, 200.0, processusSepares)) {
+            coordinateur.demarrer();
+            coordinateur.ajouterActif(drone, destination);
+
+            for (int i = 0; i < 60; i++) {
+                coordinateur.avancer(1.0);
+            }
+
+            List<EtatActifDistant> etats = coordinateur.getEtats();
+            assertEquals(1, etats.size());
+            assertEquals(drone.getId(), etats.get(0).getId());
+            assertEquals(1, etats.get(0).getTuile());
+            assertTrue(etats.get(0).estArrive());
+            assertEquals(1, coordinateur.getNombreTransferts());
+            assertTrue(coordinateur.getNombreFantomesPublies() > 0);
+
+            List<ActifMobile> actifs = coordinateur.recupererActifs();
+            assertEquals(1, actifs.size());
+            assertTrue(actifs.get(0).getPosition().distanceVers(destination) < 2.0);
+        }
+
+        // L'original n'est pas déplacé
+        assertEquals(new Position3D(900, 500, 100), drone.getPosition());
+    }
+
+    @Test
+    void testTransfertEntreProcessus() throws Exception {
+        verifierTransfert(true);
+    }
+
+    @Test
+    void testTransfertEntreFils() throws Exception {
+        verifierTransfert(false);
+    }
+}
@@ -0,0 +1,147 @@
+package fr.spiga.scenario;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.Obstacle;
+import fr.spiga.environment.ZoneExclusionPolygonale;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.GestionnaireEssaim;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ChargeurScenario et FormatScenario.
+ */
+class ChargeurScenarioTest {
+
+    @TempDir
+    Path dossier;
+
+    private static ZoneOperation nouvelleZone() {
+        return new ZoneOperation(new Position3D(0, 0, -2000), new Position3D(100000, 100000, 10000));
+    }
+
+    @Test
+    void testAllerRetourTexteEtBinaire() throws IOException {
+        Scenario source = new GenerateurScenario(5).generer(PresetScenario.CHAMP_OBSTACLES);
+        source.getZone().ajouterObstacle(new Obstacle(new Position3D(10, 20, 0), 15, "Phare"));
+
+        Path texte = dossier.resolve("scenario.txt");
+        Path binaire = dossier.resolve("scenario.bin");
+        FormatScenario.ecrireTexte(source.getZone(), source.getActifs(), texte);
+        FormatScenario.ecrireBinaire(source.getZone(), source.getActifs(), binaire);
+
+        for (Path fichier : List.of(texte, binaire)) {
+            ZoneOperation zone = nouvelleZone();
+            GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+            ChargeurScenario chargeur = new ChargeurScenario(zone, gestionnaire);
+            chargeur.charger(fichier);
+
+            assertEquals(source.getZone().getNombreObstacles(), chargeur.getObstaclesCharges());
+            assertEquals(source.getZone().getNombreZonesExclusion(), zone.getNombreZonesExclusion());
+            assertEquals(source.getActifs().size(), gestionnaire.getTousLesActifs().size());
+
+            // Le binaire stocke z, rayon et bornes en f32
+            double tolerance = fichier == texte ? 0.0 : 1e-3;
+            for (int i = 0; i < zone.getNombreObstacles(); i++) {
+                Obstacle attendu = source.getZone().getObstacle(i);
+                Obstacle lu = zone.getObstacle(i);
+                assertEquals(attendu.getType(), lu.getType());
+                assertEquals(attendu.getPosition().getX(), lu.getPosition().getX(), 0.0);
+                assertEquals(attendu.getRayon(), lu.getRayon(), tolerance);
+                assertEquals(attendu.getZMax(), lu.getZMax(), Math.abs(attendu.getZMax()) * 1e-6);
+            }
+            Obstacle phare = zone.getObstacle(zone.getNombreObstacles() - 1);
+            assertEquals(-Double.MAX_VALUE, phare.getZMin());
+            assertEquals(Double.MAX_VALUE, phare.getZMax());
+
+            ActifMobile premier = chargeur.getActifsCharges().get(0);
+            assertEquals(source.getActifs().get(0).getClass(), premier.getClass());
+            assertSame(zone, premier.getZoneOperation());
+        }
+    }
+
+    @Test
+    void testAllerRetourPolygones() throws IOException {
+        ZoneOperation source = nouvelleZone();
+        List<Position3D> contour = List.of(new Position3D(0, 0, 0), new Position3D(3000, 0, 0),
+                new Position3D(3000, 2000, 0), new Position3D(0, 2000, 0));
+        List<Position3D> trou = List.of(new Position3D(1000, 500, 0), new Position3D(2000, 500, 0),
+                new Position3D(1500, 1500, 0));
+        source.ajouterZoneExclusion(new ZoneExclusionPolygonale("Bassin Nord", contour, List.of(trou), -30, 150));
+        source.ajouterZoneExclusion(new ZoneExclusionPolygonale("Espace aérien R-12", List.of(
+                new Position3D(50000, 50000, 0), new Position3D(60000, 52000, 0), new Position3D(55000, 60000, 0))));
+
+        Path texte = dossier.resolve("polygones.txt");
+        Path binaire = dossier.resolve("polygones.bin");
+        FormatScenario.ecrireTexte(source, List.of(), texte);
+        FormatScenario.ecrireBinaire(source, List.of(), binaire);
+
+        for (Path fichier : List.of(texte, binaire)) {
+            ZoneOperation zone = nouvelleZone();
+            ChargeurScenario chargeur = new ChargeurScenario(zone, null);
+            chargeur.charger(fichier);
+
+            assertEquals(2, chargeur.getZonesExclusionChargees());
+            ZoneExclusionPolygonale bassin = zone.getZonesExclusionPolygonales().get(0);
+            assertEquals("Bassin Nord", bassin.getNom());
+            assertEquals(contour, bassin.getContour());
+            assertEquals(List.of(trou), bassin.getTrous());
+            assertEquals(150, bassin.getZMax());
+            assertFalse(zone.getZonesExclusionPolygonales().get(1).estBorneeEnAltitude());
+            assertTrue(zone.estDansZoneExclusion(new Position3D(200, 200, 0)));
+            assertFalse(zone.estDansZoneExclusion(new Position3D(1500, 800, 0)));
+            assertTrue(zone.estDansZoneExclusion(new Position3D(55000, 54000, 9000)));
+        }
+    }
+
+    @Test
+    void testLigneInvalideSignalee() throws IOException {
+        Path fichier = dossier.resolve("invalide.txt");
+        Files.writeString(fichier, "# test\r\nOBSTACLE 1 2 3 4 5 6 Récif\r\n\r\nOBSTACLE 1 deux 3 4 5 6 Récif\n");
+        ChargeurScenario chargeur = new ChargeurScenario(nouvelleZone(), null);
+
+        IOException e = assertThrows(IOException.class, () -> chargeur.charger(fichier));
+        assertTrue(e.getMessage().startsWith("Ligne 4"), e.getMessage());
+        assertEquals(1, chargeur.getObstaclesCharges());
+    }
+
+    @Test
+    void testChargementMassif() throws IOException {
+        int nombre = 300_000;
+        Path fichier = dossier.resolve("massif.txt");
+        try (BufferedWriter sortie = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < nombre; i++) {
+                double x = (i % 1000) * 100.0 + 25.5;
+                double y = (i / 1000) * 300.0 + 12.25;
+                sortie.write("OBSTACLE " + x + " " + y + " -50 20 -120 0.5 " + (i % 2 == 0 ? "Récif" : "Épave"));
+                sortie.newLine();
+            }
+        }
+        ZoneOperation zone = nouvelleZone();
+        ChargeurScenario chargeur = new ChargeurScenario(zone, null);
+        chargeur.chargerTexte(fichier);
+
+        assertEquals(nombre, zone.getNombreObstacles());
+        assertEquals("Épave", zone.getObstacle(1).getType());
+        assertEquals(12.25, zone.getObstacle(0).getPosition().getY(), 0.0);
+        assertTrue(zone.estEnCollisionAvecObstacle(new Position3D(525.5, 312.25, -60)));
+        assertFalse(zone.estEnCollisionAvecObstacle(new Position3D(575.5, 312.25, -60)));
+        assertFalse(zone.estEnCollisionAvecObstacle(new Position3D(525.5, 312.25, 10)));
+
+        Path binaire = dossier.resolve("massif.bin");
+        FormatScenario.ecrireBinaire(zone, List.of(), binaire);
+        // En-tête, deux définitions de type (6 octets UTF-8 chacun), 35 octets par obstacle
+        assertEquals(32 + 2 * (5 + 6) + 35L * nombre, Files.size(binaire));
+        ZoneOperation copie = nouvelleZone();
+        new ChargeurScenario(copie, null).charger(binaire);
+        assertEquals(nombre, copie.getNombreObstacles());
+    }
+}
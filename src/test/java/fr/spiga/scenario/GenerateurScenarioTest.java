@@ -0,0 +1,89 @@
+package fr.spiga.scenario;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.Obstacle;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.mission.Mission;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour GenerateurScenario.
+ */
+class GenerateurScenarioTest {
+
+    @Test
+    void testMemeGraineMemeScenario() {
+        Scenario a = new GenerateurScenario(42).generer(PresetScenario.FRONT_ORAGEUX);
+        Scenario b = new GenerateurScenario(42).generer(PresetScenario.FRONT_ORAGEUX);
+        Scenario c = new GenerateurScenario(43).generer(PresetScenario.FRONT_ORAGEUX);
+
+        assertEquals(a.getActifs().size(), b.getActifs().size());
+        for (int i = 0; i < a.getActifs().size(); i++) {
+            ActifMobile x = a.getActifs().get(i);
+            ActifMobile y = b.getActifs().get(i);
+            assertEquals(x.getClass(), y.getClass());
+            assertEquals(x.getPosition().getX(), y.getPosition().getX(), 0.0);
+            assertEquals(x.getPosition().getZ(), y.getPosition().getZ(), 0.0);
+        }
+        assertEquals(a.getZone().getVent().getIntensite(), b.getZone().getVent().getIntensite(), 0.0);
+        assertNotEquals(a.getActifs().get(0).getPosition().getX(), c.getActifs().get(0).getPosition().getX());
+    }
+
+    @Test
+    void testPresetsPeuplesEtValides() {
+        for (PresetScenario preset : PresetScenario.values()) {
+            ParametresScenario attendu = preset.creerParametres();
+            Scenario scenario = new GenerateurScenario(7).generer(preset);
+            ZoneOperation zone = scenario.getZone();
+
+            assertEquals(attendu.getNombreActifs(), scenario.getActifs().size(), preset.name());
+            assertEquals(attendu.getNombreActifs(), scenario.getGestionnaire().getTousLesActifs().size());
+            assertEquals(attendu.getNombreObstacles(), zone.getObstacles().size());
+            assertEquals(attendu.getNombreZonesExclusion(), zone.getZonesExclusion().size());
+            assertEquals(attendu.getNombreMissions(), scenario.getMissions().size());
+
+            for (ActifMobile actif : scenario.getActifs()) {
+                Position3D p = actif.getPosition();
+                assertFalse(zone.estEnCollisionAvecObstacle(p), actif + " dans un obstacle");
+                assertFalse(zone.estDansZoneExclusion(p), actif + " dans une zone d'exclusion");
+                assertSame(zone, actif.getZoneOperation());
+            }
+            for (Obstacle obstacle : zone.getObstacles()) {
+                assertTrue(obstacle.getZMin() < obstacle.getZMax());
+            }
+            for (Mission mission : scenario.getMissions()) {
+                assertEquals("PLANIFIEE", mission.getStatut());
+                assertFalse(mission.getActifsAssignes().isEmpty(), mission.getNom());
+            }
+        }
+    }
+
+    @Test
+    void testRegroupementEssaimDense() {
+        ParametresScenario parametres = new ParametresScenario(200, 0, 0, 0);
+        parametres.setRayonRegroupement(2000.0);
+        parametres.setTailleEssaim(40);
+        Scenario scenario = new GenerateurScenario(1).generer("test", parametres);
+
+        List<ActifMobile> actifs = scenario.getActifs();
+        double minX = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        for (ActifMobile actif : actifs) {
+            minX = Math.min(minX, actif.getPosition().getX());
+            maxX = Math.max(maxX, actif.getPosition().getX());
+        }
+        assertTrue(maxX - minX <= 4000.0);
+        assertEquals(5, scenario.getGestionnaire().getEssaims().size());
+    }
+
+    @Test
+    void testParametresInvalides() {
+        assertThrows(IllegalArgumentException.class, () -> new ParametresScenario(-1, 0, 0, 0));
+        ParametresScenario parametres = new ParametresScenario(1, 0, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> parametres.setVent(50, 10));
+        assertThrows(IllegalArgumentException.class, () -> parametres.setTailleZone(100));
+    }
+}
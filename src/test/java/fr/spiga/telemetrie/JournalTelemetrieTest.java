@@ -0,0 +1,95 @@
+package fr.spiga.telemetrie;
+
+import fr.spiga.core.ActifMobile;
+import fr.spiga.core.Position3D;
+import fr.spiga.environment.ZoneOperation;
+import fr.spiga.fleet.DroneReconnaissance;
+import fr.spiga.fleet.GestionnaireEssaim;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour JournalTelemetrie et LecteurTelemetrie.
+ */
+class JournalTelemetrieTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void testLecturePendantSimulation() throws Exception {
+        ZoneOperation zone = new ZoneOperation(new Position3D(0, 0, -1000), new Position3D(100000, 100000, 5000));
+        GestionnaireEssaim gestionnaire = new GestionnaireEssaim();
+        List<ActifMobile> actifs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            DroneReconnaissance drone = new DroneReconnaissance(new Position3D(1000 + i * 200, 1000, 200));
+            drone.setZoneOperation(zone);
+            gestionnaire.enregistrerActif(drone);
+            drone.demarrer();
+            actifs.add(drone);
+        }
+        Path fichier = dossier.resolve("spiga.tlm");
+        Position3D cible = new Position3D(50000, 50000, 200);
+        int nbTicks = 2000;
+
+        try (JournalTelemetrie journal = new JournalTelemetrie(fichier, 64, 8);
+                LecteurTelemetrie lecteur = new LecteurTelemetrie(fichier)) {
+            AtomicBoolean fini = new AtomicBoolean();
+            AtomicReference<String> erreur = new AtomicReference<>();
+            int[] lectures = new int[1];
+
+            // Lecteur concurrent : chaque cadre lu doit être cohérent et plus récent
+            Thread fil = new Thread(() -> {
+                CadreTelemetrie cadre = new CadreTelemetrie(lecteur.getCapacite());
+                long precedent = -1;
+                while (!fini.get()) {
+                    if (!lecteur.lireDernierCadre(cadre)) {
+                        continue;
+                    }
+                    lectures[0]++;
+                    if (cadre.getNumero() < precedent || cadre.getTaille() != 20) {
+                        erreur.set("Cadre incohérent: " + cadre.getNumero());
+                    }
+                    precedent = cadre.getNumero();
+                    // Le temps simulé vaut numéro + 1 et chaque poignée correspond à son rang
+                    if (cadre.getTempsSimulation() != cadre.getNumero() + 1.0) {
+                        erreur.set("Cadre déchiré: " + cadre.getNumero());
+                    }
+                    for (int i = 0; i < cadre.getTaille(); i++) {
+                        if (cadre.getPoignee(i) != i || cadre.getX(i) < 0 || cadre.getX(i) > 100000) {
+                            erreur.set("Enregistrement invalide dans le cadre " + cadre.getNumero());
+                        }
+                    }
+                }
+            });
+            fil.start();
+
+            for (int tick = 0; tick < nbTicks; tick++) {
+                zone.avancerTemps(1.0);
+                for (ActifMobile actif : actifs) {
+                    actif.avancerVers(cible, 1.0);
+                }
+                journal.publier(zone.getTempsSimulation(), gestionnaire.getTousLesActifs());
+            }
+            fini.set(true);
+            fil.join();
+
+            assertNull(erreur.get());
+            assertTrue(lectures[0] > 0);
+
+            // Le dernier cadre reflète l'état final de la simulation
+            CadreTelemetrie cadre = new CadreTelemetrie(64);
+            assertTrue(lecteur.lireDernierCadre(cadre));
+            assertEquals(nbTicks - 1, cadre.getNumero());
+            assertEquals(actifs.get(3).getPosition().getX(), cadre.getX(3), 1e-9);
+            assertEquals(actifs.get(3).getAutonomieRestante(), cadre.getAutonomie(3), 1e-9);
+            assertEquals(actifs.get(3).getEtatOperationnel(), cadre.getEtat(3));
+        }
+    }
+}